@@ -22,14 +22,18 @@ import javax.sql.DataSource;
 
 import org.eclipse.daanse.jdbc.db.dialect.api.Dialect;
 import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
+import org.eclipse.daanse.olap.api.access.Role;
 import org.eclipse.daanse.olap.api.agg.AggregationFactory;
 import org.eclipse.daanse.olap.api.aggregator.CustomAggregatorFactory;
 import org.eclipse.daanse.olap.api.cache.CatalogCache;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompilerFactory;
 import org.eclipse.daanse.olap.api.connection.Connection;
 import org.eclipse.daanse.olap.api.connection.ConnectionProps;
+import org.eclipse.daanse.olap.api.element.Catalog;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.AdmissionControl;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.function.FunctionService;
 import org.eclipse.daanse.olap.api.monitor.EventBus;
@@ -85,6 +89,14 @@ public interface Context<C extends Connection> {
 
     CatalogCache getCatalogCache();
 
+    /**
+     * Returns the cache that shares the results of cached expressions between
+     * queries, if it is enabled.
+     */
+    default Optional<ExpressionResultCache> getExpressionResultCache() {
+        return Optional.empty();
+    }
+
     /**
      * Gives access to the javax.sql.DataSource that holds the java.sql.Connection}s
      * to the Database.
@@ -121,6 +133,25 @@ public interface Context<C extends Connection> {
 
     List<String> getAccessRoles();
 
+    /**
+     * Returns the role of a connection which adopts the given roles of a
+     * catalog. Connections that adopt the same roles share the returned role.
+     *
+     * <p>The default looks up a single role in the catalog and cannot combine
+     * several roles; contexts which support that override it.
+     *
+     * @param catalog   Catalog
+     * @param roleNames Names of the roles, not empty
+     * @return The role itself if only one role is named, else the union of the
+     *         roles
+     */
+    default Role getRole(Catalog catalog, List<String> roleNames) {
+        if (roleNames.size() == 1) {
+            return catalog.lookupRole(roleNames.getFirst());
+        }
+        throw new UnsupportedOperationException("Context " + getName() + " cannot combine the roles " + roleNames);
+    }
+
     ExpressionCompilerFactory getExpressionCompilerFactory();
 
     /*
@@ -150,6 +181,14 @@ public interface Context<C extends Connection> {
 
     Semaphore getQueryLimitSemaphore();
 
+    /**
+     * Returns the admission control which queues queries before they execute,
+     * if it is enabled.
+     */
+    default Optional<AdmissionControl> getAdmissionControl() {
+        return Optional.empty();
+    }
+
     Optional<Map<Object, Object>> getSqlMemberSourceValuePool();
 
     FunctionService getFunctionService();
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.cache;
+
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+
+/**
+ * Cache of expression results that outlives a query.
+ *
+ * {@link Evaluator#getCachedResult(ExpCacheDescriptor)} keeps the results of
+ * cached expressions until the query ends. This cache shares them between
+ * queries of the same cube. A result is keyed by the text of the expression,
+ * the role, the locale of the connection, the context members of the
+ * hierarchies the expression depends on and the data version of the cube. Expressions that refer to anything defined
+ * by a query, such as calculated members, named sets or parameters, are only
+ * cached for the query.
+ *
+ * The cache controls of a context call {@link #flush(Cube)} when cells of a
+ * cube are flushed and {@link #clear()} when members or the schema cache are
+ * flushed.
+ */
+public interface ExpressionResultCache {
+
+    /**
+     * Returns the result of a cached expression in the current context of the
+     * evaluator, evaluating it if it is not cached yet.
+     *
+     * @param evaluator  Evaluator
+     * @param descriptor Cached expression
+     * @return Result of the expression
+     */
+    Object getCachedResult(Evaluator evaluator, ExpCacheDescriptor descriptor);
+
+    /**
+     * Drops the results of a cube. Results of queries still running when this
+     * method is called are not cached.
+     *
+     * @param cube Cube
+     */
+    void flush(Cube cube);
+
+    /**
+     * Drops the results of all cubes of a catalog.
+     *
+     * @param catalog Catalog
+     */
+    void flush(Catalog catalog);
+
+    /**
+     * Drops all results.
+     */
+    void clear();
+}
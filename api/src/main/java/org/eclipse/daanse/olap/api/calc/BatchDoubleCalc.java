@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.calc;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+
+/**
+ * {@link DoubleCalc} which can also evaluate its expression for a list of
+ * tuples in one call.
+ *
+ * <p>A batch is evaluated node by node: each node evaluates its children for
+ * all tuples and combines their values in a loop over arrays, instead of
+ * walking the whole tree and boxing a value for every tuple. A node can only
+ * evaluate batches if all of its children can, which {@link #isBatchable()}
+ * tells.
+ */
+public interface BatchDoubleCalc extends DoubleCalc {
+
+    /**
+     * Returns whether this calc and all of its children can evaluate batches.
+     */
+    boolean isBatchable();
+
+    /**
+     * Evaluates this calc for each tuple of a list. The values are those
+     * {@link #evaluate(Evaluator)} would return with the context set to each
+     * tuple. The context of the evaluator is the same after the call as
+     * before.
+     *
+     * @param evaluator Evaluator
+     * @param tuples    Tuples
+     * @param batch     Receives one value per tuple, it is reset to the size
+     *                  of the list
+     */
+    void evaluateBatch(Evaluator evaluator, TupleList tuples, DoubleBatch batch);
+}
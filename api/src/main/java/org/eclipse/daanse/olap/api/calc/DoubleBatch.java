@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.calc;
+
+import java.util.BitSet;
+
+/**
+ * Values of a {@link BatchDoubleCalc} for a batch of tuples.
+ *
+ * <p>Each position holds a number, the MDX null value or a value which is not
+ * available yet because its cell is not loaded. Nulls and values which are not
+ * ready are kept in bitmaps beside the array of numbers; their number is 0.
+ */
+public final class DoubleBatch {
+
+    private double[] values;
+    private final BitSet nulls = new BitSet();
+    private final BitSet notReady = new BitSet();
+    private int size;
+
+    /**
+     * Creates a batch.
+     *
+     * @param capacity Initial number of values the batch can hold
+     */
+    public DoubleBatch(int capacity) {
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Clears the batch and sets its size, growing it if necessary.
+     *
+     * @param size Number of values
+     */
+    public void reset(int size) {
+        if (values.length < size) {
+            values = new double[size];
+        }
+        nulls.clear();
+        notReady.clear();
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the numbers of the batch, for loops over all values. Only the
+     * first {@link #size()} elements belong to the batch.
+     */
+    public double[] values() {
+        return values;
+    }
+
+    /**
+     * Returns whether the batch holds numbers only, so that
+     * {@link #values()} can be used without looking at the bitmaps.
+     */
+    public boolean isDense() {
+        return nulls.isEmpty() && notReady.isEmpty();
+    }
+
+    public double get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Sets a number.
+     */
+    public void set(int index, double value) {
+        values[index] = value;
+        nulls.clear(index);
+        notReady.clear(index);
+    }
+
+    public boolean isNull(int index) {
+        return nulls.get(index);
+    }
+
+    /**
+     * Sets the MDX null value.
+     */
+    public void setNull(int index) {
+        values[index] = 0;
+        nulls.set(index);
+        notReady.clear(index);
+    }
+
+    public boolean isNotReady(int index) {
+        return notReady.get(index);
+    }
+
+    /**
+     * Sets a value which is not available yet.
+     */
+    public void setNotReady(int index) {
+        values[index] = 0;
+        nulls.clear(index);
+        notReady.set(index);
+    }
+
+    /**
+     * Copies the value at a position of another batch to the same position of
+     * this batch.
+     */
+    public void copy(int index, DoubleBatch from) {
+        values[index] = from.values[index];
+        nulls.set(index, from.nulls.get(index));
+        notReady.set(index, from.notReady.get(index));
+    }
+}
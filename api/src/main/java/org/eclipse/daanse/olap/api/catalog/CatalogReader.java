@@ -29,6 +29,10 @@
  */
 package org.eclipse.daanse.olap.api.catalog;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -221,6 +225,54 @@ public interface CatalogReader {
      */
     int getMemberDepth(Member member);
 
+    /**
+     * Returns the parents of a list of members, in the same order.
+     *
+     * @param members Members
+     * @return list with the parent of each member, null for root members
+     * @see #getMemberParent(Member)
+     */
+    default List<Member> getMemberParents(List<Member> members) {
+        List<Member> parents = new ArrayList<>(members.size());
+        for (Member member : members) {
+            parents.add(getMemberParent(member));
+        }
+        return parents;
+    }
+
+    /**
+     * Returns the ancestors of a list of members, in the same order.
+     *
+     * @param members Members
+     * @return list with the ancestors of each member, in depth order
+     * @see #getMemberAncestors(Member, List)
+     */
+    default List<List<Member>> getMemberAncestors(List<Member> members) {
+        List<List<Member>> ancestors = new ArrayList<>(members.size());
+        for (Member member : members) {
+            List<Member> ancestorList = new ArrayList<>();
+            getMemberAncestors(member, ancestorList);
+            ancestors.add(ancestorList);
+        }
+        return ancestors;
+    }
+
+    /**
+     * Returns the depths of a list of members, in the same order.
+     *
+     * @param members Members
+     * @return depth of each member
+     * @see #getMemberDepth(Member)
+     */
+    default int[] getMemberDepths(List<Member> members) {
+        int[] depths = new int[members.size()];
+        int i = 0;
+        for (Member member : members) {
+            depths[i++] = getMemberDepth(member);
+        }
+        return depths;
+    }
+
     /**
      * Finds a member based upon its unique name.
      *
@@ -440,6 +492,62 @@ public interface CatalogReader {
      */
     List<Member> lookupMemberChildrenByNames(Member parent, List<NameSegment> childNames, MatchType matchType);
 
+    /**
+     * Looks up a list of members by their compound names.
+     *
+     * Names that differ only in their last segment, such as the stores of one
+     * city, are resolved together with one call to
+     * {@link #lookupMemberChildrenByNames(Member, List, MatchType)} for their
+     * parent. Calculated members and all other names are resolved one at a time
+     * with {@link #lookupCompound(OlapElement, List, boolean, DataType)}, as
+     * are children whose name matches only ignoring case.
+     *
+     * @param parent Parent element to search in, usually a cube
+     * @param names  Compound names of the members
+     * @return list of the same size as names, holding the member of each name or
+     *         null if it was not found
+     */
+    default List<Member> lookupMembers(OlapElement parent, List<List<Segment>> names) {
+        Member[] members = new Member[names.size()];
+        Map<List<Segment>, List<Integer>> childrenByParent = new LinkedHashMap<>();
+        for (int i = 0; i < members.length; i++) {
+            List<Segment> name = names.get(i);
+            members[i] = getCalculatedMember(name);
+            if (members[i] == null && name.size() > 1 && name.getLast() instanceof NameSegment) {
+                childrenByParent.computeIfAbsent(name.subList(0, name.size() - 1), k -> new ArrayList<>()).add(i);
+            }
+        }
+        for (Map.Entry<List<Segment>, List<Integer>> entry : childrenByParent.entrySet()) {
+            List<Integer> children = entry.getValue();
+            if (children.size() < 2
+                    || !(lookupCompound(parent, entry.getKey(), false, DataType.MEMBER) instanceof Member parentMember)
+                    || parentMember.isNull() || parentMember.isMeasure() || parentMember.isCalculated()) {
+                continue;
+            }
+            List<NameSegment> childNames = new ArrayList<>(children.size());
+            for (int i : children) {
+                childNames.add((NameSegment) names.get(i).getLast());
+            }
+            Map<String, Member> childByName = new HashMap<>();
+            for (Member child : lookupMemberChildrenByNames(parentMember, childNames, MatchType.EXACT)) {
+                childByName.putIfAbsent(child.getName(), child);
+            }
+            for (int i : children) {
+                Member child = childByName.get(((NameSegment) names.get(i).getLast()).getName());
+                if (child != null && names.get(i).getLast().matches(child.getName())) {
+                    members[i] = child;
+                }
+            }
+        }
+        for (int i = 0; i < members.length; i++) {
+            if (members[i] == null
+                    && lookupCompound(parent, names.get(i), false, DataType.MEMBER) instanceof Member member) {
+                members[i] = member;
+            }
+        }
+        return Arrays.asList(members);
+    }
+
     /**
      * Returns an object which can evaluate an expression in native SQL, or null if
      * this is not possible.
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.execution;
+
+import java.util.List;
+
+/**
+ * Decides when a query of a context may start executing.
+ *
+ * <p>At most as many queries as the query limit of the context are admitted
+ * at a time. The others wait in a queue, where queries of a higher
+ * {@link QueryPriority} come first and, within a priority, users take turns
+ * in proportion to the weights of their roles. A query that cannot be queued
+ * or waits too long is rejected.
+ */
+public interface AdmissionControl {
+
+    /**
+     * Waits until a query may start executing.
+     *
+     * @param user     Name of the user who runs the query
+     * @param roles    Names of the roles of the user
+     * @param priority Priority of the query
+     * @return Permit, which must be closed when the query has finished
+     * @throws AdmissionRejectedException if the query is not admitted
+     * @throws QueryCanceledException     if the thread is interrupted while
+     *                                    waiting
+     */
+    Permit admit(String user, List<String> roles, QueryPriority priority);
+
+    /**
+     * Permit to execute a query.
+     */
+    interface Permit extends AutoCloseable {
+
+        /**
+         * Releases the permit, so that the next waiting query is admitted.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.execution;
+
+/**
+ * Exception thrown when {@link AdmissionControl} does not admit a query.
+ */
+@SuppressWarnings("serial")
+public class AdmissionRejectedException extends RuntimeException {
+
+    /**
+     * Why a query was not admitted.
+     */
+    public enum Reason {
+
+        /**
+         * The queue of waiting queries was full.
+         */
+        QUEUE_FULL,
+
+        /**
+         * The query waited longer than the maximum queue time.
+         */
+        QUEUE_TIMEOUT
+    }
+
+    private final Reason reason;
+
+    /**
+     * Constructs a new admission rejected exception.
+     *
+     * @param message the detail message
+     * @param reason  why the query was not admitted
+     */
+    public AdmissionRejectedException(String message, Reason reason) {
+        super(message);
+        this.reason = reason;
+    }
+
+    /**
+     * Returns why the query was not admitted.
+     *
+     * @return the reason
+     */
+    public Reason getReason() {
+        return reason;
+    }
+}
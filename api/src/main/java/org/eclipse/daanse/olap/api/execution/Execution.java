@@ -68,6 +68,49 @@ public interface Execution {
 
     int getExpCacheMissCount();
 
+    /**
+     * Charges memory this execution holds, such as the tuples of a list or
+     * the cells of a result, to its memory budget. Memory which is no longer
+     * held is given back by {@link #releaseAllocation(long)}, so the budget
+     * limits what a query holds at a time, not the total it allocates.
+     *
+     * <p>If the budget is exceeded, the execution is marked as failed and an
+     * exception is thrown, so that the query is aborted rather than the whole
+     * server running out of memory.
+     *
+     * @param bytes Approximate number of bytes, not negative
+     */
+    default void chargeAllocation(long bytes) {
+    }
+
+    /**
+     * Gives back memory charged by {@link #chargeAllocation(long)} which this
+     * execution no longer holds.
+     *
+     * @param bytes Approximate number of bytes, not negative
+     */
+    default void releaseAllocation(long bytes) {
+    }
+
+    /**
+     * Returns the number of bytes this execution holds, as charged by
+     * {@link #chargeAllocation(long)} and not yet released.
+     *
+     * @return Allocated bytes
+     */
+    default long getAllocatedBytes() {
+        return 0;
+    }
+
+    /**
+     * Returns the largest number of bytes this execution held at a time.
+     *
+     * @return Peak of the allocated bytes
+     */
+    default long getPeakAllocatedBytes() {
+        return 0;
+    }
+
     /**
      * Converts this Execution to an ExecutionContext for use with ScopedValue-based
      * context propagation. This method provides a bridge between the legacy
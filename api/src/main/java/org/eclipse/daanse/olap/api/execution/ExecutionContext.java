@@ -211,13 +211,17 @@ public final class ExecutionContext {
     }
 
     /**
-     * Checks if this execution has been canceled or timed out. Throws an exception
-     * if the execution has been canceled or exceeded its timeout.
+     * Checks if this execution or one of its parents has been canceled or timed
+     * out. Throws an exception if the execution has been canceled or exceeded its
+     * timeout.
      *
      * @throws QueryCanceledException if the execution was canceled
      * @throws QueryTimeoutException  if the execution has timed out
      */
     public void checkCancelOrTimeout() {
+        if (parent != null) {
+            parent.checkCancelOrTimeout();
+        }
         State currentState = state.get();
 
         if (currentState == State.CANCELED) {
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.execution;
+
+/**
+ * Priority with which {@link AdmissionControl} admits a query. Waiting queries
+ * of a higher priority are admitted before any query of a lower priority.
+ */
+public enum QueryPriority {
+
+    /**
+     * Query a user is waiting for, such as an XMLA statement.
+     */
+    INTERACTIVE,
+
+    /**
+     * Query run in the background, such as a scheduled check suite.
+     */
+    BATCH
+}
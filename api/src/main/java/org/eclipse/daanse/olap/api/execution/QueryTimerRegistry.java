@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.execution;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM wide mapping between {@link QueryTiming} component names and dense int
+ * timer ids, so that timings can be kept in primitive arrays indexed by id.
+ * <p>
+ * Registering the same name twice returns the same id. Ids are never reused.
+ */
+public final class QueryTimerRegistry {
+
+    private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[0];
+
+    private QueryTimerRegistry() {
+    }
+
+    /**
+     * Returns the id of the timer with the given name, registering it on first
+     * use.
+     */
+    public static int register(String name) {
+        Integer id = IDS.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (QueryTimerRegistry.class) {
+            return IDS.computeIfAbsent(name, n -> {
+                String[] current = names;
+                String[] extended = Arrays.copyOf(current, current.length + 1);
+                extended[current.length] = n;
+                names = extended;
+                return current.length;
+            });
+        }
+    }
+
+    /**
+     * Returns the name of a registered timer.
+     */
+    public static String name(int timerId) {
+        return names[timerId];
+    }
+
+    /**
+     * Number of timers registered so far; all ids are below this value.
+     */
+    public static int size() {
+        return names.length;
+    }
+}
@@ -30,32 +30,65 @@ package org.eclipse.daanse.olap.api.execution;
 
 import java.time.Duration;
 
+/**
+ * Records how long components of a query take.
+ * <p>
+ * Components are identified by timer ids obtained once from
+ * {@link QueryTimerRegistry#register(String)}, typically in a static final
+ * field. The name based methods remain for occasional callers and resolve the
+ * id on every call.
+ */
 public interface QueryTiming {
 
+    /**
+     * Marks the start of a Query component's execution.
+     *
+     * @param timerId id from {@link QueryTimerRegistry#register(String)}
+     */
+    void markStart(int timerId);
+
+    /**
+     * Marks the end of a Query component's execution.
+     *
+     * @param timerId id from {@link QueryTimerRegistry#register(String)}
+     */
+    void markEnd(int timerId);
+
+    /**
+     * Adds the duration of a Query component's execution that was measured by
+     * the caller. May be called from any thread.
+     *
+     * @param timerId id from {@link QueryTimerRegistry#register(String)}
+     * @param nanos   duration in nanoseconds
+     */
+    void markFull(int timerId, long nanos);
+
     /**
      * Marks the start of a Query component's execution.
      *
      * @param name Name of the component
      */
-    void markStart(String name);
+    default void markStart(String name) {
+        markStart(QueryTimerRegistry.register(name));
+    }
 
     /**
      * Marks the end of a Query component's execution.
      *
-     * name Name of the component
+     * @param name Name of the component
      */
-    void markEnd(String name);
+    default void markEnd(String name) {
+        markEnd(QueryTimerRegistry.register(name));
+    }
 
     /**
      * Marks the duration of a Query component's execution.
      *
-     * markFull is synchronized because it may be called from either Actor's spawn
-     * thread or RolapResultShepherd thread
-     *
      * @param name     Name of the component
      * @param duration Duration of the execution
      */
+    default void markFull(String name, Duration duration) {
+        markFull(QueryTimerRegistry.register(name), duration.toNanos());
+    }
 
-    void markFull(String name, Duration duration);
-
-}
\ No newline at end of file
+}
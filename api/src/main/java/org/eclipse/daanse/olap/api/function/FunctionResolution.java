@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.function;
+
+import java.util.List;
+
+/**
+ * Outcome of resolving a function call: the matching definition and the
+ * implicit conversions to apply to the arguments of the call.
+ *
+ * @param definition  the function definition
+ * @param conversions the conversions, in the order they are applied
+ */
+public record FunctionResolution(FunctionDefinition definition, List<FunctionResolver.Conversion> conversions) {
+}
@@ -93,6 +93,18 @@ public interface FunctionResolver {
         return List.of();
     }
 
+    /**
+     * Returns whether {@link #resolve} depends on nothing but the categories of
+     * the arguments, and returns a definition that can be shared between
+     * calls. The resolution of such resolvers is reused for other calls with
+     * arguments of the same categories.
+     *
+     * @return whether resolutions may be reused
+     */
+    default boolean isCategoryBased() {
+        return false;
+    }
+
     /**
      * Description of an implicit conversion that occurred while resolving an
      * operator call.
@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+import org.eclipse.daanse.olap.api.DataType;
 
 public interface FunctionService {
 
@@ -68,4 +69,31 @@ public interface FunctionService {
      */
     List<FunctionResolver> getResolvers(OperationAtom operationAtom);
 
+    /**
+     * Returns the resolution of an earlier call of an operator with arguments
+     * of the same categories, or null.
+     *
+     * @param operationAtom      OperationAtom
+     * @param argumentCategories Categories of the arguments, as computed by the
+     *                           validator
+     * @return Resolution, or null if there is none
+     */
+    default FunctionResolution getResolution(OperationAtom operationAtom, DataType[] argumentCategories) {
+        return null;
+    }
+
+    /**
+     * Remembers the resolution of a call of an operator. Implementations only
+     * keep it if every resolver of the operator is
+     * {@link FunctionResolver#isCategoryBased() category based}.
+     *
+     * @param operationAtom      OperationAtom
+     * @param argumentCategories Categories of the arguments; not modified
+     *                           afterwards by the caller
+     * @param resolution         Resolution of the call
+     */
+    default void putResolution(OperationAtom operationAtom, DataType[] argumentCategories,
+            FunctionResolution resolution) {
+    }
+
 }
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.monitor.event;
+
+import org.eclipse.daanse.olap.api.execution.QueryPriority;
+
+/**
+ * @param queueDepth Number of queries waiting when the event occurred
+ */
+public record AdmissionEventCommon(ServertEventCommon servertEventCommon, String user, QueryPriority priority,
+        int queueDepth) {
+}
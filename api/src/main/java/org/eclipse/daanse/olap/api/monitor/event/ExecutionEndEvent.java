@@ -14,8 +14,15 @@ package org.eclipse.daanse.olap.api.monitor.event;
 
 import org.eclipse.daanse.olap.api.execution.Execution;
 
+/**
+ * Published when an execution ends.
+ *
+ * @param peakAllocatedBytes Largest number of bytes the execution held at a
+ *                           time, as reported by
+ *                           {@link Execution#getPeakAllocatedBytes()}
+ */
 public record ExecutionEndEvent(ExecutionEventCommon executionEventCommon, int phaseCount, Execution.State state,
         int cellCacheHitCount, int cellCacheMissCount, int cellCachePendingCount, int expCacheHitCount,
-        int expCacheMissCount) implements ExecutionEvent {
+        int expCacheMissCount, long peakAllocatedBytes) implements ExecutionEvent {
 
 }
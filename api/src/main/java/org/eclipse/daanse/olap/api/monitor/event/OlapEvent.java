@@ -13,6 +13,6 @@
 package org.eclipse.daanse.olap.api.monitor.event;
 
 public sealed interface OlapEvent extends Event
-        permits ExecutionEvent, SqlStatementEvent, StatementEvent, ConnectionEvent {
+        permits ExecutionEvent, SqlStatementEvent, StatementEvent, ConnectionEvent, AdmissionEvent {
 
 }
@@ -157,4 +157,19 @@ public interface Cell {
 
     SqlStatementI drillThroughInternal(int maxRowCount, int firstRowOrdinal, List<OlapElement> fields,
             boolean extendedContext, Logger logger);
+
+    /**
+     * Executes drill-through on this cell with a fetch size for the driver.
+     *
+     * Implementations that create the JDBC statement set the fetch size on it
+     * before the query is executed, as most drivers ignore a fetch size set on
+     * an open result set. The default implementation ignores the fetch size.
+     *
+     * @param fetchSize Number of rows to fetch per round trip, 0 to keep the
+     *                  driver's default
+     */
+    default SqlStatementI drillThroughInternal(int maxRowCount, int firstRowOrdinal, List<OlapElement> fields,
+            boolean extendedContext, Logger logger, int fetchSize) {
+        return drillThroughInternal(maxRowCount, firstRowOrdinal, fields, extendedContext, logger);
+    }
 }
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two runs of the benchmarks and reports the change of each score.
+ *
+ * Both runs are JMH results in CSV format, as written by
+ * {@code java -jar benchmark/target/benchmarks.jar -rf csv -rff <file>}. The
+ * baseline is a run of the main branch on the machine the comparison is made
+ * on; scores from different machines cannot be compared. A benchmark with the
+ * same parameters is a regression if its score is worse than the baseline's
+ * by more than the threshold and by more than the errors of both scores,
+ * where worse is lower for throughput and higher for all other modes.
+ *
+ * Usage: {@code java -cp benchmark/target/benchmarks.jar
+ * org.eclipse.daanse.olap.benchmark.BenchmarkComparison <baseline.csv>
+ * <current.csv> [threshold in percent, default 10]}. The exit status is 1 if
+ * there is a regression, so that a build can fail on it.
+ */
+public final class BenchmarkComparison {
+
+    static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    private BenchmarkComparison() {
+    }
+
+    /**
+     * Score of one benchmark with one set of parameters.
+     *
+     * @param key   Benchmark and parameters, such as
+     *              {@code calc.SortBenchmark.order batch=true}
+     * @param mode  JMH mode, such as {@code thrpt} or {@code avgt}
+     * @param score Score
+     * @param error Error of the score at 99.9%, or NaN if not known
+     * @param unit  Unit of the score
+     */
+    record Score(String key, String mode, double score, double error, String unit) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    enum Verdict {
+        REGRESSION, IMPROVEMENT, UNCHANGED, NEW, REMOVED
+    }
+
+    /**
+     * Comparison of a score with its baseline.
+     *
+     * @param baseline Score of the baseline, or null if the benchmark is new
+     * @param current  Score of the current run, or null if the benchmark was
+     *                 removed
+     */
+    record Comparison(Score baseline, Score current, Verdict verdict) {
+
+        String key() {
+            return current != null ? current.key() : baseline.key();
+        }
+
+        /**
+         * Change of the score in percent, positive if better.
+         */
+        double improvementPercent() {
+            if (baseline == null || current == null || baseline.score() == 0) {
+                return Double.NaN;
+            }
+            double change = (current.score() - baseline.score()) / baseline.score() * 100;
+            return current.higherIsBetter() ? change : -change;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BenchmarkComparison <baseline.csv> <current.csv> [threshold percent]");
+            System.exit(2);
+        }
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        List<Comparison> comparisons = compare(read(Path.of(args[0])), read(Path.of(args[1])), threshold);
+        print(comparisons, System.out);
+        if (comparisons.stream().anyMatch(c -> c.verdict() == Verdict.REGRESSION)) {
+            System.exit(1);
+        }
+    }
+
+    static List<Score> read(Path file) throws IOException {
+        return parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses JMH results in CSV format.
+     *
+     * @param lines Lines, starting with the header
+     * @return Scores, in the order of the lines
+     */
+    static List<Score> parse(List<String> lines) {
+        List<Score> scores = new ArrayList<>();
+        if (lines.isEmpty()) {
+            return scores;
+        }
+        List<String> header = fields(lines.getFirst());
+        int benchmark = header.indexOf("Benchmark");
+        int mode = header.indexOf("Mode");
+        int score = header.indexOf("Score");
+        int unit = header.indexOf("Unit");
+        int error = -1;
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).startsWith("Score Error")) {
+                error = i;
+            }
+        }
+        if (benchmark < 0 || mode < 0 || score < 0 || unit < 0) {
+            throw new IllegalArgumentException("Not a JMH result in CSV format: " + lines.getFirst());
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> row = fields(line);
+            StringBuilder key = new StringBuilder(shortName(row.get(benchmark)));
+            for (int i = 0; i < header.size() && i < row.size(); i++) {
+                String name = header.get(i);
+                if (name.startsWith("Param: ") && !row.get(i).isEmpty()) {
+                    key.append(' ').append(name.substring("Param: ".length())).append('=').append(row.get(i));
+                }
+            }
+            scores.add(new Score(key.toString(), row.get(mode), number(row.get(score)),
+                error < 0 ? Double.NaN : number(row.get(error)), row.get(unit)));
+        }
+        return scores;
+    }
+
+    /**
+     * Compares the scores of a run with those of a baseline.
+     *
+     * @param baseline         Scores of the baseline
+     * @param current          Scores of the run
+     * @param thresholdPercent Change in percent beyond which a score is
+     *                         better or worse
+     * @return Comparisons, in the order of the run, followed by the removed
+     *         benchmarks
+     */
+    static List<Comparison> compare(List<Score> baseline, List<Score> current, double thresholdPercent) {
+        Map<String, Score> baselineByKey = new LinkedHashMap<>();
+        for (Score score : baseline) {
+            baselineByKey.put(score.key() + ' ' + score.mode(), score);
+        }
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Score score : current) {
+            Score base = baselineByKey.remove(score.key() + ' ' + score.mode());
+            if (base == null) {
+                comparisons.add(new Comparison(null, score, Verdict.NEW));
+            } else {
+                comparisons.add(new Comparison(base, score, verdict(base, score, thresholdPercent)));
+            }
+        }
+        for (Score score : baselineByKey.values()) {
+            comparisons.add(new Comparison(score, null, Verdict.REMOVED));
+        }
+        return comparisons;
+    }
+
+    private static Verdict verdict(Score baseline, Score current, double thresholdPercent) {
+        double difference = Math.abs(current.score() - baseline.score());
+        double errors = (Double.isNaN(baseline.error()) ? 0 : baseline.error())
+            + (Double.isNaN(current.error()) ? 0 : current.error());
+        if (difference <= errors || difference <= Math.abs(baseline.score()) * thresholdPercent / 100) {
+            return Verdict.UNCHANGED;
+        }
+        boolean better = current.higherIsBetter() == current.score() > baseline.score();
+        return better ? Verdict.IMPROVEMENT : Verdict.REGRESSION;
+    }
+
+    static void print(List<Comparison> comparisons, PrintStream out) {
+        int width = "Benchmark".length();
+        for (Comparison comparison : comparisons) {
+            width = Math.max(width, comparison.key().length());
+        }
+        String format = "%-" + width + "s  %5s  %14s  %14s  %-10s  %8s  %s%n";
+        out.printf(Locale.ROOT, format, "Benchmark", "Mode", "Baseline", "Current", "Unit", "Change", "Verdict");
+        int regressions = 0;
+        int improvements = 0;
+        for (Comparison comparison : comparisons) {
+            Score any = comparison.current() != null ? comparison.current() : comparison.baseline();
+            double change = comparison.improvementPercent();
+            out.printf(Locale.ROOT, format, comparison.key(), any.mode(), score(comparison.baseline()),
+                score(comparison.current()), any.unit(),
+                Double.isNaN(change) ? "" : String.format(Locale.ROOT, "%+.1f%%", change),
+                comparison.verdict().name().toLowerCase(Locale.ROOT));
+            if (comparison.verdict() == Verdict.REGRESSION) {
+                regressions++;
+            } else if (comparison.verdict() == Verdict.IMPROVEMENT) {
+                improvements++;
+            }
+        }
+        out.printf(Locale.ROOT, "%d benchmarks, %d regressions, %d improvements%n", comparisons.size(),
+            regressions, improvements);
+    }
+
+    private static String score(Score score) {
+        return score == null ? "" : String.format(Locale.ROOT, "%.3f", score.score());
+    }
+
+    /**
+     * Removes the package prefix {@code org.eclipse.daanse.olap.benchmark.}
+     * of a benchmark name.
+     */
+    private static String shortName(String benchmark) {
+        String prefix = BenchmarkComparison.class.getPackageName() + '.';
+        return benchmark.startsWith(prefix) ? benchmark.substring(prefix.length()) : benchmark;
+    }
+
+    private static double number(String field) {
+        if (field.isEmpty() || "NaN".equals(field)) {
+            return Double.NaN;
+        }
+        return Double.parseDouble(field.replace(',', '.'));
+    }
+
+    /**
+     * Splits a CSV line into its fields, removing the quotes of quoted fields.
+     */
+    private static List<String> fields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
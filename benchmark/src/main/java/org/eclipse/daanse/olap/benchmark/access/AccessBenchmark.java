@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.access;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.access.RoleImpl;
+import org.eclipse.daanse.olap.api.access.AccessHierarchy;
+import org.eclipse.daanse.olap.api.access.AccessMember;
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.access.RollupPolicy;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.benchmark.calc.BenchmarkMembers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Access checks of all members of a four level hierarchy of about 50,000
+ * members with custom access: one role which grants half of the countries,
+ * or the union of that role and a role which grants a third of the states
+ * and denies some of their cities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessBenchmark {
+
+    @Param({ "single", "union" })
+    private String roles;
+
+    private Member[] members;
+    private Role role;
+
+    @Setup
+    public void setup() {
+        members = BenchmarkMembers.hierarchy("Store", 10, 50, 100);
+
+        RoleImpl countries = customRole();
+        for (Member member : members) {
+            if (member.getDepth() == 1 && member.getOrdinal() % 2 == 0) {
+                countries.grant(member, AccessMember.ALL);
+            }
+        }
+        countries.makeImmutable();
+        if ("single".equals(roles)) {
+            role = countries;
+            return;
+        }
+
+        RoleImpl states = customRole();
+        for (Member member : members) {
+            if (member.getDepth() == 2 && member.getOrdinal() % 3 == 0) {
+                states.grant(member, AccessMember.ALL);
+            }
+        }
+        for (Member member : members) {
+            if (member.getDepth() == 3 && member.getOrdinal() % 7 == 0) {
+                states.grant(member, AccessMember.NONE);
+            }
+        }
+        states.makeImmutable();
+        role = RoleImpl.union(List.of(countries, states));
+    }
+
+    private RoleImpl customRole() {
+        RoleImpl role = new RoleImpl();
+        role.grant(members[0].getHierarchy(), AccessHierarchy.CUSTOM, null, null, RollupPolicy.FULL);
+        return role;
+    }
+
+    @Benchmark
+    public void memberAccess(Blackhole blackhole) {
+        for (Member member : members) {
+            blackhole.consume(role.getAccess(member));
+        }
+    }
+
+    @Benchmark
+    public void canAccess(Blackhole blackhole) {
+        for (Member member : members) {
+            blackhole.consume(role.canAccess(member));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.calc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.QueryTiming;
+import org.eclipse.daanse.olap.api.execution.Statement;
+import org.eclipse.daanse.olap.api.query.component.Query;
+
+/**
+ * Creates evaluators for benchmarks that need no catalog and no query.
+ *
+ * The evaluator is a proxy whose context is the tuple last passed to one of
+ * the {@code setContext} methods; {@code evaluateCurrent} returns the value a
+ * function gives for that tuple, as if it were a stored measure. Savepoints
+ * are not kept, {@code push} returns the evaluator itself and the query has a
+ * statement without a current execution, so cancellation is never checked.
+ * Every other method returns a default value.
+ */
+public final class BenchmarkEvaluator {
+
+    private BenchmarkEvaluator() {
+    }
+
+    /**
+     * Creates an evaluator.
+     *
+     * @param cells Value of the cell of each tuple
+     * @return Evaluator
+     */
+    public static Evaluator create(Function<List<Member>, Object> cells) {
+        Statement statement = proxy(Statement.class, (proxy, method, args) -> null);
+        Query query = proxy(Query.class,
+                (proxy, method, args) -> "getStatement".equals(method.getName()) ? statement : null);
+        QueryTiming timing = proxy(QueryTiming.class, (proxy, method, args) -> null);
+        @SuppressWarnings("unchecked")
+        List<Member>[] context = new List[] { List.of() };
+        return proxy(Evaluator.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+            case "setContext":
+                Object arg = args[0];
+                if (arg instanceof Member member) {
+                    context[0] = List.of(member);
+                } else if (arg instanceof Member[] members) {
+                    context[0] = Arrays.asList(members);
+                } else {
+                    @SuppressWarnings("unchecked")
+                    List<Member> members = (List<Member>) arg;
+                    context[0] = members;
+                }
+                return null;
+            case "evaluateCurrent":
+                return cells.apply(context[0]);
+            case "push":
+                return proxy;
+            case "savepoint":
+                return 0;
+            case "getQuery":
+                return query;
+            case "getTiming":
+                return timing;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            default:
+                Class<?> type = method.getReturnType();
+                if (type == boolean.class) {
+                    return Boolean.FALSE;
+                }
+                if (type == int.class) {
+                    return 0;
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Returns a value for a tuple, scattered by the hash codes of its members,
+     * to stand for a stored measure.
+     *
+     * @param tuple Tuple
+     * @return Value between 0 and 2^20
+     */
+    public static Object scatteredValue(List<Member> tuple) {
+        int h = 0;
+        for (Member member : tuple) {
+            h = 31 * h + member.hashCode();
+        }
+        return (double) ((h * 0x9E3779B9) >>> 12);
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.calc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.element.Dimension;
+import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.Level;
+import org.eclipse.daanse.olap.api.element.Member;
+
+/**
+ * Creates members for benchmarks that need no catalog.
+ *
+ * The members are proxies that answer {@code hashCode}, {@code equals},
+ * {@code getUniqueName} and {@code toString} like a real member with a cached
+ * hash code, without allocating. Members of a hierarchy also answer
+ * {@code getParentMember}, {@code getDepth}, {@code getOrdinal},
+ * {@code isChildOrEqualTo} and, with a hierarchy, a dimension and one level per
+ * depth which are proxies as well, {@code getHierarchy}, {@code getLevel} and
+ * {@code getDimension}; every other method returns a default value.
+ */
+public final class BenchmarkMembers {
+
+    private BenchmarkMembers() {
+    }
+
+    /**
+     * Creates members with the unique names {@code [prefix].[0]},
+     * {@code [prefix].[1]} ...
+     *
+     * @param prefix Name of the hierarchy the members pretend to belong to
+     * @param count  Number of members
+     * @return Members
+     */
+    public static Member[] create(String prefix, int count) {
+        Member[] members = new Member[count];
+        for (int i = 0; i < count; i++) {
+            members[i] = create("[" + prefix + "].[" + i + "]");
+        }
+        return members;
+    }
+
+    /**
+     * Creates the members of a hierarchy with a root member and the given
+     * number of children per member on each level below it, in pre order.
+     *
+     * @param prefix  Name of the hierarchy
+     * @param fanouts Number of children per member, per level below the root
+     * @return Members, starting with the root
+     */
+    public static Member[] hierarchy(String prefix, int... fanouts) {
+        Map<String, Object> dimension = new HashMap<>();
+        Map<String, Object> hierarchy = new HashMap<>();
+        List<Level> levels = new ArrayList<>();
+        String uniqueName = "[" + prefix + "]";
+        dimension.put("getUniqueName", uniqueName);
+        dimension.put("getName", prefix);
+        hierarchy.put("getUniqueName", uniqueName);
+        hierarchy.put("getName", prefix);
+        hierarchy.put("getDimension", element(Dimension.class, dimension));
+        hierarchy.put("getLevels", levels);
+        Hierarchy h = element(Hierarchy.class, hierarchy);
+        for (int depth = 0; depth <= fanouts.length; depth++) {
+            Map<String, Object> level = new HashMap<>();
+            level.put("getUniqueName", uniqueName + ".[Level " + depth + "]");
+            level.put("getName", "Level " + depth);
+            level.put("getDepth", depth);
+            level.put("getHierarchy", h);
+            level.put("getDimension", hierarchy.get("getDimension"));
+            levels.add(element(Level.class, level));
+        }
+
+        List<Member> members = new ArrayList<>();
+        addMembers(members, null, uniqueName + ".[All]", 0, 0, fanouts, h, levels);
+        return members.toArray(Member[]::new);
+    }
+
+    private static void addMembers(List<Member> members, Member parent, String uniqueName, int depth, int ordinal,
+            int[] fanouts, Hierarchy hierarchy, List<Level> levels) {
+        Member member = create(uniqueName, parent, depth, ordinal, hierarchy, levels.get(depth));
+        members.add(member);
+        if (depth < fanouts.length) {
+            for (int i = 0; i < fanouts[depth]; i++) {
+                addMembers(members, member, uniqueName + ".[" + i + "]", depth + 1, i, fanouts, hierarchy, levels);
+            }
+        }
+    }
+
+    private static Member create(String uniqueName) {
+        return create(uniqueName, null, 0, -1, null, null);
+    }
+
+    private static Member create(String uniqueName, Member parent, int depth, int ordinal, Hierarchy hierarchy,
+            Level level) {
+        return (Member) Proxy.newProxyInstance(Member.class.getClassLoader(), new Class<?>[] { Member.class },
+                new Handler(uniqueName, parent, depth, ordinal, hierarchy, level));
+    }
+
+    /**
+     * Creates an element which answers the methods named in a map with their
+     * values, {@code equals} and {@code hashCode} by identity and every other
+     * method with a default value.
+     */
+    private static <T> T element(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> String.valueOf(answers.get("getUniqueName"));
+                default -> answers.containsKey(method.getName()) ? answers.get(method.getName())
+                        : defaultValue(method.getReturnType());
+                }));
+    }
+
+    private static final class Handler implements InvocationHandler {
+        private final String uniqueName;
+        private final Integer hash;
+        private final Member parent;
+        private final Integer depth;
+        private final Integer ordinal;
+        private final Hierarchy hierarchy;
+        private final Level level;
+
+        Handler(String uniqueName, Member parent, int depth, int ordinal, Hierarchy hierarchy, Level level) {
+            this.uniqueName = uniqueName;
+            this.hash = uniqueName.hashCode();
+            this.parent = parent;
+            this.depth = depth;
+            this.ordinal = ordinal;
+            this.hierarchy = hierarchy;
+            this.level = level;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+            case "hashCode":
+                return hash;
+            case "equals":
+                return proxy == args[0];
+            case "getUniqueName", "toString", "getName":
+                return uniqueName;
+            case "getParentMember":
+                return parent;
+            case "getDepth":
+                return depth;
+            case "getOrdinal":
+                return ordinal;
+            case "getHierarchy":
+                return hierarchy;
+            case "getLevel":
+                return level;
+            case "getDimension":
+                return hierarchy == null ? null : hierarchy.getDimension();
+            case "isChildOrEqualTo":
+                for (Member m = (Member) proxy; m != null; m = m.getParentMember()) {
+                    if (m == args[0]) {
+                        return Boolean.TRUE;
+                    }
+                }
+                return Boolean.FALSE;
+            default:
+                return defaultValue(method.getReturnType());
+            }
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.calc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.fun.sort.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hierarchize of about 500,000 members of a four level hierarchy: sorting with
+ * {@link Sorter#compareHierarchically}, which walks the ancestors of both
+ * members on each comparison, against {@link Sorter#hierarchizeMemberList},
+ * which sorts by keys computed once per member. {@code input} is either a
+ * random permutation or a list that already is in the requested order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class HierarchizeBenchmark {
+
+    @Param({ "shuffled", "hierarchized" })
+    private String input;
+
+    @Param({ "false", "true" })
+    private boolean post;
+
+    private List<Member> members;
+
+    @Setup
+    public void setup() {
+        members = new ArrayList<>(Arrays.asList(BenchmarkMembers.hierarchy("Store", 10, 50, 1000)));
+        if ("shuffled".equals(input)) {
+            Collections.shuffle(members, new Random(42));
+        } else if (post) {
+            Sorter.hierarchizeMemberList(members, true);
+        }
+    }
+
+    @Benchmark
+    public List<Member> comparator() {
+        List<Member> list = new ArrayList<>(members);
+        list.sort((m1, m2) -> Sorter.compareHierarchically(m1, m2, post));
+        return list;
+    }
+
+    @Benchmark
+    public List<Member> sortKeys() {
+        List<Member> list = new ArrayList<>(members);
+        Sorter.hierarchizeMemberList(list, post);
+        return list;
+    }
+}
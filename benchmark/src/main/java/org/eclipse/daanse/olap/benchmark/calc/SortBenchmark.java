@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.calc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.calc.DoubleCalc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.type.NumericType;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.ArrayTupleList;
+import org.eclipse.daanse.olap.calc.base.value.CurrentValueDoubleCalc;
+import org.eclipse.daanse.olap.fun.sort.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Order and TopCount of 2-member tuples by the value of a stored measure:
+ * {@link Sorter#sortTuples} with breaking hierarchies and
+ * {@link Sorter#partiallySortTuples} for the top 10. {@code batch} selects
+ * whether the values are evaluated for batches of tuples up front or one
+ * tuple at a time while comparing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class SortBenchmark {
+
+    @Param({ "100000" })
+    private int tuples;
+
+    @Param({ "false", "true" })
+    private boolean batch;
+
+    private Evaluator evaluator;
+    private DoubleCalc calc;
+    private TupleList list;
+
+    @Setup
+    public void setup() {
+        evaluator = BenchmarkEvaluator.create(BenchmarkEvaluator::scatteredValue);
+        calc = batch ? new CurrentValueDoubleCalc(NumericType.INSTANCE)
+                : new CurrentValueDoubleCalc(NumericType.INSTANCE) {
+                    @Override
+                    public boolean isBatchable() {
+                        return false;
+                    }
+                };
+        int side = (int) Math.ceil(Math.sqrt(tuples));
+        Member[] rows = BenchmarkMembers.create("Rows", side);
+        Member[] columns = BenchmarkMembers.create("Columns", side);
+        list = new ArrayTupleList(2, tuples);
+        for (int i = 0; i < tuples; i++) {
+            list.addTuple(rows[i / side], columns[i % side]);
+        }
+    }
+
+    @Benchmark
+    public TupleList order() {
+        return Sorter.sortTuples(evaluator, list, list, calc, true, true, 2);
+    }
+
+    @Benchmark
+    public List<List<Member>> topCount() {
+        return Sorter.partiallySortTuples(evaluator, list, calc, 10, true);
+    }
+}
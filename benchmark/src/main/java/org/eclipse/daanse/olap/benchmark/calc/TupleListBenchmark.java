@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.calc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.ArrayTupleList;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.eclipse.daanse.olap.function.def.crossjoin.CrossJoinFunDef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Building, iterating and crossjoining tuple lists of 2-member tuples, with
+ * {@code side} members on each side. Iteration compares the {@code List}
+ * view, which creates a list per tuple, with a {@link TupleCursor}; crossjoin
+ * compares {@link CrossJoinFunDef#mutableCrossJoin}, which computes rows on
+ * access, with copying the product into an {@link ArrayTupleList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class TupleListBenchmark {
+
+    @Param({ "1000" })
+    private int side;
+
+    private Member[] rows;
+    private Member[] columns;
+    private TupleList rowList;
+    private TupleList columnList;
+    private TupleList product;
+
+    @Setup
+    public void setup() {
+        rows = BenchmarkMembers.create("Rows", side);
+        columns = BenchmarkMembers.create("Columns", side);
+        rowList = new UnaryTupleList(List.of(rows));
+        columnList = new UnaryTupleList(List.of(columns));
+        product = build();
+    }
+
+    @Benchmark
+    public TupleList build() {
+        TupleList list = new ArrayTupleList(2);
+        for (Member row : rows) {
+            for (Member column : columns) {
+                list.addTuple(row, column);
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public void iterateList(Blackhole blackhole) {
+        for (List<Member> tuple : product) {
+            blackhole.consume(tuple.get(1));
+        }
+    }
+
+    @Benchmark
+    public void iterateCursor(Blackhole blackhole) {
+        TupleCursor cursor = product.tupleCursor();
+        while (cursor.forward()) {
+            blackhole.consume(cursor.member(1));
+        }
+    }
+
+    @Benchmark
+    public void crossJoin(Blackhole blackhole) {
+        TupleCursor cursor = CrossJoinFunDef.mutableCrossJoin(rowList, columnList).tupleCursor();
+        while (cursor.forward()) {
+            blackhole.consume(cursor.member(1));
+        }
+    }
+
+    @Benchmark
+    public void crossJoinMaterialized(Blackhole blackhole) {
+        TupleList list = new ArrayTupleList(2, rowList.size() * columnList.size());
+        list.addAll(CrossJoinFunDef.mutableCrossJoin(rowList, columnList));
+        TupleCursor cursor = list.tupleCursor();
+        while (cursor.forward()) {
+            blackhole.consume(cursor.member(1));
+        }
+    }
+}
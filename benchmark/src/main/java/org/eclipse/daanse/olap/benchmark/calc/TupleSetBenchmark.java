@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.calc;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.ArrayTupleList;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deduplication as done by Distinct, Union and Except: the former
+ * {@code HashSet<List<Member>>} against {@link TupleHashSet}, on lists of
+ * 2-member tuples. {@code duplicates} is the share of rows that repeat an
+ * earlier tuple.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class TupleSetBenchmark {
+
+    @Param({ "1000000" })
+    private int tuples;
+
+    @Param({ "0.1", "0.5" })
+    private double duplicates;
+
+    private TupleList list0;
+    private TupleList list1;
+
+    @Setup
+    public void setup() {
+        int distinct = (int) (tuples * (1 - duplicates));
+        int side = (int) Math.ceil(Math.sqrt(distinct));
+        Member[] rows = BenchmarkMembers.create("Rows", side);
+        Member[] columns = BenchmarkMembers.create("Columns", side);
+        SplittableRandom random = new SplittableRandom(42);
+        list0 = new ArrayTupleList(2, tuples);
+        list1 = new ArrayTupleList(2, tuples);
+        for (int i = 0; i < tuples; i++) {
+            int t = i < distinct ? i : random.nextInt(distinct);
+            list0.addTuple(rows[t / side], columns[t % side]);
+            int u = random.nextInt(distinct);
+            list1.addTuple(rows[u / side], columns[u % side]);
+        }
+    }
+
+    @Benchmark
+    public TupleList distinctHashSet() {
+        Set<List<Member>> set = new HashSet<>(list0.size());
+        TupleList result = list0.copyList(list0.size());
+        for (List<Member> element : list0) {
+            if (set.add(element)) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public TupleList distinctTupleHashSet() {
+        TupleList result = list0.copyList(list0.size());
+        TupleHashSet set = new TupleHashSet(result, list0.size());
+        TupleCursor cursor = list0.tupleCursor();
+        while (cursor.forward()) {
+            set.add(cursor);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public TupleList exceptHashSet() {
+        Set<List<Member>> set1 = new HashSet<>(list1);
+        TupleList result = new ArrayTupleList(2, list0.size());
+        for (List<Member> tuple : list0) {
+            if (!set1.contains(tuple)) {
+                result.add(tuple);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public TupleList exceptTupleHashSet() {
+        TupleHashSet set1 = TupleHashSet.of(list1);
+        TupleList result = new ArrayTupleList(2, list0.size());
+        TupleCursor cursor = list0.tupleCursor();
+        while (cursor.forward()) {
+            if (!set1.contains(cursor)) {
+                result.addCurrent(cursor);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.format;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.util.format.Format;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares formatting a column of cell values one boxed value at a time through
+ * {@link Format#format(Object)} with the bulk column methods of {@link Format}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatColumnBenchmark {
+
+    @Param({ "Currency", "Percent", "yyyy-mm-dd hh:nn:ss" })
+    private String formatString;
+
+    @Param({ "1024" })
+    private int rows;
+
+    private Format format;
+    private boolean date;
+    private double[] doubles;
+    private long[] millis;
+    private StringBuilder column;
+    private char[] buffer;
+    private int[] ends;
+
+    @Setup
+    public void setup() {
+        format = new Format(formatString, Locale.US);
+        date = formatString.startsWith("yyyy");
+        SplittableRandom random = new SplittableRandom(42);
+        doubles = new double[rows];
+        millis = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            doubles[i] = (random.nextDouble() - 0.3) * 1_000_000d;
+            millis[i] = 1_600_000_000_000L + random.nextLong(200_000_000_000L);
+        }
+        column = new StringBuilder(rows * 32);
+        buffer = new char[rows * 32];
+        ends = new int[rows];
+    }
+
+    /**
+     * The current per cell path: box, dispatch on the boxed type, build a
+     * String, append it.
+     */
+    @Benchmark
+    public void perValue(Blackhole blackhole) {
+        column.setLength(0);
+        for (int i = 0; i < rows; i++) {
+            Object value = date ? new Date(millis[i]) : Double.valueOf(doubles[i]);
+            column.append(format.format(value)).append('\t');
+        }
+        blackhole.consume(column);
+    }
+
+    @Benchmark
+    public void columnToAppendable(Blackhole blackhole) throws IOException {
+        column.setLength(0);
+        if (date) {
+            format.formatEpochMillis(millis, 0, rows, column, "\t");
+        } else {
+            format.format(doubles, 0, rows, column, "\t");
+        }
+        blackhole.consume(column);
+    }
+
+    @Benchmark
+    public int columnToCharBuffer() {
+        if (date) {
+            return format.formatEpochMillis(millis, 0, rows, buffer, 0, ends);
+        }
+        return format.format(doubles, 0, rows, buffer, 0, ends);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.format;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.util.format.Format;
+import org.eclipse.daanse.olap.util.format.internal.DaanseFloatingDecimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of numeric formatting, per value. The {@code values} parameter
+ * selects the kind of numbers: whole numbers, amounts with two decimals and
+ * arbitrary doubles, which mostly need 16 or 17 digits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumericFormatBenchmark {
+
+    private static final int ROWS = 1024;
+
+    @Param({ "#,##0.00", "Currency", "Percent", "0.00E+00" })
+    private String formatString;
+
+    @Param({ "whole", "amount", "random" })
+    private String values;
+
+    private Format format;
+    private double[] doubles;
+    private StringBuilder sb;
+
+    @Setup
+    public void setup() {
+        format = new Format(formatString, Locale.US);
+        SplittableRandom random = new SplittableRandom(42);
+        doubles = new double[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            double d = (random.nextDouble() - 0.3) * 10_000_000d;
+            doubles[i] = switch (values) {
+            case "whole" -> Math.rint(d);
+            case "amount" -> Math.rint(d) / 100d;
+            default -> d;
+            };
+        }
+        sb = new StringBuilder(64);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void format(Blackhole blackhole) {
+        for (double d : doubles) {
+            blackhole.consume(format.format(d));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void digits(Blackhole blackhole) {
+        for (double d : doubles) {
+            blackhole.consume(new DaanseFloatingDecimal(d));
+        }
+    }
+
+    /**
+     * Reference: the shortest representation as the JDK renders it, which the
+     * general digit path parses.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void doubleToString(Blackhole blackhole) {
+        for (double d : doubles) {
+            sb.setLength(0);
+            blackhole.consume(sb.append(d));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.key;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.key.BitKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of {@link BitKey}, the key of column sets by which aggregations
+ * and segments are looked up, per key. {@code bits} selects the
+ * implementation: one long, two longs or an array.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitKeyBenchmark {
+
+    private static final int KEYS = 1024;
+
+    @Param({ "40", "100", "400" })
+    private int bits;
+
+    private BitKey[] bitKeys;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        bitKeys = new BitKey[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            BitKey key = BitKey.Factory.makeBitKey(bits);
+            for (int j = 0; j < bits / 8; j++) {
+                key.set(random.nextInt(bits));
+            }
+            bitKeys[i] = key;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void or(Blackhole blackhole) {
+        for (int i = 1; i < KEYS; i++) {
+            blackhole.consume(bitKeys[i - 1].or(bitKeys[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void isSuperSetOf(Blackhole blackhole) {
+        for (int i = 1; i < KEYS; i++) {
+            blackhole.consume(bitKeys[i - 1].isSuperSetOf(bitKeys[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void compare(Blackhole blackhole) {
+        for (int i = 1; i < KEYS; i++) {
+            blackhole.consume(bitKeys[i - 1].compareTo(bitKeys[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void iterate(Blackhole blackhole) {
+        for (BitKey key : bitKeys) {
+            for (int bit = key.nextSetBit(0); bit >= 0; bit = key.nextSetBit(bit + 1)) {
+                blackhole.consume(bit);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.key;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.key.CellKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of {@link CellKey}, the key by which the cells of a result are
+ * looked up, per key: creating a key from the coordinates of a cell and
+ * looking it up in a hash map. {@code axes} selects the implementation: the
+ * fixed ones up to four axes, or the one with an array.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellKeyBenchmark {
+
+    private static final int KEYS = 1024;
+
+    @Param({ "2", "4", "5" })
+    private int axes;
+
+    private int[][] coordinates;
+    private Map<CellKey, Integer> cells;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        coordinates = new int[KEYS][axes];
+        cells = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            for (int axis = 0; axis < axes; axis++) {
+                coordinates[i][axis] = random.nextInt(50);
+            }
+            cells.put(CellKey.Generator.newCellKey(coordinates[i].clone()), i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void lookup(Blackhole blackhole) {
+        for (int[] position : coordinates) {
+            blackhole.consume(cells.get(CellKey.Generator.newCellKey(position)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void offset(Blackhole blackhole) {
+        int[] multipliers = new int[axes];
+        int multiplier = 1;
+        for (int axis = 0; axis < axes; axis++) {
+            multipliers[axis] = multiplier;
+            multiplier *= 50;
+        }
+        for (int[] position : coordinates) {
+            blackhole.consume(CellKey.Generator.getOffset(position, multipliers));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.query;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.agg.Segment;
+import org.eclipse.daanse.olap.api.query.IdentifierSegment;
+import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.olap.impl.IdentifierParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and printing of MDX identifiers, as done for every member name in a
+ * query, a member property or a cell set: a member with name segments, one
+ * with a composite key and one with quoted brackets, alone and as a set of
+ * 100 members.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierBenchmark {
+
+    @Param({ "[Store].[Stores].[USA].[CA].[San Francisco]", "[Time].[Time].&[2024]&[Q1]",
+        "[Product].[Products].[Food & Drink].[Baked [Goods]]]" })
+    private String identifier;
+
+    private List<Segment> segments;
+    private String set;
+
+    @Setup
+    public void setup() {
+        segments = Util.parseIdentifier(identifier);
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (int i = 0; i < 100; i++) {
+            joiner.add(identifier);
+        }
+        set = joiner.toString();
+    }
+
+    @Benchmark
+    public List<Segment> parse() {
+        return Util.parseIdentifier(identifier);
+    }
+
+    @Benchmark
+    public String implode() {
+        return Util.implode(segments);
+    }
+
+    @Benchmark
+    public List<List<IdentifierSegment>> parseSet() {
+        return IdentifierParser.parseIdentifierList(set);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.query;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.olap.api.Parameter;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.eclipse.daanse.olap.common.ValidatorImpl;
+import org.eclipse.daanse.olap.function.core.FunctionServiceImpl;
+import org.eclipse.daanse.olap.function.def.operators.divide.DivideResolver;
+import org.eclipse.daanse.olap.function.def.operators.minus.MinusResolver;
+import org.eclipse.daanse.olap.function.def.operators.multiply.MultiplyResolver;
+import org.eclipse.daanse.olap.function.def.operators.plus.PlusResolver;
+import org.eclipse.daanse.olap.query.component.NumericLiteralImpl;
+import org.eclipse.daanse.olap.query.component.UnresolvedFunCallImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of a calculated member's formula: a balanced tree of the four
+ * arithmetic operators over numeric literals, with {@code depth} levels of
+ * operators. Each invocation uses a new validator, as each query does, so
+ * every call of the tree is resolved; the function service keeps its
+ * resolutions between invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final InfixOperationAtom[] OPERATORS = { new InfixOperationAtom("+"), new InfixOperationAtom("-"),
+        new InfixOperationAtom("*"), new InfixOperationAtom("/") };
+
+    @Param({ "4", "8" })
+    private int depth;
+
+    private FunctionServiceImpl functionService;
+    private Expression formula;
+
+    @Setup
+    public void setup() {
+        functionService = new FunctionServiceImpl();
+        functionService.addResolvers(
+            List.of(new PlusResolver(), new MinusResolver(), new MultiplyResolver(), new DivideResolver()));
+        formula = tree(depth, new int[1]);
+    }
+
+    private static Expression tree(int depth, int[] next) {
+        if (depth == 0) {
+            return NumericLiteralImpl.create(BigDecimal.valueOf(next[0]++));
+        }
+        return new UnresolvedFunCallImpl(OPERATORS[depth % OPERATORS.length],
+            new Expression[] { tree(depth - 1, next), tree(depth - 1, next) });
+    }
+
+    @Benchmark
+    public Expression validate() {
+        return new ValidatorImpl(functionService, Map.of()) {
+
+            @Override
+            public Query getQuery() {
+                return null;
+            }
+
+            @Override
+            public CatalogReader getCatalogReader() {
+                return null;
+            }
+
+            @Override
+            protected void defineParameter(Parameter param) {
+                throw new UnsupportedOperationException();
+            }
+        }.validate(formula, true);
+    }
+}
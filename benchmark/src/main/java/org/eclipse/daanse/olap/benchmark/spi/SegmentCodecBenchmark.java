@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.olap.key.CellKey;
+import org.eclipse.daanse.olap.spi.SegmentBody;
+import org.eclipse.daanse.olap.spi.SegmentCodec;
+import org.eclipse.daanse.olap.spi.SegmentColumn;
+import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.olap.util.ArraySortedSet;
+import org.eclipse.daanse.olap.util.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding and decoding of a segment header and body with {@link SegmentCodec}
+ * against Java serialization. The header is constrained on a column of
+ * {@code cells / 100} member keys; the body is dense with {@code double} values
+ * or sparse with half of its cells set. The encoded sizes are printed once per
+ * trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class SegmentCodecBenchmark {
+
+    @Param({ "100000" })
+    private int cells;
+
+    @Param({ "dense", "sparse" })
+    private String layout;
+
+    private SegmentHeader header;
+    private SegmentBody body;
+    private byte[] headerCodec;
+    private byte[] bodyCodec;
+    private byte[] headerJava;
+    private byte[] bodyJava;
+
+    @Setup
+    public void setup() {
+        int stores = cells / 100;
+        Comparable[] storeKeys = new Comparable[stores];
+        for (int i = 0; i < stores; i++) {
+            storeKeys[i] = "Store " + (100000 + i);
+        }
+        Comparable[] days = new Comparable[100];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = 20250000 + i;
+        }
+        SortedSet<Comparable> storeSet = sortedSet(storeKeys);
+        SortedSet<Comparable> daySet = sortedSet(days);
+        BitKey bitKey = BitKey.Factory.makeBitKey(100);
+        bitKey.set(4);
+        bitKey.set(71);
+        header = new SegmentHeader("Sales", new ByteString(new byte[32]), "Sales", "Unit Sales",
+                List.of(new SegmentColumn("store.store_name", stores, storeSet),
+                        new SegmentColumn("time_by_day.day_key", 365, daySet)),
+                List.of(), "sales_fact", bitKey, List.of());
+
+        SplittableRandom random = new SplittableRandom(42);
+        @SuppressWarnings("unchecked")
+        SortedSet<Comparable>[] axes = new SortedSet[] { storeSet, daySet };
+        if ("dense".equals(layout)) {
+            double[] values = new double[cells];
+            BitSet nulls = new BitSet(cells);
+            for (int i = 0; i < cells; i++) {
+                values[i] = random.nextInt(100000) / 100d;
+                if (random.nextInt(10) == 0) {
+                    nulls.set(i);
+                }
+            }
+            body = new Body(axes, new boolean[2], values, nulls, null);
+        } else {
+            Map<CellKey, Object> map = new HashMap<>();
+            for (int i = 0; i < cells; i += 2) {
+                map.put(CellKey.Generator.newCellKey(new int[] { i / 100, i % 100 }), random.nextInt(100000) / 100d);
+            }
+            body = new Body(axes, new boolean[2], null, null, map);
+        }
+
+        headerCodec = SegmentCodec.encodeHeader(header);
+        bodyCodec = SegmentCodec.encodeBody(body);
+        headerJava = serialize(header);
+        bodyJava = serialize(body);
+        System.out.printf("%n%s: header %d bytes encoded, %d bytes serialized; body %d bytes encoded, %d bytes"
+                + " serialized%n", layout, headerCodec.length, headerJava.length, bodyCodec.length, bodyJava.length);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static SortedSet<Comparable> sortedSet(Comparable[] values) {
+        return new ArraySortedSet(values);
+    }
+
+    @Benchmark
+    public byte[] encodeCodec() {
+        SegmentCodec.encodeHeader(header);
+        return SegmentCodec.encodeBody(body);
+    }
+
+    @Benchmark
+    public byte[] encodeJava() {
+        serialize(header);
+        return serialize(body);
+    }
+
+    @Benchmark
+    public SegmentBody decodeCodec() {
+        SegmentCodec.decodeHeader(headerCodec);
+        return SegmentCodec.decodeBody(bodyCodec);
+    }
+
+    @Benchmark
+    public Object decodeJava() {
+        deserialize(headerJava);
+        return deserialize(bodyJava);
+    }
+
+    private static byte[] serialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Segment body as a segment cache receives it; sparse bodies keep their
+     * cells in a hash map, as the engine's sparse bodies do.
+     */
+    private record Body(SortedSet<Comparable>[] axes, boolean[] nullAxisFlags, Object valueArray, BitSet nulls,
+            Map<CellKey, Object> valueMap) implements SegmentBody, Serializable {
+
+        @Override
+        public Map<CellKey, Object> getValueMap() {
+            return valueMap;
+        }
+
+        @Override
+        public Object getValueArray() {
+            if (valueArray == null) {
+                throw new UnsupportedOperationException();
+            }
+            return valueArray;
+        }
+
+        @Override
+        public BitSet getNullValueIndicators() {
+            return nulls;
+        }
+
+        @Override
+        public SortedSet<Comparable>[] getAxisValueSets() {
+            return axes;
+        }
+
+        @Override
+        public boolean[] getNullAxisFlags() {
+            return nullAxisFlags;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.eclipse.daanse.olap.benchmark.BenchmarkComparison.Comparison;
+import org.eclipse.daanse.olap.benchmark.BenchmarkComparison.Score;
+import org.eclipse.daanse.olap.benchmark.BenchmarkComparison.Verdict;
+import org.junit.jupiter.api.Test;
+
+class BenchmarkComparisonTest {
+
+    private static final String HEADER = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\","
+        + "\"Score Error (99.9%)\",\"Unit\",\"Param: batch\"";
+
+    @Test
+    void parsesJmhCsv() {
+        List<Score> scores = BenchmarkComparison.parse(List.of(HEADER,
+            "\"org.eclipse.daanse.olap.benchmark.calc.SortBenchmark.order\",\"avgt\",1,5,120.5,3.25,\"ms/op\",true",
+            "\"org.eclipse.daanse.olap.benchmark.key.BitKeyBenchmark.or\",\"thrpt\",1,5,50,NaN,\"ops/us\","));
+
+        assertThat(scores).containsExactly(
+            new Score("calc.SortBenchmark.order batch=true", "avgt", 120.5, 3.25, "ms/op"),
+            new Score("key.BitKeyBenchmark.or", "thrpt", 50, Double.NaN, "ops/us"));
+    }
+
+    @Test
+    void worseBeyondThresholdAndErrorIsARegression() {
+        List<Score> baseline = List.of(new Score("time", "avgt", 100, 1, "ms/op"),
+            new Score("throughput", "thrpt", 100, 1, "ops/us"), new Score("noisy", "avgt", 100, 30, "ms/op"),
+            new Score("removed", "avgt", 100, 1, "ms/op"));
+        List<Score> current = List.of(new Score("time", "avgt", 120, 1, "ms/op"),
+            new Score("throughput", "thrpt", 120, 1, "ops/us"), new Score("noisy", "avgt", 120, 1, "ms/op"),
+            new Score("new", "avgt", 100, 1, "ms/op"));
+
+        List<Comparison> comparisons = BenchmarkComparison.compare(baseline, current, 10);
+
+        assertThat(comparisons).extracting(Comparison::key, Comparison::verdict).containsExactly(
+            tuple("time", Verdict.REGRESSION),
+            tuple("throughput", Verdict.IMPROVEMENT),
+            tuple("noisy", Verdict.UNCHANGED),
+            tuple("new", Verdict.NEW),
+            tuple("removed", Verdict.REMOVED));
+        assertThat(comparisons.get(0).improvementPercent()).isEqualTo(-20.0);
+        assertThat(comparisons.get(1).improvementPercent()).isEqualTo(20.0);
+    }
+
+    @Test
+    void changeWithinThresholdIsUnchanged() {
+        List<Comparison> comparisons = BenchmarkComparison.compare(List.of(new Score("a", "avgt", 100, 0, "ms/op")),
+            List.of(new Score("a", "avgt", 105, 0, "ms/op")), 10);
+
+        assertThat(comparisons).extracting(Comparison::verdict).containsExactly(Verdict.UNCHANGED);
+    }
+}
@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.execution.AdmissionControl;
+import org.eclipse.daanse.olap.api.execution.QueryPriority;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.query.component.QueryComponent;
 import org.eclipse.daanse.olap.api.query.component.SqlQuery;
@@ -45,6 +47,8 @@ import org.eclipse.emf.common.util.EList;
  */
 public class QueryCheckExecutor {
 
+    private static final String CHECK_USER = "check";
+
     private final QueryCheck check;
     private final Connection connection;
     private final OlapCheckFactory factory;
@@ -97,7 +101,7 @@ public class QueryCheckExecutor {
     private void executeMdxQuery(QueryCheckResult result, long startTime) {
         try {
             // Execute the MDX query
-            Result mdxResult = connection.execute(connection.parseQuery(check.getQuery()));
+            Result mdxResult = executeAdmitted(check.getQuery());
 
             result.setExecutedSuccessfully(true);
 
@@ -151,6 +155,21 @@ public class QueryCheckExecutor {
         }
     }
 
+    /**
+     * Executes an MDX query once the admission control of the context, if any,
+     * admits it. Checks run in the background, so they give way to interactive
+     * queries.
+     */
+    private Result executeAdmitted(String mdx) {
+        Optional<AdmissionControl> admissionControl = connection.getContext().getAdmissionControl();
+        if (admissionControl.isEmpty()) {
+            return connection.execute(connection.parseQuery(mdx));
+        }
+        try (AdmissionControl.Permit _ = admissionControl.get().admit(CHECK_USER, List.of(), QueryPriority.BATCH)) {
+            return connection.execute(connection.parseQuery(mdx));
+        }
+    }
+
     private void executeSqlQuery(QueryCheckResult result, long startTime) {
         try {
             // Execute the Sql query
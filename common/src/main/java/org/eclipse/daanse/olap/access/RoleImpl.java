@@ -27,6 +27,7 @@
 package org.eclipse.daanse.olap.access;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -830,6 +831,9 @@ public class RoleImpl implements Role {
     /**
      * Returns a role that is the union of the given roles.
      *
+     * <p>Connections should obtain the union of the roles of a catalog from a
+     * {@link UnionRoleCache}, which shares it between connections.
+     *
      * @param roleList List of roles
      * @return Union role
      */
@@ -1332,18 +1336,19 @@ public class RoleImpl implements Role {
      * cause segments etc. to be removed from the cache when GC is triggered.
      * For this reason, you should only use this wrapper for a HierarchyAccess
      * which would otherwise have poor performance; currently used for union
-     * roles with 5 or more member roles.
+     * roles with 5 or more member roles, and for the union roles shared by
+     * {@link UnionRoleCache}, which may be used by several threads.
      */
     static class CachingHierarchyAccess
         extends DelegatingHierarchyAccess
     {
         private final Map<Member, AccessMember> memberAccessMap =
-            new WeakHashMap<>();
-        private RollupPolicy rollupPolicy;
-        private Map<Member, Boolean> inaccessibleDescendantsMap =
-            new WeakHashMap<>();
-        private Integer topLevelDepth;
-        private Integer bottomLevelDepth;
+            Collections.synchronizedMap(new WeakHashMap<>());
+        private volatile RollupPolicy rollupPolicy;
+        private final Map<Member, Boolean> inaccessibleDescendantsMap =
+            Collections.synchronizedMap(new WeakHashMap<>());
+        private volatile Integer topLevelDepth;
+        private volatile Integer bottomLevelDepth;
 
         /**
          * Creates a CachingHierarchyAccess.
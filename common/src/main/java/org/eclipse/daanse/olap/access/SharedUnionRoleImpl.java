@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.access;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.daanse.olap.api.access.AccessCatalog;
+import org.eclipse.daanse.olap.api.access.AccessCube;
+import org.eclipse.daanse.olap.api.access.AccessDimension;
+import org.eclipse.daanse.olap.api.access.AccessHierarchy;
+import org.eclipse.daanse.olap.api.access.AccessMember;
+import org.eclipse.daanse.olap.api.access.HierarchyAccess;
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.Dimension;
+import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.Level;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.element.NamedSet;
+import org.eclipse.daanse.olap.api.element.OlapElement;
+
+/**
+ * Union role which is shared by all connections with the same roles.
+ *
+ * <p>The merged access to a catalog, cube, dimension, hierarchy, level or
+ * named set is computed from the constituent roles once and then remembered,
+ * as is the merged {@link HierarchyAccess} of each hierarchy, which in turn
+ * remembers the access to each member. The constituent roles must therefore
+ * no longer be modified.
+ *
+ * @see UnionRoleCache
+ */
+class SharedUnionRoleImpl extends UnionRoleImpl {
+    private final Map<Catalog, AccessCatalog> catalogAccess = new ConcurrentHashMap<>();
+    private final Map<Cube, AccessCube> cubeAccess = new ConcurrentHashMap<>();
+    private final Map<Dimension, AccessDimension> dimensionAccess = new ConcurrentHashMap<>();
+    private final Map<Hierarchy, AccessHierarchy> hierarchyAccess = new ConcurrentHashMap<>();
+    private final Map<Hierarchy, Optional<HierarchyAccess>> hierarchyAccessDetails = new ConcurrentHashMap<>();
+    private final Map<Level, AccessMember> levelAccess = new ConcurrentHashMap<>();
+    private final Map<NamedSet, AccessMember> namedSetAccess = new ConcurrentHashMap<>();
+    private final Map<OlapElement, Boolean> elementAccess = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a SharedUnionRoleImpl.
+     *
+     * @param roleList List of constituent roles, none of which is mutable
+     */
+    SharedUnionRoleImpl(List<Role> roleList) {
+        super(roleList);
+    }
+
+    @Override
+    public AccessCatalog getAccess(Catalog schema) {
+        return catalogAccess.computeIfAbsent(schema, super::getAccess);
+    }
+
+    @Override
+    public AccessCube getAccess(Cube cube) {
+        return cubeAccess.computeIfAbsent(cube, super::getAccess);
+    }
+
+    @Override
+    public AccessDimension getAccess(Dimension dimension) {
+        return dimensionAccess.computeIfAbsent(dimension, super::getAccess);
+    }
+
+    @Override
+    public AccessHierarchy getAccess(Hierarchy hierarchy) {
+        return hierarchyAccess.computeIfAbsent(hierarchy, super::getAccess);
+    }
+
+    @Override
+    public HierarchyAccess getAccessDetails(Hierarchy hierarchy) {
+        return hierarchyAccessDetails.computeIfAbsent(hierarchy, h -> Optional.ofNullable(super.getAccessDetails(h))
+            .map(access -> access instanceof RoleImpl.CachingHierarchyAccess
+                ? access
+                : new RoleImpl.CachingHierarchyAccess(access)))
+            .orElse(null);
+    }
+
+    @Override
+    public AccessMember getAccess(Level level) {
+        return levelAccess.computeIfAbsent(level, super::getAccess);
+    }
+
+    @Override
+    public AccessMember getAccess(NamedSet set) {
+        return namedSetAccess.computeIfAbsent(set, super::getAccess);
+    }
+
+    @Override
+    public boolean canAccess(OlapElement olapElement) {
+        // members are remembered by the access details of their hierarchy
+        if (olapElement instanceof Member) {
+            return super.canAccess(olapElement);
+        }
+        return elementAccess.computeIfAbsent(olapElement, super::canAccess);
+    }
+}
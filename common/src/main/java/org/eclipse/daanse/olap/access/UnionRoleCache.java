@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.access;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.exceptions.UnknownRoleException;
+
+/**
+ * Cache of the roles of connections which adopt several roles of a catalog.
+ *
+ * <p>Connections that adopt the same set of roles, in any order, share one
+ * {@link SharedUnionRoleImpl}, which remembers the access it has computed.
+ * Roles that are still mutable are combined with {@link RoleImpl#union(List)}
+ * for every call instead. The least recently used union is evicted once the
+ * cache holds the maximum number of unions; unions of a catalog which is
+ * reloaded are evicted the same way or by {@link #flush(Catalog)}.
+ */
+public class UnionRoleCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 100;
+
+    private final Map<Key, Role> roles;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries Maximum number of union roles
+     */
+    public UnionRoleCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, was: " + maxEntries);
+        }
+        this.roles = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Role> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns the role of a connection which adopts the given roles of a
+     * catalog.
+     *
+     * @param catalog   Catalog
+     * @param roleNames Names of the roles, not empty
+     * @return The role itself if only one role is named, else the union of the
+     *         roles
+     * @throws UnknownRoleException if the catalog has no role of a given name
+     */
+    public Role getRole(Catalog catalog, Collection<String> roleNames) {
+        if (roleNames.isEmpty()) {
+            throw new IllegalArgumentException("roleNames should be not empty");
+        }
+        final List<String> names = new ArrayList<>(new TreeSet<>(roleNames));
+        if (names.size() == 1) {
+            return lookupRole(catalog, names.getFirst());
+        }
+        final Key key = new Key(catalog, names);
+        Role role = roles.get(key);
+        if (role != null) {
+            return role;
+        }
+        final List<Role> roleList = new ArrayList<>(names.size());
+        boolean mutable = false;
+        for (String name : names) {
+            final Role r = lookupRole(catalog, name);
+            mutable |= r instanceof RoleImpl roleImpl && roleImpl.isMutable();
+            roleList.add(r);
+        }
+        if (mutable) {
+            return RoleImpl.union(roleList);
+        }
+        role = new SharedUnionRoleImpl(roleList);
+        final Role previous = roles.putIfAbsent(key, role);
+        return previous == null ? role : previous;
+    }
+
+    /**
+     * Drops the union roles of a catalog.
+     *
+     * @param catalog Catalog
+     */
+    public void flush(Catalog catalog) {
+        synchronized (roles) {
+            roles.keySet().removeIf(key -> key.catalog() == catalog);
+        }
+    }
+
+    /**
+     * Drops all union roles.
+     */
+    public void clear() {
+        roles.clear();
+    }
+
+    /**
+     * Returns the number of cached union roles.
+     */
+    int size() {
+        return roles.size();
+    }
+
+    private static Role lookupRole(Catalog catalog, String name) {
+        final Role role = catalog.lookupRole(name);
+        if (role == null) {
+            throw new UnknownRoleException(name);
+        }
+        return role;
+    }
+
+    private record Key(Catalog catalog, List<String> roleNames) {
+    }
+}
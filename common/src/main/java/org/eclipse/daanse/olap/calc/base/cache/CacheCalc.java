@@ -29,6 +29,7 @@ import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedUnknownCalc;
+import org.eclipse.daanse.olap.common.ExpressionResultCacheImpl;
 
 /**
  * Calculation which retrieves the value of an underlying calculation from
@@ -47,7 +48,7 @@ public class CacheCalc extends AbstractProfilingNestedUnknownCalc {
 
 	@Override
 	public Object evaluateInternal(Evaluator evaluator) {
-		return evaluator.getCachedResult(key);
+		return ExpressionResultCacheImpl.getResult(evaluator, key);
 	}
 
 	@Override
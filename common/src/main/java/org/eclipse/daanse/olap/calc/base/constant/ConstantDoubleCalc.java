@@ -13,14 +13,38 @@
 */
 package org.eclipse.daanse.olap.calc.base.constant;
 
-import org.eclipse.daanse.olap.api.calc.DoubleCalc;
+import org.eclipse.daanse.olap.api.calc.BatchDoubleCalc;
+import org.eclipse.daanse.olap.api.calc.DoubleBatch;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.NumericType;
 import org.eclipse.daanse.olap.calc.base.AbstractProfilingConstantCalc;
+import org.eclipse.daanse.olap.calc.base.util.DoubleBatches;
 
-public class ConstantDoubleCalc extends AbstractProfilingConstantCalc<Double> implements DoubleCalc {
+public class ConstantDoubleCalc extends AbstractProfilingConstantCalc<Double> implements BatchDoubleCalc {
+
+	private final Double value;
 
 	public ConstantDoubleCalc(NumericType type, Double value) {
 		super(value, type);
+		this.value = value;
+	}
+
+	/**
+	 * A constant null is not batchable: a batch cannot tell it from
+	 * {@link org.eclipse.daanse.olap.common.Util#DOUBLE_NULL}.
+	 */
+	@Override
+	public boolean isBatchable() {
+		return value != null;
+	}
+
+	@Override
+	public void evaluateBatch(Evaluator evaluator, TupleList tuples, DoubleBatch batch) {
+		batch.reset(tuples.size());
+		for (int i = 0; i < tuples.size(); i++) {
+			DoubleBatches.set(batch, i, value);
+		}
 	}
 
 }
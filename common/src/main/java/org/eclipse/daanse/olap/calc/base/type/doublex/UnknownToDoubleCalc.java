@@ -16,21 +16,86 @@ package org.eclipse.daanse.olap.calc.base.type.doublex;
 import java.util.Objects;
 
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.calc.BatchDoubleCalc;
 import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.DoubleBatch;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.MemberArrayValueCalc;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.MemberValueCalc;
+import org.eclipse.daanse.olap.calc.base.util.DoubleBatches;
+import org.eclipse.daanse.olap.calc.base.value.CurrentValueUnknownCalc;
 import org.eclipse.daanse.olap.fun.FunUtil;
 
-public class UnknownToDoubleCalc extends AbstractProfilingNestedDoubleCalc {
+/**
+ * Converts the value of a calc of unknown type to a double.
+ *
+ * <p>If the calc reads the value of a cell, as a stored measure compiles to,
+ * it can evaluate batches: the cells are read one tuple after the other, and
+ * the calcs above it combine the values in batches.
+ */
+public class UnknownToDoubleCalc extends AbstractProfilingNestedDoubleCalc implements BatchDoubleCalc {
 
 	public UnknownToDoubleCalc(Type type, Calc<?> calc) {
 		super(type, calc);
 	}
 
+	/**
+	 * Returns whether a calc yields the value of a cell: of the current
+	 * context, or of the context set to a few members.
+	 */
+	public static boolean readsCellValue(Calc<?> calc) {
+		return calc instanceof CurrentValueUnknownCalc || calc instanceof MemberValueCalc
+				|| calc instanceof MemberArrayValueCalc;
+	}
+
 	@Override
 	public Double evaluateInternal(Evaluator evaluator) {
+		return toDouble(evaluator, getFirstChildCalc().evaluate(evaluator));
+	}
+
+	@Override
+	public boolean isBatchable() {
+		return readsCellValue(getFirstChildCalc());
+	}
+
+	@Override
+	public void evaluateBatch(Evaluator evaluator, TupleList tuples, DoubleBatch batch) {
+		evaluateBatch(evaluator, tuples, batch, true);
+	}
+
+	/**
+	 * Evaluates this calc for each tuple of a list, as
+	 * {@link #evaluateBatch(Evaluator, TupleList, DoubleBatch)} does.
+	 *
+	 * @param strict Whether a value which is not a number fails the
+	 *               evaluation, as it does for a single tuple; if false, the
+	 *               evaluation stops at that value instead
+	 * @return Whether the values of all tuples were evaluated
+	 */
+	public boolean evaluateBatch(Evaluator evaluator, TupleList tuples, DoubleBatch batch, boolean strict) {
+		batch.reset(tuples.size());
+		final Calc<?> calc = getFirstChildCalc();
+		final int savepoint = evaluator.savepoint();
+		try {
+			final TupleCursor cursor = tuples.tupleCursor();
+			for (int i = 0; cursor.forward(); i++) {
+				cursor.setContext(evaluator);
+				final Object o = calc.evaluate(evaluator);
+				if (!strict && o != null && !(o instanceof Number)) {
+					return false;
+				}
+				DoubleBatches.set(batch, i, toDouble(evaluator, o));
+			}
+			return true;
+		} finally {
+			evaluator.restore(savepoint);
+		}
+	}
 
-		Object o = getFirstChildCalc().evaluate(evaluator);
+	private static Double toDouble(Evaluator evaluator, Object o) {
 		if (o == null) {
 			return FunUtil.DOUBLE_NULL;
 			// null;
@@ -44,4 +109,4 @@ public class UnknownToDoubleCalc extends AbstractProfilingNestedDoubleCalc {
 		}
 		throw evaluator.newEvalException(null, "wrtong typed, was: " + o);
 	}
-}
\ No newline at end of file
+}
@@ -37,6 +37,7 @@ import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.common.SystemWideProperties;
 import org.eclipse.daanse.olap.exceptions.ResourceLimitExceededException;
+import org.eclipse.daanse.olap.execution.QueryAllocation;
 /**
  * Implementation of {@link TupleList} that stores tuples end-to-end in an array.
  *
@@ -45,6 +46,7 @@ import org.eclipse.daanse.olap.exceptions.ResourceLimitExceededException;
 public class ArrayTupleList extends AbstractEndToEndTupleList {
     private final int maxMembers;
     private transient Member[] objectData;
+    private transient QueryAllocation.Charge charge;
     private int size;
     private final int cjMaxSize = SystemWideProperties.instance().ResultLimit;
 
@@ -71,6 +73,7 @@ public class ArrayTupleList extends AbstractEndToEndTupleList {
     private ArrayTupleList( int arity, Member[] members, int size ) {
         super( arity );
         assert members.length % arity == 0;
+        charge = QueryAllocation.chargeReferences( this, null, members.length );
         objectData = members;
         this.size = size;
         maxMembers = maxNumberOfMembers();
@@ -299,6 +302,8 @@ public class ArrayTupleList extends AbstractEndToEndTupleList {
             final int rem = newCapacity % arity;
             newCapacity = Math.min( newCapacity + arity - rem, maxMembers );
 
+            // the charge moves from the replaced array to the new one
+            charge = QueryAllocation.chargeReferences( this, charge, newCapacity );
             objectData = Arrays.copyOf( objectData, newCapacity );
         }
     }
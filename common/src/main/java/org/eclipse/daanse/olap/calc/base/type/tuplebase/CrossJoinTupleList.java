@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.type.tuplebase;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.execution.ExecutionContext;
+import org.eclipse.daanse.olap.execution.QueryAllocation;
+import org.eclipse.daanse.olap.util.CancellationChecker;
+
+/**
+ * {@link TupleList} that is the cartesian product of other tuple lists,
+ * computed on demand.
+ *
+ * Like {@link org.eclipse.daanse.olap.util.CartesianProductList}, the members
+ * of a row are found by index arithmetic on the row number: the last list
+ * varies fastest. The input lists are copied into one member array each, so
+ * the product costs memory proportional to the sum of the input sizes, not to
+ * their product, and later changes to the inputs do not show through.
+ *
+ * The list looks like an ordinary end-to-end {@link ListTupleList}. The first
+ * modification (add, remove, set, sort ...) copies the product into an
+ * {@link ArrayList} which is used from then on; until then
+ * {@link #tupleCursor()} walks the product like an odometer, without creating
+ * a list per row.
+ */
+public class CrossJoinTupleList extends ListTupleList {
+
+    private final Product product;
+
+    /**
+     * Creates the cartesian product of the given lists.
+     *
+     * @param lists Lists to combine, the first one varies slowest
+     */
+    public CrossJoinTupleList(List<? extends TupleList> lists) {
+        this(new Product(lists));
+    }
+
+    private CrossJoinTupleList(Product product) {
+        super(product.arity, product);
+        this.product = product;
+    }
+
+    /**
+     * Returns whether the product has been copied because the list was
+     * modified.
+     */
+    public boolean isMaterialized() {
+        return product.materialized != null;
+    }
+
+    @Override
+    public Member get(int slice, int index) {
+        if (product.materialized != null) {
+            return super.get(slice, index);
+        }
+        Objects.checkIndex(index, product.rows);
+        return product.member(index, slice);
+    }
+
+    @Override
+    public TupleCursor tupleCursor() {
+        if (product.materialized != null) {
+            return super.tupleCursor();
+        }
+        return new ProductCursor(product);
+    }
+
+    /**
+     * Backing list of the members of all rows, end-to-end.
+     */
+    private static final class Product extends AbstractList<Member> implements RandomAccess {
+        private final int arity;
+        private final int rows;
+        /** Number of members of all rows. */
+        private final int size;
+        /** Members of input list i, end-to-end. */
+        private final Member[][] members;
+        private final int[] arities;
+        private final int[] sizes;
+        /** Number of rows the value of input i stays the same for. */
+        private final int[] strides;
+        /** Position of the first member of input i in a row. */
+        private final int[] offsets;
+        private final int[] inputOfColumn;
+        private final int[] columnInInput;
+        /** Number of members of all inputs. */
+        private final long inputLength;
+        private QueryAllocation.Charge charge;
+        private List<Member> materialized;
+
+        Product(List<? extends TupleList> lists) {
+            int n = lists.size();
+            members = new Member[n][];
+            arities = new int[n];
+            sizes = new int[n];
+            strides = new int[n];
+            offsets = new int[n];
+            long rowCount = 1;
+            int width = 0;
+            long length = 0;
+            for (int i = 0; i < n; i++) {
+                TupleList list = lists.get(i);
+                arities[i] = list.getArity();
+                sizes[i] = list.size();
+                offsets[i] = width;
+                width += arities[i];
+                rowCount *= sizes[i];
+                length += (long) sizes[i] * arities[i];
+            }
+            inputLength = length;
+            charge = QueryAllocation.chargeReferences(this, null, inputLength);
+            for (int i = 0; i < n; i++) {
+                TupleList list = lists.get(i);
+                members[i] = new Member[sizes[i] * arities[i]];
+                TupleCursor cursor = list.tupleCursor();
+                for (int offset = 0; cursor.forward(); offset += arities[i]) {
+                    cursor.currentToArray(members[i], offset);
+                }
+            }
+            arity = width;
+            rows = Math.toIntExact(rowCount);
+            size = Math.multiplyExact(rows, arity);
+            int stride = 1;
+            for (int i = n - 1; i >= 0; i--) {
+                strides[i] = stride;
+                stride *= Math.max(sizes[i], 1);
+            }
+            inputOfColumn = new int[arity];
+            columnInInput = new int[arity];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < arities[i]; j++) {
+                    inputOfColumn[offsets[i] + j] = i;
+                    columnInInput[offsets[i] + j] = j;
+                }
+            }
+        }
+
+        Member member(int row, int column) {
+            int input = inputOfColumn[column];
+            int index = (row / strides[input]) % sizes[input];
+            return members[input][index * arities[input] + columnInInput[column]];
+        }
+
+        @Override
+        public Member get(int index) {
+            if (materialized != null) {
+                return materialized.get(index);
+            }
+            Objects.checkIndex(index, size);
+            return member(index / arity, index % arity);
+        }
+
+        @Override
+        public int size() {
+            return materialized != null ? materialized.size() : size;
+        }
+
+        @Override
+        public Member set(int index, Member element) {
+            return materialize().set(index, element);
+        }
+
+        @Override
+        public void add(int index, Member element) {
+            modCount++;
+            materialize().add(index, element);
+        }
+
+        @Override
+        public Member remove(int index) {
+            modCount++;
+            return materialize().remove(index);
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            materialized = new ArrayList<>();
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            modCount++;
+            materialize().subList(fromIndex, toIndex).clear();
+        }
+
+        private List<Member> materialize() {
+            if (materialized == null) {
+                charge = QueryAllocation.chargeReferences(this, charge, inputLength + size);
+                final ExecutionContext context = ExecutionContext.currentOrNull();
+                final Execution execution = context == null ? null : context.getExecution();
+                List<Member> copy = new ArrayList<>(size);
+                ProductCursor cursor = new ProductCursor(this);
+                while (cursor.forward()) {
+                    CancellationChecker.checkCancelOrTimeout(cursor.row, execution);
+                    for (Member member : cursor.current) {
+                        copy.add(member);
+                    }
+                }
+                materialized = copy;
+            }
+            return materialized;
+        }
+    }
+
+    /**
+     * Cursor that advances the inputs like an odometer and only copies the
+     * members of the inputs that changed.
+     */
+    private static final class ProductCursor extends AbstractTupleCursor {
+        private final Product product;
+        private final int[] positions;
+        private final Member[] current;
+        private int row = -1;
+
+        ProductCursor(Product product) {
+            super(product.arity);
+            this.product = product;
+            this.positions = new int[product.members.length];
+            this.current = new Member[product.arity];
+        }
+
+        @Override
+        public boolean forward() {
+            if (row + 1 >= product.rows) {
+                return false;
+            }
+            if (++row == 0) {
+                for (int i = 0; i < positions.length; i++) {
+                    load(i);
+                }
+                return true;
+            }
+            for (int i = positions.length - 1; i >= 0; i--) {
+                if (++positions[i] < product.sizes[i]) {
+                    load(i);
+                    return true;
+                }
+                positions[i] = 0;
+                load(i);
+            }
+            return true;
+        }
+
+        private void load(int input) {
+            int arity = product.arities[input];
+            System.arraycopy(product.members[input], positions[input] * arity, current, product.offsets[input], arity);
+        }
+
+        @Override
+        public List<Member> current() {
+            return Collections.unmodifiableList(Arrays.asList(current.clone()));
+        }
+
+        @Override
+        public void setContext(Evaluator evaluator) {
+            evaluator.setContext(current);
+        }
+
+        @Override
+        public void currentToArray(Member[] members, int offset) {
+            System.arraycopy(current, 0, members, offset, arity);
+        }
+
+        @Override
+        public Member member(int column) {
+            return current[column];
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.type.tuplebase;
+
+import java.util.Arrays;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+
+/**
+ * Set of distinct tuples, stored as row numbers of a {@link TupleList}.
+ *
+ * Replaces {@code HashSet<List<Member>>} in the set operators. The set is an
+ * open addressing hash table of row numbers with linear probing; the hash of
+ * each stored tuple is kept next to its row, so growing the table and probing
+ * past other tuples does not touch the members again. Tuples are probed
+ * member by member from a {@link TupleCursor}, so neither probing nor adding
+ * creates a list per tuple.
+ *
+ * Two tuples are equal if their members are equal pairwise, as in
+ * {@link java.util.List#equals(Object)}. Members are compared by reference
+ * first and only then by {@link Member#equals(Object)}, which compares unique
+ * names.
+ *
+ * The list must not be modified other than through {@link #add(TupleCursor)}
+ * while the set is in use.
+ */
+public class TupleHashSet {
+
+    private static final int EMPTY = -1;
+
+    private final TupleList list;
+    private final int arity;
+    /** Row number in {@link #list} per slot, or {@link #EMPTY}. */
+    private int[] rows;
+    /** Hash of the tuple per slot. */
+    private int[] hashes;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * Creates an empty set of rows of a list.
+     *
+     * @param list         List whose rows the set refers to
+     * @param expectedSize Number of tuples the set is expected to hold
+     */
+    public TupleHashSet(TupleList list, int expectedSize) {
+        this.list = list;
+        this.arity = list.getArity();
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 4) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Creates a set of the distinct tuples of a list.
+     *
+     * @param list List whose rows to add
+     * @return Set
+     */
+    public static TupleHashSet of(TupleList list) {
+        TupleHashSet set = new TupleHashSet(list, list.size());
+        for (int row = 0, n = list.size(); row < n; row++) {
+            set.add(row);
+        }
+        return set;
+    }
+
+    /**
+     * Returns the list whose rows the set refers to.
+     */
+    public TupleList getList() {
+        return list;
+    }
+
+    /**
+     * Returns the number of distinct tuples in the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a row of the list, unless an equal tuple is already in the set.
+     *
+     * @param row Row number in the list
+     * @return Whether the row was added
+     */
+    public boolean add(int row) {
+        int hash = hash(row);
+        int slot = hash & mask;
+        for (int r; (r = rows[slot]) != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && equalRows(r, row)) {
+                return false;
+            }
+        }
+        insert(slot, row, hash);
+        return true;
+    }
+
+    /**
+     * Appends the current tuple of a cursor to the list and adds it to the
+     * set, unless an equal tuple is already in the set.
+     *
+     * @param cursor Cursor positioned on a tuple of the arity of the list
+     * @return Whether the tuple was added
+     */
+    public boolean add(TupleCursor cursor) {
+        int hash = hash(cursor);
+        int slot = find(cursor, hash);
+        if (rows[slot] != EMPTY) {
+            return false;
+        }
+        list.addCurrent(cursor);
+        insert(slot, list.size() - 1, hash);
+        return true;
+    }
+
+    /**
+     * Returns whether the current tuple of a cursor is in the set.
+     *
+     * @param cursor Cursor positioned on a tuple of the arity of the list
+     * @return Whether an equal tuple is in the set
+     */
+    public boolean contains(TupleCursor cursor) {
+        return rows[find(cursor, hash(cursor))] != EMPTY;
+    }
+
+    private int find(TupleCursor cursor, int hash) {
+        int slot = hash & mask;
+        for (int r; (r = rows[slot]) != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && equalRow(r, cursor)) {
+                break;
+            }
+        }
+        return slot;
+    }
+
+    private void insert(int slot, int row, int hash) {
+        rows[slot] = row;
+        hashes[slot] = hash;
+        if (++size > resizeAt) {
+            grow();
+        }
+    }
+
+    private void allocate(int capacity) {
+        rows = new int[capacity];
+        Arrays.fill(rows, EMPTY);
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity >> 1;
+    }
+
+    private void grow() {
+        int[] oldRows = rows;
+        int[] oldHashes = hashes;
+        allocate(oldRows.length << 1);
+        for (int i = 0; i < oldRows.length; i++) {
+            if (oldRows[i] != EMPTY) {
+                int slot = oldHashes[i] & mask;
+                while (rows[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                rows[slot] = oldRows[i];
+                hashes[slot] = oldHashes[i];
+            }
+        }
+    }
+
+    private int hash(int row) {
+        int h = 1;
+        for (int i = 0; i < arity; i++) {
+            h = 31 * h + memberHash(list.get(i, row));
+        }
+        return spread(h);
+    }
+
+    private int hash(TupleCursor cursor) {
+        int h = 1;
+        for (int i = 0; i < arity; i++) {
+            h = 31 * h + memberHash(cursor.member(i));
+        }
+        return spread(h);
+    }
+
+    private static int memberHash(Member member) {
+        return member == null ? 0 : member.hashCode();
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private boolean equalRows(int row0, int row1) {
+        for (int i = 0; i < arity; i++) {
+            if (!equalMembers(list.get(i, row0), list.get(i, row1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean equalRow(int row, TupleCursor cursor) {
+        for (int i = 0; i < arity; i++) {
+            if (!equalMembers(list.get(i, row), cursor.member(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalMembers(Member m0, Member m1) {
+        return m0 == m1 || m0 != null && m0.equals(m1);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.util;
+
+import org.eclipse.daanse.olap.api.calc.BatchDoubleCalc;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.DoubleBatch;
+import org.eclipse.daanse.olap.api.calc.DoubleCalc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.type.NumericType;
+import org.eclipse.daanse.olap.calc.base.type.doublex.UnknownToDoubleCalc;
+import org.eclipse.daanse.olap.common.Util;
+
+/**
+ * Helpers for evaluating {@link BatchDoubleCalc}s.
+ *
+ * <p>A value of a batch stands for the value a {@code DoubleCalc} returns
+ * for one tuple: a null in the batch for {@link Util#DOUBLE_NULL}, a value
+ * which is not ready for {@link Util#valueNotReadyException}, and a number for
+ * any other {@link Double}. Lists are evaluated in chunks of
+ * {@link #CHUNK_SIZE} tuples, so the arrays of a batch stay small.
+ */
+public final class DoubleBatches {
+
+    /** Number of tuples evaluated in one batch. */
+    public static final int CHUNK_SIZE = 1024;
+
+    private DoubleBatches() {
+    }
+
+    /**
+     * Receives the values of one chunk of a list.
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        /**
+         * @param offset Position of the first tuple of the chunk in the list
+         * @param batch  Values of the tuples of the chunk
+         */
+        void accept(int offset, DoubleBatch batch);
+    }
+
+    /**
+     * Sum, number of numbers and number of values which are not ready of the
+     * values of a list, nulls left out.
+     */
+    public record Summary(double sum, int count, int notReadyCount) {
+    }
+
+    /**
+     * Returns whether a calc can evaluate batches.
+     */
+    public static boolean isBatchable(Calc<?> calc) {
+        return calc instanceof BatchDoubleCalc batchCalc && batchCalc.isBatchable();
+    }
+
+    /**
+     * Returns whether all calcs can evaluate batches.
+     */
+    public static boolean isBatchable(Calc<?>[] calcs) {
+        for (Calc<?> calc : calcs) {
+            if (!isBatchable(calc)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a calc which evaluates the values of a calc as numbers in
+     * batches, or null if there is none. A calc which can evaluate batches is
+     * returned as it is. A calc which reads the value of a cell, as a stored
+     * measure and the value of the current member compile to, is converted by
+     * an {@link UnknownToDoubleCalc}; use it where the values have to be
+     * numbers, as for a sum.
+     */
+    public static BatchDoubleCalc numeric(Calc<?> calc) {
+        if (isBatchable(calc)) {
+            return (BatchDoubleCalc) calc;
+        }
+        if (UnknownToDoubleCalc.readsCellValue(calc)) {
+            return new UnknownToDoubleCalc(NumericType.INSTANCE, calc);
+        }
+        return null;
+    }
+
+    /**
+     * Stores the value a {@code DoubleCalc} returned in a batch.
+     */
+    public static void set(DoubleBatch batch, int index, Double value) {
+        if (value == null || value == Util.DOUBLE_NULL) {
+            batch.setNull(index);
+        } else if (value == Util.valueNotReadyException) {
+            batch.setNotReady(index);
+        } else {
+            batch.set(index, value);
+        }
+    }
+
+    /**
+     * Returns the value a {@code DoubleCalc} would have returned for a
+     * position of a batch.
+     */
+    public static Double get(DoubleBatch batch, int index) {
+        if (batch.isNull(index)) {
+            return Util.DOUBLE_NULL;
+        } else if (batch.isNotReady(index)) {
+            return (Double) Util.valueNotReadyException;
+        }
+        return batch.get(index);
+    }
+
+    /**
+     * Returns the value a calc would have returned for a position of a batch
+     * the values of the calc were evaluated in: as {@link #get(DoubleBatch, int)}
+     * for a {@link DoubleCalc}, and null for a null value of any other calc.
+     */
+    public static Object get(DoubleBatch batch, int index, Calc<?> calc) {
+        if (batch.isNull(index) && !(calc instanceof DoubleCalc)) {
+            return null;
+        }
+        return get(batch, index);
+    }
+
+    /**
+     * Evaluates a calc for all tuples of a list, one chunk at a time, if its
+     * values are numbers, for callers which accept values of any type, as
+     * sorting does. A calc which can evaluate batches is evaluated as by
+     * {@link #forEachChunk}; a calc which reads the value of a cell is
+     * evaluated until a value is found which is not a number. Use
+     * {@link #get(DoubleBatch, int, Calc)} to read the values.
+     *
+     * @param evaluator Evaluator
+     * @param tuples    Tuples
+     * @param calc      Calc
+     * @param consumer  Receives the values of each chunk
+     * @return Whether all values were evaluated; if not, the consumer may have
+     *         received the first chunks, and the caller has to evaluate the
+     *         calc for each tuple
+     */
+    public static boolean forEachNumberChunk(Evaluator evaluator, TupleList tuples, Calc<?> calc,
+            ChunkConsumer consumer) {
+        if (isBatchable(calc)) {
+            forEachChunk(evaluator, tuples, (BatchDoubleCalc) calc, consumer);
+            return true;
+        }
+        if (!UnknownToDoubleCalc.readsCellValue(calc)) {
+            return false;
+        }
+        final UnknownToDoubleCalc numberCalc = new UnknownToDoubleCalc(NumericType.INSTANCE, calc);
+        return forEachChunk(evaluator, tuples,
+                (chunk, batch) -> numberCalc.evaluateBatch(evaluator, chunk, batch, false), consumer);
+    }
+
+    /**
+     * Evaluates a calc for all tuples of a list, one chunk at a time, and
+     * checks for cancellation between chunks.
+     *
+     * @param evaluator Evaluator
+     * @param tuples    Tuples
+     * @param calc      Calc which can evaluate batches
+     * @param consumer  Receives the values of each chunk
+     */
+    public static void forEachChunk(Evaluator evaluator, TupleList tuples, BatchDoubleCalc calc,
+            ChunkConsumer consumer) {
+        forEachChunk(evaluator, tuples, (chunk, batch) -> {
+            calc.evaluateBatch(evaluator, chunk, batch);
+            return true;
+        }, consumer);
+    }
+
+    /**
+     * Evaluates one chunk of a list.
+     */
+    @FunctionalInterface
+    private interface ChunkEvaluation {
+        /**
+         * @return Whether the values of all tuples of the chunk were evaluated
+         */
+        boolean evaluate(TupleList chunk, DoubleBatch batch);
+    }
+
+    private static boolean forEachChunk(Evaluator evaluator, TupleList tuples, ChunkEvaluation evaluation,
+            ChunkConsumer consumer) {
+        final Execution execution = evaluator.getQuery().getStatement().getCurrentExecution();
+        final int size = tuples.size();
+        final DoubleBatch batch = new DoubleBatch(Math.min(size, CHUNK_SIZE));
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            if (execution != null) {
+                execution.checkCancelOrTimeout();
+            }
+            final TupleList chunk = from == 0 && size <= CHUNK_SIZE ? tuples
+                    : tuples.subList(from, Math.min(size, from + CHUNK_SIZE));
+            if (!evaluation.evaluate(chunk, batch)) {
+                return false;
+            }
+            consumer.accept(from, batch);
+        }
+        return true;
+    }
+
+    /**
+     * Sums the values of a calc for all tuples of a list.
+     *
+     * @param evaluator Evaluator
+     * @param tuples    Tuples
+     * @param calc      Calc which can evaluate batches
+     * @return Summary of the values
+     */
+    public static Summary summarize(Evaluator evaluator, TupleList tuples, BatchDoubleCalc calc) {
+        final double[] sum = new double[1];
+        final int[] counts = new int[2];
+        forEachChunk(evaluator, tuples, calc, (offset, batch) -> {
+            final double[] values = batch.values();
+            final int size = batch.size();
+            double s = sum[0];
+            if (batch.isDense()) {
+                for (int i = 0; i < size; i++) {
+                    s += values[i];
+                }
+                counts[0] += size;
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (batch.isNotReady(i)) {
+                        counts[1]++;
+                    } else if (!batch.isNull(i)) {
+                        s += values[i];
+                        counts[0]++;
+                    }
+                }
+            }
+            sum[0] = s;
+        });
+        return new Summary(sum[0], counts[0], counts[1]);
+    }
+}
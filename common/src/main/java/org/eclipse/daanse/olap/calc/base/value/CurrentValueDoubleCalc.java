@@ -12,12 +12,17 @@
 */
 package org.eclipse.daanse.olap.calc.base.value;
 
-import org.eclipse.daanse.olap.api.calc.DoubleCalc;
+import org.eclipse.daanse.olap.api.calc.BatchDoubleCalc;
+import org.eclipse.daanse.olap.api.calc.DoubleBatch;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.AbstractProfilingValueCalc;
+import org.eclipse.daanse.olap.calc.base.util.DoubleBatches;
 import org.eclipse.daanse.olap.fun.FunUtil;
 
-public class CurrentValueDoubleCalc extends AbstractProfilingValueCalc<Double> implements DoubleCalc{
+public class CurrentValueDoubleCalc extends AbstractProfilingValueCalc<Double> implements BatchDoubleCalc{
 
 
 	public CurrentValueDoubleCalc(Type type) {
@@ -36,4 +41,24 @@ public class CurrentValueDoubleCalc extends AbstractProfilingValueCalc<Double> i
 		throw new RuntimeException("wring value");
 	}
 
+	@Override
+	public boolean isBatchable() {
+		return true;
+	}
+
+	@Override
+	public void evaluateBatch(Evaluator evaluator, TupleList tuples, DoubleBatch batch) {
+		batch.reset(tuples.size());
+		final int savepoint = evaluator.savepoint();
+		try {
+			final TupleCursor cursor = tuples.tupleCursor();
+			for (int i = 0; cursor.forward(); i++) {
+				cursor.setContext(evaluator);
+				DoubleBatches.set(batch, i, convertCurrentValue(evaluator.evaluateCurrent()));
+			}
+		} finally {
+			evaluator.restore(savepoint);
+		}
+	}
+
 }
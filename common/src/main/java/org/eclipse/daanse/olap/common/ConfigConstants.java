@@ -53,6 +53,7 @@ public class ConfigConstants {
     public static final String IGNORE_INVALID_MEMBERS = "ignoreInvalidMembers";
     public static final String MAX_EVAL_DEPTH = "maxEvalDepth";
     public static final String CHECK_CANCEL_OR_TIMEOUT_INTERVAL = "checkCancelOrTimeoutInterval";
+    public static final String DRILL_THROUGH_FETCH_SIZE = "drillThroughFetchSize";
     public static final String MEMORY_MONITOR = "memoryMonitor";
     public static final String WARN_IF_NO_PATTERN_FOR_DIALECT = "warnIfNoPatternForDialect";
     public static final String USE_AGGREGATES = "useAggregates";
@@ -68,6 +69,15 @@ public class ConfigConstants {
     public static final String GENERATE_FORMATTED_SQL = "generateFormattedSql";
     public static final String EXECUTE_DURATION = "executeDuration";
     public static final String EXECUTE_DURATION_UNIT = "executeDurationUnit";
+    public static final String EXPRESSION_RESULT_CACHE_MAX_ENTRIES = "expressionResultCacheMaxEntries";
+    public static final String ADMISSION_CONTROL = "admissionControl";
+    public static final String ADMISSION_MAX_QUEUE_TIME = "admissionMaxQueueTime";
+    public static final String ADMISSION_MAX_QUEUE_DEPTH = "admissionMaxQueueDepth";
+    public static final String ADMISSION_WEIGHTS = "admissionWeights";
+    public static final String QUERY_ALLOCATION_LIMIT = "queryAllocationLimit";
+    public static final String EVENT_BUS = "eventBus";
+    public static final String EVENT_BUS_CAPACITY = "eventBusCapacity";
+    public static final String EVENT_BUS_SAMPLE_RATE = "eventBusSampleRate";
 
     public static final Integer QUERY_LIMIT_DEFAULT_VALUE = 40;
     public static final String SEGMENT_CACHE_DEFAULT_VALUE = null;
@@ -105,6 +115,7 @@ public class ConfigConstants {
     public static final Boolean IGNORE_INVALID_MEMBERS_DEFAULT_VALUE = false;
     public static final int MAX_EVAL_DEPTH_DEFAULT_VALUE = 10;
     public static final int CHECK_CANCEL_OR_TIMEOUT_INTERVAL_DEFAULT_VALUE = 1000;
+    public static final int DRILL_THROUGH_FETCH_SIZE_DEFAULT_VALUE = 0;
     public static final boolean MEMORY_MONITOR_DEFAULT_VALUE = false;
     public static final String WARN_IF_NO_PATTERN_FOR_DIALECT_DEFAULT_VALUE = "NONE";
     public static final boolean USE_AGGREGATES_DEFAULT_VALUE = false;
@@ -120,5 +131,14 @@ public class ConfigConstants {
     public static final boolean GENERATE_FORMATTED_SQL_DEFAULT_VALUE = false;
     public static final long EXECUTE_DURATION_DEFAULT_VALUE = 0;
     public static final String EXECUTE_DURATION_UNIT_DEFAULT_VALUE = "MILLISECONDS";
+    public static final Integer EXPRESSION_RESULT_CACHE_MAX_ENTRIES_DEFAULT_VALUE = 0;
+    public static final Boolean ADMISSION_CONTROL_DEFAULT_VALUE = false;
+    public static final Long ADMISSION_MAX_QUEUE_TIME_DEFAULT_VALUE = 30_000L;
+    public static final Integer ADMISSION_MAX_QUEUE_DEPTH_DEFAULT_VALUE = 1000;
+    public static final String ADMISSION_WEIGHTS_DEFAULT_VALUE = "";
+    public static final Long QUERY_ALLOCATION_LIMIT_DEFAULT_VALUE = 0L;
+    public static final String EVENT_BUS_DEFAULT_VALUE = "logging";
+    public static final Integer EVENT_BUS_CAPACITY_DEFAULT_VALUE = 1 << 14;
+    public static final Integer EVENT_BUS_SAMPLE_RATE_DEFAULT_VALUE = 1;
 
 }
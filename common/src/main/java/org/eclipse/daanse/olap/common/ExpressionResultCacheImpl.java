@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.cache.ExpCacheDescriptor;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.MemberExpression;
+import org.eclipse.daanse.olap.api.query.component.NamedSetExpression;
+import org.eclipse.daanse.olap.api.query.component.ParameterExpression;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleCollections;
+import org.eclipse.daanse.olap.query.component.MdxVisitorImpl;
+
+/**
+ * Size-bounded implementation of {@link ExpressionResultCache}. The least
+ * recently used result is evicted once the cache holds the maximum number of
+ * results.
+ *
+ * <p>Each cube has a data version, which is part of the key of its results and
+ * is incremented by {@link #flush(Cube)}; {@link #clear()} starts a new
+ * generation of versions. A query that evaluated an expression before a flush
+ * therefore cannot store its result under the new version.
+ *
+ * <p>An expression is shared between queries only if it does not refer to a
+ * calculated member of the query, a named set, a parameter or a function whose
+ * result changes between calls, such as {@code Now()}. A result is not kept if
+ * it contains a calculated member of the query, and no result is kept while
+ * the slicer has more than one member of a hierarchy or the connection has a
+ * writeback scenario. Results are keyed by the locale of the connection too,
+ * because formatted values and captions depend on it.
+ *
+ * <p>The cache keeps an unmodifiable copy of a list; other queries get that
+ * copy, and a copy of an array, so no query can change what another one sees.
+ */
+public class ExpressionResultCacheImpl implements ExpressionResultCache {
+
+    private static final Set<String> VOLATILE_FUNCTIONS = Set.of("NOW", "DATE", "TIME", "TIMER", "RND",
+            "USERNAME", "CURRENTDATEMEMBER", "CURRENTDATESTRING");
+
+    private static final Object NULL = new Object();
+
+    private final Map<Key, Object> results;
+
+    private final Map<Cube, Long> versions = new ConcurrentHashMap<>();
+
+    private volatile long generation;
+
+    private final Map<ExpCacheDescriptor, Optional<String>> texts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries Maximum number of results
+     */
+    public ExpressionResultCacheImpl(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, was: " + maxEntries);
+        }
+        this.results = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns the result of a cached expression from the expression result cache
+     * of the context, if it is enabled, or else from the cache of the query.
+     *
+     * @param evaluator  Evaluator
+     * @param descriptor Cached expression
+     * @return Result of the expression
+     */
+    public static Object getResult(Evaluator evaluator, ExpCacheDescriptor descriptor) {
+        final Query query = evaluator.getQuery();
+        final Optional<ExpressionResultCache> cache = query == null
+            ? Optional.empty()
+            : query.getConnection().getContext().getExpressionResultCache();
+        return cache.isPresent()
+            ? cache.get().getCachedResult(evaluator, descriptor)
+            : evaluator.getCachedResult(descriptor);
+    }
+
+    @Override
+    public Object getCachedResult(Evaluator evaluator, ExpCacheDescriptor descriptor) {
+        final Optional<String> text = texts.computeIfAbsent(descriptor, ExpressionResultCacheImpl::sharedText);
+        final List<Member> members = text.isEmpty() || hasScenario(evaluator) ? null
+            : dependentMembers(evaluator, descriptor);
+        if (members == null) {
+            return evaluator.getCachedResult(descriptor);
+        }
+        final Cube cube = evaluator.getCube();
+        final Role role = evaluator.getCatalogReader().getRole();
+        final Key key = new Key(cube, generation, versions.getOrDefault(cube, 0L), text.get(), role,
+            evaluator.getConnectionLocale(), members);
+        final Object cached = results.get(key);
+        if (cached != null) {
+            return cached == NULL ? null : copyOfArray(cached);
+        }
+        final Object result = evaluator.getCachedResult(descriptor);
+        if (!containsQueryMembers(result)) {
+            results.put(key, result == null ? NULL : unmodifiableCopy(result));
+        }
+        return result;
+    }
+
+    @Override
+    public void flush(Cube cube) {
+        versions.merge(cube, 1L, Long::sum);
+        synchronized (results) {
+            results.keySet().removeIf(key -> key.cube() == cube);
+        }
+    }
+
+    @Override
+    public void flush(Catalog catalog) {
+        catalog.getCubes().forEach(this::flush);
+    }
+
+    @Override
+    public void clear() {
+        synchronized (results) {
+            ++generation;
+            versions.clear();
+            results.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached results.
+     */
+    int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns the normalized text of the expression, or empty if the expression
+     * must not be shared between queries.
+     */
+    private static Optional<String> sharedText(ExpCacheDescriptor descriptor) {
+        final Expression exp = descriptor.getExp();
+        if (exp == null) {
+            return Optional.empty();
+        }
+        final SharedExpressionVisitor visitor = new SharedExpressionVisitor();
+        exp.accept(visitor);
+        return visitor.shared ? Optional.of(Util.unparse(exp)) : Optional.empty();
+    }
+
+    /**
+     * Returns whether the connection of the query has a writeback scenario,
+     * whose values only that connection sees.
+     */
+    private static boolean hasScenario(Evaluator evaluator) {
+        final Query query = evaluator.getQuery();
+        return query == null || query.getConnection().getScenario() != null;
+    }
+
+    /**
+     * Returns the context members of the hierarchies the expression depends on,
+     * or null if the context is specific to the query.
+     */
+    private static List<Member> dependentMembers(Evaluator evaluator, ExpCacheDescriptor descriptor) {
+        for (Set<Member> slicerMembers : evaluator.getSlicerMembersByHierarchy().values()) {
+            if (slicerMembers.size() > 1) {
+                return null;
+            }
+        }
+        final Member[] members = evaluator.getMembers();
+        final int[] ordinals = descriptor.getDependentHierarchyOrdinals();
+        final Member[] dependent = new Member[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            dependent[i] = members[ordinals[i]];
+            if (dependent[i].isCalculatedInQuery()) {
+                return null;
+            }
+        }
+        return List.of(dependent);
+    }
+
+    /**
+     * Returns a copy of a result that no query can modify.
+     */
+    private static Object unmodifiableCopy(Object value) {
+        return switch (value) {
+        case TupleList tupleList -> TupleCollections.unmodifiableList(tupleList.copyList(-1));
+        case List<?> list -> Collections.unmodifiableList(new ArrayList<>(list));
+        case Object[] array -> array.clone();
+        default -> value;
+        };
+    }
+
+    private static Object copyOfArray(Object value) {
+        return value instanceof Object[] array ? array.clone() : value;
+    }
+
+    private static boolean containsQueryMembers(Object value) {
+        return switch (value) {
+        case null -> false;
+        case Member member -> member.isCalculatedInQuery();
+        case Member[] members -> containsQueryMembers(List.of(members));
+        case List<?> list -> {
+            for (Object element : list) {
+                if (containsQueryMembers(element)) {
+                    yield true;
+                }
+            }
+            yield false;
+        }
+        // lazily evaluated iterables may be specific to the query
+        case Iterable<?> _ -> true;
+        default -> false;
+        };
+    }
+
+    private record Key(Cube cube, long generation, long version, String expression, Role role, Locale locale,
+            List<Member> members) {
+    }
+
+    /**
+     * Decides whether an expression, including the formulas of the calculated
+     * members it uses, may be shared between queries.
+     */
+    private static class SharedExpressionVisitor extends MdxVisitorImpl {
+        private boolean shared = true;
+        private final Set<Member> activeMembers = new HashSet<>();
+
+        @Override
+        public Object visitResolvedFunCall(ResolvedFunCall call) {
+            final String name = call.getFunDef().getFunctionMetaData().operationAtom().name();
+            if (VOLATILE_FUNCTIONS.contains(name.toUpperCase())) {
+                shared = false;
+            }
+            return null;
+        }
+
+        @Override
+        public Object visitMemberExpression(MemberExpression memberExpr) {
+            final Member member = memberExpr.getMember();
+            if (member.isCalculatedInQuery()) {
+                shared = false;
+            } else if (member.isCalculated() && activeMembers.add(member)) {
+                final Expression memberExp = member.getExpression();
+                if (memberExp != null) {
+                    memberExp.accept(this);
+                }
+                activeMembers.remove(member);
+            }
+            return null;
+        }
+
+        @Override
+        public Object visitNamedSetExpression(NamedSetExpression namedSetExpr) {
+            shared = false;
+            return null;
+        }
+
+        @Override
+        public Object visitParameterExpression(ParameterExpression parameterExpr) {
+            shared = false;
+            return null;
+        }
+    }
+}
@@ -28,43 +28,43 @@
  */
 package org.eclipse.daanse.olap.common;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.execution.QueryTiming;
-import org.eclipse.daanse.olap.util.ArrayStack;
 
 /**
  * Provides hooks for recording timing information of components of Query
  * execution.
  *
  *
- * NOTE: This class is experimental and subject to change/removal without
- * notice.
+ * Code that executes as part of a Query obtains a timer id once via
+ * {@link QueryTimerRegistry#register(String)} and calls
+ * {@link QueryTimingImpl#markStart(int)} before executing, and
+ * {@link QueryTimingImpl#markEnd(int)} afterwards, or can track execution
+ * times manually and call {@link QueryTimingImpl#markFull(int, long)}.
  *
  *
- * Code that executes as part of a Query can call
- * {@link QueryTimingImpl#markStart(String)} before executing, and
- * {@link QueryTimingImpl#markEnd(String)} afterwards, or can track execution
- * times manually and call {@link QueryTimingImpl#markFull(String, Duration)}.
+ * Marks are recorded with {@link System#nanoTime()} into primitive arrays of a
+ * recorder owned by the calling thread, so a mark neither allocates nor locks.
+ * Recorders of all threads that took part in the execution are summed up when
+ * the timings are read. Nested marks of the same component are counted, but
+ * only the outermost one contributes to its duration.
  *
  *
  * To read timing information, add a handler to the statement using
  * org.eclipse.daanse.olap.server.Statement#enableProfiling and implement the
- * {@link org.eclipse.daanse.olap.api.calc.profile.ProfileHandler#explain(String, QueryTimingImpl)} method.
+ * {@link org.eclipse.daanse.olap.api.calc.profile.ProfileHandler#explain(String, QueryTiming)} method.
  *
  * @author jbarnett
  */
 public class QueryTimingImpl implements QueryTiming {
-	private boolean enabled;
-	private final ArrayStack<TimingInfo> currentTimings = new ArrayStack<>();
-	// Tracks Query components that are already on the stack so that we don't double
-	// count their durations
-	private final HashMap<String, Integer> currentTimingDepth = new HashMap<>();
-	private final Map<String, DurationCount> timings = new HashMap<>();
-	private final Map<String, DurationCount> fullTimings = new HashMap<>();
+	private volatile boolean enabled;
+	private final Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+	/** Last recorder used; lets the common single threaded case skip the lookup. */
+	private volatile Recorder lastRecorder;
 
 	/**
 	 * Initializes (or re-initializes) a query timing, also setting whether enabled.
@@ -74,129 +74,168 @@ public class QueryTimingImpl implements QueryTiming {
 	 */
 	public void init(boolean enabled) {
 		this.enabled = enabled;
-		currentTimings.clear();
-		timings.clear();
-		fullTimings.clear();
+		recorders.clear();
+		lastRecorder = null;
 	}
 
 	public void done() {
 	}
 
-	/**
-	 * Marks the start of a Query component's execution.
-	 *
-	 * @param name Name of the component
-	 */
-	@Override
-	public final void markStart(String name) {
-		if (enabled) {
-			markStartInternal(name);
-		}
+	public boolean isEnabled() {
+		return enabled;
 	}
 
-	/**
-	 * Marks the end of a Query component's execution.
-	 *
-	 * @param name Name of the component
-	 */
 	@Override
-	public final void markEnd(String name) {
+	public final void markStart(int timerId) {
 		if (enabled) {
-			Instant tstamp = Instant.now();
-			markEndInternal(name, tstamp);
+			recorder().start(timerId, System.nanoTime());
 		}
 	}
 
-	public synchronized final void markFull(String name, Duration duration) {
+	@Override
+	public final void markEnd(int timerId) {
 		if (enabled) {
-			markFullInternal(name, duration);
+			recorder().end(timerId, System.nanoTime());
 		}
 	}
 
-	private void markStartInternal(String name) {
-		currentTimings.push(new TimingInfo(name));
-		Integer depth = currentTimingDepth.get(name);
-		if (depth == null) {
-			currentTimingDepth.put(name, 1);
-		} else {
-			currentTimingDepth.put(name, depth + 1);
+	@Override
+	public final void markFull(int timerId, long nanos) {
+		if (enabled) {
+			recorder().full(timerId, nanos);
 		}
 	}
 
-	private void markEndInternal(String name, Instant tstamp) {
-		if (currentTimings.isEmpty() || !currentTimings.peek().name.equals(name)) {
-			throw new IllegalStateException("end but no start for " + name);
-		}
-		TimingInfo finished = currentTimings.pop();
-		assert finished.name.equals(name);
-		finished.markEnd(tstamp);
-
-		DurationCount durationCount = timings.get(finished.name);
-		if (durationCount == null) {
-			durationCount = new DurationCount();
-			timings.put(finished.name, durationCount);
+	private Recorder recorder() {
+		Thread thread = Thread.currentThread();
+		Recorder recorder = lastRecorder;
+		if (recorder != null && recorder.owner == thread) {
+			return recorder;
 		}
-		durationCount.count++;
-		Integer depth = currentTimingDepth.get(name);
-		if (depth == 1) {
-			Duration dur = Duration.between(finished.startTime, finished.endTime);
-			durationCount.duration=durationCount.duration.plus(dur);
+		for (Recorder r : recorders) {
+			if (r.owner == thread) {
+				lastRecorder = r;
+				return r;
+			}
 		}
-		currentTimingDepth.put(name, depth - 1);
-
+		recorder = new Recorder(thread);
+		recorders.add(recorder);
+		lastRecorder = recorder;
+		return recorder;
 	}
 
-	private void markFullInternal(String name, Duration duration) {
-		DurationCount p = fullTimings.get(name);
-		if (p == null) {
-			p = new DurationCount();
-			fullTimings.put(name, p);
+	/**
+	 * Returns the invocation count and total nanoseconds per timer id, summed over
+	 * all threads: {@code [0]} for start/end marks, {@code [1]} for full marks.
+	 */
+	private long[][][] merge() {
+		int size = QueryTimerRegistry.size();
+		long[][] marks = { new long[size], new long[size] };
+		long[][] fulls = { new long[size], new long[size] };
+		for (Recorder r : recorders) {
+			r.addTo(marks, fulls);
 		}
-		p.count++;
-		p.duration=p.duration.plus(duration);
+		return new long[][][] { marks, fulls };
 	}
 
 	@Override
-	public synchronized String toString() {
+	public String toString() {
+		long[][][] merged = merge();
 		StringBuilder sb = new StringBuilder();
 		sb.append("Query Timing (Cumulative):");
-		for (Map.Entry<String, DurationCount> entry : timings.entrySet()) {
+		append(sb, merged[0]);
+		append(sb, merged[1]);
+		sb.append(Util.NL);
+		return sb.toString();
+	}
+
+	private static void append(StringBuilder sb, long[][] countsAndNanos) {
+		long[] counts = countsAndNanos[0];
+		long[] nanos = countsAndNanos[1];
+		for (int id = 0; id < counts.length; id++) {
+			if (counts[id] == 0) {
+				continue;
+			}
 			sb.append(Util.NL);
-			sb.append(entry.getKey()).append(" invoked ").append(entry.getValue().count).append(" times for total of ")
-					.append(entry.getValue().duration.toMillis()).append("ms.  (Avg. ")
-					.append(entry.getValue().duration.dividedBy(entry.getValue().count).toMillis())
-					.append("ms/invocation)");
+			sb.append(QueryTimerRegistry.name(id)).append(" invoked ").append(counts[id])
+					.append(" times for total of ").append(nanos[id] / 1_000_000).append("ms.  (Avg. ")
+					.append(nanos[id] / counts[id] / 1_000_000).append("ms/invocation)");
+		}
+	}
+
+	/**
+	 * Timings of one thread. Only the owner thread writes; readers sum the arrays
+	 * after the execution, so no synchronization is needed on the hot path.
+	 */
+	private static final class Recorder {
+		private final Thread owner;
+		private int[] depth;
+		private long[] startNanos;
+		private long[] markCounts;
+		private long[] markNanos;
+		private long[] fullCounts;
+		private long[] fullNanos;
+
+		private Recorder(Thread owner) {
+			this.owner = owner;
+			int size = Math.max(16, QueryTimerRegistry.size());
+			depth = new int[size];
+			startNanos = new long[size];
+			markCounts = new long[size];
+			markNanos = new long[size];
+			fullCounts = new long[size];
+			fullNanos = new long[size];
 		}
-		for (Map.Entry<String, DurationCount> entry : fullTimings.entrySet()) {
-			if (sb.length() > 0) {
-				sb.append(Util.NL);
+
+		private void ensureCapacity(int timerId) {
+			if (timerId >= depth.length) {
+				int size = Math.max(timerId + 1, depth.length * 2);
+				depth = Arrays.copyOf(depth, size);
+				startNanos = Arrays.copyOf(startNanos, size);
+				markCounts = Arrays.copyOf(markCounts, size);
+				markNanos = Arrays.copyOf(markNanos, size);
+				fullCounts = Arrays.copyOf(fullCounts, size);
+				fullNanos = Arrays.copyOf(fullNanos, size);
 			}
-			sb.append(entry.getKey()).append(" invoked ").append(entry.getValue().count).append(" times for total of ")
-					.append(entry.getValue().duration.toMillis()).append("ms.  (Avg. ")
-					.append(entry.getValue().duration.dividedBy(entry.getValue().count).toMillis())
-					.append("ms/invocation)");
 		}
-		sb.append(Util.NL);
-		return sb.toString();
-	}
 
-	private static class TimingInfo {
-		private final String name;
-		private final Instant startTime;
-		private Instant endTime;
+		private void start(int timerId, long now) {
+			ensureCapacity(timerId);
+			if (depth[timerId]++ == 0) {
+				startNanos[timerId] = now;
+			}
+		}
 
-		private TimingInfo(String name) {
-			this.name = name;
-			this.startTime = Instant.now();
+		private void end(int timerId, long now) {
+			if (timerId >= depth.length || depth[timerId] == 0) {
+				throw new IllegalStateException("end but no start for " + QueryTimerRegistry.name(timerId));
+			}
+			markCounts[timerId]++;
+			if (--depth[timerId] == 0) {
+				markNanos[timerId] += now - startNanos[timerId];
+			}
 		}
 
-		private void markEnd(Instant tstamp) {
-			this.endTime = tstamp;
+		private void full(int timerId, long nanos) {
+			ensureCapacity(timerId);
+			fullCounts[timerId]++;
+			fullNanos[timerId] += nanos;
 		}
-	}
 
-	private static class DurationCount {
-		Duration duration= Duration.ZERO;
-		long count;
+		private void addTo(long[][] marks, long[][] fulls) {
+			// the owner may be growing its arrays right now, read each one once
+			long[] mc = markCounts;
+			long[] mn = markNanos;
+			long[] fc = fullCounts;
+			long[] fn = fullNanos;
+			int n = Math.min(Math.min(Math.min(mc.length, mn.length), Math.min(fc.length, fn.length)),
+					marks[0].length);
+			for (int id = 0; id < n; id++) {
+				marks[0][id] += mc[id];
+				marks[1][id] += mn[id];
+				fulls[0][id] += fc[id];
+				fulls[1][id] += fn[id];
+			}
+		}
 	}
 }
@@ -65,6 +65,10 @@ public class SystemWideProperties extends DaansePropertiesBase {
             getProperty("daanse.olap.NullMemberRepresentation", "#null");
         ResultLimit =
             this.getInteger("daanse.result.limit", 0);
+        SegmentCacheDirectory =
+            getProperty("daanse.segmentCache.directory");
+        SegmentCacheMaxMegabytes =
+            this.getInteger("daanse.segmentCache.maxMegabytes", 1024);
 
     }
 
@@ -219,6 +223,23 @@ public class SystemWideProperties extends DaansePropertiesBase {
     @PropertyAnnotation(path = "daanse.result.limit")
     public transient Integer ResultLimit;
 
+    /**
+     * Directory in which
+     * {@link org.eclipse.daanse.olap.spi.MappedSegmentCache} keeps its files.
+     * It must be private to the user running the server. There is no default,
+     * so the cache cannot be created until a directory is set.
+     */
+    @PropertyAnnotation(path = "daanse.segmentCache.directory")
+    public transient String SegmentCacheDirectory;
+
+    /**
+     * Size in megabytes of the files of
+     * {@link org.eclipse.daanse.olap.spi.MappedSegmentCache}, above which the
+     * oldest segments are evicted. The default is 1024.
+     */
+    @PropertyAnnotation(path = "daanse.segmentCache.maxMegabytes")
+    public transient Integer SegmentCacheMaxMegabytes;
+
 }
 
 // End MondrianProperties.java
@@ -40,6 +40,7 @@ import org.eclipse.daanse.olap.api.Parameter;
 import org.eclipse.daanse.olap.api.catalog.CatalogReader;
 import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
 import org.eclipse.daanse.olap.api.function.FunctionDefinition;
+import org.eclipse.daanse.olap.api.function.FunctionResolution;
 import org.eclipse.daanse.olap.api.function.FunctionResolver;
 import org.eclipse.daanse.olap.api.function.FunctionService;
 import org.eclipse.daanse.olap.api.query.Validator;
@@ -219,10 +220,41 @@ public abstract class ValidatorImpl implements Validator {
         Expression[] args,
         OperationAtom operationAtom)
     {
-        // Compute signature first. It makes debugging easier.
-		final String signature = FunctionPrinter.getSignature(operationAtom, DataType.UNKNOWN,
-				Expressions.categoriesOf(args));
+        // Calls of an operator with arguments of the same categories resolve
+        // to the same definition, if all of its resolvers go by categories;
+        // the function service keeps those resolutions.
+        final DataType[] categories = resolutionCategoriesOf(args);
+        FunctionResolution resolution =
+            functionService.getResolution(operationAtom, categories);
+        if (resolution == null) {
+            resolution = resolve(args, operationAtom);
+            functionService.putResolution(operationAtom, categories, resolution);
+        }
+        final List<Expression> argList = Arrays.asList(args);
+        for (FunctionResolver.Conversion conversion : resolution.conversions()) {
+            conversion.checkValid();
+            conversion.apply(this, argList);
+        }
+        return resolution.definition();
+    }
 
+    /**
+     * Returns the category of each argument, followed by the category of its
+     * type, which {@link #canConvert} goes by.
+     */
+    private static DataType[] resolutionCategoriesOf(Expression[] args) {
+        final DataType[] categories = new DataType[args.length * 2];
+        for (int i = 0; i < args.length; i++) {
+            categories[2 * i] = args[i].getCategory();
+            categories[2 * i + 1] = TypeUtil.typeToCategory(args[i].getType());
+        }
+        return categories;
+    }
+
+    private FunctionResolution resolve(
+        Expression[] args,
+        OperationAtom operationAtom)
+    {
         // Resolve function by its upper-case name first.  If there is only one
         // function with that name, stop immediately.  If there is more than
         // function, use some custom method, which generally involves looking
@@ -245,7 +277,7 @@ public abstract class ValidatorImpl implements Validator {
                     matchDefs.clear();
                     matchDefs.add(def);
                     matchConversionList =
-                        new ArrayList<>(conversionList);
+                        List.copyOf(conversionList);
                 } else if (conversionCost == minConversionCost) {
                     matchDefs.add(def);
                 } else {
@@ -257,7 +289,7 @@ public abstract class ValidatorImpl implements Validator {
         switch (matchDefs.size()) {
         case 0:
             throw new OlapRuntimeException(MessageFormat.format(noFunctionMatchesSignature,
-                signature));
+                signatureOf(args, operationAtom)));
         case 1:
             break;
         default:
@@ -270,17 +302,16 @@ public abstract class ValidatorImpl implements Validator {
             }
             throw new OlapRuntimeException(MessageFormat.format(
                 moreThanOneFunctionMatchesSignature,
-                    signature,
+                    signatureOf(args, operationAtom),
                     buf.toString()));
         }
 
-        final FunctionDefinition matchDef = matchDefs.get(0);
-        for (FunctionResolver.Conversion conversion : matchConversionList) {
-            conversion.checkValid();
-            conversion.apply(this, Arrays.asList(args));
-        }
+        return new FunctionResolution(matchDefs.get(0), matchConversionList);
+    }
 
-        return matchDef;
+    private static String signatureOf(Expression[] args, OperationAtom operationAtom) {
+        return FunctionPrinter.getSignature(operationAtom, DataType.UNKNOWN,
+            Expressions.categoriesOf(args));
     }
 
     @Override
@@ -13,17 +13,27 @@
  */
 package org.eclipse.daanse.olap.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.daanse.olap.access.UnionRoleCache;
 import org.eclipse.daanse.olap.api.Context;
+import org.eclipse.daanse.olap.api.access.Role;
 import org.eclipse.daanse.olap.api.agg.OlapAggregationManager;
 import org.eclipse.daanse.olap.api.cache.CatalogCache;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
 import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
 import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
+import org.eclipse.daanse.olap.api.execution.AdmissionControl;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.monitor.EventBus;
 import org.eclipse.daanse.olap.api.monitor.event.ConnectionEndEvent;
@@ -35,6 +45,8 @@ import org.eclipse.daanse.olap.api.monitor.event.MdxStatementEventCommon;
 import org.eclipse.daanse.olap.api.monitor.event.MdxStatementStartEvent;
 import org.eclipse.daanse.olap.api.monitor.event.ServertEventCommon;
 import org.eclipse.daanse.olap.api.result.ResultShepherd;
+import org.eclipse.daanse.olap.common.ConfigConstants;
+import org.eclipse.daanse.olap.common.ExpressionResultCacheImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,12 +67,19 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 	@SuppressWarnings("unchecked")
 	private final List<Statement> statements =Collections.synchronizedList(new ArrayList<>());
 
-    protected EventBus eventBus;
+    protected volatile EventBus eventBus;
 
 	protected OlapAggregationManager aggMgr;
 
+	private volatile FlushingAggregationManager flushingAggMgr;
+
 	protected CatalogCache schemaCache;
 
+	private volatile ExpressionResultCacheImpl expressionResultCache;
+
+	private volatile Optional<AdmissionControl> admissionControl;
+
+	private final UnionRoleCache unionRoleCache = new UnionRoleCache(UnionRoleCache.DEFAULT_MAX_ENTRIES);
 
 	private boolean shutdown = false;
 
@@ -73,6 +92,9 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 
 	protected void updateConfiguration(Map<String, Object> configuration) {
 		this.configuration = configuration;
+		this.expressionResultCache = null;
+		this.admissionControl = null;
+		unionRoleCache.clear();
 	}
 
 	@Override
@@ -102,11 +124,60 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 		return KEYWORD_LIST;
 	}
 
+	/**
+	 * Returns the aggregation manager. Its cache controls also flush the
+	 * caches of this context.
+	 */
 	public OlapAggregationManager getAggregationManager() {
 		if (shutdown) {
 			throw new OlapRuntimeException(SERVER_ALREADY_SHUTDOWN);
 		}
-		return aggMgr;
+		if (aggMgr == null) {
+			return null;
+		}
+		FlushingAggregationManager manager = flushingAggMgr;
+		if (manager == null || manager.delegate() != aggMgr) {
+			manager = new FlushingAggregationManager(aggMgr, this);
+			flushingAggMgr = manager;
+		}
+		return manager;
+	}
+
+	/**
+	 * Called after cells of the cell cache were flushed.
+	 *
+	 * @param cubes Cubes of the flushed cells, empty if they are not known
+	 */
+	void cellsFlushed(Set<Cube> cubes) {
+		ExpressionResultCacheImpl cache = expressionResultCache;
+		if (cache != null) {
+			if (cubes.isEmpty()) {
+				cache.clear();
+			} else {
+				cubes.forEach(cache::flush);
+			}
+		}
+	}
+
+	/**
+	 * Called after members of the member cache were flushed or edited.
+	 */
+	void membersChanged() {
+		ExpressionResultCacheImpl cache = expressionResultCache;
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Called after the schema cache was flushed.
+	 */
+	void schemaFlushed() {
+		ExpressionResultCacheImpl cache = expressionResultCache;
+		if (cache != null) {
+			cache.clear();
+		}
+		unionRoleCache.clear();
 	}
 
 	protected void shutdown() {
@@ -123,9 +194,20 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 		}
 		this.shutdown = true;
 		schemaCache.clear();
+		if (expressionResultCache != null) {
+			expressionResultCache.clear();
+		}
+		unionRoleCache.clear();
 		aggMgr.shutdown();
 
 		shepherd.shutdown();
+		if (eventBus instanceof AutoCloseable closeable) {
+			try {
+				closeable.close();
+			} catch (Exception e) {
+				LOGGER.warn("Closing the event bus failed", e);
+			}
+		}
 	}
 
 	@Override
@@ -142,7 +224,7 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 		ConnectionStartEvent connectionStartEvent = new ConnectionStartEvent(new ConnectionEventCommon(
 								new ServertEventCommon(
 				EventCommon.ofNow(), getName()), connection.getId()));
-		eventBus.accept(connectionStartEvent);
+		getMonitor().accept(connectionStartEvent);
 //				new ConnectionStartEvent(System.currentTimeMillis(), connection.getContext().getName(),
 //				connection.getId())
 	}
@@ -162,7 +244,7 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 				new ConnectionEventCommon(
 										new ServertEventCommon(
 										EventCommon.ofNow(), getName()), connection.getId()));
-		eventBus.accept(connectionEndEvent);
+		getMonitor().accept(connectionEndEvent);
 //		new ConnectionEndEvent(System.currentTimeMillis(), getName(), connection.getId())
 	}
 
@@ -183,7 +265,7 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 						new ServertEventCommon(EventCommon.ofNow(), getName()),
 						connection.getId()),
 				statement.getId()));
-		eventBus.accept(mdxStatementStartEvent);
+		getMonitor().accept(mdxStatementStartEvent);
 //		new StatementStartEvent(System.currentTimeMillis(), connection.getContext().getName(),
 //				connection.getId(), statement.getId())
 	}
@@ -206,7 +288,7 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 						new ServertEventCommon(EventCommon.ofNow(), getName()),
 						connection.getId()), statement.getId()));
 
-		eventBus.accept(mdxStatementEndEvent);
+		getMonitor().accept(mdxStatementEndEvent);
 //				new StatementEndEvent(System.currentTimeMillis(), connection.getContext().getName(),
 //				connection.getId(), statement.getId())
 	}
@@ -216,7 +298,40 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 		if (shutdown) {
 			throw new OlapRuntimeException("Server already shutdown.");
 		}
-		return eventBus;
+		EventBus bus = eventBus;
+		if (bus == null) {
+			synchronized (this) {
+				bus = eventBus;
+				if (bus == null) {
+					bus = createEventBus();
+					eventBus = bus;
+				}
+			}
+		}
+		return bus;
+	}
+
+	/**
+	 * Creates the event bus selected by {@link ConfigConstants#EVENT_BUS}:
+	 * {@code logging} for a {@link LoggingEventBus}, {@code async} for an
+	 * {@link AsyncEventBus}. Used if the subclass did not set
+	 * {@link #eventBus} itself.
+	 */
+	protected EventBus createEventBus() {
+		String type = getConfigValue(ConfigConstants.EVENT_BUS, ConfigConstants.EVENT_BUS_DEFAULT_VALUE,
+				String.class);
+		switch (type.trim().toLowerCase(Locale.ROOT)) {
+		case "async":
+			int capacity = getConfigValue(ConfigConstants.EVENT_BUS_CAPACITY,
+					ConfigConstants.EVENT_BUS_CAPACITY_DEFAULT_VALUE, Integer.class);
+			int sampleRate = getConfigValue(ConfigConstants.EVENT_BUS_SAMPLE_RATE,
+					ConfigConstants.EVENT_BUS_SAMPLE_RATE_DEFAULT_VALUE, Integer.class);
+			return new AsyncEventBus(capacity, AsyncEventBus.DEFAULT_BATCH_SIZE, sampleRate);
+		case "logging":
+			return new LoggingEventBus();
+		default:
+			throw new OlapRuntimeException("Unknown event bus '" + type + "', expected 'logging' or 'async'");
+		}
 	}
 
 
@@ -233,6 +348,63 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 		return schemaCache;
 	}
 
+	@Override
+	public Role getRole(Catalog catalog, List<String> roleNames) {
+		return unionRoleCache.getRole(catalog, roleNames);
+	}
+
+	@Override
+	public Optional<ExpressionResultCache> getExpressionResultCache() {
+		ExpressionResultCacheImpl cache = expressionResultCache;
+		if (cache == null) {
+			int maxEntries = getConfigValue(ConfigConstants.EXPRESSION_RESULT_CACHE_MAX_ENTRIES,
+					ConfigConstants.EXPRESSION_RESULT_CACHE_MAX_ENTRIES_DEFAULT_VALUE, Integer.class);
+			if (maxEntries <= 0) {
+				return Optional.empty();
+			}
+			synchronized (this) {
+				cache = expressionResultCache;
+				if (cache == null) {
+					cache = new ExpressionResultCacheImpl(maxEntries);
+					expressionResultCache = cache;
+				}
+			}
+		}
+		return Optional.of(cache);
+	}
+
+	@Override
+	public Optional<AdmissionControl> getAdmissionControl() {
+		Optional<AdmissionControl> control = admissionControl;
+		if (control == null) {
+			synchronized (this) {
+				control = admissionControl;
+				if (control == null) {
+					control = createAdmissionControl();
+					admissionControl = control;
+				}
+			}
+		}
+		return control;
+	}
+
+	private Optional<AdmissionControl> createAdmissionControl() {
+		if (!getConfigValue(ConfigConstants.ADMISSION_CONTROL, ConfigConstants.ADMISSION_CONTROL_DEFAULT_VALUE,
+				Boolean.class)) {
+			return Optional.empty();
+		}
+		int permits = getConfigValue(ConfigConstants.QUERY_LIMIT, ConfigConstants.QUERY_LIMIT_DEFAULT_VALUE,
+				Integer.class);
+		long maxQueueTime = getConfigValue(ConfigConstants.ADMISSION_MAX_QUEUE_TIME,
+				ConfigConstants.ADMISSION_MAX_QUEUE_TIME_DEFAULT_VALUE, Long.class);
+		int maxQueueDepth = getConfigValue(ConfigConstants.ADMISSION_MAX_QUEUE_DEPTH,
+				ConfigConstants.ADMISSION_MAX_QUEUE_DEPTH_DEFAULT_VALUE, Integer.class);
+		String weights = getConfigValue(ConfigConstants.ADMISSION_WEIGHTS,
+				ConfigConstants.ADMISSION_WEIGHTS_DEFAULT_VALUE, String.class);
+		return Optional.of(new AdmissionController(permits, Duration.ofMillis(maxQueueTime), maxQueueDepth,
+				AdmissionController.parseWeights(weights), getMonitor(), getName()));
+	}
+
 	@Override
 	public <T> T getConfigValue(String key, T dflt, Class<T> clazz) {
 
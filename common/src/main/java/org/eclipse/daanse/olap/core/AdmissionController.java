@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.core;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.daanse.olap.api.execution.AdmissionControl;
+import org.eclipse.daanse.olap.api.execution.AdmissionRejectedException;
+import org.eclipse.daanse.olap.api.execution.QueryCanceledException;
+import org.eclipse.daanse.olap.api.execution.QueryPriority;
+import org.eclipse.daanse.olap.api.monitor.EventBus;
+import org.eclipse.daanse.olap.api.monitor.event.AdmissionEventCommon;
+import org.eclipse.daanse.olap.api.monitor.event.AdmissionGrantedEvent;
+import org.eclipse.daanse.olap.api.monitor.event.AdmissionRejectedEvent;
+import org.eclipse.daanse.olap.api.monitor.event.EventCommon;
+import org.eclipse.daanse.olap.api.monitor.event.ServertEventCommon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AdmissionControl} with weighted fair queues.
+ *
+ * <p>The controller sits in front of the query limit semaphore of the context
+ * and admits as many queries as that semaphore has permits, so admitted
+ * queries do not block on it. Waiting queries are ordered by priority and then
+ * by start-time fair queueing: each query of a user gets a virtual finish tag
+ * that is {@code 1 / weight} after the later of the tag of the previous query
+ * of that user and the tag of the query admitted last. A user's weight is the
+ * largest weight configured for the user name or one of the user's roles, or
+ * 1. A user who sends a burst of queries therefore only delays the queries of
+ * others by the share of the weights.
+ *
+ * <p>Every admission and rejection is reported to the {@link EventBus} with
+ * the time the query waited and the number of queries still waiting.
+ */
+public class AdmissionController implements AdmissionControl {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionController.class);
+
+    private static final Comparator<Waiter> ORDER = Comparator.comparing((Waiter w) -> w.priority)
+        .thenComparingDouble(w -> w.tag)
+        .thenComparingLong(w -> w.sequence);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(ORDER);
+    private final Map<String, Double> lastTags = new HashMap<>();
+    private final Map<String, Integer> weights;
+    private final long maxQueueNanos;
+    private final int maxQueueDepth;
+    private final EventBus eventBus;
+    private final String serverId;
+
+    private int available;
+    private double virtualTime;
+    private long sequence;
+
+    /**
+     * Creates an admission controller.
+     *
+     * @param permits       Number of queries that may execute at a time
+     * @param maxQueueTime  Time after which a waiting query is rejected
+     * @param maxQueueDepth Number of waiting queries beyond which a query is
+     *                      rejected at once, or 0 for no limit
+     * @param weights       Weights of user and role names
+     * @param eventBus      Receives admission events
+     * @param serverId      Name of the context, used in events
+     */
+    public AdmissionController(int permits, Duration maxQueueTime, int maxQueueDepth, Map<String, Integer> weights,
+            EventBus eventBus, String serverId) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive, was: " + permits);
+        }
+        this.available = permits;
+        this.maxQueueNanos = maxQueueTime.toNanos();
+        this.maxQueueDepth = maxQueueDepth;
+        this.weights = Map.copyOf(weights);
+        this.eventBus = eventBus;
+        this.serverId = serverId;
+    }
+
+    /**
+     * Parses weights of the form {@code name=weight, name=weight}. Entries
+     * without a positive integer weight are ignored.
+     *
+     * @param text Weights
+     * @return Weight of each name
+     */
+    public static Map<String, Integer> parseWeights(String text) {
+        final Map<String, Integer> weights = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return weights;
+        }
+        for (String entry : text.split(",")) {
+            final int eq = entry.lastIndexOf('=');
+            try {
+                final int weight = eq < 0 ? 0 : Integer.parseInt(entry.substring(eq + 1).trim());
+                if (weight > 0) {
+                    weights.put(entry.substring(0, eq).trim(), weight);
+                    continue;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            LOGGER.warn("Ignoring admission weight '{}', expected name=positive integer", entry.trim());
+        }
+        return weights;
+    }
+
+    @Override
+    public Permit admit(String userName, List<String> roles, QueryPriority priority) {
+        final long start = System.nanoTime();
+        final String user = userName == null ? "" : userName;
+        final Waiter waiter;
+        int depth;
+        lock.lock();
+        try {
+            if (queue.isEmpty() && available > 0) {
+                available--;
+                depth = 0;
+                waiter = null;
+            } else if (maxQueueDepth > 0 && queue.size() >= maxQueueDepth) {
+                depth = queue.size();
+                throw reject(user, priority, depth, 0, AdmissionRejectedException.Reason.QUEUE_FULL);
+            } else {
+                final double previous = lastTags.getOrDefault(user, 0d);
+                final double tag = Math.max(virtualTime, previous) + 1d / weight(user, roles);
+                lastTags.put(user, tag);
+                waiter = new Waiter(user, priority, tag, sequence++, lock.newCondition());
+                queue.add(waiter);
+                depth = await(waiter, start);
+            }
+        } finally {
+            lock.unlock();
+        }
+        eventBus.accept(new AdmissionGrantedEvent(common(user, priority, depth),
+            waiter == null ? 0 : System.nanoTime() - start));
+        return new PermitImpl();
+    }
+
+    /**
+     * Waits until the waiter is admitted. Called with the lock held.
+     *
+     * @return Number of queries still waiting
+     */
+    private int await(Waiter waiter, long start) {
+        long remaining = maxQueueNanos;
+        try {
+            while (!waiter.granted) {
+                if (remaining <= 0) {
+                    remove(waiter);
+                    throw reject(waiter.user, waiter.priority, queue.size(), System.nanoTime() - start,
+                        AdmissionRejectedException.Reason.QUEUE_TIMEOUT);
+                }
+                remaining = waiter.condition.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (waiter.granted) {
+                release();
+            } else {
+                remove(waiter);
+            }
+            throw new QueryCanceledException("Interrupted while waiting for admission", e);
+        }
+        return queue.size();
+    }
+
+    private void remove(Waiter waiter) {
+        queue.remove(waiter);
+        lastTags.remove(waiter.user, waiter.tag);
+    }
+
+    private AdmissionRejectedException reject(String user, QueryPriority priority, int depth, long waitNanos,
+            AdmissionRejectedException.Reason reason) {
+        eventBus.accept(new AdmissionRejectedEvent(common(user, priority, depth), waitNanos, reason));
+        return new AdmissionRejectedException(reason == AdmissionRejectedException.Reason.QUEUE_FULL
+            ? "Query of user '" + user + "' rejected: " + depth + " queries are waiting"
+            : "Query of user '" + user + "' rejected: waited longer than "
+                + Duration.ofNanos(maxQueueNanos).toMillis() + " ms", reason);
+    }
+
+    private AdmissionEventCommon common(String user, QueryPriority priority, int depth) {
+        return new AdmissionEventCommon(new ServertEventCommon(EventCommon.ofNow(), serverId), user, priority, depth);
+    }
+
+    private int weight(String user, List<String> roles) {
+        int weight = weights.getOrDefault(user, 1);
+        for (String role : roles) {
+            weight = Math.max(weight, weights.getOrDefault(role, 1));
+        }
+        return weight;
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            available++;
+            while (available > 0 && !queue.isEmpty()) {
+                final Waiter next = queue.poll();
+                available--;
+                virtualTime = Math.max(virtualTime, next.tag);
+                lastTags.remove(next.user, next.tag);
+                next.granted = true;
+                next.condition.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of waiting queries.
+     */
+    int getQueueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private final class PermitImpl implements Permit {
+        private boolean closed;
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final String user;
+        private final QueryPriority priority;
+        private final double tag;
+        private final long sequence;
+        private final Condition condition;
+        private boolean granted;
+
+        Waiter(String user, QueryPriority priority, double tag, long sequence, Condition condition) {
+            this.user = user;
+            this.priority = priority;
+            this.tag = tag;
+            this.sequence = sequence;
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*/
+package org.eclipse.daanse.olap.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.eclipse.daanse.olap.api.monitor.EventBus;
+import org.eclipse.daanse.olap.api.monitor.event.Event;
+import org.eclipse.daanse.olap.api.monitor.event.ExecutionPhaseEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link EventBus} that decouples query threads from event processing.
+ * <p>
+ * {@link #accept(Event)} only stamps the event with {@link System#nanoTime()}
+ * and offers it to a bounded lock-free {@link EventRingBuffer}; it never blocks
+ * and never calls a listener. A single daemon consumer thread drains the buffer
+ * in batches, folds every batch into the {@link EventStatistics} and then hands
+ * it to the registered listeners. When the buffer is empty the consumer parks
+ * until the next producer unparks it, so an idle bus costs no CPU.
+ * <p>
+ * When the buffer is full the event is dropped and counted. The cell hit and
+ * miss counts of the phases of an execution ({@link ExecutionPhaseEvent}) are
+ * frequent and also summed in the end event of the execution; they can
+ * additionally be sampled, keeping only every n-th of them. All other events,
+ * such as the creation and deletion of cache segments, which the statistics
+ * count, are always kept.
+ */
+public class AsyncEventBus implements EventBus, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventBus.class);
+
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final AtomicLong THREAD_ID = new AtomicLong();
+
+    private final EventRingBuffer buffer;
+    private final int batchSize;
+    private final int sampleRate;
+    private final EventStatistics statistics = new EventStatistics();
+    private final List<Consumer<? super List<Event>>> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final AtomicBoolean consumerParked = new AtomicBoolean();
+    private final Thread consumer;
+    private volatile boolean running = true;
+
+    public AsyncEventBus() {
+        this(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, 1);
+    }
+
+    /**
+     * @param capacity   ring buffer size, rounded up to a power of two
+     * @param batchSize  maximal number of events handed to listeners at once
+     * @param sampleRate keep every n-th phase event; 1 keeps all
+     */
+    public AsyncEventBus(int capacity, int batchSize, int sampleRate) {
+        if (batchSize < 1 || sampleRate < 1) {
+            throw new IllegalArgumentException("batchSize and sampleRate must be positive");
+        }
+        this.buffer = new EventRingBuffer(capacity);
+        this.batchSize = batchSize;
+        this.sampleRate = sampleRate;
+        this.consumer = new Thread(this::consume, "daanse-event-bus-" + THREAD_ID.incrementAndGet());
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    @Override
+    public void accept(Event event) {
+        if (event == null || !running) {
+            return;
+        }
+        if (sampleRate > 1 && event instanceof ExecutionPhaseEvent
+                && sampleCounter.incrementAndGet() % sampleRate != 0) {
+            sampledOut.increment();
+            return;
+        }
+        if (!buffer.offer(event, System.nanoTime())) {
+            dropped.increment();
+        } else if (consumerParked.get() && consumerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Registers a listener that receives events in batches, in the order they
+     * were accepted. Listeners are called on the consumer thread, a slow
+     * listener delays the following batches but never a query.
+     */
+    public void addListener(Consumer<? super List<Event>> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<? super List<Event>> listener) {
+        listeners.remove(listener);
+    }
+
+    public EventStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Number of events lost because the ring buffer was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of events skipped by sampling.
+     */
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    /**
+     * Stops accepting events, delivers what is still buffered and terminates
+     * the consumer thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consume() {
+        Event[] events = new Event[batchSize];
+        long[] stamps = new long[batchSize];
+        while (true) {
+            int n = buffer.drain(events, stamps, batchSize);
+            if (n == 0) {
+                if (!running) {
+                    return;
+                }
+                // announce the park before checking again, so that an event published in
+                // between is either seen here or unparks this thread
+                consumerParked.set(true);
+                if (running && !buffer.hasPublished()) {
+                    LockSupport.park(this);
+                }
+                consumerParked.set(false);
+                continue;
+            }
+            statistics.update(events, stamps, n);
+            if (!listeners.isEmpty()) {
+                deliver(List.of(Arrays.copyOf(events, n)));
+            }
+            Arrays.fill(events, 0, n, null);
+        }
+    }
+
+    private void deliver(List<Event> batch) {
+        for (Consumer<? super List<Event>> listener : listeners) {
+            try {
+                listener.accept(batch);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Event listener {} failed", listener, e);
+            }
+        }
+    }
+}
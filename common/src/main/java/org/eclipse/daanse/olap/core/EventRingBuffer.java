@@ -0,0 +1,119 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*/
+package org.eclipse.daanse.olap.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.daanse.olap.api.monitor.event.Event;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer ring buffer of events.
+ * <p>
+ * Each slot carries a sequence number: a producer claims a position with one
+ * CAS on the tail, writes the slot and publishes it by advancing the slot
+ * sequence; the consumer reads published slots in order and hands them back by
+ * advancing the sequence by one lap. A full buffer never blocks a producer,
+ * {@link #offer(Event, long)} simply returns {@code false}.
+ * <p>
+ * Every event is stored together with the {@link System#nanoTime()} it was
+ * offered at, so the consumer can measure durations without the producer
+ * allocating anything beyond the event itself.
+ */
+class EventRingBuffer {
+
+    private final int mask;
+    private final Event[] events;
+    private final long[] stamps;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    /** Only touched by the consumer thread. */
+    private long head;
+
+    EventRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.events = new Event[size];
+        this.stamps = new long[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds an event if there is room.
+     *
+     * @return {@code false} if the buffer is full
+     */
+    boolean offer(Event event, long nanoTime) {
+        long pos = tail.get();
+        int index;
+        for (;;) {
+            index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+        events[index] = event;
+        stamps[index] = nanoTime;
+        sequences.set(index, pos + 1);
+        return true;
+    }
+
+    /**
+     * Whether the next event is published. Must only be called from the
+     * consumer thread.
+     */
+    boolean hasPublished() {
+        return sequences.get((int) (head & mask)) == head + 1;
+    }
+
+    /**
+     * Moves up to {@code max} published events into the given arrays. Must only
+     * be called from the consumer thread.
+     *
+     * @return number of events drained
+     */
+    int drain(Event[] targetEvents, long[] targetStamps, int max) {
+        int n = 0;
+        while (n < max) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            targetEvents[n] = events[index];
+            targetStamps[n] = stamps[index];
+            events[index] = null;
+            sequences.set(index, head + mask + 1);
+            head++;
+            n++;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*/
+package org.eclipse.daanse.olap.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.monitor.event.AdmissionGrantedEvent;
+import org.eclipse.daanse.olap.api.monitor.event.AdmissionRejectedEvent;
+import org.eclipse.daanse.olap.api.monitor.event.CellCacheSegmentCreateEvent;
+import org.eclipse.daanse.olap.api.monitor.event.CellCacheSegmentDeleteEvent;
+import org.eclipse.daanse.olap.api.monitor.event.ConnectionEndEvent;
+import org.eclipse.daanse.olap.api.monitor.event.ConnectionStartEvent;
+import org.eclipse.daanse.olap.api.monitor.event.Event;
+import org.eclipse.daanse.olap.api.monitor.event.ExecutionEndEvent;
+import org.eclipse.daanse.olap.api.monitor.event.ExecutionStartEvent;
+import org.eclipse.daanse.olap.api.monitor.event.SqlStatementEndEvent;
+import org.eclipse.daanse.olap.api.monitor.event.SqlStatementExecuteEvent;
+import org.eclipse.daanse.olap.api.monitor.event.SqlStatementStartEvent;
+import org.eclipse.daanse.olap.api.monitor.event.UserSpaceEvent;
+
+/**
+ * Counters aggregated from the events of an {@link AsyncEventBus}.
+ * <p>
+ * All updates happen on the consumer thread of the bus, one batch at a time,
+ * so query threads never touch this object. {@link #snapshot()} can be called
+ * from any thread.
+ */
+public class EventStatistics {
+
+    /** Upper bounds (inclusive, in milliseconds) of the latency histogram buckets. */
+    private static final long[] LATENCY_BUCKET_BOUNDS_MILLIS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000,
+            5_000, 10_000, 30_000, 60_000, Long.MAX_VALUE };
+
+    /** Number of one-second buckets used to compute the query rate. */
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    /** Start stamps older than this are considered lost (end event dropped). */
+    private static final long PENDING_TIMEOUT_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final int PENDING_PURGE_SIZE = 10_000;
+
+    private final Map<Long, Long> pendingExecutions = new HashMap<>();
+    private final Map<Long, Long> pendingSqlStatements = new HashMap<>();
+
+    private final long[] latencyHistogram = new long[LATENCY_BUCKET_BOUNDS_MILLIS.length];
+    private final long[] rateSeconds = new long[RATE_WINDOW_SECONDS];
+    private final long[] rateCounts = new long[RATE_WINDOW_SECONDS];
+
+    private long connectionsOpened;
+    private long connectionsClosed;
+    private long executionsStarted;
+    private long executionsEnded;
+    private long executionsFailed;
+    private long executionsCanceled;
+    private long executionNanos;
+    private long maxExecutionNanos;
+    private long cellCacheHits;
+    private long cellCacheMisses;
+    private long expCacheHits;
+    private long expCacheMisses;
+    private long sqlStatements;
+    private long sqlFailures;
+    private long sqlNanos;
+    private long sqlExecuteNanos;
+    private long sqlRows;
+    private long segmentsCreated;
+    private long segmentsDeleted;
+    private long userSpaceEvents;
+    private long admissionsGranted;
+    private long admissionsRejected;
+    private long admissionWaitNanos;
+    private long maxAdmissionWaitNanos;
+    private int maxAdmissionQueueDepth;
+    private long maxQueryPeakAllocatedBytes;
+
+    /**
+     * Applies one batch of events. Called by the consumer thread only.
+     */
+    synchronized void update(Event[] events, long[] nanoTimes, int count) {
+        for (int i = 0; i < count; i++) {
+            update(events[i], nanoTimes[i]);
+        }
+        if (pendingExecutions.size() > PENDING_PURGE_SIZE || pendingSqlStatements.size() > PENDING_PURGE_SIZE) {
+            long oldest = nanoTimes[count - 1] - PENDING_TIMEOUT_NANOS;
+            purge(pendingExecutions, oldest);
+            purge(pendingSqlStatements, oldest);
+        }
+    }
+
+    private void update(Event event, long nanoTime) {
+        switch (event) {
+        case ConnectionStartEvent _ -> connectionsOpened++;
+        case ConnectionEndEvent _ -> connectionsClosed++;
+        case ExecutionStartEvent e -> {
+            executionsStarted++;
+            pendingExecutions.put(e.eventCommon().executionId(), nanoTime);
+        }
+        case ExecutionEndEvent e -> {
+            executionsEnded++;
+            if (e.state() == Execution.State.ERROR || e.state() == Execution.State.TIMEOUT) {
+                executionsFailed++;
+            } else if (e.state() == Execution.State.CANCELED) {
+                executionsCanceled++;
+            }
+            cellCacheHits += e.cellCacheHitCount();
+            cellCacheMisses += e.cellCacheMissCount();
+            expCacheHits += e.expCacheHitCount();
+            expCacheMisses += e.expCacheMissCount();
+            maxQueryPeakAllocatedBytes = Math.max(maxQueryPeakAllocatedBytes, e.peakAllocatedBytes());
+            countRate(nanoTime);
+            Long start = pendingExecutions.remove(e.executionEventCommon().executionId());
+            if (start != null) {
+                long nanos = nanoTime - start;
+                executionNanos += nanos;
+                maxExecutionNanos = Math.max(maxExecutionNanos, nanos);
+                latencyHistogram[latencyBucket(TimeUnit.NANOSECONDS.toMillis(nanos))]++;
+            }
+        }
+        case SqlStatementStartEvent e -> {
+            sqlStatements++;
+            pendingSqlStatements.put(e.sqlStatementEventCommon().sqlStatementId(), nanoTime);
+        }
+        case SqlStatementExecuteEvent e -> sqlExecuteNanos += e.executeNanos();
+        case SqlStatementEndEvent e -> {
+            sqlRows += e.rowFetchCount();
+            if (e.throwable() != null) {
+                sqlFailures++;
+            }
+            Long start = pendingSqlStatements.remove(e.sqlStatementEventInfo().sqlStatementId());
+            if (start != null) {
+                sqlNanos += nanoTime - start;
+            }
+        }
+        case CellCacheSegmentCreateEvent _ -> segmentsCreated++;
+        case CellCacheSegmentDeleteEvent _ -> segmentsDeleted++;
+        case UserSpaceEvent _ -> userSpaceEvents++;
+        case AdmissionGrantedEvent e -> {
+            admissionsGranted++;
+            admissionWaitNanos += e.waitNanos();
+            maxAdmissionWaitNanos = Math.max(maxAdmissionWaitNanos, e.waitNanos());
+            maxAdmissionQueueDepth = Math.max(maxAdmissionQueueDepth, e.admissionEventCommon().queueDepth());
+        }
+        case AdmissionRejectedEvent e -> {
+            admissionsRejected++;
+            maxAdmissionQueueDepth = Math.max(maxAdmissionQueueDepth, e.admissionEventCommon().queueDepth());
+        }
+        default -> {
+            // phase and statement events carry nothing that is aggregated here
+        }
+        }
+    }
+
+    private void countRate(long nanoTime) {
+        long second = TimeUnit.NANOSECONDS.toSeconds(nanoTime);
+        int slot = (int) Math.floorMod(second, (long) RATE_WINDOW_SECONDS);
+        if (rateSeconds[slot] != second) {
+            rateSeconds[slot] = second;
+            rateCounts[slot] = 0;
+        }
+        rateCounts[slot]++;
+    }
+
+    /**
+     * Returns the upper bounds (inclusive, in milliseconds) of the latency
+     * histogram buckets, in ascending order; the last bound is
+     * {@link Long#MAX_VALUE}.
+     */
+    public static List<Long> latencyBucketBoundsMillis() {
+        return Arrays.stream(LATENCY_BUCKET_BOUNDS_MILLIS).boxed().toList();
+    }
+
+    private static int latencyBucket(long millis) {
+        for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MILLIS.length; i++) {
+            if (millis <= LATENCY_BUCKET_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BUCKET_BOUNDS_MILLIS.length - 1;
+    }
+
+    private static void purge(Map<Long, Long> pending, long oldest) {
+        for (Iterator<Long> it = pending.values().iterator(); it.hasNext();) {
+            if (it.next() - oldest < 0) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns a consistent copy of the current counters.
+     */
+    public synchronized Snapshot snapshot() {
+        long nowSecond = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long recent = 0;
+        for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+            // the current, still filling second is left out
+            if (rateSeconds[i] < nowSecond && nowSecond - rateSeconds[i] <= RATE_WINDOW_SECONDS) {
+                recent += rateCounts[i];
+            }
+        }
+        return new Snapshot(connectionsOpened, connectionsClosed, executionsStarted, executionsEnded,
+                executionsFailed, executionsCanceled, pendingExecutions.size(), (double) recent / RATE_WINDOW_SECONDS,
+                executionNanos, maxExecutionNanos, latencyHistogram.clone(), cellCacheHits, cellCacheMisses,
+                expCacheHits, expCacheMisses, sqlStatements, sqlFailures, sqlNanos, sqlExecuteNanos, sqlRows,
+                segmentsCreated, segmentsDeleted, userSpaceEvents, admissionsGranted, admissionsRejected,
+                admissionWaitNanos, maxAdmissionWaitNanos, maxAdmissionQueueDepth, maxQueryPeakAllocatedBytes);
+    }
+
+    /**
+     * Point-in-time copy of the aggregated counters. Durations are in
+     * nanoseconds; {@code latencyHistogram[i]} counts executions with a latency
+     * of at most {@link EventStatistics#latencyBucketBoundsMillis()}{@code .get(i)}
+     * milliseconds (and above the previous bound).
+     */
+    public record Snapshot(long connectionsOpened, long connectionsClosed, long executionsStarted,
+            long executionsEnded, long executionsFailed, long executionsCanceled, int executionsRunning,
+            double queriesPerSecond, long executionNanos, long maxExecutionNanos, long[] latencyHistogram,
+            long cellCacheHits, long cellCacheMisses, long expCacheHits, long expCacheMisses, long sqlStatements,
+            long sqlFailures, long sqlNanos, long sqlExecuteNanos, long sqlRows, long segmentsCreated,
+            long segmentsDeleted, long userSpaceEvents, long admissionsGranted, long admissionsRejected,
+            long admissionWaitNanos, long maxAdmissionWaitNanos, int maxAdmissionQueueDepth,
+            long maxQueryPeakAllocatedBytes) {
+
+        public double cellCacheHitRatio() {
+            long total = cellCacheHits + cellCacheMisses;
+            return total == 0 ? 0d : (double) cellCacheHits / total;
+        }
+
+        public double expCacheHitRatio() {
+            long total = expCacheHits + expCacheMisses;
+            return total == 0 ? 0d : (double) expCacheHits / total;
+        }
+
+        /**
+         * Upper bound in milliseconds of the histogram bucket containing the
+         * given percentile (0..100) of execution latencies, or 0 if nothing was
+         * measured yet.
+         */
+        public long latencyPercentileMillis(double percentile) {
+            long total = Arrays.stream(latencyHistogram).sum();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile / 100d);
+            long seen = 0;
+            for (int i = 0; i < latencyHistogram.length; i++) {
+                seen += latencyHistogram[i];
+                if (seen >= rank) {
+                    return LATENCY_BUCKET_BOUNDS_MILLIS[i];
+                }
+            }
+            return LATENCY_BUCKET_BOUNDS_MILLIS[LATENCY_BUCKET_BOUNDS_MILLIS.length - 1];
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.core;
+
+import java.io.PrintWriter;
+
+import org.eclipse.daanse.olap.api.agg.OlapAggregationManager;
+import org.eclipse.daanse.olap.api.cache.CacheControl;
+import org.eclipse.daanse.olap.api.cache.OlapSegmentCacheManager;
+import org.eclipse.daanse.olap.api.connection.Connection;
+
+/**
+ * Aggregation manager of a context, whose cache controls also flush the caches
+ * of the context.
+ */
+final class FlushingAggregationManager implements OlapAggregationManager {
+
+    private final OlapAggregationManager delegate;
+    private final AbstractBasicContext context;
+
+    FlushingAggregationManager(OlapAggregationManager delegate, AbstractBasicContext context) {
+        this.delegate = delegate;
+        this.context = context;
+    }
+
+    OlapAggregationManager delegate() {
+        return delegate;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public OlapSegmentCacheManager getCacheMgr(Connection connection) {
+        return delegate.getCacheMgr(connection);
+    }
+
+    @Override
+    public CacheControl getCacheControl(Connection rolapConnection, PrintWriter pw) {
+        return new FlushingCacheControl(delegate.getCacheControl(rolapConnection, pw), context);
+    }
+
+    @Override
+    public OlapSegmentCacheManager getCacheMgr() {
+        return delegate.getCacheMgr();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.core;
+
+import java.io.PrintWriter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.daanse.olap.api.cache.CacheControl;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.Dimension;
+import org.eclipse.daanse.olap.api.element.Level;
+import org.eclipse.daanse.olap.api.element.Member;
+
+/**
+ * Cache control of a context. Delegates to the cache control of the
+ * aggregation manager and tells the context which caches were flushed, so that
+ * the caches the context keeps itself are flushed with them.
+ */
+final class FlushingCacheControl implements CacheControl {
+
+    private final CacheControl delegate;
+    private final AbstractBasicContext context;
+
+    FlushingCacheControl(CacheControl delegate, AbstractBasicContext context) {
+        this.delegate = delegate;
+        this.context = context;
+    }
+
+    @Override
+    public CellRegion createMemberRegion(Member member, boolean descendants) {
+        return delegate.createMemberRegion(member, descendants);
+    }
+
+    @Override
+    public CellRegion createMemberRegion(boolean lowerInclusive, Member lowerMember, boolean upperInclusive,
+            Member upperMember, boolean descendants) {
+        return delegate.createMemberRegion(lowerInclusive, lowerMember, upperInclusive, upperMember, descendants);
+    }
+
+    @Override
+    public CellRegion createCrossjoinRegion(CellRegion... regions) {
+        return delegate.createCrossjoinRegion(regions);
+    }
+
+    @Override
+    public CellRegion createUnionRegion(CellRegion... regions) {
+        return delegate.createUnionRegion(regions);
+    }
+
+    @Override
+    public CellRegion createMeasuresRegion(Cube cube) {
+        return delegate.createMeasuresRegion(cube);
+    }
+
+    @Override
+    public void flush(CellRegion region) {
+        delegate.flush(region);
+        final Set<Cube> cubes = new LinkedHashSet<>();
+        final List<Dimension> dimensions = region.getDimensionality();
+        if (dimensions != null) {
+            for (Dimension dimension : dimensions) {
+                if (dimension.getCube() != null) {
+                    cubes.add(dimension.getCube());
+                }
+            }
+        }
+        context.cellsFlushed(cubes);
+    }
+
+    @Override
+    public void printCacheState(PrintWriter pw, CellRegion region) {
+        delegate.printCacheState(pw, region);
+    }
+
+    @Override
+    public MemberSet createMemberSet(Member member, boolean descendants) {
+        return delegate.createMemberSet(member, descendants);
+    }
+
+    @Override
+    public MemberSet createMemberSet(boolean lowerInclusive, Member lowerMember, boolean upperInclusive,
+            Member upperMember, boolean descendants) {
+        return delegate.createMemberSet(lowerInclusive, lowerMember, upperInclusive, upperMember, descendants);
+    }
+
+    @Override
+    public MemberSet createUnionSet(MemberSet... sets) {
+        return delegate.createUnionSet(sets);
+    }
+
+    @Override
+    public MemberSet filter(Level level, MemberSet baseSet) {
+        return delegate.filter(level, baseSet);
+    }
+
+    @Override
+    public void flush(MemberSet set) {
+        delegate.flush(set);
+        context.membersChanged();
+    }
+
+    @Override
+    public void printCacheState(PrintWriter pw, MemberSet set) {
+        delegate.printCacheState(pw, set);
+    }
+
+    @Override
+    public void execute(MemberEditCommand cmd) {
+        delegate.execute(cmd);
+        context.membersChanged();
+    }
+
+    @Override
+    public MemberEditCommand createCompoundCommand(List<MemberEditCommand> cmds) {
+        return delegate.createCompoundCommand(cmds);
+    }
+
+    @Override
+    public MemberEditCommand createCompoundCommand(MemberEditCommand... cmds) {
+        return delegate.createCompoundCommand(cmds);
+    }
+
+    @Override
+    public MemberEditCommand createDeleteCommand(Member member) {
+        return delegate.createDeleteCommand(member);
+    }
+
+    @Override
+    public MemberEditCommand createDeleteCommand(MemberSet memberSet) {
+        return delegate.createDeleteCommand(memberSet);
+    }
+
+    @Override
+    public MemberEditCommand createAddCommand(Member member) {
+        return delegate.createAddCommand(member);
+    }
+
+    @Override
+    public MemberEditCommand createMoveCommand(Member member, Member loc) {
+        return delegate.createMoveCommand(member, loc);
+    }
+
+    @Override
+    public MemberEditCommand createSetPropertyCommand(Member member, String name, Object value) {
+        return delegate.createSetPropertyCommand(member, name, value);
+    }
+
+    @Override
+    public MemberEditCommand createSetPropertyCommand(MemberSet set, Map<String, Object> propertyValues) {
+        return delegate.createSetPropertyCommand(set, propertyValues);
+    }
+
+    @Override
+    public void trace(String message) {
+        delegate.trace(message);
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return delegate.isTraceEnabled();
+    }
+
+    @Override
+    public void flushSchemaCache() {
+        delegate.flushSchemaCache();
+        context.schemaFlushed();
+    }
+}
@@ -52,7 +52,11 @@ import org.eclipse.daanse.olap.api.query.component.Expression;
  * <p>This class replaces the InvocationHandler-based Proxy approach to provide
  * better type safety, debuggability, and performance. Each method call is
  * automatically wrapped with {@link ExecutionContext#where} to ensure proper
- * execution context propagation using ScopedValues.
+ * execution context propagation using ScopedValues. If the context of the
+ * execution is already bound to the calling thread, for instance because a
+ * calculation of the same query navigates members, the call goes to the
+ * delegate directly, without capturing a lambda or rebinding the scoped value.
+ * The bulk navigation methods bind the context once for the whole list.
  *
  * <p>Usage:
  * <pre>
@@ -85,68 +89,117 @@ public class ExecutionCatalogReaderWrapper implements CatalogReader {
         this.delegate = Objects.requireNonNull(delegate, "delegate");
     }
 
+    /**
+     * Returns whether the context of the execution is the one bound to the
+     * current scope, so that a call need not bind it again.
+     */
+    private boolean isInExecution() {
+        ExecutionContext context = execution.asContext();
+        return context != null && ExecutionContext.currentOrNull() == context;
+    }
+
     @Override
     public Catalog getCatalog() {
+        if (isInExecution()) {
+            return delegate.getCatalog();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getCatalog());
     }
 
     @Override
     public Role getRole() {
+        if (isInExecution()) {
+            return delegate.getRole();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getRole());
     }
 
     @Override
     public List<Dimension> getCubeDimensions(Cube cube) {
+        if (isInExecution()) {
+            return delegate.getCubeDimensions(cube);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getCubeDimensions(cube));
     }
 
     @Override
     public List<Hierarchy> getDimensionHierarchies(Dimension dimension) {
+        if (isInExecution()) {
+            return delegate.getDimensionHierarchies(dimension);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getDimensionHierarchies(dimension));
     }
 
     @Override
     public List<Member> getHierarchyRootMembers(Hierarchy hierarchy) {
+        if (isInExecution()) {
+            return delegate.getHierarchyRootMembers(hierarchy);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getHierarchyRootMembers(hierarchy));
     }
 
     @Override
     public int getChildrenCountFromCache(Member member) {
+        if (isInExecution()) {
+            return delegate.getChildrenCountFromCache(member);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getChildrenCountFromCache(member));
     }
 
     @Override
     public int getLevelCardinality(Level level, boolean approximate, boolean materialize) {
+        if (isInExecution()) {
+            return delegate.getLevelCardinality(level, approximate, materialize);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getLevelCardinality(level, approximate, materialize));
     }
 
     @Override
     public Member substitute(Member member) {
+        if (isInExecution()) {
+            return delegate.substitute(member);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.substitute(member));
     }
 
     @Override
     public List<Member> getMemberChildren(Member member) {
+        if (isInExecution()) {
+            return delegate.getMemberChildren(member);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberChildren(member));
     }
 
     @Override
     public List<Member> getMemberChildren(Member member, Evaluator context) {
+        if (isInExecution()) {
+            return delegate.getMemberChildren(member, context);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberChildren(member, context));
     }
 
     @Override
     public List<Member> getMemberChildren(List<Member> members) {
+        if (isInExecution()) {
+            return delegate.getMemberChildren(members);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberChildren(members));
     }
 
     @Override
     public List<Member> getMemberChildren(List<Member> members, Evaluator context) {
+        if (isInExecution()) {
+            return delegate.getMemberChildren(members, context);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberChildren(members, context));
     }
 
     @Override
     public void getParentChildContributingChildren(Member dataMember, Hierarchy hierarchy, List<Member> list) {
+        if (isInExecution()) {
+            delegate.getParentChildContributingChildren(dataMember, hierarchy, list);
+            return;
+        }
         ExecutionContext.where(execution.asContext(), () -> {
             delegate.getParentChildContributingChildren(dataMember, hierarchy, list);
             return null;
@@ -155,11 +208,18 @@ public class ExecutionCatalogReaderWrapper implements CatalogReader {
 
     @Override
     public Member getMemberParent(Member member) {
+        if (isInExecution()) {
+            return delegate.getMemberParent(member);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberParent(member));
     }
 
     @Override
     public void getMemberAncestors(Member member, List<Member> ancestorList) {
+        if (isInExecution()) {
+            delegate.getMemberAncestors(member, ancestorList);
+            return;
+        }
         ExecutionContext.where(execution.asContext(), () -> {
             delegate.getMemberAncestors(member, ancestorList);
             return null;
@@ -168,41 +228,90 @@ public class ExecutionCatalogReaderWrapper implements CatalogReader {
 
     @Override
     public int getMemberDepth(Member member) {
+        if (isInExecution()) {
+            return delegate.getMemberDepth(member);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberDepth(member));
     }
 
+    @Override
+    public List<Member> getMemberParents(List<Member> members) {
+        if (isInExecution()) {
+            return delegate.getMemberParents(members);
+        }
+        return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberParents(members));
+    }
+
+    @Override
+    public List<List<Member>> getMemberAncestors(List<Member> members) {
+        if (isInExecution()) {
+            return delegate.getMemberAncestors(members);
+        }
+        return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberAncestors(members));
+    }
+
+    @Override
+    public int[] getMemberDepths(List<Member> members) {
+        if (isInExecution()) {
+            return delegate.getMemberDepths(members);
+        }
+        return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberDepths(members));
+    }
+
     @Override
     public Member getMemberByUniqueName(List<Segment> uniqueNameParts, boolean failIfNotFound, MatchType matchType) {
+        if (isInExecution()) {
+            return delegate.getMemberByUniqueName(uniqueNameParts, failIfNotFound, matchType);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberByUniqueName(uniqueNameParts, failIfNotFound, matchType));
     }
 
     @Override
     public Member getMemberByUniqueName(List<Segment> uniqueNameParts, boolean failIfNotFound) {
+        if (isInExecution()) {
+            return delegate.getMemberByUniqueName(uniqueNameParts, failIfNotFound);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberByUniqueName(uniqueNameParts, failIfNotFound));
     }
 
     @Override
     public OlapElement lookupCompound(OlapElement parent, List<Segment> names, boolean failIfNotFound, DataType category, MatchType matchType) {
+        if (isInExecution()) {
+            return delegate.lookupCompound(parent, names, failIfNotFound, category, matchType);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.lookupCompound(parent, names, failIfNotFound, category, matchType));
     }
 
     @Override
     public OlapElement lookupCompound(OlapElement parent, List<Segment> names, boolean failIfNotFound, DataType category) {
+        if (isInExecution()) {
+            return delegate.lookupCompound(parent, names, failIfNotFound, category);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.lookupCompound(parent, names, failIfNotFound, category));
     }
 
     @Override
     public Member getCalculatedMember(List<Segment> nameParts) {
+        if (isInExecution()) {
+            return delegate.getCalculatedMember(nameParts);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getCalculatedMember(nameParts));
     }
 
     @Override
     public NamedSet getNamedSet(List<Segment> nameParts) {
+        if (isInExecution()) {
+            return delegate.getNamedSet(nameParts);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getNamedSet(nameParts));
     }
 
     @Override
     public void getMemberRange(Level level, Member startMember, Member endMember, List<Member> list) {
+        if (isInExecution()) {
+            delegate.getMemberRange(level, startMember, endMember, list);
+            return;
+        }
         ExecutionContext.where(execution.asContext(), () -> {
             delegate.getMemberRange(level, startMember, endMember, list);
             return null;
@@ -211,132 +320,218 @@ public class ExecutionCatalogReaderWrapper implements CatalogReader {
 
     @Override
     public Member getLeadMember(Member member, int n) {
+        if (isInExecution()) {
+            return delegate.getLeadMember(member, n);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getLeadMember(member, n));
     }
 
     @Override
     public int compareMembersHierarchically(Member m1, Member m2) {
+        if (isInExecution()) {
+            return delegate.compareMembersHierarchically(m1, m2);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.compareMembersHierarchically(m1, m2));
     }
 
     @Override
     public OlapElement getElementChild(OlapElement parent, Segment name, MatchType matchType) {
+        if (isInExecution()) {
+            return delegate.getElementChild(parent, name, matchType);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getElementChild(parent, name, matchType));
     }
 
     @Override
     public OlapElement getElementChild(OlapElement parent, Segment name) {
+        if (isInExecution()) {
+            return delegate.getElementChild(parent, name);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getElementChild(parent, name));
     }
 
     @Override
     public List<Member> getLevelMembers(Level level, boolean includeCalculated) {
+        if (isInExecution()) {
+            return delegate.getLevelMembers(level, includeCalculated);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getLevelMembers(level, includeCalculated));
     }
 
     @Override
     public List<Member> getLevelMembers(Level level, boolean includeCalculated, Evaluator context) {
+        if (isInExecution()) {
+            return delegate.getLevelMembers(level, includeCalculated, context);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getLevelMembers(level, includeCalculated, context));
     }
 
     @Override
     public List<Member> getLevelMembers(Level level, Evaluator context) {
+        if (isInExecution()) {
+            return delegate.getLevelMembers(level, context);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getLevelMembers(level, context));
     }
 
     @Override
     public List<Level> getHierarchyLevels(Hierarchy hierarchy) {
+        if (isInExecution()) {
+            return delegate.getHierarchyLevels(hierarchy);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getHierarchyLevels(hierarchy));
     }
 
     @Override
     public Member getHierarchyDefaultMember(Hierarchy hierarchy) {
+        if (isInExecution()) {
+            return delegate.getHierarchyDefaultMember(hierarchy);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getHierarchyDefaultMember(hierarchy));
     }
 
     @Override
     public boolean isDrillable(Member member) {
+        if (isInExecution()) {
+            return delegate.isDrillable(member);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.isDrillable(member));
     }
 
     @Override
     public boolean isVisible(Member member) {
+        if (isInExecution()) {
+            return delegate.isVisible(member);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.isVisible(member));
     }
 
     @Override
     public List<Cube> getCubes() {
+        if (isInExecution()) {
+            return delegate.getCubes();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getCubes());
     }
 
     @Override
     public List<Member> getCalculatedMembers(Hierarchy hierarchy) {
+        if (isInExecution()) {
+            return delegate.getCalculatedMembers(hierarchy);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getCalculatedMembers(hierarchy));
     }
 
     @Override
     public List<Member> getCalculatedMembers(Level level) {
+        if (isInExecution()) {
+            return delegate.getCalculatedMembers(level);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getCalculatedMembers(level));
     }
 
     @Override
     public List<Member> getCalculatedMembers() {
+        if (isInExecution()) {
+            return delegate.getCalculatedMembers();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getCalculatedMembers());
     }
 
     @Override
     public Member lookupMemberChildByName(Member parent, Segment childName, MatchType matchType) {
+        if (isInExecution()) {
+            return delegate.lookupMemberChildByName(parent, childName, matchType);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.lookupMemberChildByName(parent, childName, matchType));
     }
 
     @Override
     public List<Member> lookupMemberChildrenByNames(Member parent, List<NameSegment> childNames, MatchType matchType) {
+        if (isInExecution()) {
+            return delegate.lookupMemberChildrenByNames(parent, childNames, matchType);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.lookupMemberChildrenByNames(parent, childNames, matchType));
     }
 
+    @Override
+    public List<Member> lookupMembers(OlapElement parent, List<List<Segment>> names) {
+        if (isInExecution()) {
+            return delegate.lookupMembers(parent, names);
+        }
+        return ExecutionContext.where(execution.asContext(), () -> delegate.lookupMembers(parent, names));
+    }
+
     @Override
     public NativeEvaluator getNativeSetEvaluator(FunctionDefinition fun, Expression[] args, Evaluator evaluator, Calc calc) {
+        if (isInExecution()) {
+            return delegate.getNativeSetEvaluator(fun, args, evaluator, calc);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getNativeSetEvaluator(fun, args, evaluator, calc));
     }
 
     @Override
     public Parameter getParameter(String name) {
+        if (isInExecution()) {
+            return delegate.getParameter(name);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getParameter(name));
     }
 
     @Override
     @Deprecated
     public DataSource getDataSource() {
+        if (isInExecution()) {
+            return delegate.getDataSource();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getDataSource());
     }
 
     @Override
     public CatalogReader withoutAccessControl() {
+        if (isInExecution()) {
+            return delegate.withoutAccessControl();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.withoutAccessControl());
     }
 
     @Override
     public CatalogReader withLocus() {
+        if (isInExecution()) {
+            return delegate.withLocus();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.withLocus());
     }
 
     @Override
     public List<NameResolver.Namespace> getNamespaces() {
+        if (isInExecution()) {
+            return delegate.getNamespaces();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getNamespaces());
     }
 
     @Override
     public Map<? extends Member, AccessMember> getMemberChildrenWithDetails(Member member, Evaluator evaluator) {
+        if (isInExecution()) {
+            return delegate.getMemberChildrenWithDetails(member, evaluator);
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getMemberChildrenWithDetails(member, evaluator));
     }
 
     @Override
     public Context<?> getContext() {
+        if (isInExecution()) {
+            return delegate.getContext();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getContext());
     }
 
     @Override
     public List<? extends DatabaseSchema> getDatabaseSchemas() {
+        if (isInExecution()) {
+            return delegate.getDatabaseSchemas();
+        }
         return ExecutionContext.where(execution.asContext(), () -> delegate.getDatabaseSchemas());
     }
 }
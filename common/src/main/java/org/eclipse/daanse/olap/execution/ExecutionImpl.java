@@ -51,6 +51,7 @@ import org.eclipse.daanse.olap.api.monitor.event.ExecutionStartEvent;
 import org.eclipse.daanse.olap.api.monitor.event.MdxStatementEventCommon;
 import org.eclipse.daanse.olap.api.monitor.event.ServertEventCommon;
 import org.eclipse.daanse.olap.api.query.component.Query;
+import org.eclipse.daanse.olap.common.ConfigConstants;
 import org.eclipse.daanse.olap.common.QueryTimingImpl;
 import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.olap.core.AbstractBasicContext;
@@ -103,6 +104,13 @@ public class ExecutionImpl implements Execution {
     private int expCacheHitCount;
     private int expCacheMissCount;
 
+    /**
+     * Number of bytes this execution may allocate, or 0 for no limit.
+     */
+    private final long allocationLimit;
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong peakAllocatedBytes = new AtomicLong();
+
     /**
      * Execution id, global within this JVM instance.
      */
@@ -130,6 +138,9 @@ public class ExecutionImpl implements Execution {
         this.id = SEQ.getAndIncrement();
         this.statement = (AbstractStatement) statement;
         this.duration = duration;
+        this.allocationLimit = statement == null ? 0
+                : statement.getDaanseConnection().getContext().getConfigValue(ConfigConstants.QUERY_ALLOCATION_LIMIT,
+                        ConfigConstants.QUERY_ALLOCATION_LIMIT_DEFAULT_VALUE, Long.class);
 
         // Initialize ExecutionContext
         if (parentContext != null) {
@@ -409,7 +420,7 @@ public class ExecutionImpl implements Execution {
                                 Instant.ofEpochMilli(Duration.between(LocalDateTime.now(), this.startTime).toMillis())),
                         context.getName()), connection.getId()), this.statement.getId()),
                 this.id), phase, state, cellCacheHitCount, cellCacheMissCount, cellCachePendingCount, expCacheHitCount,
-                expCacheMissCount);
+                expCacheMissCount, peakAllocatedBytes.get());
         context.getMonitor().accept(endEvent);
     }
 
@@ -452,6 +463,52 @@ public class ExecutionImpl implements Execution {
         return expCacheMissCount;
     }
 
+    /**
+     * Charges an allocation to this execution and to its parent. If more than
+     * the configured {@code queryAllocationLimit} is held, the execution is
+     * marked as out of memory and the query is aborted.
+     *
+     * @throws MemoryLimitExceededException if the limit is exceeded
+     */
+    @Override
+    public void chargeAllocation(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("bytes must not be negative, was: " + bytes);
+        }
+        if (parent != null) {
+            parent.chargeAllocation(bytes);
+        }
+        final long allocated = allocatedBytes.addAndGet(bytes);
+        peakAllocatedBytes.accumulateAndGet(allocated, Math::max);
+        if (allocationLimit > 0 && allocated > allocationLimit) {
+            final String msg = "Query allocation limit of " + allocationLimit + " bytes exceeded: " + allocated
+                    + " bytes held";
+            setOutOfMemory(msg);
+            throw new MemoryLimitExceededException(msg);
+        }
+    }
+
+    @Override
+    public void releaseAllocation(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("bytes must not be negative, was: " + bytes);
+        }
+        if (parent != null) {
+            parent.releaseAllocation(bytes);
+        }
+        allocatedBytes.addAndGet(-bytes);
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    @Override
+    public long getPeakAllocatedBytes() {
+        return peakAllocatedBytes.get();
+    }
+
     /**
      * Returns the ExecutionContext for ScopedValue-based context propagation. This
      * bridges the legacy Execution interface with the new ExecutionContext system.
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.execution;
+
+import java.lang.ref.Cleaner;
+
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.execution.ExecutionContext;
+
+/**
+ * Charges the memory objects hold to the memory budget of the execution of the
+ * current thread.
+ *
+ * <p>Sizes are estimates: an array of references costs its header plus one
+ * reference per element, where a reference takes four bytes while the heap is
+ * small enough for compressed references and eight bytes otherwise. An object
+ * holds its charge until it replaces its array, which moves the charge to the
+ * new size, or becomes unreachable, which releases it. The charged amount is
+ * therefore an estimate of what a query holds at a time; memory which is
+ * garbage but not yet collected still counts.
+ *
+ * <p>Arrays of fewer than {@link #MIN_CHARGED_REFERENCES} elements are not
+ * charged: a query building many small lists, as a filter evaluated per cell
+ * does, would otherwise register a cleanup for each of them.
+ *
+ * @see Execution#chargeAllocation(long)
+ */
+public final class QueryAllocation {
+
+    /** Estimated size of an object reference. */
+    public static final int REFERENCE_BYTES = Runtime.getRuntime().maxMemory() < 32L << 30 ? 4 : 8;
+
+    /** Estimated size of the header of an array. */
+    public static final int ARRAY_HEADER_BYTES = 16;
+
+    /** Number of elements from which an array of references is charged. */
+    public static final int MIN_CHARGED_REFERENCES = 1024;
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private QueryAllocation() {
+    }
+
+    /**
+     * Memory an object holds, charged to the execution it was allocated in
+     * until the object becomes unreachable.
+     */
+    public static final class Charge implements Runnable {
+        private final Execution execution;
+        private long bytes;
+
+        private Charge(Execution execution) {
+            this.execution = execution;
+        }
+
+        private synchronized void resize(long newBytes) {
+            final long oldBytes = bytes;
+            // remember the new size first, so that it is released also if the
+            // charge exceeds the budget
+            bytes = newBytes;
+            if (newBytes > oldBytes) {
+                execution.chargeAllocation(newBytes - oldBytes);
+            } else if (newBytes < oldBytes) {
+                execution.releaseAllocation(oldBytes - newBytes);
+            }
+        }
+
+        /**
+         * Releases the charge; called when the object is unreachable.
+         */
+        @Override
+        public synchronized void run() {
+            if (bytes > 0) {
+                execution.releaseAllocation(bytes);
+                bytes = 0;
+            }
+        }
+    }
+
+    /**
+     * Charges an array of references an object holds to the execution of the
+     * current thread, if any, until the object becomes unreachable.
+     *
+     * @param owner  Object holding the array
+     * @param charge Charge the object holds for its previous array, or null
+     * @param length Number of elements of the array the object holds now
+     * @return Charge to pass when the object replaces its array, null if
+     *         nothing is charged
+     */
+    public static Charge chargeReferences(Object owner, Charge charge, long length) {
+        final long bytes = ARRAY_HEADER_BYTES + length * REFERENCE_BYTES;
+        if (charge != null) {
+            charge.resize(bytes);
+            return charge;
+        }
+        if (length < MIN_CHARGED_REFERENCES) {
+            return null;
+        }
+        final ExecutionContext context = ExecutionContext.currentOrNull();
+        final Execution execution = context == null ? null : context.getExecution();
+        if (execution == null) {
+            return null;
+        }
+        final Charge created = new Charge(execution);
+        CLEANER.register(owner, created);
+        created.resize(bytes);
+        return created;
+    }
+}
@@ -43,6 +43,7 @@ import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
 import org.eclipse.daanse.olap.api.DataType;
 import org.eclipse.daanse.olap.api.access.AccessMember;
 import org.eclipse.daanse.olap.api.agg.Segment;
+import org.eclipse.daanse.olap.api.calc.BatchDoubleCalc;
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.DoubleCalc;
 import org.eclipse.daanse.olap.api.calc.ResultStyle;
@@ -75,6 +76,7 @@ import org.eclipse.daanse.olap.api.type.ScalarType;
 import org.eclipse.daanse.olap.api.type.TupleType;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.eclipse.daanse.olap.calc.base.util.DoubleBatches;
 import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.olap.element.PropertyBase;
 import org.eclipse.daanse.olap.exceptions.CousinHierarchyMismatchException;
@@ -289,7 +291,11 @@ public class FunUtil extends Util {
 
   /**
    * Adds every element of {@code right} which is not in {@code set} to both {@code set} and {@code left}.
+   *
+   * @deprecated Hashes every tuple as a list; use
+   *     {@link org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleHashSet} instead, as the set operators do.
    */
+  @Deprecated
   public static void addUnique(
     TupleList left,
     TupleList right,
@@ -774,6 +780,17 @@ public class FunUtil extends Util {
     Evaluator evaluator,
     TupleList members,
     Calc calc ) {
+    final BatchDoubleCalc batchCalc = DoubleBatches.numeric( calc );
+    if ( batchCalc != null ) {
+      final DoubleBatches.Summary summary =
+        DoubleBatches.summarize( evaluator, members, batchCalc );
+      if ( summary.notReadyCount() > 0 ) {
+        return Double.NaN;
+      }
+      return summary.count() == 0
+        ? Util.nullValue
+        : Double.valueOf( summary.sum() / summary.count() );
+    }
     SetWrapper sw = FunUtil.evaluateSet( evaluator, members, calc );
     if ( sw.errorCount > 0 ) {
       return Double.NaN;
@@ -807,6 +824,15 @@ public class FunUtil extends Util {
     Evaluator evaluator,
     TupleList members,
     Calc exp ) {
+    final BatchDoubleCalc batchCalc = DoubleBatches.numeric( exp );
+    if ( batchCalc != null ) {
+      final DoubleBatches.Summary summary =
+        DoubleBatches.summarize( evaluator, members, batchCalc );
+      if ( summary.notReadyCount() > 0 ) {
+        return Double.NaN;
+      }
+      return summary.count() == 0 ? FunUtil.DOUBLE_NULL : summary.sum();
+    }
     SetWrapper sw = FunUtil.evaluateSet( evaluator, members, exp );
     if ( sw.errorCount > 0 ) {
       return Double.NaN;
@@ -896,7 +922,7 @@ public class FunUtil extends Util {
         currentIteration++, execution );
       cursor.setContext( evaluator );
       Object o = calc.evaluate( evaluator );
-      if ( o == null || o == Util.nullValue ) {
+      if ( o == null || o == Util.nullValue || o == FunUtil.DOUBLE_NULL ) {
         retval.nullCount++;
       } else if ( o == Util.valueNotReadyException ) {
         // Carry on summing, so that if we are running in a
@@ -1472,7 +1498,7 @@ public class FunUtil extends Util {
         evaluator.getCube(),
         hierarchies );
     IdentifierParser.parseTupleList( builder, string );
-    return builder.tupleList;
+    return builder.getTupleList();
   }
 
   /**
@@ -1536,7 +1562,7 @@ public class FunUtil extends Util {
         evaluator.getCube(),
         hierarchy );
     IdentifierParser.parseMemberList( builder, string );
-    return builder.memberList;
+    return builder.getMemberList();
   }
 
   private static int parseMember(
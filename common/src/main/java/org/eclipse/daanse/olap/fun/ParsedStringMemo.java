@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.fun;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.execution.ExecutionContext;
+import org.eclipse.daanse.olap.api.query.component.Query;
+
+/**
+ * Remembers what a calculation parsed from its string argument, such as the
+ * members of a {@code StrToSet} call, while one query is evaluated.
+ *
+ * <p>The argument of {@code StrToSet} and {@code StrToTuple} is usually the
+ * same for every cell, so parsing it and looking up its members once per
+ * execution is enough. The memo is bound to the execution of the query and
+ * starts over when the calculation is evaluated for another execution, also of
+ * the same query, so members added or removed between two executions are seen.
+ * Without an execution the start time of the query tells the executions apart.
+ * Callers that hand out a mutable result must copy the remembered value.
+ *
+ * @param <V> Type of the parsed value
+ */
+public final class ParsedStringMemo<V> {
+
+    static final int MAX_ENTRIES = 1000;
+
+    private volatile Values<V> values;
+
+    /**
+     * Returns the value parsed from a string, parsing it if it has not been
+     * parsed during the current execution yet.
+     *
+     * @param evaluator Evaluator
+     * @param string    String to parse
+     * @param parser    Parses a string; may return null, which is not kept
+     * @return Parsed value
+     */
+    public V get(Evaluator evaluator, String string, Function<String, V> parser) {
+        final Query query = evaluator.getQuery();
+        if (query == null) {
+            return parser.apply(string);
+        }
+        final Object execution = execution(evaluator);
+        Values<V> current = values;
+        if (current == null || current.query() != query || !current.execution().equals(execution)) {
+            current = new Values<>(query, execution, new ConcurrentHashMap<>());
+            values = current;
+        }
+        V value = current.map().get(string);
+        if (value == null) {
+            value = parser.apply(string);
+            if (value != null && current.map().size() < MAX_ENTRIES) {
+                current.map().put(string, value);
+            }
+        }
+        return value;
+    }
+
+    private static Object execution(Evaluator evaluator) {
+        final ExecutionContext context = ExecutionContext.currentOrNull();
+        final Execution execution = context == null ? null : context.getExecution();
+        if (execution != null) {
+            return execution;
+        }
+        final Object startTime = evaluator.getQueryStartTime();
+        return startTime == null ? Values.class : startTime;
+    }
+
+    private record Values<V>(Query query, Object execution, Map<String, V> map) {
+    }
+}
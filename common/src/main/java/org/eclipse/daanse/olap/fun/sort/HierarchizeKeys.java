@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.fun.sort;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.element.LimitedMember;
+import org.eclipse.daanse.olap.api.element.Member;
+
+/**
+ * Hierarchical sort keys of members, for Hierarchize.
+ *
+ * The members and all their ancestors form a tree, in which the children of
+ * each member are sorted once with {@link Sorter#compareSiblingMembers}. The
+ * key of a member is its position in a walk over this tree: numbered on the
+ * way down, a parent precedes its descendants (pre order); numbered on the way
+ * back up, it follows them (post order). Comparing two keys therefore gives
+ * the same result as {@link Sorter#compareHierarchically}, while the ancestors
+ * of each member are looked up only once rather than on each comparison.
+ */
+final class HierarchizeKeys {
+
+    private static final int NULL_KEY = -1;
+
+    private final Map<Member, Node> nodes = new HashMap<>();
+    private final Node root = new Node(null);
+
+    private HierarchizeKeys() {
+    }
+
+    /**
+     * Computes the hierarchical sort key of each member of a list.
+     *
+     * @param members Members, of one hierarchy
+     * @param post    Whether a parent sorts after its descendants
+     * @return Key per position in the list
+     */
+    static int[] keys(List<Member> members, boolean post) {
+        HierarchizeKeys tree = new HierarchizeKeys();
+        Node[] nodes = new Node[members.size()];
+        int i = 0;
+        for (Member member : members) {
+            member = unwrap(member);
+            nodes[i++] = member == null ? null : tree.node(member);
+        }
+        tree.number(post);
+        int[] keys = new int[nodes.length];
+        for (i = 0; i < nodes.length; i++) {
+            keys[i] = nodes[i] == null ? NULL_KEY : nodes[i].key;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the order in which rows are sorted by their keys, compared
+     * column by column. Rows with equal keys keep their relative order.
+     *
+     * @param columns Keys per column, each of the length of the list
+     * @param size    Number of rows
+     * @return Row numbers in sorted order, or null if the rows are already in
+     *         sorted order
+     */
+    static int[] order(int[][] columns, int size) {
+        if (isSorted(columns, size)) {
+            return null;
+        }
+        int[] order = new int[size];
+        if (columns.length == 1) {
+            int[] keys = columns[0];
+            long[] packed = new long[size];
+            for (int row = 0; row < size; row++) {
+                packed[row] = ((long) keys[row] << 32) | row;
+            }
+            Arrays.sort(packed);
+            for (int i = 0; i < size; i++) {
+                order[i] = (int) packed[i];
+            }
+            return order;
+        }
+        Integer[] rows = new Integer[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        Arrays.sort(rows, (r0, r1) -> compareRows(columns, r0, r1));
+        for (int i = 0; i < size; i++) {
+            order[i] = rows[i];
+        }
+        return order;
+    }
+
+    /**
+     * Rearranges a list so that position {@code i} holds the element formerly
+     * at {@code order[i]}.
+     *
+     * @param list  List, which must support {@link ListIterator#set}
+     * @param order Permutation of the positions of the list
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void permute(List<T> list, int[] order) {
+        Object[] elements = list.toArray();
+        ListIterator<T> iterator = list.listIterator();
+        for (int row : order) {
+            iterator.next();
+            iterator.set((T) elements[row]);
+        }
+    }
+
+    private static boolean isSorted(int[][] columns, int size) {
+        for (int row = 1; row < size; row++) {
+            if (compareRows(columns, row - 1, row) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int compareRows(int[][] columns, int row0, int row1) {
+        for (int[] keys : columns) {
+            int c = Integer.compare(keys[row0], keys[row1]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private Node node(Member member) {
+        Node node = nodes.get(member);
+        if (node == null) {
+            node = new Node(member);
+            nodes.put(member, node);
+            Member parent = unwrap(member.getParentMember());
+            (parent == null ? root : node(parent)).children.add(node);
+        }
+        return node;
+    }
+
+    private void number(boolean post) {
+        int next = 0;
+        Deque<Node> stack = new ArrayDeque<>();
+        root.sortChildren();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.peek();
+            if (node.visited < node.children.size()) {
+                Node child = node.children.get(node.visited++);
+                if (!post) {
+                    child.key = next++;
+                }
+                child.sortChildren();
+                stack.push(child);
+            } else {
+                stack.pop();
+                if (post && node != root) {
+                    node.key = next++;
+                }
+            }
+        }
+    }
+
+    private static Member unwrap(Member member) {
+        return member instanceof LimitedMember limitedMember ? limitedMember.getMember() : member;
+    }
+
+    private static final class Node {
+        private final Member member;
+        private final List<Node> children = new ArrayList<>(2);
+        private int visited;
+        private int key;
+
+        Node(Member member) {
+            this.member = member;
+        }
+
+        void sortChildren() {
+            if (children.size() > 1) {
+                children.sort((n0, n1) -> Sorter.compareSiblingMembers(n0.member, n1.member));
+            }
+        }
+    }
+}
@@ -52,9 +52,11 @@ import org.eclipse.daanse.olap.api.element.LimitedMember;
 import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.type.ScalarType;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.DelegatingTupleList;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleCollections;
+import org.eclipse.daanse.olap.calc.base.util.DoubleBatches;
 import org.eclipse.daanse.olap.common.SystemWideProperties;
 import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.olap.function.def.member.memberorderkey.MemberOrderKeyCalc;
@@ -67,6 +69,8 @@ public class Sorter {
 
   private static final String SORT_TIMING_NAME = "Sort";
   private static final String SORT_EVAL_TIMING_NAME = "EvalForSort";
+  private static final int SORT_TIMER_ID = QueryTimerRegistry.register( SORT_TIMING_NAME );
+  private static final int SORT_EVAL_TIMER_ID = QueryTimerRegistry.register( SORT_EVAL_TIMING_NAME );
 
   private static final Logger LOGGER = LoggerFactory.getLogger( Sorter.class );
 
@@ -139,6 +143,14 @@ public class Sorter {
       assert exp.getType() instanceof ScalarType;
       final Map<List<Member>, Object> mapMemberToValue =
         new HashMap<>();
+      if ( DoubleBatches.forEachNumberChunk( evaluator, tuples, exp, ( offset, batch ) -> {
+        for ( int i = 0; i < batch.size(); i++ ) {
+          final Object value = DoubleBatches.get( batch, i, exp );
+          mapMemberToValue.put( tuples.get( offset + i ), value == null ? Util.nullValue : value );
+        }
+      } ) ) {
+        return mapMemberToValue;
+      }
       for ( List<Member> tuple : tuples ) {
         evaluator.setContext( tuple );
         Object result = exp.evaluate( evaluator );
@@ -184,7 +196,7 @@ public class Sorter {
       return memberList;
     }
 
-    evaluator.getTiming().markStart( SORT_EVAL_TIMING_NAME );
+    evaluator.getTiming().markStart( SORT_EVAL_TIMER_ID );
     boolean timingEval = true;
     boolean timingSort = false;
     try {
@@ -208,17 +220,17 @@ public class Sorter {
         comp = new MemberComparator.HierarchicalMemberComparator( evaluator, exp, desc );
       }
       comp.preloadValues( mapMemberToValue );
-      evaluator.getTiming().markEnd( SORT_EVAL_TIMING_NAME );
+      evaluator.getTiming().markEnd( SORT_EVAL_TIMER_ID );
       timingEval = false;
-      evaluator.getTiming().markStart( SORT_TIMING_NAME );
+      evaluator.getTiming().markStart( SORT_TIMER_ID );
       timingSort = true;
       Collections.sort( memberList, comp.wrap() );
       return memberList;
     } finally {
       if ( timingEval ) {
-        evaluator.getTiming().markEnd( SORT_EVAL_TIMING_NAME );
+        evaluator.getTiming().markEnd( SORT_EVAL_TIMER_ID );
       } else if ( timingSort ) {
-        evaluator.getTiming().markEnd( SORT_TIMING_NAME );
+        evaluator.getTiming().markEnd( SORT_TIMER_ID );
       }
     }
   }
@@ -337,8 +349,12 @@ public class Sorter {
 
     Comparator<List<Member>> comparator;
     if ( brk ) {
-      comparator =
+      final TupleExpMemoComparator.BreakTupleComparator breakComparator =
         new TupleExpMemoComparator.BreakTupleComparator( evaluator, exp, arity );
+      if ( tupleArrayList instanceof TupleList list ) {
+        breakComparator.preload( list );
+      }
+      comparator = breakComparator;
       if ( desc ) {
         comparator = Collections.reverseOrder( comparator );
       }
@@ -386,7 +402,7 @@ public class Sorter {
     boolean desc ) {
     assert !list.isEmpty();
     assert limit <= list.size();
-    evaluator.getTiming().markStart( SORT_EVAL_TIMING_NAME );
+    evaluator.getTiming().markStart( SORT_EVAL_TIMER_ID );
     boolean timingEval = true;
     boolean timingSort = false;
     try {
@@ -394,17 +410,17 @@ public class Sorter {
         new MemberComparator.BreakMemberComparator( evaluator, exp, desc );
       Map<Member, Object> valueMap =
         evaluateMembers( evaluator, exp, list, null, false );
-      evaluator.getTiming().markEnd( SORT_EVAL_TIMING_NAME );
+      evaluator.getTiming().markEnd( SORT_EVAL_TIMER_ID );
       timingEval = false;
-      evaluator.getTiming().markStart( SORT_TIMING_NAME );
+      evaluator.getTiming().markStart( SORT_TIMER_ID );
       timingSort = true;
       comp.preloadValues( valueMap );
       return stablePartialSort( list, comp.wrap(), limit );
     } finally {
       if ( timingEval ) {
-        evaluator.getTiming().markEnd( SORT_EVAL_TIMING_NAME );
+        evaluator.getTiming().markEnd( SORT_EVAL_TIMER_ID );
       } else if ( timingSort ) {
-        evaluator.getTiming().markEnd( SORT_TIMING_NAME );
+        evaluator.getTiming().markEnd( SORT_TIMER_ID );
       }
     }
   }
@@ -503,8 +519,10 @@ public class Sorter {
     boolean desc ) {
     assert !list.isEmpty();
     assert limit <= list.size();
-    Comparator<List<Member>> comp =
+    final TupleExpMemoComparator.BreakTupleComparator breakComparator =
       new TupleExpMemoComparator.BreakTupleComparator( evaluator, exp, list.getArity() );
+    breakComparator.preload( list );
+    Comparator<List<Member>> comp = breakComparator;
     if ( desc ) {
       comp = Collections.reverseOrder( comp );
     }
@@ -514,6 +532,9 @@ public class Sorter {
   /**
    * Sorts a list of members into hierarchical order. The members must belong to the same dimension.
    *
+   * The members are sorted by keys computed once per member, see {@link HierarchizeKeys}; a list that is already in
+   * hierarchical order is recognized in a single pass and left unchanged.
+   *
    * @param memberList List of members
    * @param post       Whether to sort in post order; if false, sorts in pre order
    * @see #hierarchizeTupleList(org.eclipse.daanse.olap.api.calc.tuple.TupleList, boolean)
@@ -525,8 +546,11 @@ public class Sorter {
       return;
     }
 
-    Comparator<Member> comparator = new HierarchizeComparator( post );
-    memberList.sort( comparator );
+    final int[] keys = HierarchizeKeys.keys( memberList, post );
+    final int[] order = HierarchizeKeys.order( new int[][] { keys }, keys.length );
+    if ( order != null ) {
+      HierarchizeKeys.permute( memberList, order );
+    }
   }
 
   /**
@@ -547,10 +571,15 @@ public class Sorter {
       hierarchizeMemberList( fixedList.slice( 0 ), post );
       return fixedList;
     }
-    Comparator<List<Member>> comparator =
-      new HierarchizeTupleComparator( fixedList.getArity(), post );
-
-    fixedList.sort( comparator );
+    final int arity = fixedList.getArity();
+    final int[][] keys = new int[arity][];
+    for ( int i = 0; i < arity; i++ ) {
+      keys[i] = HierarchizeKeys.keys( fixedList.slice( i ), post );
+    }
+    final int[] order = HierarchizeKeys.order( keys, fixedList.size() );
+    if ( order != null ) {
+      HierarchizeKeys.permute( fixedList, order );
+    }
 
     logTuples( fixedList, "hierarchizeTupleList" );
 
@@ -35,9 +35,11 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.exception.CellRequestQuantumExceededException;
+import org.eclipse.daanse.olap.calc.base.util.DoubleBatches;
 import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.olap.util.CancellationChecker;
 
@@ -80,6 +82,28 @@ abstract class TupleExpMemoComparator extends TupleComparator.TupleExpComparator
     }
   }
 
+  /**
+   * If the calc can evaluate batches, or reads numeric cell values, evaluates it for all tuples of a list up front
+   * and remembers the values, so that comparisons find them in the cache. Nothing is preloaded if the calc does not
+   * depend on every member of a tuple, since comparisons then only evaluate it once per distinct dependent members.
+   * Values which are not numbers stop the preloading; the comparisons evaluate the remaining tuples.
+   */
+  void preload( TupleList tuples ) {
+    if ( tuples.isEmpty() ) {
+      return;
+    }
+    getDependentHierarchiesIndices( tuples.get( 0 ) );
+    if ( dependentHierarchiesIndices.length < tuples.getArity() ) {
+      return;
+    }
+    DoubleBatches.forEachNumberChunk( evaluator, tuples, calc, ( offset, batch ) -> {
+      for ( int i = 0; i < batch.size(); i++ ) {
+        final Object value = DoubleBatches.get( batch, i, calc );
+        valueCache.put( dependentMembers( tuples.get( offset + i ) ), value == null ? Util.nullValue : value );
+      }
+    } );
+  }
+
   private List<Member> dependentMembers( List<Member> tuple ) {
     getDependentHierarchiesIndices( tuple );
     return Arrays.stream( dependentHierarchiesIndices )
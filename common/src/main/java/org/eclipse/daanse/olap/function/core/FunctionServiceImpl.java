@@ -17,6 +17,7 @@ import static java.util.Collections.synchronizedList;
 import static java.util.Collections.synchronizedSet;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,7 +28,9 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
 import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
+import org.eclipse.daanse.olap.api.DataType;
 import org.eclipse.daanse.olap.api.function.FunctionMetaData;
+import org.eclipse.daanse.olap.api.function.FunctionResolution;
 import org.eclipse.daanse.olap.api.function.FunctionResolver;
 import org.eclipse.daanse.olap.api.function.FunctionService;
 import org.eclipse.daanse.olap.fun.FunctionAtomCompareKey;
@@ -43,8 +46,15 @@ import org.osgi.service.component.annotations.ServiceScope;
 @Component(service = FunctionService.class, scope = ServiceScope.SINGLETON)
 public class FunctionServiceImpl implements FunctionService {
 
+	/**
+	 * Bound of the resolution cache; calls beyond it are resolved each time.
+	 */
+	static final int MAX_RESOLUTIONS = 10000;
+
 	private final List<FunctionResolver> resolvers = synchronizedList(new ArrayList<>());
 	private Map<FunctionAtomCompareKey, List<FunctionResolver>> mapNameToResolvers = new HashMap<>();
+	private Set<FunctionAtomCompareKey> categoryBasedAtoms = Set.of();
+	private final Map<ResolutionKey, FunctionResolution> resolutions = new ConcurrentHashMap<>();
 
 	private List<FunctionMetaData> representativeFunctionMetaDatas = synchronizedList(new ArrayList<>());
 	private List<String> reservedWords = synchronizedList(new ArrayList<>());
@@ -113,10 +123,19 @@ public class FunctionServiceImpl implements FunctionService {
 
 		});
 
+		final Set<FunctionAtomCompareKey> newCategoryBasedAtoms = new HashSet<>();
+		newMapNameToResolvers.forEach((key, list) -> {
+			if (list.stream().allMatch(FunctionResolver::isCategoryBased)) {
+				newCategoryBasedAtoms.add(key);
+			}
+		});
+
 		representativeFunctionMetaDatas = newRepresentativeFunctionMetaDatas;
 		propertyWords = newPropertyWords;
 		reservedWords = newReservedWords;
 		mapNameToResolvers = newMapNameToResolvers;
+		categoryBasedAtoms = newCategoryBasedAtoms;
+		resolutions.clear();
 	}
 
 
@@ -163,5 +182,35 @@ public class FunctionServiceImpl implements FunctionService {
 		return representativeFunctionMetaDatas;
 	}
 
-	
+	@Override
+	public FunctionResolution getResolution(OperationAtom operationAtom, DataType[] argumentCategories) {
+		return resolutions.get(new ResolutionKey(new FunctionAtomCompareKey(operationAtom), argumentCategories));
+	}
+
+	@Override
+	public void putResolution(OperationAtom operationAtom, DataType[] argumentCategories,
+			FunctionResolution resolution) {
+		FunctionAtomCompareKey atomKey = new FunctionAtomCompareKey(operationAtom);
+		if (categoryBasedAtoms.contains(atomKey) && resolutions.size() < MAX_RESOLUTIONS) {
+			resolutions.put(new ResolutionKey(atomKey, argumentCategories), resolution);
+		}
+	}
+
+	/**
+	 * Key of a cached resolution: the operator and the categories of the
+	 * arguments.
+	 */
+	private record ResolutionKey(FunctionAtomCompareKey atom, DataType[] categories) {
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof ResolutionKey that && atom.equals(that.atom)
+					&& Arrays.equals(categories, that.categories);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * atom.hashCode() + Arrays.hashCode(categories);
+		}
+	}
 }
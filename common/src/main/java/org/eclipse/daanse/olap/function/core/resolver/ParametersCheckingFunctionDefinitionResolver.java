@@ -68,6 +68,15 @@ public class ParametersCheckingFunctionDefinitionResolver implements FunctionRes
 		return true;
 	}
 
+	/**
+	 * The definition is matched by the categories of the arguments alone,
+	 * unless a subclass checks the expressions themselves.
+	 */
+	@Override
+	public boolean isCategoryBased() {
+		return true;
+	}
+
 	@Override
 	public boolean requiresScalarExpressionOnArgument(int k) {
 		DataType[] parameterDataTypes = functionDefinition.getFunctionMetaData().parameterDataTypes();
@@ -35,6 +35,7 @@ import org.eclipse.daanse.olap.api.element.Dimension;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
 import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedUnknownCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
@@ -48,6 +49,7 @@ import org.eclipse.daanse.olap.function.def.crossjoin.CrossJoinFunDef;
 public class AggregateCalc  extends AbstractProfilingNestedUnknownCalc {
     private static final String TIMING_NAME =
             AggregateFunDef.class.getSimpleName();
+    private static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
     private final TupleListCalc tupleListCalc;
     private final Calc<?> calc;
     private final Member member;
@@ -67,7 +69,7 @@ public class AggregateCalc  extends AbstractProfilingNestedUnknownCalc {
 
     @Override
     public Object evaluateInternal(Evaluator evaluator) {
-        evaluator.getTiming().markStart(TIMING_NAME);
+        evaluator.getTiming().markStart(TIMER_ID);
         final int savepoint = evaluator.savepoint();
         try {
             TupleList list = AbstractAggregateFunDef.evaluateCurrentList(tupleListCalc, evaluator);
@@ -77,7 +79,7 @@ public class AggregateCalc  extends AbstractProfilingNestedUnknownCalc {
             return aggregate(calc, evaluator, list);
         } finally {
             evaluator.restore(savepoint);
-            evaluator.getTiming().markEnd(TIMING_NAME);
+            evaluator.getTiming().markEnd(TIMER_ID);
         }
     }
 
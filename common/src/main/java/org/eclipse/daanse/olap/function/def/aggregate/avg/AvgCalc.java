@@ -18,6 +18,7 @@ import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCalc;
 import org.eclipse.daanse.olap.calc.base.util.HierarchyDependsChecker;
@@ -25,16 +26,16 @@ import org.eclipse.daanse.olap.fun.FunUtil;
 import org.eclipse.daanse.olap.function.def.aggregate.AbstractAggregateFunDef;
 
 class AvgCalc extends AbstractProfilingNestedDoubleCalc {
-	private final String timingName;
+	private final int timerId;
 
 	public AvgCalc(Type type, TupleListCalc tupleListCalc, Calc<?> calc, String timingName) {
 		super(type, tupleListCalc, calc);
-		this.timingName = timingName;
+		this.timerId = QueryTimerRegistry.register(timingName);
 	}
 
 	@Override
 	public Double evaluateInternal(Evaluator evaluator) {
-		evaluator.getTiming().markStart(timingName);
+		evaluator.getTiming().markStart(timerId);
 		final int savepoint = evaluator.savepoint();
 		try {
 			TupleListCalc tupleListCalc = getChildCalc(0, TupleListCalc.class);
@@ -44,7 +45,7 @@ class AvgCalc extends AbstractProfilingNestedDoubleCalc {
 			return (Double) FunUtil.avg(evaluator, memberList, calc);
 		} finally {
 			evaluator.restore(savepoint);
-			evaluator.getTiming().markEnd(timingName);
+			evaluator.getTiming().markEnd(timerId);
 		}
 	}
 
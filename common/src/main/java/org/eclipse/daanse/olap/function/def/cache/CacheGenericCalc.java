@@ -19,6 +19,7 @@ import org.eclipse.daanse.olap.api.calc.ResultStyle;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedUnknownCalc;
+import org.eclipse.daanse.olap.common.ExpressionResultCacheImpl;
 
 public class CacheGenericCalc extends AbstractProfilingNestedUnknownCalc {
     private final ExpCacheDescriptor cacheDescriptor;
@@ -30,7 +31,7 @@ public class CacheGenericCalc extends AbstractProfilingNestedUnknownCalc {
 
     @Override
     public Object evaluateInternal(Evaluator evaluator) {
-        return evaluator.getCachedResult(cacheDescriptor);
+        return ExpressionResultCacheImpl.getResult(evaluator, cacheDescriptor);
     }
 
     @Override
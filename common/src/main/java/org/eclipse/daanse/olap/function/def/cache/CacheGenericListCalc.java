@@ -23,6 +23,7 @@ import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleCollections;
+import org.eclipse.daanse.olap.common.ExpressionResultCacheImpl;
 
 public class CacheGenericListCalc extends AbstractProfilingNestedTupleListCalc {
     private final ExpCacheDescriptor cacheDescriptor;
@@ -34,7 +35,7 @@ public class CacheGenericListCalc extends AbstractProfilingNestedTupleListCalc {
 
     @Override
     public TupleList evaluateInternal(Evaluator evaluator) {
-        final Object o = evaluator.getCachedResult(cacheDescriptor);
+        final Object o = ExpressionResultCacheImpl.getResult(evaluator, cacheDescriptor);
         if (o instanceof TupleList tupleList) {
             return tupleList;
         }
@@ -36,7 +36,7 @@ public class CountCalc extends AbstractProfilingNestedIntegerCalc {
 
     @Override
     public Integer evaluateInternal(Evaluator evaluator) {
-        evaluator.getTiming().markStart(CountFunDef.TIMING_NAME);
+        evaluator.getTiming().markStart(CountFunDef.TIMER_ID);
         final int savepoint = evaluator.savepoint();
         try {
             evaluator.setNonEmpty(false);
@@ -54,7 +54,7 @@ public class CountCalc extends AbstractProfilingNestedIntegerCalc {
             return count;
         } finally {
             evaluator.restore(savepoint);
-            evaluator.getTiming().markEnd(CountFunDef.TIMING_NAME);
+            evaluator.getTiming().markEnd(CountFunDef.TIMER_ID);
         }
     }
 
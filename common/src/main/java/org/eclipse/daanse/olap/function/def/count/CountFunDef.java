@@ -16,6 +16,7 @@ package org.eclipse.daanse.olap.function.def.count;
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.ResultStyle;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.function.FunctionMetaData;
 import org.eclipse.daanse.olap.api.query.component.Literal;
 import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
@@ -24,6 +25,7 @@ import org.eclipse.daanse.olap.function.def.aggregate.AbstractAggregateFunDef;
 public class CountFunDef  extends AbstractAggregateFunDef {
 
     static final String TIMING_NAME = CountFunDef.class.getSimpleName();
+    static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
 
     public CountFunDef( FunctionMetaData functionMetaData ) {
       super( functionMetaData );
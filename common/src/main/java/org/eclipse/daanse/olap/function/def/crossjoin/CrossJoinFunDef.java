@@ -32,7 +32,6 @@ import org.eclipse.daanse.olap.api.element.Hierarchy;
 import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.execution.Execution;
-import org.eclipse.daanse.olap.api.execution.ExecutionContext;
 import org.eclipse.daanse.olap.api.function.FunctionMetaData;
 import org.eclipse.daanse.olap.api.query.Validator;
 import org.eclipse.daanse.olap.api.query.component.Expression;
@@ -43,7 +42,7 @@ import org.eclipse.daanse.olap.api.type.MemberType;
 import org.eclipse.daanse.olap.api.type.SetType;
 import org.eclipse.daanse.olap.api.type.TupleType;
 import org.eclipse.daanse.olap.api.type.Type;
-import org.eclipse.daanse.olap.calc.base.type.tuplebase.ListTupleList;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.CrossJoinTupleList;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleCollections;
 import org.eclipse.daanse.olap.common.ConfigConstants;
 import org.eclipse.daanse.olap.common.Util;
@@ -369,35 +368,9 @@ public class CrossJoinFunDef extends AbstractFunctionDefinition {
 
         Util.checkCJResultLimit(size);
 
-        // Now we can safely cast size to an integer. It still might be very
-        // large - which means we're allocating a huge array which we might
-        // pare down later by applying NON EMPTY constraints - which is a
-        // concern.
-        List<Member> result = new ArrayList<>((int) size * arity);
-
-        final Member[] partialArray = new Member[arity];
-        final List<Member> partial = Arrays.asList(partialArray);
-        CrossJoinFunDef.cartesianProductRecurse(0, lists, partial, partialArray, 0, result);
-        return new ListTupleList(arity, result);
-    }
-
-    private static void cartesianProductRecurse(int i, List<TupleList> lists, List<Member> partial,
-            Member[] partialArray, int partialSize, List<Member> result) {
-        final TupleList tupleList = lists.get(i);
-        final int partialSizeNext = partialSize + tupleList.getArity();
-        final int iNext = i + 1;
-        final TupleCursor cursor = tupleList.tupleCursor();
-        int currentIteration = 0;
-        Execution execution = ExecutionContext.current().getExecution();
-        while (cursor.forward()) {
-            CancellationChecker.checkCancelOrTimeout(currentIteration++, execution);
-            cursor.currentToArray(partialArray, partialSize);
-            if (i == lists.size() - 1) {
-                result.addAll(partial);
-            } else {
-                CrossJoinFunDef.cartesianProductRecurse(iNext, lists, partial, partialArray, partialSizeNext, result);
-            }
-        }
+        // The product is not materialized: rows are computed from the input
+        // lists on access, and only copied if the caller modifies the list.
+        return new CrossJoinTupleList(lists);
     }
 
     /**
@@ -671,7 +644,7 @@ public class CrossJoinFunDef extends AbstractFunctionDefinition {
                 // Throws an exception in case of timeout is exceeded
                 // see MONDRIAN-2425
                 CancellationChecker.checkCancelOrTimeout(currentIteration++, execution);
-                if (tupleContainsCalcs(cursor.current())
+                if (tupleContainsCalcs(cursor)
                         || CrossJoinFunDef.checkData(nonAllMembers, nonAllMembers.length - 1, measureSet, evaluator)) {
                     result.addCurrent(cursor);
                 }
@@ -682,8 +655,13 @@ public class CrossJoinFunDef extends AbstractFunctionDefinition {
         }
     }
 
-    private static boolean tupleContainsCalcs(List<Member> current) {
-        return current.stream().anyMatch(Member::isCalculated);
+    private static boolean tupleContainsCalcs(TupleCursor cursor) {
+        for (int i = 0; i < cursor.getArity(); i++) {
+            if (cursor.member(i).isCalculated()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -54,6 +54,11 @@ public class CrossJoinResolver  extends NoExpressionRequiredFunctionResolver {
       }
     }
 
+    @Override
+    public boolean isCategoryBased() {
+        return true;
+    }
+
     protected FunctionDefinition createFunDef(Expression[] args, FunctionMetaData functionMetaData) {
       return new CrossJoinFunDef(functionMetaData);
     }
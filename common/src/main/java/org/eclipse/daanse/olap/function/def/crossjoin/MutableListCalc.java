@@ -13,14 +13,12 @@
  */
 package org.eclipse.daanse.olap.function.def.crossjoin;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
-import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
-import org.eclipse.daanse.olap.calc.base.type.tuplebase.ListTupleList;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.CrossJoinTupleList;
 
 public class MutableListCalc extends BaseListCalc {
     public MutableListCalc( ResolvedFunCall call, Calc[] calcs, int ctag ) {
@@ -28,16 +26,7 @@ public class MutableListCalc extends BaseListCalc {
       }
 
       @Override
-      @SuppressWarnings( { "unchecked" } )
       public TupleList makeList( final TupleList l1, final TupleList l2 ) {
-        final int arity = l1.getArity() + l2.getArity();
-        final List<Member> members = new ArrayList<>( arity * l1.size() * l2.size() );
-        for ( List<Member> ma1 : l1 ) {
-          for ( List<Member> ma2 : l2 ) {
-            members.addAll( ma1 );
-            members.addAll( ma2 );
-          }
-        }
-        return new ListTupleList( arity, members );
+        return new CrossJoinTupleList( List.of( l1, l2 ) );
       }
     }
@@ -13,23 +13,19 @@
  */
 package org.eclipse.daanse.olap.function.def.generate;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleIterable;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleIteratorCalc;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
-import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.execution.Execution;
 import org.eclipse.daanse.olap.api.execution.ExecutionContext;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleCollections;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleHashSet;
 import org.eclipse.daanse.olap.calc.base.util.HierarchyDependsChecker;
 import org.eclipse.daanse.olap.util.CancellationChecker;
 
@@ -65,7 +61,7 @@ public class GenerateListCalc extends AbstractProfilingNestedTupleListCalc {
                     result.addAll(result2);
                 }
             } else {
-                final Set<List<Member>> emitted = new HashSet<>();
+                final TupleHashSet emitted = new TupleHashSet(result, 16);
                 final TupleCursor cursor = iterable1.tupleCursor();
 
                 int rowCount = 0;
@@ -73,7 +69,7 @@ public class GenerateListCalc extends AbstractProfilingNestedTupleListCalc {
                     CancellationChecker.checkCancelOrTimeout(rowCount++, execution);
                     cursor.setContext(evaluator);
                     final TupleList result2 = listCalc2.evaluate(evaluator);
-                    addDistinctTuples(result, result2, emitted);
+                    addDistinctTuples(result2, emitted);
                 }
             }
             return result;
@@ -82,12 +78,10 @@ public class GenerateListCalc extends AbstractProfilingNestedTupleListCalc {
         }
     }
 
-    private void addDistinctTuples(TupleList result, TupleList result2, Set<List<Member>> emitted) {
-        for (List<Member> row : result2) {
-            // wrap array for correct distinctness test
-            if (emitted.add(row)) {
-                result.add(row);
-            }
+    private void addDistinctTuples(TupleList result2, TupleHashSet emitted) {
+        final TupleCursor cursor = result2.tupleCursor();
+        while (cursor.forward()) {
+            emitted.add(cursor);
         }
     }
 
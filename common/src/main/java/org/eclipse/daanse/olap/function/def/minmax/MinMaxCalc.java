@@ -18,6 +18,7 @@ import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCalc;
 import org.eclipse.daanse.olap.calc.base.util.HierarchyDependsChecker;
@@ -27,6 +28,7 @@ import org.eclipse.daanse.olap.function.def.aggregate.AbstractAggregateFunDef;
 public class MinMaxCalc extends AbstractProfilingNestedDoubleCalc {
 
     private static final String TIMING_NAME = MinMaxFunDef.class.getSimpleName();
+    private static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
     private final boolean max;
 
     protected MinMaxCalc(Type type, final TupleListCalc tupleListCalc, final Calc<?> calc, boolean max) {
@@ -36,7 +38,7 @@ public class MinMaxCalc extends AbstractProfilingNestedDoubleCalc {
 
     @Override
     public Double evaluateInternal(Evaluator evaluator) {
-        evaluator.getTiming().markStart(TIMING_NAME);
+        evaluator.getTiming().markStart(TIMER_ID);
         final int savepoint = evaluator.savepoint();
         Calc<?> calc = getChildCalc(1, Calc.class);
         try {
@@ -46,7 +48,7 @@ public class MinMaxCalc extends AbstractProfilingNestedDoubleCalc {
             return (Double) (max ? FunUtil.max(evaluator, memberList, calc) : FunUtil.min(evaluator, memberList, calc));
         } finally {
             evaluator.restore(savepoint);
-            evaluator.getTiming().markEnd(TIMING_NAME);
+            evaluator.getTiming().markEnd(TIMER_ID);
         }
     }
 
@@ -24,6 +24,7 @@ import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
 import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.type.MemberType;
 import org.eclipse.daanse.olap.api.type.SetType;
 import org.eclipse.daanse.olap.api.type.TupleType;
@@ -34,6 +35,7 @@ import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleCollections;
 public class CachedExistsCalc extends AbstractProfilingNestedTupleListCalc {
 
     private static final String TIMING_NAME = CachedExistsFunDef.class.getSimpleName();
+    private static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
 
     protected CachedExistsCalc(Type type, final TupleListCalc listCalc, final TupleCalc tupleCalc,
             final StringCalc stringCalc) {
@@ -42,7 +44,7 @@ public class CachedExistsCalc extends AbstractProfilingNestedTupleListCalc {
 
     @Override
     public TupleList evaluateInternal(Evaluator evaluator) {
-        evaluator.getTiming().markStart(TIMING_NAME);
+        evaluator.getTiming().markStart(TIMER_ID);
         try {
 
             Member[] subtotal = getChildCalc(1, TupleCalc.class).evaluate(evaluator);
@@ -97,7 +99,7 @@ public class CachedExistsCalc extends AbstractProfilingNestedTupleListCalc {
             }
             return tuples;
         } finally {
-            evaluator.getTiming().markEnd(TIMING_NAME);
+            evaluator.getTiming().markEnd(TIMER_ID);
         }
     }
 
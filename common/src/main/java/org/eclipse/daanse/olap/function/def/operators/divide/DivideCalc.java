@@ -15,12 +15,16 @@
 package org.eclipse.daanse.olap.function.def.operators.divide;
 
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.calc.BatchDoubleCalc;
+import org.eclipse.daanse.olap.api.calc.DoubleBatch;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.DoubleCalc;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.util.DoubleBatches;
 import org.eclipse.daanse.olap.fun.FunUtil;
 
-public class DivideCalc extends AbstractProfilingNestedDoubleCalc {
+public class DivideCalc extends AbstractProfilingNestedDoubleCalc implements BatchDoubleCalc {
 
     private boolean nullDenominatorProducesNull;
     
@@ -62,4 +66,38 @@ public class DivideCalc extends AbstractProfilingNestedDoubleCalc {
         }
     }
 
+    @Override
+    public boolean isBatchable() {
+        return DoubleBatches.isBatchable(getChildCalcs());
+    }
+
+    @Override
+    public void evaluateBatch(Evaluator evaluator, TupleList tuples, DoubleBatch batch) {
+        final DoubleBatch right = new DoubleBatch(tuples.size());
+        getChildCalc(0, BatchDoubleCalc.class).evaluateBatch(evaluator, tuples, batch);
+        getChildCalc(1, BatchDoubleCalc.class).evaluateBatch(evaluator, tuples, right);
+        final double[] v0 = batch.values();
+        final double[] v1 = right.values();
+        final int size = batch.size();
+        if (batch.isDense() && right.isDense()) {
+            for (int i = 0; i < size; i++) {
+                v0[i] /= v1[i];
+            }
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            if (batch.isNull(i)) {
+                batch.setNull(i);
+            } else if (right.isNull(i)) {
+                if (nullDenominatorProducesNull) {
+                    batch.setNull(i);
+                } else {
+                    // Null only in denominator returns Infinity.
+                    batch.set(i, Double.POSITIVE_INFINITY);
+                }
+            } else {
+                batch.set(i, v0[i] / v1[i]);
+            }
+        }
+    }
 }
@@ -15,12 +15,16 @@
 package org.eclipse.daanse.olap.function.def.operators.minus;
 
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.calc.BatchDoubleCalc;
+import org.eclipse.daanse.olap.api.calc.DoubleBatch;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.DoubleCalc;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.util.DoubleBatches;
 import org.eclipse.daanse.olap.fun.FunUtil;
 
-public class MinusPrefixCalc extends AbstractProfilingNestedDoubleCalc {
+public class MinusPrefixCalc extends AbstractProfilingNestedDoubleCalc implements BatchDoubleCalc {
 
     protected MinusPrefixCalc(Type type, final DoubleCalc calc) {
         super(type, calc);
@@ -35,4 +39,20 @@ public class MinusPrefixCalc extends AbstractProfilingNestedDoubleCalc {
             return - v;
         }
     }
+
+    @Override
+    public boolean isBatchable() {
+        return DoubleBatches.isBatchable(getChildCalcs());
+    }
+
+    @Override
+    public void evaluateBatch(Evaluator evaluator, TupleList tuples, DoubleBatch batch) {
+        getChildCalc(0, BatchDoubleCalc.class).evaluateBatch(evaluator, tuples, batch);
+        final double[] v = batch.values();
+        for (int i = 0; i < batch.size(); i++) {
+            if (!batch.isNull(i)) {
+                batch.set(i, -v[i]);
+            }
+        }
+    }
 }
@@ -14,12 +14,16 @@
 package org.eclipse.daanse.olap.function.def.operators.plus;
 
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.calc.BatchDoubleCalc;
+import org.eclipse.daanse.olap.api.calc.DoubleBatch;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.DoubleCalc;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.util.DoubleBatches;
 import org.eclipse.daanse.olap.fun.FunUtil;
 
-public class PlusCalc extends AbstractProfilingNestedDoubleCalc {
+public class PlusCalc extends AbstractProfilingNestedDoubleCalc implements BatchDoubleCalc {
 
     protected PlusCalc(Type type, DoubleCalc calc0, DoubleCalc calc1) {
         super(type, calc0, calc1);
@@ -45,4 +49,33 @@ public class PlusCalc extends AbstractProfilingNestedDoubleCalc {
         }
     }
 
+    @Override
+    public boolean isBatchable() {
+        return DoubleBatches.isBatchable(getChildCalcs());
+    }
+
+    @Override
+    public void evaluateBatch(Evaluator evaluator, TupleList tuples, DoubleBatch batch) {
+        final DoubleBatch right = new DoubleBatch(tuples.size());
+        getChildCalc(0, BatchDoubleCalc.class).evaluateBatch(evaluator, tuples, batch);
+        getChildCalc(1, BatchDoubleCalc.class).evaluateBatch(evaluator, tuples, right);
+        final double[] v0 = batch.values();
+        final double[] v1 = right.values();
+        final int size = batch.size();
+        if (batch.isDense() && right.isDense()) {
+            for (int i = 0; i < size; i++) {
+                v0[i] += v1[i];
+            }
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            if (batch.isNull(i)) {
+                if (!right.isNull(i)) {
+                    batch.copy(i, right);
+                }
+            } else if (!right.isNull(i)) {
+                batch.set(i, v0[i] + v1[i]);
+            }
+        }
+    }
 }
@@ -67,7 +67,7 @@ public class OrderCurrentMemberCalc  extends AbstractProfilingNestedTupleListCal
 
     @Override
     public TupleList evaluateInternal(Evaluator evaluator ) {
-      evaluator.getTiming().markStart( OrderFunDef.TIMING_NAME );
+      evaluator.getTiming().markStart( OrderFunDef.TIMER_ID );
       try {
         final TupleIterable iterable = tupleIteratorCalc.evaluate( evaluator );
         // REVIEW: If iterable happens to be a list, we'd like to pass it,
@@ -101,7 +101,7 @@ public class OrderCurrentMemberCalc  extends AbstractProfilingNestedTupleListCal
           }
         }
       } finally {
-        evaluator.getTiming().markEnd( OrderFunDef.TIMING_NAME );
+        evaluator.getTiming().markEnd( OrderFunDef.TIMER_ID );
       }
     }
 
@@ -27,6 +27,7 @@ import org.eclipse.daanse.olap.api.calc.tuple.TupleIteratorCalc;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.query.component.Expression;
 import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
 import org.eclipse.daanse.olap.calc.base.AbstractProfilingNestedCalc;
@@ -43,6 +44,7 @@ import org.eclipse.daanse.olap.function.def.AbstractFunctionDefinition;
 public class OrderFunDef  extends AbstractFunctionDefinition {
     static OperationAtom functionAtom = new FunctionOperationAtom("Order");
     static final String TIMING_NAME = OrderFunDef.class.getSimpleName();
+    static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
     public static final String CALC_IMPL = "CurrentMemberCalc";
 
     public OrderFunDef( FunctionParameterR[] argTypes ) {
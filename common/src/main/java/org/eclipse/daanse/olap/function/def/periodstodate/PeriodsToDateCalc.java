@@ -20,6 +20,7 @@ import org.eclipse.daanse.olap.api.element.Hierarchy;
 import org.eclipse.daanse.olap.api.element.Level;
 import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
@@ -28,6 +29,7 @@ import org.eclipse.daanse.olap.fun.FunUtil;
 public class PeriodsToDateCalc extends AbstractProfilingNestedTupleListCalc {
 
     private static final String TIMING_NAME = PeriodsToDateFunDef.class.getSimpleName();
+    private static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
 
     private final Hierarchy timeHierarchy;
 
@@ -41,7 +43,7 @@ public class PeriodsToDateCalc extends AbstractProfilingNestedTupleListCalc {
     public TupleList evaluateInternal(Evaluator evaluator) {
         LevelCalc levelCalc = getChildCalc(0, LevelCalc.class);
         MemberCalc memberCalc = getChildCalc(1, MemberCalc.class);
-        evaluator.getTiming().markStart(TIMING_NAME);
+        evaluator.getTiming().markStart(TIMER_ID);
         try {
             final Member member;
             final Level level;
@@ -58,7 +60,7 @@ public class PeriodsToDateCalc extends AbstractProfilingNestedTupleListCalc {
             }
             return new UnaryTupleList(FunUtil.periodsToDate(evaluator, level, member));
         } finally {
-            evaluator.getTiming().markEnd(TIMING_NAME);
+            evaluator.getTiming().markEnd(TIMER_ID);
         }
     }
 
@@ -18,6 +18,7 @@ import org.eclipse.daanse.olap.api.calc.MemberCalc;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.element.Level;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
@@ -26,6 +27,7 @@ import org.eclipse.daanse.olap.fun.FunUtil;
 class XtdWithMemberCalc extends AbstractProfilingNestedTupleListCalc {
 
 	private static final String TIMING_NAME = XtdWithMemberCalc.class.getSimpleName();
+	private static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
 	private final Level level;
 
 	public XtdWithMemberCalc(Type type, MemberCalc memberCalc, Level level) {
@@ -35,12 +37,12 @@ class XtdWithMemberCalc extends AbstractProfilingNestedTupleListCalc {
 
 	@Override
 	public TupleList evaluateInternal(Evaluator evaluator) {
-		evaluator.getTiming().markStart(XtdWithMemberCalc.TIMING_NAME);
+		evaluator.getTiming().markStart(TIMER_ID);
 		try {
 			MemberCalc memberCalc = getChildCalc(0, MemberCalc.class);
 			return new UnaryTupleList(FunUtil.periodsToDate(evaluator, level, memberCalc.evaluate(evaluator)));
 		} finally {
-			evaluator.getTiming().markEnd(XtdWithMemberCalc.TIMING_NAME);
+			evaluator.getTiming().markEnd(TIMER_ID);
 		}
 	}
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
 import org.eclipse.daanse.olap.api.element.Level;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
@@ -38,6 +39,7 @@ import org.eclipse.daanse.olap.fun.FunUtil;
 */
 public class XtdWithoutMemberCalc extends AbstractProfilingNestedTupleListCalc {
 	private static final String TIMING_NAME = XtdWithoutMemberCalc.class.getSimpleName();
+	private static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
 
 	private final Level level;
 
@@ -48,11 +50,11 @@ public class XtdWithoutMemberCalc extends AbstractProfilingNestedTupleListCalc {
 
 	@Override
 	public TupleList evaluateInternal(Evaluator evaluator) {
-		evaluator.getTiming().markStart(XtdWithoutMemberCalc.TIMING_NAME);
+		evaluator.getTiming().markStart(TIMER_ID);
 		try {
 			return new UnaryTupleList(FunUtil.periodsToDate(evaluator, level, null));
 		} finally {
-			evaluator.getTiming().markEnd(XtdWithoutMemberCalc.TIMING_NAME);
+			evaluator.getTiming().markEnd(TIMER_ID);
 		}
 	}
 
@@ -28,7 +28,7 @@ public class Rank2MemberCalc extends AbstractProfilingNestedIntegerCalc {
 
     @Override
     public Integer evaluateInternal(Evaluator evaluator ) {
-      evaluator.getTiming().markStart( RankFunDef.TIMING_NAME );
+      evaluator.getTiming().markStart( RankFunDef.TIMER_ID );
       try {
 
         // Get member or tuple.
@@ -53,7 +53,7 @@ public class Rank2MemberCalc extends AbstractProfilingNestedIntegerCalc {
         // Return 1-based rank. 0 signifies not found.
         return i + 1;
       } finally {
-        evaluator.getTiming().markEnd( RankFunDef.TIMING_NAME );
+        evaluator.getTiming().markEnd( RankFunDef.TIMER_ID );
       }
     }
   }
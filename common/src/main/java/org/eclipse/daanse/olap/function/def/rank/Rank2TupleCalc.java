@@ -32,7 +32,7 @@ public class Rank2TupleCalc extends AbstractProfilingNestedIntegerCalc {
 
     @Override
     public Integer evaluateInternal(Evaluator evaluator ) {
-      evaluator.getTiming().markStart( RankFunDef.TIMING_NAME );
+      evaluator.getTiming().markStart( RankFunDef.TIMER_ID );
       try {
         // Get member or tuple.
         // If the member is null (or the tuple contains a null member)
@@ -59,7 +59,7 @@ public class Rank2TupleCalc extends AbstractProfilingNestedIntegerCalc {
         // Return 1-based rank. 0 signifies not found.
         return i + 1;
       } finally {
-        evaluator.getTiming().markEnd( RankFunDef.TIMING_NAME );
+        evaluator.getTiming().markEnd( RankFunDef.TIMER_ID );
       }
     }
   }
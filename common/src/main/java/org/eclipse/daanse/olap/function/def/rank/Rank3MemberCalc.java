@@ -36,7 +36,7 @@ public class Rank3MemberCalc extends AbstractProfilingNestedIntegerCalc {
 
     @Override
     public Integer evaluateInternal(Evaluator evaluator ) {
-      evaluator.getTiming().markStart( RankFunDef.TIMING_NAME );
+      evaluator.getTiming().markStart( RankFunDef.TIMER_ID );
       try {
         Member member = getChildCalc(0, MemberCalc.class).evaluate( evaluator );
         if ( member == null || member.isNull() ) {
@@ -92,7 +92,7 @@ public class Rank3MemberCalc extends AbstractProfilingNestedIntegerCalc {
         }
         return j + 1; // 1-based
       } finally {
-        evaluator.getTiming().markEnd( RankFunDef.TIMING_NAME );
+        evaluator.getTiming().markEnd( RankFunDef.TIMER_ID );
       }
     }
   }
@@ -37,7 +37,7 @@ public class Rank3TupleCalc extends AbstractProfilingNestedIntegerCalc {
 
     @Override
     public Integer evaluateInternal( Evaluator evaluator ) {
-      evaluator.getTiming().markStart( RankFunDef.TIMING_NAME );
+      evaluator.getTiming().markStart( RankFunDef.TIMER_ID );
       try {
         Member[] members = getChildCalc(0, TupleCalc.class).evaluate( evaluator );
         if ( members == null ) {
@@ -101,7 +101,7 @@ public class Rank3TupleCalc extends AbstractProfilingNestedIntegerCalc {
         }
         return j + 1; // 1-based
       } finally {
-        evaluator.getTiming().markEnd( RankFunDef.TIMING_NAME );
+        evaluator.getTiming().markEnd( RankFunDef.TIMER_ID );
       }
     }
   }
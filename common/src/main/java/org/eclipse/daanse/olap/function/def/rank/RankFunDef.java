@@ -18,6 +18,7 @@ import org.eclipse.daanse.olap.api.calc.MemberCalc;
 import org.eclipse.daanse.olap.api.calc.TupleCalc;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.function.FunctionMetaData;
 import org.eclipse.daanse.olap.api.query.component.Expression;
 import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
@@ -35,6 +36,7 @@ public class RankFunDef extends AbstractFunctionDefinition {
     static final Logger LOGGER = LoggerFactory.getLogger(RankFunDef.class);
     static final boolean DEBUG = false;
     static final String TIMING_NAME = RankFunDef.class.getSimpleName();
+    static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
 
     public RankFunDef( FunctionMetaData functionMetaData ) {
       super( functionMetaData );
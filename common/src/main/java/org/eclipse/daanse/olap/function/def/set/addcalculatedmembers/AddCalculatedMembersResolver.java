@@ -28,6 +28,11 @@ public class AddCalculatedMembersResolver extends ParametersCheckingFunctionDefi
         super(new AddCalculatedMembersFunDef());
     }
 
+    @Override
+    public boolean isCategoryBased() {
+        return false;
+    }
+
     @Override
     protected boolean checkExpressions(Expression[] expressions) {
         if (expressions.length == 1) {
@@ -13,17 +13,14 @@
  */
 package org.eclipse.daanse.olap.function.def.set.distinct;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
-import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleHashSet;
 
 public class DistinctCalc extends AbstractProfilingNestedTupleListCalc {
     private final TupleListCalc tupleListCalc;
@@ -36,12 +33,11 @@ public class DistinctCalc extends AbstractProfilingNestedTupleListCalc {
     @Override
     public TupleList evaluateInternal(Evaluator evaluator) {
         TupleList list = tupleListCalc.evaluate(evaluator);
-        Set<List<Member>> set = new HashSet<>(list.size());
         TupleList result = list.copyList(list.size());
-        for (List<Member> element : list) {
-            if (set.add(element)) {
-                result.add(element);
-            }
+        TupleHashSet set = new TupleHashSet(result, list.size());
+        TupleCursor cursor = list.tupleCursor();
+        while (cursor.forward()) {
+            set.add(cursor);
         }
         return result;
     }
@@ -34,7 +34,7 @@ public abstract class BaseIterFilterCalc extends AbstractProfilingNestedTupleIte
 
     @Override
     public TupleIterable evaluateInternal(Evaluator evaluator) {
-        evaluator.getTiming().markStart(FilterFunDef.TIMING_NAME);
+        evaluator.getTiming().markStart(FilterFunDef.TIMER_ID);
         try {
             // Use a native evaluator, if more efficient.
             // TODO: Figure this out at compile time.
@@ -49,7 +49,7 @@ public abstract class BaseIterFilterCalc extends AbstractProfilingNestedTupleIte
                 return makeIterable(evaluator);
             }
         } finally {
-            evaluator.getTiming().markEnd(FilterFunDef.TIMING_NAME);
+            evaluator.getTiming().markEnd(FilterFunDef.TIMER_ID);
         }
     }
 
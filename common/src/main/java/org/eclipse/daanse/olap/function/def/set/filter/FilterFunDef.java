@@ -24,6 +24,7 @@ import org.eclipse.daanse.olap.api.calc.ResultStyle;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleIteratorCalc;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.function.FunctionMetaData;
 import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
 import org.eclipse.daanse.olap.exceptions.ResultStyleException;
@@ -35,6 +36,7 @@ import org.eclipse.daanse.olap.function.def.AbstractFunctionDefinition;
 public class FilterFunDef extends AbstractFunctionDefinition {
 
     public static final String TIMING_NAME = FilterFunDef.class.getSimpleName();
+    public static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
 
     static OperationAtom functionAtom = new FunctionOperationAtom("Filter");
 
@@ -32,7 +32,7 @@ public class ImmutableListFilterCalc extends BaseListFilterCalc {
 
     @Override
     protected TupleList makeList(Evaluator evaluator) {
-        evaluator.getTiming().markStart(FilterFunDef.TIMING_NAME);
+        evaluator.getTiming().markStart(FilterFunDef.TIMER_ID);
         final int savepoint = evaluator.savepoint();
         try {
             Calc<?>[] calcs = getChildCalcs();
@@ -59,7 +59,7 @@ public class ImmutableListFilterCalc extends BaseListFilterCalc {
             return result;
         } finally {
             evaluator.restore(savepoint);
-            evaluator.getTiming().markEnd(FilterFunDef.TIMING_NAME);
+            evaluator.getTiming().markEnd(FilterFunDef.TIMER_ID);
         }
     }
 }
@@ -34,7 +34,7 @@ public class MutableIterFilterCalc extends BaseIterFilterCalc {
 
     @Override
     protected TupleIterable makeIterable(Evaluator evaluator) {
-        evaluator.getTiming().markStart(FilterFunDef.TIMING_NAME);
+        evaluator.getTiming().markStart(FilterFunDef.TIMER_ID);
         final int savepoint = evaluator.savepoint();
         try {
             Calc<?>[] calcs = getChildCalcs();
@@ -63,7 +63,7 @@ public class MutableIterFilterCalc extends BaseIterFilterCalc {
             return result;
         } finally {
             evaluator.restore(savepoint);
-            evaluator.getTiming().markEnd(FilterFunDef.TIMING_NAME);
+            evaluator.getTiming().markEnd(FilterFunDef.TIMER_ID);
         }
     }
 }
@@ -13,19 +13,25 @@
  */
 package org.eclipse.daanse.olap.function.def.strtoset;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.daanse.olap.api.calc.StringCalc;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
 import org.eclipse.daanse.olap.exceptions.EmptyExpressionWasSpecifiedException;
 import org.eclipse.daanse.olap.fun.FunUtil;
+import org.eclipse.daanse.olap.fun.ParsedStringMemo;
 
 public class StrToSetHierarchyCalc extends AbstractProfilingNestedTupleListCalc {
 
     private Hierarchy hierarchy;
+    private final ParsedStringMemo<List<Member>> parsed = new ParsedStringMemo<>();
 
     protected StrToSetHierarchyCalc(Type type, final StringCalc stringCalc, final Hierarchy hierarchy) {
         super(type, stringCalc);
@@ -38,7 +44,8 @@ public class StrToSetHierarchyCalc extends AbstractProfilingNestedTupleListCalc
         if (string == null) {
             throw FunUtil.newEvalException(new EmptyExpressionWasSpecifiedException());
         }
-        return new UnaryTupleList(FunUtil.parseMemberList(evaluator, string, hierarchy));
+        return new UnaryTupleList(
+                new ArrayList<>(parsed.get(evaluator, string, s -> FunUtil.parseMemberList(evaluator, s, hierarchy))));
     }
 
 }
@@ -23,10 +23,12 @@ import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.exceptions.EmptyExpressionWasSpecifiedException;
 import org.eclipse.daanse.olap.fun.FunUtil;
+import org.eclipse.daanse.olap.fun.ParsedStringMemo;
 
 public class StrToSetHierarchyListCalc extends AbstractProfilingNestedTupleListCalc {
 
     private List<Hierarchy> hierarchyList;
+    private final ParsedStringMemo<TupleList> parsed = new ParsedStringMemo<>();
 
     protected StrToSetHierarchyListCalc(Type type, final StringCalc stringCalc, final List<Hierarchy> hierarchyList) {
         super(type, stringCalc);
@@ -39,7 +41,7 @@ public class StrToSetHierarchyListCalc extends AbstractProfilingNestedTupleListC
         if (string == null) {
             throw FunUtil.newEvalException(new EmptyExpressionWasSpecifiedException());
         }
-        return FunUtil.parseTupleList(evaluator, string, hierarchyList);
+        return parsed.get(evaluator, string, s -> FunUtil.parseTupleList(evaluator, s, hierarchyList)).copyList(-1);
     }
 
 }
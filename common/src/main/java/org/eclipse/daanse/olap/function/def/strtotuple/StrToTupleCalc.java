@@ -23,10 +23,12 @@ import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedTupleCalc;
 import org.eclipse.daanse.olap.exceptions.EmptyExpressionWasSpecifiedException;
 import org.eclipse.daanse.olap.fun.FunUtil;
+import org.eclipse.daanse.olap.fun.ParsedStringMemo;
 
 public class StrToTupleCalc extends AbstractProfilingNestedTupleCalc{
 
     private final List<Hierarchy> hierarchies;
+    private final ParsedStringMemo<Member[]> parsed = new ParsedStringMemo<>();
 
     protected StrToTupleCalc(Type type, StringCalc stringCalc, final List<Hierarchy> hierarchies) {
         super(type, stringCalc);
@@ -40,7 +42,8 @@ public class StrToTupleCalc extends AbstractProfilingNestedTupleCalc{
             throw FunUtil.newEvalException(
                 new EmptyExpressionWasSpecifiedException());
         }
-        return FunUtil.parseTuple(evaluator, string, hierarchies);
+        Member[] tuple = parsed.get(evaluator, string, s -> FunUtil.parseTuple(evaluator, s, hierarchies));
+        return tuple == null ? null : tuple.clone();
     }
 
 }
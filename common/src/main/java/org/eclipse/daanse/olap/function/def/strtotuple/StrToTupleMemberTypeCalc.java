@@ -21,10 +21,12 @@ import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedMemberCalc;
 import org.eclipse.daanse.olap.exceptions.EmptyExpressionWasSpecifiedException;
 import org.eclipse.daanse.olap.fun.FunUtil;
+import org.eclipse.daanse.olap.fun.ParsedStringMemo;
 
 public class StrToTupleMemberTypeCalc extends AbstractProfilingNestedMemberCalc{
 
     private final Hierarchy hierarchy;
+    private final ParsedStringMemo<Member> parsed = new ParsedStringMemo<>();
 
     protected StrToTupleMemberTypeCalc(Type type, StringCalc stringCalc, final Hierarchy hierarchy) {
         super(type, stringCalc);
@@ -38,7 +40,7 @@ public class StrToTupleMemberTypeCalc extends AbstractProfilingNestedMemberCalc{
             throw FunUtil.newEvalException(
                 new EmptyExpressionWasSpecifiedException());
         }
-        return FunUtil.parseMember(evaluator, string, hierarchy);
+        return parsed.get(evaluator, string, s -> FunUtil.parseMember(evaluator, s, hierarchy));
     }
 
 }
@@ -18,6 +18,7 @@ import org.eclipse.daanse.olap.api.calc.ResultStyle;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleIteratorCalc;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
 import org.eclipse.daanse.olap.api.function.FunctionMetaData;
 import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
 import org.eclipse.daanse.olap.calc.base.value.CurrentValueUnknownCalc;
@@ -26,6 +27,7 @@ import org.eclipse.daanse.olap.function.def.aggregate.AbstractAggregateFunDef;
 
 public class SumFunDef extends AbstractAggregateFunDef {
         static final String TIMING_NAME = SumFunDef.class.getSimpleName();
+        static final int TIMER_ID = QueryTimerRegistry.register(TIMING_NAME);
 
         public SumFunDef( FunctionMetaData functionMetaData ) {
           super( functionMetaData );
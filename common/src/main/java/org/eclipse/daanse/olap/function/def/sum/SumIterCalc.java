@@ -32,14 +32,14 @@ public class SumIterCalc extends AbstractProfilingNestedDoubleCalc {
 
     @Override
     public Double evaluateInternal(Evaluator evaluator) {
-        evaluator.getTiming().markStart(SumFunDef.TIMING_NAME);
+        evaluator.getTiming().markStart(SumFunDef.TIMER_ID);
         final int savepoint = evaluator.savepoint();
         try {
             TupleIterable iterable = evaluateCurrentIterable(getChildCalc(0, TupleIteratorCalc.class), evaluator);
             return FunUtil.sumDouble(evaluator, iterable, getChildCalc(1, Calc.class));
         } finally {
             evaluator.restore(savepoint);
-            evaluator.getTiming().markEnd(SumFunDef.TIMING_NAME);
+            evaluator.getTiming().markEnd(SumFunDef.TIMER_ID);
         }
     }
 
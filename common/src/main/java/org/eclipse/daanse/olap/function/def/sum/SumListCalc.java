@@ -32,7 +32,7 @@ public class SumListCalc extends AbstractProfilingNestedDoubleCalc {
 
     @Override
     public Double evaluateInternal(Evaluator evaluator) {
-        evaluator.getTiming().markStart(SumFunDef.TIMING_NAME);
+        evaluator.getTiming().markStart(SumFunDef.TIMER_ID);
         final int savepoint = evaluator.savepoint();
         try {
             TupleList memberList = AbstractAggregateFunDef.evaluateCurrentList(getChildCalc(0, TupleListCalc.class),
@@ -41,7 +41,7 @@ public class SumListCalc extends AbstractProfilingNestedDoubleCalc {
             return FunUtil.sumDouble(evaluator, memberList, getChildCalc(1, Calc.class));
         } finally {
             evaluator.restore(savepoint);
-            evaluator.getTiming().markEnd(SumFunDef.TIMING_NAME);
+            evaluator.getTiming().markEnd(SumFunDef.TIMER_ID);
         }
     }
 
@@ -13,18 +13,14 @@
  */
 package org.eclipse.daanse.olap.function.def.union;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
-import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleCollections;
-import org.eclipse.daanse.olap.fun.FunUtil;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleHashSet;
 
 public class UnionCalc extends AbstractProfilingNestedTupleListCalc {
 
@@ -59,12 +55,19 @@ public class UnionCalc extends AbstractProfilingNestedTupleListCalc {
             result.addAll(list1);
             return result;
         } else {
-            Set<List<Member>> added = new HashSet<>();
             TupleList result = TupleCollections.createList(list0.getArity());
-            FunUtil.addUnique(result, list0, added);
-            FunUtil.addUnique(result, list1, added);
+            TupleHashSet added = new TupleHashSet(result, list0.size() + list1.size());
+            addUnique(list0, added);
+            addUnique(list1, added);
             return result;
         }
     }
 
+    private static void addUnique(TupleList list, TupleHashSet added) {
+        TupleCursor cursor = list.tupleCursor();
+        while (cursor.forward()) {
+            added.add(cursor);
+        }
+    }
+
 }
@@ -230,7 +230,8 @@ public class CellImpl implements Cell {
             new ArrayList<>(),
             false,
             null,
-            null);
+            null,
+            0);
     }
 
     /**
@@ -250,6 +251,8 @@ public class CellImpl implements Cell {
      *                          queries easier for humans to understand.
      * @param logger Logger. If not null and debug is enabled, log SQL here
      * @param rowCountSlot Slot into which the number of fact rows is written
+     * @param fetchSize Fetch size of the JDBC statement, 0 for the driver's
+     *   default
      * @return Result set
      */
     ResultSet drillThroughInternal(
@@ -258,7 +261,8 @@ public class CellImpl implements Cell {
         List<OlapElement> fields,
         boolean extendedContext,
         Logger logger,
-        int[] rowCountSlot)
+        int[] rowCountSlot,
+        int fetchSize)
     {
         if (!cell.canDrillThrough()) {
             return null;
@@ -267,7 +271,7 @@ public class CellImpl implements Cell {
             rowCountSlot[0] = cell.getDrillThroughCount();
         }
         final SqlStatementI sqlStmt =
-                drillThroughInternal(maxRowCount, firstRowOrdinal, fields, extendedContext, logger);
+                drillThroughInternal(maxRowCount, firstRowOrdinal, fields, extendedContext, logger, fetchSize);
         return sqlStmt.getWrappedResultSet();
     }
 
@@ -280,4 +284,12 @@ public class CellImpl implements Cell {
                     logger);
     }
 
+    @Override
+    public SqlStatementI drillThroughInternal(int maxRowCount, int firstRowOrdinal, List<OlapElement> fields,
+            boolean extendedContext, Logger logger, int fetchSize) {
+        return cell.drillThroughInternal(
+                    maxRowCount, firstRowOrdinal, fields, extendedContext,
+                    logger, fetchSize);
+    }
+
 }
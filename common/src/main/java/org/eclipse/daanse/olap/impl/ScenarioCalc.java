@@ -75,33 +75,31 @@ public class ScenarioCalc extends AbstractProfilingNestedUnknownCalc {
             // It is possible that the value is modified by several
             // writebacks. If so, order is important.
             int changeCount = 0;
-            for (WritebackCell writebackCell
-                : scenario.getWritebackCells())
-            {
-                ((Number)(evaluator.evaluateCurrent())).doubleValue(); // don't remove that
-                LOGGER.debug("++++++++++++++++++ " + ((Number)(evaluator.evaluateCurrent())).doubleValue());
+            final WritebackIndex index = WritebackIndex.of(scenario);
+            if (index.isEmpty()) {
+                return o;
+            }
+            // Evaluated once for all writeback cells; don't remove that, it
+            // must be evaluated even if no writeback cell is related.
+            final double base = ((Number) evaluator.evaluateCurrent()).doubleValue();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("++++++++++++++++++ " + base);
+            }
+            final Member[] members = evaluator.getMembers();
+            for (int i : index.candidates(members)) {
+                WritebackCell writebackCell = index.cell(i);
                 WritebackCell.CellRelation relation =
-                    writebackCell.getRelationTo(evaluator.getMembers());
+                    writebackCell.getRelationTo(members);
                 switch (relation) {
                     case ABOVE:
                         // This cell is below the writeback cell. Value is
                         // determined by allocation policy.
-                        //double atomicCellCount =
-                        //    evaluateAtomicCellCount((RolapEvaluator) evaluator);
-                        //if (atomicCellCount == 0d) {
-                            // Sometimes the value comes back zero if the cache
-                            // is not ready. Switch to 1, which at least does
-                            // not give divide-by-zero. We will be invoked again
-                            // for the correct answer when the cache has been
-                            // populated.
-                        //    atomicCellCount = 1d;
-                        //}
                         switch (writebackCell.getAllocationPolicy()) {
                             case EQUAL_ALLOCATION:
-                                d = writebackCell.getNewValue() * ((Number)(evaluator.evaluateCurrent())).doubleValue() / writebackCell.getCurrentValue();
+                                d = writebackCell.getNewValue() * base / writebackCell.getCurrentValue();
                                 break;
                             case EQUAL_INCREMENT:
-                            	d += writebackCell.getOffset() * ((Number)(evaluator.evaluateCurrent())).doubleValue() / writebackCell.getCurrentValue();
+                                d += writebackCell.getOffset() * base / writebackCell.getCurrentValue();
                                 break;
                             default:
                                 throw Util.unexpected(
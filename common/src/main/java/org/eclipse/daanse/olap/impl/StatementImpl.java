@@ -140,7 +140,9 @@ public class StatementImpl extends org.eclipse.daanse.olap.execution.AbstractSta
                     fields,
                     true,
                     null,
-                    rowCountSlot);
+                    rowCountSlot,
+                    context.getConfigValue(ConfigConstants.DRILL_THROUGH_FETCH_SIZE,
+                        ConfigConstants.DRILL_THROUGH_FETCH_SIZE_DEFAULT_VALUE, Integer.class));
             if (resultSet == null) {
                 throw new RuntimeException(
                     "Cannot do DrillThrough operation on the cell");
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.result.Scenario;
+import org.eclipse.daanse.olap.api.result.WritebackCell;
+
+/**
+ * Index of the writeback cells of a {@link Scenario}, used by
+ * {@link ScenarioCalc} to find the writeback cells related to a cell
+ * without testing all of them.
+ *
+ * A writeback cell can only be above, equal to or below a cell if, in every
+ * hierarchy, its member is an ancestor, a descendant or the member itself of
+ * the cell's member. The index picks the hierarchy in which the writeback
+ * cells have the most distinct members and maps each of these members, and
+ * each of their ancestors, to the writeback cells. Looking up the cell's
+ * member and its ancestors yields the candidates, which are then tested with
+ * {@link WritebackCell#getRelationTo(Member[])}, in the order of the scenario.
+ *
+ * An index is cached per scenario and rebuilt when the list of writeback cells
+ * changes.
+ */
+final class WritebackIndex {
+
+    private static final int[] NONE = {};
+
+    private static final Map<Scenario, WritebackIndex> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<WritebackCell> cells;
+    private final int size;
+    private final WritebackCell last;
+    /** Ordinal of the indexed hierarchy, or -1 if every cell is a candidate. */
+    private final int ordinal;
+    /** Writeback cells by their member of the indexed hierarchy. */
+    private final Map<Member, int[]> bySelf;
+    /** Writeback cells by each strict ancestor of their member. */
+    private final Map<Member, int[]> byAncestor;
+    private final WritebackCell[] writebackCells;
+    private final int[] all;
+
+    private WritebackIndex(List<WritebackCell> cells) {
+        this.cells = cells;
+        this.size = cells.size();
+        this.last = size == 0 ? null : cells.get(size - 1);
+        this.writebackCells = cells.toArray(new WritebackCell[size]);
+        this.all = new int[size];
+        for (int i = 0; i < size; i++) {
+            all[i] = i;
+        }
+        this.ordinal = selectOrdinal(writebackCells);
+        this.bySelf = new HashMap<>();
+        this.byAncestor = new HashMap<>();
+        if (ordinal >= 0) {
+            Map<Member, IntList> self = new HashMap<>();
+            Map<Member, IntList> ancestor = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                Member member = writebackCells[i].getMembersByOrdinal()[ordinal];
+                self.computeIfAbsent(member, m -> new IntList()).add(i);
+                for (Member parent = member.getParentMember(); parent != null; parent = parent.getParentMember()) {
+                    ancestor.computeIfAbsent(parent, m -> new IntList()).add(i);
+                }
+            }
+            self.forEach((member, list) -> bySelf.put(member, list.toArray()));
+            ancestor.forEach((member, list) -> byAncestor.put(member, list.toArray()));
+        }
+    }
+
+    /**
+     * Returns the index of the current writeback cells of a scenario.
+     *
+     * @param scenario Scenario
+     * @return Index
+     */
+    static WritebackIndex of(Scenario scenario) {
+        List<WritebackCell> cells = scenario.getWritebackCells();
+        WritebackIndex index = CACHE.get(scenario);
+        if (index == null || !index.isCurrent(cells)) {
+            index = new WritebackIndex(cells);
+            CACHE.put(scenario, index);
+        }
+        return index;
+    }
+
+    private boolean isCurrent(List<WritebackCell> list) {
+        return list == cells && list.size() == size && (size == 0 || list.get(size - 1) == last);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    WritebackCell cell(int i) {
+        return writebackCells[i];
+    }
+
+    /**
+     * Returns the positions of the writeback cells that may be related to a
+     * cell, in ascending order.
+     *
+     * @param members Members of the cell, by hierarchy ordinal
+     * @return Positions in the list of writeback cells
+     */
+    int[] candidates(Member[] members) {
+        if (ordinal < 0 || ordinal >= members.length) {
+            return all;
+        }
+        Member member = members[ordinal];
+        int[] below = byAncestor.getOrDefault(member, NONE);
+        int[] candidates = below;
+        for (Member m = member; m != null; m = m.getParentMember()) {
+            int[] found = bySelf.get(m);
+            if (found != null) {
+                candidates = candidates.length == 0 ? found : merge(candidates, found);
+            }
+        }
+        return candidates;
+    }
+
+    private static int[] merge(int[] a, int[] b) {
+        int[] merged = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, merged, a.length, b.length);
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private static int selectOrdinal(WritebackCell[] cells) {
+        if (cells.length == 0) {
+            return -1;
+        }
+        int width = cells[0].getMembersByOrdinal().length;
+        int best = -1;
+        int bestCount = 1;
+        for (int i = 0; i < width; i++) {
+            Set<Member> distinct = new HashSet<>();
+            for (WritebackCell cell : cells) {
+                Member[] members = cell.getMembersByOrdinal();
+                if (members.length != width || members[i] == null) {
+                    return -1;
+                }
+                distinct.add(members[i]);
+            }
+            if (distinct.size() > bestCount) {
+                best = i;
+                bestCount = distinct.size();
+            }
+        }
+        return best;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
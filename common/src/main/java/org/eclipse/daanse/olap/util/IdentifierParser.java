@@ -89,8 +89,45 @@ public class IdentifierParser extends org.eclipse.daanse.olap.impl.IdentifierPar
         }
 
         protected Member resolveMember(Hierarchy expectedHierarchy) {
-            final List<Segment> segmentList =
-                Util.convert(this.segmentList);
+            return resolveMember(Util.convert(this.segmentList), expectedHierarchy);
+        }
+
+        /**
+         * Resolves the names of several members at once. Members that share a
+         * parent are looked up together, see
+         * {@link CatalogReader#lookupMembers(OlapElement, List)}; names that
+         * are not found this way are resolved one at a time.
+         *
+         * @param names Segment lists of the members
+         * @param expectedHierarchies Hierarchy of each member, or null
+         * @return Members, in the order of their names
+         */
+        protected List<Member> resolveMembers(
+            List<List<Segment>> names,
+            List<Hierarchy> expectedHierarchies)
+        {
+            final List<Member> members = new ArrayList<>(names.size());
+            final List<Member> found = schemaReader.lookupMembers(cube, names);
+            for (int i = 0; i < names.size(); i++) {
+                final Hierarchy expectedHierarchy = expectedHierarchies.get(i);
+                final Member member = found.get(i);
+                if (member == null) {
+                    members.add(resolveMember(names.get(i), expectedHierarchy));
+                } else if (expectedHierarchy != null
+                    && member.getHierarchy() != expectedHierarchy)
+                {
+                    throw Util.newInternal("member is of wrong hierarchy");
+                } else {
+                    members.add(member);
+                }
+            }
+            return members;
+        }
+
+        protected Member resolveMember(
+            List<Segment> segmentList,
+            Hierarchy expectedHierarchy)
+        {
             Member member =
                 (Member) Util.lookupCompound(
                     schemaReader, cube, segmentList, !ignoreInvalid,
@@ -144,28 +181,54 @@ public class IdentifierParser extends org.eclipse.daanse.olap.impl.IdentifierPar
         @Override
 		public void memberComplete() {
             super.memberComplete();
-            if (memberList.size() >= hierarchyList.size()) {
+            if (memberCount() >= hierarchyList.size()) {
                 throw Util.newInternal("expected ')");
             }
-            final Hierarchy hierarchy = hierarchyList.get(memberList.size());
-            final Member member = resolveMember(hierarchy);
-            memberList.add(member);
+            final Hierarchy hierarchy = hierarchyList.get(memberCount());
+            addMember(Util.convert(segmentList), hierarchy);
             segmentList.clear();
         }
 
         @Override
 		public void tupleComplete() {
-            if (memberList.size() < hierarchyList.size()) {
+            if (memberCount() < hierarchyList.size()) {
                 throw Util.newInternal("too few members");
             }
         }
+
+        /**
+         * Returns the number of members of the current tuple.
+         */
+        protected int memberCount() {
+            return memberList.size();
+        }
+
+        /**
+         * Adds a member to the current tuple.
+         */
+        protected void addMember(List<Segment> name, Hierarchy hierarchy) {
+            memberList.add(resolveMember(name, hierarchy));
+        }
     }
 
     /**
-     * Implementation of Builder that builds a tuple list.
+     * Implementation of Builder that builds a tuple list. The names of the
+     * members are collected while parsing and resolved together by
+     * {@link #getTupleList()}.
      */
     public static class TupleListBuilder extends TupleBuilder {
+        /**
+         * Tuples that contain no null member, filled by
+         * {@link #getTupleList()}.
+         *
+         * @deprecated Members are no longer resolved while parsing; use
+         * {@link #getTupleList()}, which fills this list.
+         */
+        @Deprecated
         public final TupleList tupleList;
+        private final List<List<Segment>> names = new ArrayList<>();
+        private int tupleMemberCount;
+        private boolean resolved;
 
         public TupleListBuilder(
             CatalogReader schemaReader, Cube cube, List<Hierarchy> hierarchyList)
@@ -174,21 +237,67 @@ public class IdentifierParser extends org.eclipse.daanse.olap.impl.IdentifierPar
             tupleList = new ArrayTupleList(hierarchyList.size());
         }
 
+        @Override
+        protected int memberCount() {
+            return tupleMemberCount;
+        }
+
+        @Override
+        protected void addMember(List<Segment> name, Hierarchy hierarchy) {
+            names.add(name);
+            ++tupleMemberCount;
+        }
+
         @Override
 		public void tupleComplete() {
             super.tupleComplete();
-            if (!FunUtil.tupleContainsNullMember(memberList)) {
-                tupleList.add(memberList);
+            tupleMemberCount = 0;
+        }
+
+        /**
+         * Resolves the members of the parsed tuples and returns the tuples
+         * that contain no null member.
+         */
+        @SuppressWarnings("deprecation")
+        public TupleList getTupleList() {
+            if (resolved) {
+                return tupleList;
+            }
+            resolved = true;
+            final int arity = hierarchyList.size();
+            final List<Hierarchy> expectedHierarchies =
+                new ArrayList<>(names.size());
+            for (int i = 0; i < names.size(); i++) {
+                expectedHierarchies.add(hierarchyList.get(i % arity));
+            }
+            final List<Member> members =
+                resolveMembers(names, expectedHierarchies);
+            for (int i = 0; i + arity <= members.size(); i += arity) {
+                final List<Member> tuple = members.subList(i, i + arity);
+                if (!FunUtil.tupleContainsNullMember(tuple)) {
+                    tupleList.add(tuple);
+                }
             }
-            this.memberList.clear();
+            return tupleList;
         }
     }
 
     /**
-     * Implementation of Builder that builds a member list.
+     * Implementation of Builder that builds a member list. The names of the
+     * members are collected while parsing and resolved together by
+     * {@link #getMemberList()}.
      */
     public static class MemberListBuilder extends BuilderImpl {
+        /**
+         * Members that are not null, filled by {@link #getMemberList()}.
+         *
+         * @deprecated Members are no longer resolved while parsing; use
+         * {@link #getMemberList()}, which fills this list.
+         */
+        @Deprecated
         public final List<Member> memberList = new ArrayList<>();
+        private final List<List<Segment>> names = new ArrayList<>();
+        private boolean resolved;
 
         public MemberListBuilder(
             CatalogReader schemaReader, Cube cube, Hierarchy hierarchy)
@@ -199,13 +308,29 @@ public class IdentifierParser extends org.eclipse.daanse.olap.impl.IdentifierPar
 
         @Override
 		public void memberComplete() {
-            final Member member = resolveMember(hierarchyList.get(0));
-            if (!member.isNull()) {
-                memberList.add(member);
-            }
+            names.add(Util.convert(segmentList));
             segmentList.clear();
         }
 
+        /**
+         * Resolves the parsed members and returns those that are not null.
+         */
+        @SuppressWarnings("deprecation")
+        public List<Member> getMemberList() {
+            if (resolved) {
+                return memberList;
+            }
+            resolved = true;
+            for (Member member : resolveMembers(
+                names, Collections.nCopies(names.size(), hierarchyList.get(0))))
+            {
+                if (!member.isNull()) {
+                    memberList.add(member);
+                }
+            }
+            return memberList;
+        }
+
         @Override
         public void tupleComplete() {
             // nothing to do
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.access.AccessCube;
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.exceptions.UnknownRoleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UnionRoleCacheTest {
+
+    private UnionRoleCache cache;
+    private Catalog catalog;
+    private Role sales;
+    private Role marketing;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UnionRoleCache(UnionRoleCache.DEFAULT_MAX_ENTRIES);
+        catalog = mock(Catalog.class);
+        sales = mock(Role.class);
+        marketing = mock(Role.class);
+        when(catalog.lookupRole("Sales")).thenReturn(sales);
+        when(catalog.lookupRole("Marketing")).thenReturn(marketing);
+    }
+
+    @Test
+    void connectionsWithTheSameRolesShareTheUnion() {
+        Role first = cache.getRole(catalog, List.of("Sales", "Marketing"));
+        Role second = cache.getRole(catalog, List.of("Marketing", "Sales", "Sales"));
+
+        assertThat(second).isSameAs(first).isInstanceOf(SharedUnionRoleImpl.class);
+        assertThat(cache.getRole(catalog, List.of("Sales"))).isSameAs(sales);
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.flush(catalog);
+        assertThat(cache.getRole(catalog, List.of("Sales", "Marketing"))).isNotSameAs(first);
+    }
+
+    @Test
+    void unionRemembersTheAccess() {
+        Cube cube = mock(Cube.class);
+        when(sales.getAccess(cube)).thenReturn(AccessCube.NONE);
+        when(marketing.getAccess(cube)).thenReturn(AccessCube.ALL);
+        Role role = cache.getRole(catalog, List.of("Sales", "Marketing"));
+
+        assertThat(role.getAccess(cube)).isEqualTo(AccessCube.ALL);
+        assertThat(role.getAccess(cube)).isEqualTo(AccessCube.ALL);
+
+        verify(marketing, times(1)).getAccess(cube);
+    }
+
+    @Test
+    void mutableRolesAreNotShared() {
+        RoleImpl mutable = new RoleImpl();
+        when(catalog.lookupRole("Draft")).thenReturn(mutable);
+
+        Role first = cache.getRole(catalog, List.of("Sales", "Draft"));
+        Role second = cache.getRole(catalog, List.of("Sales", "Draft"));
+
+        assertThat(second).isNotSameAs(first).isNotInstanceOf(SharedUnionRoleImpl.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void unknownRoleIsRejected() {
+        assertThatThrownBy(() -> cache.getRole(catalog, List.of("Sales", "Finance")))
+            .isInstanceOf(UnknownRoleException.class)
+            .hasMessageContaining("Finance");
+    }
+}
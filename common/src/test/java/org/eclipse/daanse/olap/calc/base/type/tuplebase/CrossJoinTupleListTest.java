@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.type.tuplebase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+@MockitoSettings
+class CrossJoinTupleListTest {
+
+    @Mock
+    private Member a1;
+    @Mock
+    private Member a2;
+    @Mock
+    private Member b1;
+    @Mock
+    private Member b2;
+    @Mock
+    private Member b3;
+    @Mock
+    private Member c1;
+
+    private CrossJoinTupleList list;
+
+    @BeforeEach
+    void beforeEach() {
+        list = new CrossJoinTupleList(List.of(new UnaryTupleList(List.of(a1, a2)),
+                new ListTupleList(2, new ArrayList<>(List.of(b1, b2, b2, b3))), new UnaryTupleList(List.of(c1))));
+    }
+
+    @Test
+    void rowsInCrossJoinOrder() {
+        assertThat(list.getArity()).isEqualTo(4);
+        assertThat(list).containsExactly(List.of(a1, b1, b2, c1), List.of(a1, b2, b3, c1), List.of(a2, b1, b2, c1),
+                List.of(a2, b2, b3, c1));
+        assertThat(list.get(2, 1)).isEqualTo(b3);
+        assertThat(list.get(0, 3)).isEqualTo(a2);
+        assertThat(list.isMaterialized()).isFalse();
+    }
+
+    @Test
+    void cursorMatchesList() {
+        TupleCursor cursor = list.tupleCursor();
+        Member[] members = new Member[5];
+        List<List<Member>> rows = new ArrayList<>();
+        while (cursor.forward()) {
+            assertThat(cursor.member(1)).isEqualTo(cursor.current().get(1));
+            cursor.currentToArray(members, 1);
+            rows.add(List.of(members).subList(1, 5));
+        }
+        assertThat(rows).isEqualTo(list);
+        assertThat(list.isMaterialized()).isFalse();
+    }
+
+    @Test
+    void subListIsVirtual() {
+        assertThat(list.subList(1, 3)).containsExactly(List.of(a1, b2, b3, c1), List.of(a2, b1, b2, c1));
+        assertThat(list.isMaterialized()).isFalse();
+    }
+
+    @Test
+    void modificationCopiesProduct() {
+        list.remove(1);
+
+        assertThat(list.isMaterialized()).isTrue();
+        assertThat(list).containsExactly(List.of(a1, b1, b2, c1), List.of(a2, b1, b2, c1), List.of(a2, b2, b3, c1));
+
+        list.addTuple(a1, b1, b1, c1);
+        assertThat(list).hasSize(4).last().isEqualTo(List.of(a1, b1, b1, c1));
+        TupleCursor cursor = list.tupleCursor();
+        int count = 0;
+        while (cursor.forward()) {
+            assertThat(cursor.current()).isEqualTo(list.get(count++));
+        }
+        assertThat(count).isEqualTo(4);
+    }
+
+    @Test
+    void cursorReturnsNullMembers() {
+        CrossJoinTupleList withNull = new CrossJoinTupleList(
+                List.of(new UnaryTupleList(List.of(a1)), new UnaryTupleList(Arrays.asList(b1, null))));
+        TupleCursor cursor = withNull.tupleCursor();
+        List<List<Member>> rows = new ArrayList<>();
+        while (cursor.forward()) {
+            rows.add(cursor.current());
+        }
+
+        assertThat(rows).containsExactly(List.of(a1, b1), Arrays.asList(a1, null));
+        assertThatThrownBy(() -> rows.get(0).set(0, b1)).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
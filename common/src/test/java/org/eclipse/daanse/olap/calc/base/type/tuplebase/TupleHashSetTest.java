@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.type.tuplebase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+@MockitoSettings
+class TupleHashSetTest {
+
+    @Mock
+    private Member m1;
+    @Mock
+    private Member m2;
+    @Mock
+    private Member m3;
+
+    @Test
+    void addCursorAppendsDistinctTuples() {
+        TupleList source = new ArrayTupleList(2);
+        source.addTuple(m1, m2);
+        source.addTuple(m2, m1);
+        source.addTuple(m1, m2);
+        source.addTuple(m3, m3);
+        source.addTuple(m2, m1);
+
+        TupleList result = new ArrayTupleList(2);
+        TupleHashSet set = new TupleHashSet(result, 0);
+        TupleCursor cursor = source.tupleCursor();
+        while (cursor.forward()) {
+            set.add(cursor);
+        }
+
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(result).containsExactly(List.of(m1, m2), List.of(m2, m1), List.of(m3, m3));
+    }
+
+    @Test
+    void containsMatchesHashSetOfLists() {
+        Member[] members = { m1, m2, m3 };
+        TupleList list = new ArrayTupleList(3);
+        for (int i = 0; i < 200; i++) {
+            list.addTuple(members[i % 3], members[i / 3 % 3], members[i / 9 % 3]);
+        }
+        TupleHashSet set = TupleHashSet.of(list.subList(0, 20));
+        Set<List<Member>> expected = new HashSet<>(list.subList(0, 20));
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        TupleCursor cursor = list.tupleCursor();
+        int row = 0;
+        while (cursor.forward()) {
+            assertThat(set.contains(cursor)).as("row %d", row).isEqualTo(expected.contains(list.get(row)));
+            row++;
+        }
+    }
+
+    @Test
+    void unaryRows() {
+        TupleList list = new UnaryTupleList(List.of(m1, m2, m1, m3));
+        TupleHashSet set = new TupleHashSet(list, 4);
+
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(1)).isTrue();
+        assertThat(set.add(2)).isFalse();
+        assertThat(set.add(3)).isTrue();
+        assertThat(set.getList()).isSameAs(list);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.calc.BatchDoubleCalc;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.DoubleBatch;
+import org.eclipse.daanse.olap.api.calc.DoubleCalc;
+import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
+import org.eclipse.daanse.olap.api.type.MemberType;
+import org.eclipse.daanse.olap.api.type.NumericType;
+import org.eclipse.daanse.olap.calc.base.compiler.BaseExpressionCompiler;
+import org.eclipse.daanse.olap.calc.base.constant.ConstantDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.constant.ConstantMemberCalc;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.eclipse.daanse.olap.calc.base.value.CurrentValueDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.value.CurrentValueUnknownCalc;
+import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.olap.fun.FunUtil;
+import org.eclipse.daanse.olap.query.component.NumericLiteralImpl;
+import org.eclipse.daanse.olap.function.def.operators.divide.DivideCalc;
+import org.eclipse.daanse.olap.function.def.operators.minus.MinusCalc;
+import org.eclipse.daanse.olap.function.def.operators.minus.MinusPrefixCalc;
+import org.eclipse.daanse.olap.function.def.operators.multiply.MultiplyCalc;
+import org.eclipse.daanse.olap.function.def.operators.multiply.MultiplyOperatorDef;
+import org.eclipse.daanse.olap.function.def.operators.plus.PlusCalc;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DoubleBatchesTest {
+
+    private static final NumericType TYPE = NumericType.INSTANCE;
+
+    private Evaluator evaluator;
+    private Member current;
+    private final Member measure = mock(Member.class);
+    private final Map<Member, Object> cells = new HashMap<>();
+    private TupleList tuples;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = mock(Evaluator.class, RETURNS_DEEP_STUBS);
+        when(evaluator.getQuery().getStatement().getCurrentExecution()).thenReturn(null);
+        doAnswer(invocation -> {
+            Member previous = current;
+            if (invocation.getArgument(0) != measure) {
+                current = invocation.getArgument(0);
+            }
+            return previous;
+        }).when(evaluator).setContext(any(Member.class));
+        when(evaluator.evaluateCurrent()).thenAnswer(invocation -> cells.get(current));
+
+        List<Member> members = new ArrayList<>();
+        for (Object value : new Object[] { 2.0, null, Util.valueNotReadyException, 5, -1.5, 0.0 }) {
+            Member member = mock(Member.class);
+            cells.put(member, value);
+            members.add(member);
+        }
+        tuples = new UnaryTupleList(members);
+    }
+
+    @Test
+    void batchesHaveTheValuesOfTheScalarEvaluation() {
+        DoubleCalc cell = new CurrentValueDoubleCalc(TYPE);
+        DoubleCalc three = new ConstantDoubleCalc(TYPE, 3.0);
+        List<BatchDoubleCalc> calcs = List.of(
+            (BatchDoubleCalc) cell,
+            new PlusCalc(TYPE, cell, three) {
+            },
+            new PlusCalc(TYPE, cell, cell) {
+            },
+            new MinusCalc(TYPE, three, cell) {
+            },
+            new MinusCalc(TYPE, cell, three) {
+            },
+            new MinusPrefixCalc(TYPE, cell) {
+            },
+            new MultiplyCalc(TYPE, cell, three) {
+            },
+            new DivideCalc(TYPE, three, cell, false) {
+            },
+            new DivideCalc(TYPE, three, cell, true) {
+            },
+            new DivideCalc(TYPE, new PlusCalc(TYPE, cell, three) {
+            }, new MinusPrefixCalc(TYPE, cell) {
+            }, false) {
+            });
+
+        for (BatchDoubleCalc calc : calcs) {
+            assertThat(calc.isBatchable()).isTrue();
+            DoubleBatch batch = new DoubleBatch(0);
+            calc.evaluateBatch(evaluator, tuples, batch);
+
+            assertThat(batch.size()).isEqualTo(tuples.size());
+            for (int i = 0; i < tuples.size(); i++) {
+                current = tuples.get(i).get(0);
+                assertThat(DoubleBatches.get(batch, i)).isEqualTo(calc.evaluate(evaluator));
+            }
+        }
+    }
+
+    @Test
+    void nullConstantIsNotBatchable() {
+        DoubleCalc cell = new CurrentValueDoubleCalc(TYPE);
+        ConstantDoubleCalc nullConstant = new ConstantDoubleCalc(TYPE, null);
+
+        assertThat(nullConstant.isBatchable()).isFalse();
+        assertThat(DoubleBatches.isBatchable(new PlusCalc(TYPE, cell, nullConstant) {
+        })).isFalse();
+    }
+
+    @Test
+    void summaryLeavesOutNullsAndCountsValuesNotReady() {
+        DoubleBatches.Summary summary = DoubleBatches.summarize(evaluator, tuples,
+            (BatchDoubleCalc) new CurrentValueDoubleCalc(TYPE));
+
+        assertThat(summary.sum()).isEqualTo(5.5);
+        assertThat(summary.count()).isEqualTo(4);
+        assertThat(summary.notReadyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void largeListsAreEvaluatedInChunks() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < DoubleBatches.CHUNK_SIZE * 2 + 3; i++) {
+            Member member = mock(Member.class);
+            cells.put(member, (double) i);
+            members.add(member);
+        }
+        List<Integer> offsets = new ArrayList<>();
+        double[] sum = new double[1];
+
+        DoubleBatches.forEachChunk(evaluator, new UnaryTupleList(members),
+            (BatchDoubleCalc) new CurrentValueDoubleCalc(TYPE), (offset, batch) -> {
+                offsets.add(offset);
+                for (int i = 0; i < batch.size(); i++) {
+                    assertThat(batch.get(i)).isEqualTo(offset + i);
+                    sum[0] += batch.get(i);
+                }
+            });
+
+        int n = members.size();
+        assertThat(offsets).containsExactly(0, DoubleBatches.CHUNK_SIZE, DoubleBatches.CHUNK_SIZE * 2);
+        assertThat(sum[0]).isEqualTo(n * (n - 1) / 2.0);
+    }
+
+    @Test
+    void compiledStoredMeasuresAreBatchable() {
+        Expression measureExpression = mock(Expression.class);
+        when(measureExpression.getType()).thenReturn(MemberType.Unknown);
+        when(measureExpression.accept(any(ExpressionCompiler.class)))
+            .thenReturn(new ConstantMemberCalc(MemberType.Unknown, measure));
+        ResolvedFunCall multiply = mock(ResolvedFunCall.class);
+        when(multiply.getType()).thenReturn(TYPE);
+        when(multiply.getArg(0)).thenReturn(measureExpression);
+        when(multiply.getArg(1)).thenReturn(NumericLiteralImpl.create(new BigDecimal("2")));
+        BaseExpressionCompiler compiler = new BaseExpressionCompiler(evaluator, null);
+
+        for (Calc<?> calc : List.of(compiler.compileDouble(measureExpression),
+            new MultiplyOperatorDef().compileCall(multiply, compiler))) {
+            assertThat(DoubleBatches.isBatchable(calc)).isTrue();
+            DoubleBatch batch = new DoubleBatch(0);
+            ((BatchDoubleCalc) calc).evaluateBatch(evaluator, tuples, batch);
+
+            for (int i = 0; i < tuples.size(); i++) {
+                current = tuples.get(i).get(0);
+                assertThat(DoubleBatches.get(batch, i)).isEqualTo(calc.evaluate(evaluator));
+            }
+        }
+    }
+
+    @Test
+    void sumOfTheCurrentValueIsEvaluatedInBatches() {
+        Calc<?> valueCalc = new CurrentValueUnknownCalc(TYPE);
+
+        assertThat(DoubleBatches.isBatchable(valueCalc)).isFalse();
+        assertThat(DoubleBatches.numeric(valueCalc)).isNotNull();
+        cells.put(tuples.get(2).get(0), 1);
+        assertThat(FunUtil.sumDouble(evaluator, tuples, valueCalc)).isEqualTo(6.5);
+    }
+
+    @Test
+    void cellValuesWhichAreNotNumbersAreNotEvaluatedInBatches() {
+        Calc<?> valueCalc = new CurrentValueUnknownCalc(TYPE);
+        List<Object> values = new ArrayList<>();
+        DoubleBatches.ChunkConsumer consumer = (offset, batch) -> {
+            for (int i = 0; i < batch.size(); i++) {
+                values.add(DoubleBatches.get(batch, i, valueCalc));
+            }
+        };
+
+        assertThat(DoubleBatches.forEachNumberChunk(evaluator, tuples, valueCalc, consumer)).isTrue();
+        assertThat(values).containsExactly(2.0, null, Util.valueNotReadyException, 5.0, -1.5, 0.0);
+
+        values.clear();
+        cells.put(tuples.get(3).get(0), "five");
+        assertThat(DoubleBatches.forEachNumberChunk(evaluator, tuples, valueCalc, consumer)).isFalse();
+        assertThat(values).isEmpty();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.cache.ExpCacheDescriptor;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpressionResultCacheImplTest {
+
+    private ExpressionResultCacheImpl cache;
+    private Cube cube;
+    private Member usa;
+    private Member mexico;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExpressionResultCacheImpl(2);
+        cube = mock(Cube.class);
+        usa = mock(Member.class);
+        mexico = mock(Member.class);
+    }
+
+    private Evaluator evaluator(Member member) {
+        Connection connection = mock(Connection.class);
+        Query query = mock(Query.class);
+        when(query.getConnection()).thenReturn(connection);
+        CatalogReader reader = mock(CatalogReader.class);
+        when(reader.getRole()).thenReturn(mock(Role.class));
+        Evaluator evaluator = mock(Evaluator.class);
+        when(evaluator.getQuery()).thenReturn(query);
+        when(evaluator.getCube()).thenReturn(cube);
+        when(evaluator.getCatalogReader()).thenReturn(reader);
+        when(evaluator.getSlicerMembersByHierarchy()).thenReturn(Map.of());
+        when(evaluator.getMembers()).thenReturn(new Member[] { member });
+        when(evaluator.getConnectionLocale()).thenReturn(Locale.US);
+        return evaluator;
+    }
+
+    private static ExpCacheDescriptor descriptor(String text) {
+        Expression exp = mock(Expression.class);
+        doAnswer(invocation -> {
+            invocation.<PrintWriter>getArgument(0).print(text);
+            return null;
+        }).when(exp).unparse(any());
+        ExpCacheDescriptor descriptor = mock(ExpCacheDescriptor.class);
+        when(descriptor.getExp()).thenReturn(exp);
+        when(descriptor.getDependentHierarchyOrdinals()).thenReturn(new int[] { 0 });
+        return descriptor;
+    }
+
+    private static Evaluator withRole(Evaluator evaluator, Evaluator other) {
+        Role role = other.getCatalogReader().getRole();
+        when(evaluator.getCatalogReader().getRole()).thenReturn(role);
+        return evaluator;
+    }
+
+    @Test
+    void resultIsSharedBetweenQueries() {
+        Evaluator first = evaluator(usa);
+        Evaluator second = withRole(evaluator(usa), first);
+        ExpCacheDescriptor firstDescriptor = descriptor("Sum([Store].Children)");
+        ExpCacheDescriptor secondDescriptor = descriptor("Sum([Store].Children)");
+        when(first.getCachedResult(firstDescriptor)).thenReturn(42d);
+
+        assertThat(cache.getCachedResult(first, firstDescriptor)).isEqualTo(42d);
+        assertThat(cache.getCachedResult(second, secondDescriptor)).isEqualTo(42d);
+
+        verify(second, times(0)).getCachedResult(secondDescriptor);
+    }
+
+    @Test
+    void resultDependsOnContextAndRole() {
+        Evaluator first = evaluator(usa);
+        Evaluator otherMember = withRole(evaluator(mexico), first);
+        Evaluator otherRole = evaluator(usa);
+        ExpCacheDescriptor descriptor = descriptor("Sum([Store].Children)");
+        when(first.getCachedResult(descriptor)).thenReturn(1d);
+        when(otherMember.getCachedResult(descriptor)).thenReturn(2d);
+        when(otherRole.getCachedResult(descriptor)).thenReturn(3d);
+
+        assertThat(cache.getCachedResult(first, descriptor)).isEqualTo(1d);
+        assertThat(cache.getCachedResult(otherMember, descriptor)).isEqualTo(2d);
+        assertThat(cache.getCachedResult(otherRole, descriptor)).isEqualTo(3d);
+    }
+
+    @Test
+    void resultDependsOnLocale() {
+        Evaluator first = evaluator(usa);
+        Evaluator german = withRole(evaluator(usa), first);
+        when(german.getConnectionLocale()).thenReturn(Locale.GERMANY);
+        ExpCacheDescriptor descriptor = descriptor("Format(1.5, \"Standard\")");
+        when(first.getCachedResult(descriptor)).thenReturn("1.50");
+        when(german.getCachedResult(descriptor)).thenReturn("1,50");
+
+        assertThat(cache.getCachedResult(first, descriptor)).isEqualTo("1.50");
+        assertThat(cache.getCachedResult(german, descriptor)).isEqualTo("1,50");
+    }
+
+    @Test
+    void sharedListsCannotBeModified() {
+        Evaluator first = evaluator(usa);
+        Evaluator second = withRole(evaluator(usa), first);
+        ExpCacheDescriptor descriptor = descriptor("[Store].Children");
+        List<Member> computed = new ArrayList<>(List.of(usa, mexico));
+        when(first.getCachedResult(descriptor)).thenReturn(computed);
+
+        assertThat(cache.getCachedResult(first, descriptor)).isSameAs(computed);
+        computed.remove(mexico);
+        Object shared = cache.getCachedResult(second, descriptor);
+
+        assertThat(shared).asList().containsExactly(usa, mexico);
+        assertThatThrownBy(() -> ((List<?>) shared).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void flushDropsResultsOfTheCube() {
+        Evaluator evaluator = evaluator(usa);
+        ExpCacheDescriptor descriptor = descriptor("Sum([Store].Children)");
+        when(evaluator.getCachedResult(descriptor)).thenReturn(1d, 2d);
+
+        assertThat(cache.getCachedResult(evaluator, descriptor)).isEqualTo(1d);
+        cache.flush(cube);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getCachedResult(evaluator, descriptor)).isEqualTo(2d);
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void calculatedMembersOfTheQueryAreNotShared() {
+        Member calculated = mock(Member.class);
+        when(calculated.isCalculatedInQuery()).thenReturn(true);
+        ExpCacheDescriptor descriptor = descriptor("Sum([Store].Children)");
+        Evaluator inContext = evaluator(calculated);
+        Evaluator inResult = evaluator(usa);
+        when(inResult.getCachedResult(descriptor)).thenReturn(calculated);
+
+        cache.getCachedResult(inContext, descriptor);
+        cache.getCachedResult(inResult, descriptor);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void leastRecentlyUsedResultIsEvicted() {
+        Evaluator evaluator = evaluator(usa);
+        ExpCacheDescriptor first = descriptor("1");
+        ExpCacheDescriptor second = descriptor("2");
+        ExpCacheDescriptor third = descriptor("3");
+
+        cache.getCachedResult(evaluator, first);
+        cache.getCachedResult(evaluator, second);
+        cache.getCachedResult(evaluator, first);
+        cache.getCachedResult(evaluator, third);
+        cache.getCachedResult(evaluator, first);
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(evaluator, times(1)).getCachedResult(first);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.eclipse.daanse.olap.api.execution.QueryTimerRegistry;
+import org.junit.jupiter.api.Test;
+
+class QueryTimingImplTest {
+
+    private static final int OUTER = QueryTimerRegistry.register("QueryTimingImplTest.outer");
+    private static final int INNER = QueryTimerRegistry.register("QueryTimingImplTest.inner");
+
+    @Test
+    void registryReturnsStableIds() {
+        assertThat(QueryTimerRegistry.register("QueryTimingImplTest.outer")).isEqualTo(OUTER);
+        assertThat(QueryTimerRegistry.name(INNER)).isEqualTo("QueryTimingImplTest.inner");
+    }
+
+    @Test
+    void countsNestedMarksAndMergesThreads() throws InterruptedException {
+        QueryTimingImpl timing = new QueryTimingImpl();
+        timing.init(true);
+
+        timing.markStart(OUTER);
+        timing.markStart(OUTER);
+        timing.markStart(INNER);
+        timing.markEnd(INNER);
+        timing.markEnd(OUTER);
+        timing.markEnd(OUTER);
+
+        Thread worker = new Thread(() -> {
+            timing.markStart(INNER);
+            timing.markEnd(INNER);
+        });
+        worker.start();
+        worker.join();
+        timing.markFull("QueryTimingImplTest.full", Duration.ofMillis(4));
+
+        assertThat(timing.toString()).contains("QueryTimingImplTest.outer invoked 2 times")
+                .contains("QueryTimingImplTest.inner invoked 2 times")
+                .contains("QueryTimingImplTest.full invoked 1 times for total of 4ms");
+    }
+
+    @Test
+    void endWithoutStartFails() {
+        QueryTimingImpl timing = new QueryTimingImpl();
+        timing.init(true);
+
+        assertThatThrownBy(() -> timing.markEnd(INNER)).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("QueryTimingImplTest.inner");
+    }
+
+    @Test
+    void disabledRecordsNothing() {
+        QueryTimingImpl timing = new QueryTimingImpl();
+        timing.init(false);
+
+        timing.markStart(OUTER);
+        timing.markEnd(OUTER);
+
+        assertThat(timing.toString()).doesNotContain("QueryTimingImplTest");
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.agg.OlapAggregationManager;
+import org.eclipse.daanse.olap.api.cache.CacheControl;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AbstractBasicContextTest {
+
+    private AbstractBasicContext<?> context;
+    private Catalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        context = mock(AbstractBasicContext.class, withSettings().useConstructor().defaultAnswer(CALLS_REAL_METHODS));
+        catalog = mock(Catalog.class);
+        when(catalog.lookupRole("Sales")).thenReturn(mock(Role.class));
+        when(catalog.lookupRole("Marketing")).thenReturn(mock(Role.class));
+    }
+
+    @Test
+    void connectionsShareUnionRolesUntilTheSchemaIsFlushed() {
+        CacheControl cacheControl = mock(CacheControl.class);
+        OlapAggregationManager aggregationManager = mock(OlapAggregationManager.class);
+        when(aggregationManager.getCacheControl(any(), any())).thenReturn(cacheControl);
+        context.aggMgr = aggregationManager;
+
+        Role first = context.getRole(catalog, List.of("Sales", "Marketing"));
+        assertThat(context.getRole(catalog, List.of("Marketing", "Sales"))).isSameAs(first);
+
+        context.getAggregationManager().getCacheControl(null, null).flushSchemaCache();
+
+        verify(cacheControl).flushSchemaCache();
+        assertThat(context.getRole(catalog, List.of("Sales", "Marketing"))).isNotSameAs(first);
+    }
+}
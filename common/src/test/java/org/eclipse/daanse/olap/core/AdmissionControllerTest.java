@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.daanse.olap.api.execution.AdmissionControl.Permit;
+import org.eclipse.daanse.olap.api.execution.AdmissionRejectedException;
+import org.eclipse.daanse.olap.api.execution.QueryPriority;
+import org.eclipse.daanse.olap.api.monitor.EventBus;
+import org.eclipse.daanse.olap.api.monitor.event.AdmissionGrantedEvent;
+import org.eclipse.daanse.olap.api.monitor.event.AdmissionRejectedEvent;
+import org.eclipse.daanse.olap.api.monitor.event.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControllerTest {
+
+    private final List<Event> events = new CopyOnWriteArrayList<>();
+    private final EventBus eventBus = new EventBus() {
+        @Override
+        public void accept(Event event) {
+            events.add(event);
+        }
+    };
+    private final List<String> admitted = Collections.synchronizedList(new ArrayList<>());
+    private final List<Thread> threads = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join(5_000);
+        }
+    }
+
+    private AdmissionController controller(int permits, Duration maxQueueTime, int maxQueueDepth,
+            Map<String, Integer> weights) {
+        return new AdmissionController(permits, maxQueueTime, maxQueueDepth, weights, eventBus, "test");
+    }
+
+    /**
+     * Starts a query that records its admission and finishes at once, and
+     * waits until it is queued.
+     */
+    private void enqueue(AdmissionController controller, String name, String user, List<String> roles,
+            QueryPriority priority) throws InterruptedException {
+        int depth = controller.getQueueDepth();
+        Thread thread = Thread.ofPlatform().start(() -> {
+            try (Permit _ = controller.admit(user, roles, priority)) {
+                admitted.add(name);
+            }
+        });
+        threads.add(thread);
+        while (controller.getQueueDepth() == depth) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitAdmitted(int count) throws InterruptedException {
+        for (int i = 0; i < 5_000 && admitted.size() < count; i++) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void queriesWithinTheLimitAreAdmittedAtOnce() {
+        AdmissionController controller = controller(2, Duration.ofSeconds(10), 0, Map.of());
+
+        try (Permit _ = controller.admit("alice", List.of(), QueryPriority.INTERACTIVE);
+                Permit _ = controller.admit("bob", List.of(), QueryPriority.INTERACTIVE)) {
+            assertThat(controller.getQueueDepth()).isZero();
+        }
+
+        assertThat(events).hasSize(2).allSatisfy(event -> assertThat(event).isInstanceOf(AdmissionGrantedEvent.class));
+    }
+
+    @Test
+    void interactiveQueriesGoFirst() throws InterruptedException {
+        AdmissionController controller = controller(1, Duration.ofSeconds(10), 0, Map.of());
+        Permit running = controller.admit("alice", List.of(), QueryPriority.INTERACTIVE);
+
+        enqueue(controller, "check", "check", List.of(), QueryPriority.BATCH);
+        enqueue(controller, "xmla", "bob", List.of(), QueryPriority.INTERACTIVE);
+        running.close();
+        awaitAdmitted(2);
+
+        assertThat(admitted).containsExactly("xmla", "check");
+    }
+
+    @Test
+    void usersTakeTurnsByWeight() throws InterruptedException {
+        AdmissionController controller = controller(1, Duration.ofSeconds(10), 0, Map.of("Analyst", 2));
+        Permit running = controller.admit("alice", List.of(), QueryPriority.INTERACTIVE);
+
+        enqueue(controller, "alice1", "alice", List.of(), QueryPriority.INTERACTIVE);
+        enqueue(controller, "alice2", "alice", List.of(), QueryPriority.INTERACTIVE);
+        enqueue(controller, "alice3", "alice", List.of(), QueryPriority.INTERACTIVE);
+        enqueue(controller, "bob1", "bob", List.of(), QueryPriority.INTERACTIVE);
+        enqueue(controller, "carol1", "carol", List.of("Analyst"), QueryPriority.INTERACTIVE);
+        enqueue(controller, "carol2", "carol", List.of("Analyst"), QueryPriority.INTERACTIVE);
+        running.close();
+        awaitAdmitted(6);
+
+        assertThat(admitted).containsExactly("carol1", "alice1", "bob1", "carol2", "alice2", "alice3");
+    }
+
+    @Test
+    void fullQueueRejectsAtOnce() throws InterruptedException {
+        AdmissionController controller = controller(1, Duration.ofSeconds(10), 1, Map.of());
+        Permit running = controller.admit("alice", List.of(), QueryPriority.INTERACTIVE);
+        enqueue(controller, "bob", "bob", List.of(), QueryPriority.INTERACTIVE);
+
+        assertThatThrownBy(() -> controller.admit("carol", List.of(), QueryPriority.INTERACTIVE))
+            .isInstanceOf(AdmissionRejectedException.class)
+            .extracting(e -> ((AdmissionRejectedException) e).getReason())
+            .isEqualTo(AdmissionRejectedException.Reason.QUEUE_FULL);
+
+        running.close();
+        awaitAdmitted(1);
+        assertThat(admitted).containsExactly("bob");
+    }
+
+    @Test
+    void queryWaitingTooLongIsRejected() {
+        AdmissionController controller = controller(1, Duration.ofMillis(20), 0, Map.of());
+        Permit running = controller.admit("alice", List.of(), QueryPriority.INTERACTIVE);
+
+        assertThatThrownBy(() -> controller.admit("bob", List.of(), QueryPriority.INTERACTIVE))
+            .isInstanceOf(AdmissionRejectedException.class)
+            .extracting(e -> ((AdmissionRejectedException) e).getReason())
+            .isEqualTo(AdmissionRejectedException.Reason.QUEUE_TIMEOUT);
+        assertThat(controller.getQueueDepth()).isZero();
+        assertThat(events).filteredOn(AdmissionRejectedEvent.class::isInstance).singleElement()
+            .satisfies(event -> assertThat(((AdmissionRejectedEvent) event).waitNanos())
+                .isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos()));
+
+        running.close();
+        try (Permit _ = controller.admit("bob", List.of(), QueryPriority.INTERACTIVE)) {
+            assertThat(controller.getQueueDepth()).isZero();
+        }
+    }
+
+    @Test
+    void weightsAreParsed() {
+        assertThat(AdmissionController.parseWeights(" Analyst = 4, Reporting=1, broken, zero=0"))
+            .containsOnly(Map.entry("Analyst", 4), Map.entry("Reporting", 1));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.monitor.event.CellCacheEvent;
+import org.eclipse.daanse.olap.api.monitor.event.CellCacheEventCommon;
+import org.eclipse.daanse.olap.api.monitor.event.CellCacheSegmentCreateEvent;
+import org.eclipse.daanse.olap.api.monitor.event.CellCacheSegmentDeleteEvent;
+import org.eclipse.daanse.olap.api.monitor.event.ConnectionEventCommon;
+import org.eclipse.daanse.olap.api.monitor.event.Event;
+import org.eclipse.daanse.olap.api.monitor.event.EventCommon;
+import org.eclipse.daanse.olap.api.monitor.event.ExecutionEndEvent;
+import org.eclipse.daanse.olap.api.monitor.event.ExecutionEventCommon;
+import org.eclipse.daanse.olap.api.monitor.event.ExecutionPhaseEvent;
+import org.eclipse.daanse.olap.api.monitor.event.ExecutionStartEvent;
+import org.eclipse.daanse.olap.api.monitor.event.MdxStatementEventCommon;
+import org.eclipse.daanse.olap.api.monitor.event.ServertEventCommon;
+import org.junit.jupiter.api.Test;
+
+class AsyncEventBusTest {
+
+    @Test
+    void ringBufferRejectsWhenFullAndDrainsInOrder() {
+        EventRingBuffer buffer = new EventRingBuffer(3);
+        assertThat(buffer.capacity()).isEqualTo(4);
+
+        List<Event> offered = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Event event = start(i);
+            offered.add(event);
+            assertThat(buffer.offer(event, i)).isTrue();
+        }
+        assertThat(buffer.offer(start(99), 99)).isFalse();
+
+        Event[] events = new Event[8];
+        long[] stamps = new long[8];
+        assertThat(buffer.drain(events, stamps, 8)).isEqualTo(4);
+        assertThat(events).startsWith(offered.toArray(Event[]::new));
+        assertThat(stamps).startsWith(0, 1, 2, 3);
+
+        assertThat(buffer.offer(start(5), 5)).isTrue();
+        assertThat(buffer.drain(events, stamps, 8)).isEqualTo(1);
+    }
+
+    @Test
+    void deliversBatchesAndAggregates() throws Exception {
+        List<Event> received = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncEventBus bus = new AsyncEventBus(64, 4, 1)) {
+            bus.addListener(received::addAll);
+            for (int i = 0; i < 10; i++) {
+                bus.accept(start(i));
+                bus.accept(end(i, Execution.State.DONE));
+            }
+            awaitSize(received, 20);
+            EventStatistics.Snapshot snapshot = bus.getStatistics().snapshot();
+
+            assertThat(received).hasSize(20).first().isInstanceOf(ExecutionStartEvent.class);
+            assertThat(snapshot.executionsStarted()).isEqualTo(10);
+            assertThat(snapshot.executionsEnded()).isEqualTo(10);
+            assertThat(snapshot.executionsRunning()).isZero();
+            assertThat(snapshot.cellCacheHits()).isEqualTo(30);
+            assertThat(snapshot.cellCacheHitRatio()).isEqualTo(0.75d);
+            assertThat(Arrays.stream(snapshot.latencyHistogram()).sum()).isEqualTo(10);
+            assertThat(bus.getDroppedCount()).isZero();
+        }
+    }
+
+    @Test
+    void parkedConsumerIsWokenByTheNextEvent() throws Exception {
+        List<Event> received = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncEventBus bus = new AsyncEventBus(64, 4, 1)) {
+            bus.addListener(received::addAll);
+            bus.accept(start(1));
+            awaitSize(received, 1);
+            // the consumer is parked without a timeout now
+            Thread.sleep(50);
+            bus.accept(end(1, Execution.State.DONE));
+            awaitSize(received, 2);
+
+            assertThat(received).hasSize(2);
+        }
+    }
+
+    @Test
+    void samplingKeepsSegmentEvents() throws Exception {
+        List<Event> received = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncEventBus bus = new AsyncEventBus(64, 4, 3)) {
+            bus.addListener(received::addAll);
+            CellCacheEventCommon cellCacheCommon = new CellCacheEventCommon(common(1), CellCacheEvent.Source.SQL);
+            for (int i = 0; i < 6; i++) {
+                bus.accept(new ExecutionPhaseEvent(common(1), i, 1, 0, 0));
+                bus.accept(new CellCacheSegmentCreateEvent(cellCacheCommon, 2, 2));
+            }
+            bus.accept(new CellCacheSegmentDeleteEvent(cellCacheCommon, 2));
+            awaitSize(received, 9);
+            EventStatistics.Snapshot snapshot = bus.getStatistics().snapshot();
+
+            assertThat(received).hasSize(9);
+            assertThat(bus.getSampledOutCount()).isEqualTo(4);
+            assertThat(snapshot.segmentsCreated()).isEqualTo(6);
+            assertThat(snapshot.segmentsDeleted()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void latencyBucketBoundsCannotBeChanged() {
+        List<Long> bounds = EventStatistics.latencyBucketBoundsMillis();
+
+        assertThat(bounds).isSorted().last().isEqualTo(Long.MAX_VALUE);
+        assertThatThrownBy(() -> bounds.set(0, 0L)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static void awaitSize(List<Event> list, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static ExecutionEventCommon common(long executionId) {
+        return new ExecutionEventCommon(new MdxStatementEventCommon(
+                new ConnectionEventCommon(new ServertEventCommon(new EventCommon(Instant.EPOCH), "test"), 1), 1),
+                executionId);
+    }
+
+    private static ExecutionStartEvent start(long executionId) {
+        return new ExecutionStartEvent(common(executionId), "SELECT FROM [Sales]");
+    }
+
+    private static ExecutionEndEvent end(long executionId, Execution.State state) {
+        return new ExecutionEndEvent(common(executionId), 1, state, 3, 1, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.execution.ExecutionContext;
+import org.eclipse.daanse.olap.api.execution.ExecutionMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExecutionCatalogReaderWrapperTest {
+
+    private ExecutionContext context;
+    private CatalogReader delegate;
+    private CatalogReader reader;
+    private final List<ExecutionContext> seen = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        context = ExecutionContext.root(Optional.empty(), ExecutionMetadata.empty());
+        Execution execution = mock(Execution.class);
+        when(execution.asContext()).thenReturn(context);
+        delegate = mock(CatalogReader.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        reader = new ExecutionCatalogReaderWrapper(execution, "test", delegate);
+    }
+
+    @Test
+    void contextIsBoundForTheDelegate() {
+        Role role = mock(Role.class);
+        when(delegate.getRole()).thenAnswer(invocation -> {
+            seen.add(ExecutionContext.currentOrNull());
+            return role;
+        });
+
+        assertThat(reader.getRole()).isSameAs(role);
+        assertThat(ExecutionContext.where(context, () -> reader.getRole())).isSameAs(role);
+        ExecutionContext other = ExecutionContext.root(Optional.empty(), ExecutionMetadata.empty());
+        assertThat(ExecutionContext.where(other, () -> reader.getRole())).isSameAs(role);
+
+        assertThat(seen).containsExactly(context, context, context);
+    }
+
+    @Test
+    void bulkNavigationBindsTheContext() {
+        Member parent = mock(Member.class);
+        when(delegate.getMemberParent(any())).thenAnswer(invocation -> {
+            seen.add(ExecutionContext.currentOrNull());
+            return parent;
+        });
+        when(delegate.getMemberDepth(any())).thenAnswer(invocation -> {
+            seen.add(ExecutionContext.currentOrNull());
+            return 2;
+        });
+        List<Member> members = List.of(mock(Member.class), mock(Member.class), mock(Member.class));
+
+        assertThat(reader.getMemberParents(members)).containsExactly(parent, parent, parent);
+        assertThat(reader.getMemberDepths(members)).containsExactly(2, 2, 2);
+
+        assertThat(seen).hasSize(6).containsOnly(context);
+    }
+
+    @Test
+    void bulkAncestorsKeepTheOrderOfTheMembers() {
+        Member root = mock(Member.class);
+        Member child = mock(Member.class);
+        when(delegate.getMemberParent(child)).thenReturn(root);
+        doAnswer(invocation -> {
+            Member member = invocation.getArgument(0);
+            List<Member> ancestors = invocation.getArgument(1);
+            for (Member m = delegate.getMemberParent(member); m != null; m = delegate.getMemberParent(m)) {
+                ancestors.add(m);
+            }
+            return null;
+        }).when(delegate).getMemberAncestors(any(Member.class), any());
+
+        assertThat(reader.getMemberAncestors(List.of(child, root))).containsExactly(List.of(root), List.of());
+    }
+}
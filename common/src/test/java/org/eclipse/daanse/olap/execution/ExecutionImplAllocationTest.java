@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.ref.Reference;
+import java.util.Optional;
+
+import org.eclipse.daanse.olap.api.Context;
+import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.execution.ExecutionContext;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.ArrayTupleList;
+import org.eclipse.daanse.olap.common.ConfigConstants;
+import org.eclipse.daanse.olap.exceptions.MemoryLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+class ExecutionImplAllocationTest {
+
+    private static ExecutionImpl execution(long allocationLimit) {
+        Context<?> context = mock(Context.class);
+        when(context.getConfigValue(eq(ConfigConstants.QUERY_ALLOCATION_LIMIT), any(), eq(Long.class)))
+            .thenReturn(allocationLimit);
+        Connection connection = mock(Connection.class);
+        doReturn(context).when(connection).getContext();
+        AbstractStatement statement = mock(AbstractStatement.class);
+        when(statement.getDaanseConnection()).thenReturn(connection);
+        return new ExecutionImpl(statement, Optional.empty());
+    }
+
+    @Test
+    void allocationsAreHeldUntilReleased() {
+        ExecutionImpl execution = execution(0);
+
+        execution.chargeAllocation(1_000);
+        execution.chargeAllocation(500);
+        execution.releaseAllocation(500);
+        execution.chargeAllocation(100);
+
+        assertThat(execution.getAllocatedBytes()).isEqualTo(1_100);
+        assertThat(execution.getPeakAllocatedBytes()).isEqualTo(1_500);
+        assertThat(execution.isCancelOrTimeout()).isFalse();
+        assertThatThrownBy(() -> execution.chargeAllocation(-100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> execution.releaseAllocation(-100)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void releasedAllocationsDoNotCountAgainstTheBudget() {
+        ExecutionImpl execution = execution(1_000);
+
+        for (int i = 0; i < 10; i++) {
+            execution.chargeAllocation(800);
+            execution.releaseAllocation(800);
+        }
+
+        assertThat(execution.getAllocatedBytes()).isZero();
+        assertThat(execution.getPeakAllocatedBytes()).isEqualTo(800);
+        assertThat(execution.isCancelOrTimeout()).isFalse();
+    }
+
+    @Test
+    void queryOverItsBudgetIsAborted() {
+        ExecutionImpl execution = execution(1_000);
+        execution.chargeAllocation(800);
+
+        assertThatThrownBy(() -> execution.chargeAllocation(300)).isInstanceOf(MemoryLimitExceededException.class)
+            .hasMessageContaining("1000 bytes");
+        assertThat(execution.isCancelOrTimeout()).isTrue();
+        assertThatThrownBy(execution::checkCancelOrTimeout).isInstanceOf(MemoryLimitExceededException.class);
+    }
+
+    @Test
+    void tupleListsChargeTheCurrentExecution() {
+        ExecutionImpl execution = execution(0);
+        Member member = mock(Member.class);
+        ArrayTupleList[] lists = new ArrayTupleList[2];
+
+        ExecutionContext.where(execution.asContext(), () -> {
+            lists[0] = new ArrayTupleList(2, 1);
+            for (int i = 0; i < 1_000; i++) {
+                lists[0].addTuple(member, member);
+            }
+        });
+
+        assertThat(execution.getAllocatedBytes()).isGreaterThanOrEqualTo(2_000L * QueryAllocation.REFERENCE_BYTES)
+            .isLessThan(4_000L * QueryAllocation.REFERENCE_BYTES);
+
+        long allocated = execution.getAllocatedBytes();
+        ExecutionContext.where(execution.asContext(), () -> {
+            lists[1] = new ArrayTupleList(2, 10);
+            lists[1].addTuple(member, member);
+        });
+        assertThat(execution.getAllocatedBytes()).isEqualTo(allocated);
+    }
+
+    @Test
+    void chargeIsReleasedWhenItsOwnerIsCleaned() {
+        ExecutionImpl execution = execution(0);
+        Object owner = new Object();
+        QueryAllocation.Charge[] charge = new QueryAllocation.Charge[1];
+
+        ExecutionContext.where(execution.asContext(), () -> {
+            charge[0] = QueryAllocation.chargeReferences(owner, null, 2_048);
+        });
+        assertThat(execution.getAllocatedBytes()).isPositive();
+
+        charge[0].run();
+        assertThat(execution.getAllocatedBytes()).isZero();
+        assertThat(execution.getPeakAllocatedBytes()).isPositive();
+        Reference.reachabilityFence(owner);
+    }
+
+    @Test
+    void tupleListsOverTheBudgetAreRejected() {
+        ExecutionImpl execution = execution(1_000);
+        Member member = mock(Member.class);
+
+        assertThatThrownBy(() -> ExecutionContext.where(execution.asContext(), () -> {
+            ArrayTupleList list = new ArrayTupleList(2, 1);
+            for (int i = 0; i < 1_000; i++) {
+                list.addTuple(member, member);
+            }
+        })).isInstanceOf(MemoryLimitExceededException.class);
+    }
+}
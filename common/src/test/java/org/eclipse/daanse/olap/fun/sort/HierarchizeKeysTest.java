@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.fun.sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.ArrayTupleList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HierarchizeKeysTest {
+
+    private Member all;
+    private Member a;
+    private Member a1;
+    private Member a2;
+    private Member b;
+    private Member b1;
+
+    @BeforeEach
+    void beforeEach() {
+        all = member(null, 0, 0);
+        a = member(all, 1, 0);
+        b = member(all, 1, 1);
+        a1 = member(a, 2, 0);
+        a2 = member(a, 2, 1);
+        b1 = member(b, 2, 0);
+    }
+
+    private static Member member(Member parent, int depth, int ordinal) {
+        Member member = mock(Member.class);
+        when(member.getParentMember()).thenReturn(parent);
+        when(member.getDepth()).thenReturn(depth);
+        when(member.getOrdinal()).thenReturn(ordinal);
+        return member;
+    }
+
+    @Test
+    void preOrder() {
+        List<Member> list = new ArrayList<>(List.of(b1, a, a2, all, b, a1));
+        Sorter.hierarchizeMemberList(list, false);
+        assertThat(list).containsExactly(all, a, a1, a2, b, b1);
+    }
+
+    @Test
+    void postOrder() {
+        List<Member> list = new ArrayList<>(List.of(b1, a, a2, all, b, a1));
+        Sorter.hierarchizeMemberList(list, true);
+        assertThat(list).containsExactly(a1, a2, a, b1, b, all);
+    }
+
+    @Test
+    void matchesCompareHierarchically() {
+        List<Member> list = new ArrayList<>(List.of(a2, b1, a1, b, b1, a, a2));
+        for (boolean post : new boolean[] { false, true }) {
+            List<Member> expected = new ArrayList<>(list);
+            expected.sort((m1, m2) -> Sorter.compareHierarchically(m1, m2, post));
+            List<Member> actual = new ArrayList<>(list);
+            Sorter.hierarchizeMemberList(actual, post);
+            assertThat(actual).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void sortedInputIsRecognized() {
+        int[] keys = HierarchizeKeys.keys(List.of(all, a, a1, a1, b), false);
+        assertThat(HierarchizeKeys.order(new int[][] { keys }, keys.length)).isNull();
+    }
+
+    @Test
+    void tuplesByColumns() {
+        TupleList list = new ArrayTupleList(2);
+        list.addTuple(b, a1);
+        list.addTuple(a, b);
+        list.addTuple(a, a1);
+        list.addTuple(b, all);
+
+        TupleList result = Sorter.hierarchizeTupleList(list, false);
+
+        assertThat(result).containsExactly(List.of(a, a1), List.of(a, b), List.of(b, all), List.of(b, a1));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+import org.eclipse.daanse.olap.api.DataType;
+import org.eclipse.daanse.olap.api.function.FunctionDefinition;
+import org.eclipse.daanse.olap.api.function.FunctionResolution;
+import org.eclipse.daanse.olap.api.function.FunctionResolver;
+import org.junit.jupiter.api.Test;
+
+class FunctionServiceImplTest {
+
+    private static FunctionResolver resolver(OperationAtom atom, boolean categoryBased) {
+        FunctionResolver resolver = mock(FunctionResolver.class);
+        when(resolver.getFunctionAtom()).thenReturn(atom);
+        when(resolver.isCategoryBased()).thenReturn(categoryBased);
+        return resolver;
+    }
+
+    @Test
+    void resolutionIsKeptForCategoryBasedResolvers() {
+        OperationAtom atom = new FunctionOperationAtom("Foo");
+        FunctionServiceImpl service = new FunctionServiceImpl();
+        service.addResolvers(List.of(resolver(atom, true), resolver(atom, true)));
+        FunctionResolution resolution = new FunctionResolution(mock(FunctionDefinition.class), List.of());
+
+        service.putResolution(atom, new DataType[] { DataType.NUMERIC, DataType.NUMERIC }, resolution);
+
+        assertThat(service.getResolution(new FunctionOperationAtom("FOO"),
+            new DataType[] { DataType.NUMERIC, DataType.NUMERIC })).isSameAs(resolution);
+        assertThat(service.getResolution(atom, new DataType[] { DataType.NUMERIC, DataType.STRING })).isNull();
+        assertThat(service.getResolution(atom, new DataType[] { DataType.NUMERIC })).isNull();
+    }
+
+    @Test
+    void resolutionIsNotKeptIfAResolverLooksAtExpressions() {
+        OperationAtom atom = new FunctionOperationAtom("Foo");
+        FunctionServiceImpl service = new FunctionServiceImpl();
+        service.addResolvers(List.of(resolver(atom, true), resolver(atom, false)));
+
+        service.putResolution(atom, new DataType[] { DataType.SET },
+            new FunctionResolution(mock(FunctionDefinition.class), List.of()));
+
+        assertThat(service.getResolution(atom, new DataType[] { DataType.SET })).isNull();
+    }
+
+    @Test
+    void addingAResolverDropsResolutions() {
+        OperationAtom atom = new FunctionOperationAtom("Foo");
+        FunctionServiceImpl service = new FunctionServiceImpl();
+        service.addResolver(resolver(atom, true));
+        service.putResolution(atom, new DataType[] { DataType.SET },
+            new FunctionResolution(mock(FunctionDefinition.class), List.of()));
+
+        service.addResolver(resolver(atom, true));
+
+        assertThat(service.getResolution(atom, new DataType[] { DataType.SET })).isNull();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.result.Scenario;
+import org.eclipse.daanse.olap.api.result.WritebackCell;
+import org.junit.jupiter.api.Test;
+
+class WritebackIndexTest {
+
+    private static Member member(Member parent) {
+        Member member = mock(Member.class);
+        when(member.getParentMember()).thenReturn(parent);
+        return member;
+    }
+
+    private static WritebackCell cell(Member measure, Member member) {
+        WritebackCell cell = mock(WritebackCell.class);
+        when(cell.getMembersByOrdinal()).thenReturn(new Member[] { measure, member });
+        return cell;
+    }
+
+    @Test
+    void candidatesAreAncestorsSelfAndDescendantsInScenarioOrder() {
+        Member sales = member(null);
+        Member all = member(null);
+        Member usa = member(all);
+        Member ca = member(usa);
+        Member sf = member(ca);
+        Member mexico = member(all);
+
+        List<WritebackCell> cells = new ArrayList<>(
+            List.of(cell(sales, sf), cell(sales, usa), cell(sales, mexico), cell(sales, ca)));
+        Scenario scenario = mock(Scenario.class);
+        when(scenario.getWritebackCells()).thenReturn(cells);
+
+        WritebackIndex index = WritebackIndex.of(scenario);
+
+        assertThat(index.candidates(new Member[] { sales, ca })).containsExactly(0, 1, 3);
+        assertThat(index.candidates(new Member[] { sales, sf })).containsExactly(0, 1, 3);
+        assertThat(index.candidates(new Member[] { sales, mexico })).containsExactly(2);
+        assertThat(index.candidates(new Member[] { sales, all })).containsExactly(0, 1, 2, 3);
+        assertThat(WritebackIndex.of(scenario)).isSameAs(index);
+
+        cells.add(cell(sales, mexico));
+        WritebackIndex rebuilt = WritebackIndex.of(scenario);
+        assertThat(rebuilt).isNotSameAs(index);
+        assertThat(rebuilt.candidates(new Member[] { sales, mexico })).containsExactly(2, 4);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.DataType;
+import org.eclipse.daanse.olap.api.agg.Segment;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.MatchType;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.query.component.IdImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdentifierParserTest {
+
+    private CatalogReader reader;
+    private Cube cube;
+    private Hierarchy store;
+    private Hierarchy gender;
+    private Member usa;
+
+    @BeforeEach
+    void setUp() {
+        reader = mock(CatalogReader.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        cube = mock(Cube.class, RETURNS_DEEP_STUBS);
+        when(cube.getCatalog().getInternalConnection().getContext().getConfigValue(any(), any(), eq(Boolean.class)))
+            .thenReturn(false);
+        store = mock(Hierarchy.class);
+        gender = mock(Hierarchy.class);
+        usa = member(store, "USA");
+        when(reader.lookupCompound(cube, names("Store", "USA"), false, DataType.MEMBER)).thenReturn(usa);
+    }
+
+    private static List<Segment> names(String... names) {
+        return Arrays.stream(names).<Segment>map(IdImpl.NameSegmentImpl::new).toList();
+    }
+
+    private static Member member(Hierarchy hierarchy, String name) {
+        Member member = mock(Member.class);
+        when(member.getHierarchy()).thenReturn(hierarchy);
+        when(member.getName()).thenReturn(name);
+        return member;
+    }
+
+    @Test
+    void membersOfOneParentAreLookedUpTogether() {
+        Member ca = member(store, "CA");
+        Member or = member(store, "OR");
+        when(reader.lookupMemberChildrenByNames(eq(usa), any(), eq(MatchType.EXACT))).thenReturn(List.of(or, ca));
+        IdentifierParser.MemberListBuilder builder = new IdentifierParser.MemberListBuilder(reader, cube, store);
+
+        IdentifierParser.parseMemberList(builder, "{[Store].[USA].[CA], [Store].[USA].[OR]}");
+
+        assertThat(builder.getMemberList()).containsExactly(ca, or);
+        verify(reader, times(1)).lookupMemberChildrenByNames(eq(usa), any(), eq(MatchType.EXACT));
+        verify(reader, never()).lookupCompound(any(), argThat(names -> names.size() == 3), anyBoolean(), any());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void tuplesAreAssembledInOrder() {
+        Member ca = member(store, "CA");
+        Member or = member(store, "OR");
+        Member female = member(gender, "F");
+        Member male = member(gender, "M");
+        when(reader.lookupMemberChildrenByNames(eq(usa), any(), eq(MatchType.EXACT))).thenReturn(List.of(ca, or));
+        when(reader.lookupCompound(cube, names("Gender", "F"), false, DataType.MEMBER)).thenReturn(female);
+        when(reader.lookupCompound(cube, names("Gender", "M"), false, DataType.MEMBER)).thenReturn(male);
+        IdentifierParser.TupleListBuilder builder =
+            new IdentifierParser.TupleListBuilder(reader, cube, List.of(store, gender));
+
+        IdentifierParser.parseTupleList(builder,
+            "{([Store].[USA].[OR], [Gender].[F]), ([Store].[USA].[CA], [Gender].[M])}");
+
+        TupleList tuples = builder.getTupleList();
+        assertThat(tuples).containsExactly(List.of(or, female), List.of(ca, male));
+        assertThat(builder.tupleList).isSameAs(tuples);
+        assertThat(builder.getTupleList()).isSameAs(tuples);
+    }
+}
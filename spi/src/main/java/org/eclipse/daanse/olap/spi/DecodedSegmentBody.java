@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.spi;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.SortedSet;
+
+import org.eclipse.daanse.olap.key.CellKey;
+
+/**
+ * Segment body decoded by {@link SegmentCodec}.
+ *
+ * Like the bodies it was encoded from, a dense body has a value array and no
+ * value map, and a sparse body has a value map and no value array; the
+ * accessors of what the body does not have throw
+ * {@link UnsupportedOperationException}.
+ */
+final class DecodedSegmentBody implements SegmentBody {
+    private static final long serialVersionUID = 1L;
+
+    private final SortedSet<Comparable>[] axisValueSets;
+    private final boolean[] nullAxisFlags;
+    private final Object valueArray;
+    private final BitSet nullValueIndicators;
+    private final Map<CellKey, Object> valueMap;
+
+    DecodedSegmentBody(
+        SortedSet<Comparable>[] axisValueSets,
+        boolean[] nullAxisFlags,
+        Object valueArray,
+        BitSet nullValueIndicators,
+        Map<CellKey, Object> valueMap)
+    {
+        this.axisValueSets = axisValueSets;
+        this.nullAxisFlags = nullAxisFlags;
+        this.valueArray = valueArray;
+        this.nullValueIndicators = nullValueIndicators;
+        this.valueMap = valueMap;
+    }
+
+    @Override
+    public Map<CellKey, Object> getValueMap() {
+        if (valueMap == null) {
+            throw new UnsupportedOperationException("Dense segment body has no value map");
+        }
+        return valueMap;
+    }
+
+    @Override
+    public Object getValueArray() {
+        if (valueArray == null) {
+            throw new UnsupportedOperationException("Sparse segment body has no value array");
+        }
+        return valueArray;
+    }
+
+    @Override
+    public BitSet getNullValueIndicators() {
+        if (valueArray == null || valueArray instanceof Object[]) {
+            throw new UnsupportedOperationException("Segment body has no null value indicators");
+        }
+        return nullValueIndicators;
+    }
+
+    @Override
+    public SortedSet<Comparable>[] getAxisValueSets() {
+        return axisValueSets;
+    }
+
+    @Override
+    public boolean[] getNullAxisFlags() {
+        return nullAxisFlags;
+    }
+}
@@ -0,0 +1,713 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.spi;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+
+import org.eclipse.daanse.olap.common.SystemWideProperties;
+import org.eclipse.daanse.olap.exceptions.SegmentCacheFailedToInstanciateException;
+import org.eclipse.daanse.olap.spi.SegmentCache.SegmentCacheListener.SegmentCacheEvent;
+import org.eclipse.daanse.olap.spi.SegmentCache.SegmentCacheListener.SegmentCacheEvent.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Segment cache that keeps segments in memory-mapped files on local disk, so
+ * that the cache survives a restart of the server.
+ *
+ * To use it, set the {@code segmentCache} configuration to the name of this
+ * class. The directory and the size limit are taken from the system wide
+ * properties {@code daanse.segmentCache.directory} and
+ * {@code daanse.segmentCache.maxMegabytes}; there is no default directory.
+ *
+ * The directory is private to the user running the cache: on file systems
+ * with POSIX permissions, it is created with, or restricted to, access by its
+ * owner only, and a directory of another user or a symbolic link is refused.
+ *
+ * Bodies, encoded with {@link SegmentCodec}, are appended to data files of a
+ * fixed size; {@link #get} checks the CRC32C checksum of a body recorded in
+ * the index and decodes it straight from the mapped file. A body that fails
+ * the check or cannot be decoded is discarded and reported as a miss. Each
+ * write of a body is flushed to disk before a record of its header and
+ * location is appended to the index file, so that the index never refers to a
+ * body that was not written. On start, the index is read up to its first
+ * incomplete or corrupt record and rewritten with the segments that are still
+ * present.
+ *
+ * When the data files grow beyond the size limit, the oldest file is deleted
+ * together with all segments in it. Listeners are told of each segment that
+ * is added or removed; segments that the cache evicts on its own are reported
+ * as not {@link SegmentCacheEvent#isLocal() local}.
+ *
+ * A directory can only be used by one cache at a time.
+ */
+public class MappedSegmentCache implements SegmentCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedSegmentCache.class);
+
+    static final int DEFAULT_FILE_SIZE = 64 << 20;
+
+    private static final String INDEX_FILE = "segments.idx";
+    private static final String LOCK_FILE = "segments.lock";
+    private static final String DATA_PREFIX = "segments-";
+    private static final String DATA_SUFFIX = ".dat";
+
+    private static final int INDEX_MAGIC = 0x44534349;
+    /** Version of the index; version 2 added the checksum of each body. */
+    private static final int INDEX_VERSION = 2;
+    private static final int INDEX_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final Set<PosixFilePermission> OWNER_ONLY = EnumSet.of(PosixFilePermission.OWNER_READ,
+        PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_EXECUTE);
+
+    private final Path directory;
+    private final long maxBytes;
+    private final int fileSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<SegmentCacheListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Segments in the order they were written, oldest first. */
+    private final Map<SegmentHeader, Entry> entries = new LinkedHashMap<>();
+    private final TreeMap<Integer, DataFile> files = new TreeMap<>();
+
+    private final FileChannel lockChannel;
+    private final FileLock directoryLock;
+    private FileChannel index;
+    private int indexRecords;
+    private int nextFileId;
+    private DataFile current;
+    private long totalBytes;
+    private boolean closed;
+
+    /**
+     * Creates a cache in the directory configured in the system wide
+     * properties.
+     */
+    public MappedSegmentCache() {
+        this(configuredDirectory(), SystemWideProperties.instance().SegmentCacheMaxMegabytes * (1L << 20));
+    }
+
+    private static Path configuredDirectory() {
+        String directory = SystemWideProperties.instance().SegmentCacheDirectory;
+        if (directory == null || directory.isBlank()) {
+            throw new SegmentCacheFailedToInstanciateException(
+                new IllegalStateException("The property daanse.segmentCache.directory is not set"));
+        }
+        return Path.of(directory);
+    }
+
+    /**
+     * Creates a cache in the given directory, recovering the segments that a
+     * previous cache left there.
+     *
+     * @param directory directory of the data and index files, private to the
+     *     user running the cache
+     * @param maxBytes size of the data files above which the oldest file is
+     *     evicted
+     */
+    public MappedSegmentCache(Path directory, long maxBytes) {
+        this(directory, maxBytes, DEFAULT_FILE_SIZE);
+    }
+
+    MappedSegmentCache(Path directory, long maxBytes, int fileSize) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.fileSize = fileSize;
+        FileChannel channel = null;
+        try {
+            preparePrivateDirectory(directory);
+            channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+            FileLock fileLock = channel.tryLock();
+            if (fileLock == null) {
+                throw new IOException("Segment cache directory " + directory + " is in use");
+            }
+            this.lockChannel = channel;
+            this.directoryLock = fileLock;
+            recover();
+        } catch (IOException | RuntimeException e) {
+            closeAll();
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new SegmentCacheFailedToInstanciateException(e);
+        }
+    }
+
+    @Override
+    public SegmentBody get(SegmentHeader header) {
+        Entry entry = null;
+        lock.readLock().lock();
+        try {
+            entry = entries.get(header);
+            if (entry == null) {
+                return null;
+            }
+            ByteBuffer buffer = entry.file.segment.asSlice(entry.offset, entry.length).asByteBuffer();
+            if (checksum(buffer.duplicate()) == entry.checksum) {
+                return SegmentCodec.decodeBody(buffer);
+            }
+            LOGGER.warn("Discarding segment {} of {} with a wrong checksum", header.getUniqueID(), directory);
+        } catch (RuntimeException e) {
+            // any failure to decode, not only IllegalArgumentException, is
+            // a corrupt body and a miss
+            LOGGER.warn("Discarding unreadable segment {} of {}", header.getUniqueID(), directory, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+        discard(header, entry);
+        return null;
+    }
+
+    @Override
+    public List<SegmentHeader> getSegmentHeaders() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(entries.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean put(SegmentHeader header, SegmentBody body) {
+        byte[] bytes;
+        byte[] headerBytes;
+        try {
+            bytes = SegmentCodec.encodeBody(body);
+            headerBytes = SegmentCodec.encodeHeader(header);
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Not caching segment {} with values that cannot be encoded", header.getUniqueID(), e);
+            return false;
+        }
+        List<SegmentHeader> evicted = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            Entry previous = entries.remove(header);
+            if (previous != null) {
+                release(previous);
+            }
+            DataFile file = fileFor(bytes.length);
+            long offset = file.position;
+            MemorySegment.copy(bytes, 0, file.segment, ValueLayout.JAVA_BYTE, offset, bytes.length);
+            file.segment.asSlice(offset, bytes.length).force();
+            file.position += bytes.length;
+
+            Entry entry = new Entry(file, offset, bytes.length, checksum(ByteBuffer.wrap(bytes)));
+            appendRecord(index, putRecord(entry, headerBytes));
+
+            entries.put(header, entry);
+            file.live++;
+            evict(evicted);
+            compactIndexIfNeeded();
+        } catch (IOException e) {
+            LOGGER.warn("Could not write segment {} to {}", header.getUniqueID(), directory, e);
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        fire(EventType.ENTRY_CREATED, header, true);
+        for (SegmentHeader h : evicted) {
+            fire(EventType.ENTRY_DELETED, h, false);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(SegmentHeader header) {
+        if (!removeEntry(header, null)) {
+            return false;
+        }
+        fire(EventType.ENTRY_DELETED, header, true);
+        return true;
+    }
+
+    @Override
+    public void tearDown() {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                closed = true;
+                closeAll();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        listeners.clear();
+    }
+
+    @Override
+    public void addListener(SegmentCacheListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(SegmentCacheListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public boolean supportsRichIndex() {
+        return true;
+    }
+
+    /**
+     * Returns the size of the data files.
+     */
+    long getTotalBytes() {
+        lock.readLock().lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a segment whose body could not be read, unless it has been
+     * replaced since.
+     */
+    private void discard(SegmentHeader header, Entry failed) {
+        if (failed != null && removeEntry(header, failed)) {
+            fire(EventType.ENTRY_DELETED, header, false);
+        }
+    }
+
+    /**
+     * Removes the entry of a segment.
+     *
+     * @param expected Entry to remove; if not null, nothing is removed unless
+     *                 it is still the entry of the segment
+     */
+    private boolean removeEntry(SegmentHeader header, Entry expected) {
+        byte[] headerBytes = SegmentCodec.encodeHeader(header);
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            Entry entry = entries.get(header);
+            if (entry == null || (expected != null && entry != expected)) {
+                return false;
+            }
+            entries.remove(header);
+            release(entry);
+            ByteBuffer record = ByteBuffer.allocate(1 + headerBytes.length);
+            record.put(REMOVE).put(headerBytes);
+            appendRecord(index, record.array());
+            compactIndexIfNeeded();
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Could not record removal of segment {} in {}", header.getUniqueID(), directory, e);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void fire(EventType type, SegmentHeader header, boolean local) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Event event = new Event(type, header, local);
+        for (SegmentCacheListener listener : listeners) {
+            try {
+                listener.handle(event);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Segment cache listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the data file to append a body of the given length to, starting
+     * a new file if the current one has no room. Bodies larger than the file
+     * size get a file of their own.
+     */
+    private DataFile fileFor(int length) throws IOException {
+        if (current != null && current.position + length <= current.capacity) {
+            return current;
+        }
+        DataFile previous = current;
+        current = createFile(Math.max(length, fileSize));
+        if (previous != null && previous.live == 0) {
+            deleteFile(previous);
+        }
+        return current;
+    }
+
+    private DataFile createFile(long capacity) throws IOException {
+        int id = nextFileId++;
+        Path path = directory.resolve(DATA_PREFIX + id + DATA_SUFFIX);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        DataFile file = map(id, path, channel, capacity);
+        files.put(id, file);
+        totalBytes += capacity;
+        return file;
+    }
+
+    private static DataFile map(int id, Path path, FileChannel channel, long capacity) throws IOException {
+        Arena arena = Arena.ofShared();
+        try {
+            MemorySegment segment = channel.map(MapMode.READ_WRITE, 0, capacity, arena);
+            return new DataFile(id, path, channel, arena, segment);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void release(Entry entry) throws IOException {
+        DataFile file = entry.file;
+        if (--file.live == 0 && file != current) {
+            deleteFile(file);
+        }
+    }
+
+    /**
+     * Deletes the oldest data files, with their segments, until the data
+     * files fit into the size limit. The current file is kept.
+     */
+    private void evict(List<SegmentHeader> evicted) throws IOException {
+        while (totalBytes > maxBytes && files.size() > 1) {
+            DataFile oldest = files.firstEntry().getValue();
+            if (oldest == current) {
+                return;
+            }
+            for (Iterator<Map.Entry<SegmentHeader, Entry>> it = entries.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<SegmentHeader, Entry> e = it.next();
+                if (e.getValue().file == oldest) {
+                    evicted.add(e.getKey());
+                    it.remove();
+                }
+            }
+            deleteFile(oldest);
+        }
+    }
+
+    private void deleteFile(DataFile file) throws IOException {
+        files.remove(file.id);
+        totalBytes -= file.capacity;
+        file.close();
+        Files.deleteIfExists(file.path);
+    }
+
+    private static int checksum(ByteBuffer buffer) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] putRecord(Entry entry, byte[] headerBytes) {
+        ByteBuffer record = ByteBuffer.allocate(1 + 4 + 8 + 4 + 4 + headerBytes.length);
+        record.put(PUT).putInt(entry.file.id).putLong(entry.offset).putInt(entry.length).putInt(entry.checksum)
+            .put(headerBytes);
+        return record.array();
+    }
+
+    /**
+     * Creates the directory with access for its owner only, or checks that the
+     * existing directory is no symbolic link and belongs to the user running
+     * the cache, and restricts it to its owner. Other users can then neither
+     * read the cached cells nor plant segments. File systems without POSIX
+     * permissions are used as they are.
+     */
+    private static void preparePrivateDirectory(Path directory) throws IOException {
+        if (!directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createDirectories(directory);
+            return;
+        }
+        Path parent = directory.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try {
+            Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        } catch (FileAlreadyExistsException e) {
+            // checked below
+        }
+        if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+            throw new IOException("Segment cache directory " + directory + " is not a directory");
+        }
+        UserPrincipal owner = Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS);
+        UserPrincipal user = directory.getFileSystem().getUserPrincipalLookupService()
+            .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!owner.equals(user)) {
+            throw new IOException(
+                "Segment cache directory " + directory + " belongs to " + owner.getName() + ", not to " + user.getName());
+        }
+        Files.setPosixFilePermissions(directory, OWNER_ONLY);
+    }
+
+    private void appendRecord(FileChannel channel, byte[] payload) throws IOException {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        indexRecords++;
+    }
+
+    private void compactIndexIfNeeded() throws IOException {
+        if (indexRecords > 2 * entries.size() + 1024) {
+            writeIndex();
+        }
+    }
+
+    /**
+     * Replaces the index file by one holding a record for each present
+     * segment.
+     */
+    private void writeIndex() throws IOException {
+        Path tmp = directory.resolve(INDEX_FILE + ".tmp");
+        if (index != null) {
+            index.close();
+            index = null;
+        }
+        indexRecords = 0;
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+            header.putInt(INDEX_MAGIC).putInt(INDEX_VERSION).flip();
+            out.write(header);
+            for (Map.Entry<SegmentHeader, Entry> e : entries.entrySet()) {
+                appendRecord(out, putRecord(e.getValue(), SegmentCodec.encodeHeader(e.getKey())));
+            }
+            out.force(true);
+        }
+        Files.move(tmp, directory.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        index = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Maps the data files, replays the index and rewrites it. Data files
+     * without segments are deleted.
+     */
+    private void recover() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, DATA_PREFIX + "*" + DATA_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                int id;
+                try {
+                    id = Integer.parseInt(name.substring(DATA_PREFIX.length(), name.length() - DATA_SUFFIX.length()));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                DataFile file = map(id, path, channel, channel.size());
+                files.put(id, file);
+                totalBytes += file.capacity;
+                nextFileId = Math.max(nextFileId, id + 1);
+            }
+        }
+
+        Path indexPath = directory.resolve(INDEX_FILE);
+        if (Files.exists(indexPath)) {
+            readIndex(indexPath);
+        }
+
+        for (Entry entry : entries.values()) {
+            entry.file.live++;
+            entry.file.position = Math.max(entry.file.position, entry.offset + entry.length);
+        }
+        // Rewrite the index before deleting files, so that no record refers
+        // to a file id that is handed out again.
+        writeIndex();
+        for (DataFile file : new ArrayList<>(files.values())) {
+            if (file.live == 0) {
+                deleteFile(file);
+            }
+        }
+        if (!files.isEmpty()) {
+            current = files.lastEntry().getValue();
+        }
+        List<SegmentHeader> evicted = new ArrayList<>();
+        evict(evicted);
+        if (!evicted.isEmpty()) {
+            writeIndex();
+        }
+        LOGGER.info("Recovered {} segments in {} data files from {}", entries.size(), files.size(), directory);
+    }
+
+    private void readIndex(Path indexPath) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < INDEX_HEADER_SIZE || size > Integer.MAX_VALUE) {
+                LOGGER.warn("Ignoring index {} of unexpected size {}", indexPath, size);
+                return;
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read fully
+            }
+            buffer.flip();
+        }
+        if (buffer.getInt() != INDEX_MAGIC || buffer.getInt() != INDEX_VERSION) {
+            LOGGER.warn("Ignoring index {} of unknown format", indexPath);
+            return;
+        }
+        CRC32C crc = new CRC32C();
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(buffer.position(), length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            buffer.position(buffer.position() + length);
+            try {
+                replay(payload);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Skipping unreadable record in {}", indexPath, e);
+            }
+        }
+        if (buffer.hasRemaining()) {
+            LOGGER.warn("Ignoring {} bytes at the end of {}", buffer.remaining(), indexPath);
+        }
+    }
+
+    private void replay(ByteBuffer payload) {
+        byte op = payload.get();
+        if (op == PUT) {
+            int fileId = payload.getInt();
+            long offset = payload.getLong();
+            int length = payload.getInt();
+            int checksum = payload.getInt();
+            SegmentHeader header = SegmentCodec.decodeHeader(payload);
+            nextFileId = Math.max(nextFileId, fileId + 1);
+            entries.remove(header);
+            DataFile file = files.get(fileId);
+            if (file != null && offset >= 0 && length >= 0 && offset + length <= file.capacity) {
+                entries.put(header, new Entry(file, offset, length, checksum));
+            }
+        } else if (op == REMOVE) {
+            entries.remove(SegmentCodec.decodeHeader(payload));
+        } else {
+            throw new IllegalArgumentException("Unknown index record " + op);
+        }
+    }
+
+    private void closeAll() {
+        try {
+            if (index != null) {
+                index.close();
+                index = null;
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not close index of {}", directory, e);
+        }
+        for (DataFile file : files.values()) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close {}", file.path, e);
+            }
+        }
+        files.clear();
+        entries.clear();
+        current = null;
+        totalBytes = 0;
+        try {
+            if (directoryLock != null) {
+                directoryLock.release();
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not release lock of {}", directory, e);
+        }
+    }
+
+    /**
+     * Mapped data file. Segments are appended at {@link #position}.
+     */
+    private static final class DataFile {
+        final int id;
+        final Path path;
+        final FileChannel channel;
+        final Arena arena;
+        final MemorySegment segment;
+        final long capacity;
+        long position;
+        int live;
+
+        DataFile(int id, Path path, FileChannel channel, Arena arena, MemorySegment segment) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.arena = arena;
+            this.segment = segment;
+            this.capacity = segment.byteSize();
+        }
+
+        void close() throws IOException {
+            arena.close();
+            channel.close();
+        }
+    }
+
+    private record Entry(DataFile file, long offset, int length, int checksum) {
+    }
+
+    private record Event(EventType getEventType, SegmentHeader getSource, boolean isLocal)
+        implements SegmentCacheEvent {
+    }
+}
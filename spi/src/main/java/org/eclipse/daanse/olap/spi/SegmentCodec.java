@@ -0,0 +1,838 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.spi;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.olap.key.CellKey;
+import org.eclipse.daanse.olap.util.ArraySortedSet;
+import org.eclipse.daanse.olap.util.ByteString;
+
+/**
+ * Binary encoding of {@link SegmentHeader} and {@link SegmentBody}, for
+ * {@link SegmentCache} implementations that store segments outside the JVM.
+ *
+ * Compared to Java serialization, the encoding writes dense cell values as
+ * primitive arrays, null indicators as bitmaps, integers as variable length
+ * numbers and the set bits of a {@link BitKey} as deltas. Strings and other
+ * values of headers, axes and object cells are written once per encoding and
+ * referred to by number afterwards. Values of other types than those with an
+ * encoding of their own are rejected when encoding, so that decoding never
+ * creates objects of classes named in the data.
+ *
+ * Decoding checks every length against the remaining bytes before it allocates
+ * an array, and reports every kind of malformed input as an
+ * {@link IllegalArgumentException}.
+ *
+ * Each encoding starts with a magic number and {@link #VERSION}; decoding
+ * rejects data of other kinds or of newer versions.
+ */
+public final class SegmentCodec {
+
+    /** Version of the encoding written by this class. */
+    public static final int VERSION = 1;
+
+    private static final int HEADER_MAGIC = 0x44534748;
+    private static final int BODY_MAGIC = 0x44534742;
+
+    private static final byte DENSE_DOUBLE = 1;
+    private static final byte DENSE_INT = 2;
+    private static final byte DENSE_OBJECT = 3;
+    private static final byte SPARSE = 4;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FALSE = 5;
+    private static final byte TRUE = 6;
+    private static final byte BIG_DECIMAL = 7;
+    private static final byte BIG_INTEGER = 8;
+    private static final byte FLOAT = 9;
+    private static final byte SHORT = 10;
+    private static final byte BYTE = 11;
+    private static final byte SQL_DATE = 12;
+    private static final byte SQL_TIMESTAMP = 13;
+    private static final byte SQL_TIME = 14;
+    private static final byte DATE = 15;
+    private static final byte LOCAL_DATE = 16;
+    private static final byte LOCAL_DATE_TIME = 17;
+    private static final byte LOCAL_TIME = 18;
+    private static final byte CHARACTER = 19;
+    private static final byte SQL_NULL = 20;
+
+    private SegmentCodec() {
+    }
+
+    /**
+     * Encodes a segment header.
+     *
+     * @param header Header
+     * @return Encoded header
+     */
+    public static byte[] encodeHeader(SegmentHeader header) {
+        Output out = new Output(256);
+        out.writeInt(HEADER_MAGIC);
+        out.writeVarInt(VERSION);
+        out.writeString(header.schemaName);
+        ByteString checksum = header.schemaChecksum;
+        out.writeVarInt(checksum.length());
+        for (int i = 0; i < checksum.length(); i++) {
+            out.writeByte(checksum.byteAt(i));
+        }
+        out.writeString(header.cubeName);
+        out.writeString(header.measureName);
+        out.writeString(header.rolapStarFactTableName);
+        out.writeBitKey(header.constrainedColsBitKey);
+        out.writeColumns(header.getConstrainedColumns());
+        out.writeColumns(header.getExcludedRegions());
+        out.writeVarInt(header.compoundPredicates.size());
+        for (String predicate : header.compoundPredicates) {
+            out.writeString(predicate);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a segment header.
+     *
+     * @param bytes Encoded header
+     * @return Header
+     * @throws IllegalArgumentException if the bytes are not an encoded header
+     */
+    public static SegmentHeader decodeHeader(byte[] bytes) {
+        return decodeHeader(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a segment header from the position of a buffer, advancing the
+     * position past the header.
+     *
+     * @param buffer Buffer
+     * @return Header
+     * @throws IllegalArgumentException if the buffer does not hold an encoded
+     *     header at its position
+     */
+    public static SegmentHeader decodeHeader(ByteBuffer buffer) {
+        Input in = new Input(buffer);
+        try {
+            in.readPreamble(HEADER_MAGIC);
+            String schemaName = in.readString();
+            byte[] checksum = in.readBytes();
+            String cubeName = in.readString();
+            String measureName = in.readString();
+            String factTableName = in.readString();
+            BitKey bitKey = in.readBitKey();
+            List<SegmentColumn> constrainedColumns = in.readColumns();
+            List<SegmentColumn> excludedRegions = in.readColumns();
+            int predicateCount = in.readLength(in.buffer.remaining());
+            List<String> compoundPredicates = new ArrayList<>(predicateCount);
+            for (int i = 0; i < predicateCount; i++) {
+                compoundPredicates.add(in.readString());
+            }
+            return new SegmentHeader(schemaName, new ByteString(checksum), cubeName, measureName,
+                    constrainedColumns, compoundPredicates, factTableName, bitKey, excludedRegions);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Truncated or corrupt segment header", e);
+        }
+    }
+
+    /**
+     * Encodes a segment body.
+     *
+     * @param body Body
+     * @return Encoded body
+     * @throws IllegalArgumentException if the body holds a value of a type
+     *     that cannot be encoded
+     */
+    public static byte[] encodeBody(SegmentBody body) {
+        Object valueArray = valueArray(body);
+        int size = valueArray instanceof double[] doubles ? doubles.length
+                : valueArray instanceof int[] ints ? ints.length
+                : valueArray instanceof Object[] objects ? objects.length : 64;
+        Output out = new Output(size * 9 + 256);
+        out.writeInt(BODY_MAGIC);
+        out.writeVarInt(VERSION);
+        out.writeAxes(body.getAxisValueSets(), body.getNullAxisFlags());
+        switch (valueArray) {
+        case double[] doubles -> {
+            out.writeByte(DENSE_DOUBLE);
+            out.writeBitSet(nullIndicators(body));
+            out.writeDoubles(doubles);
+        }
+        case int[] ints -> {
+            out.writeByte(DENSE_INT);
+            out.writeBitSet(nullIndicators(body));
+            out.writeVarInt(ints.length);
+            for (int value : ints) {
+                out.writeVarInt(zigZag(value));
+            }
+        }
+        case Object[] objects -> {
+            out.writeByte(DENSE_OBJECT);
+            BitSet nulls = new BitSet(objects.length);
+            for (int i = 0; i < objects.length; i++) {
+                if (objects[i] == null) {
+                    nulls.set(i);
+                }
+            }
+            out.writeVarInt(objects.length);
+            out.writeBitSet(nulls);
+            for (Object value : objects) {
+                if (value != null) {
+                    out.writeValue(value);
+                }
+            }
+        }
+        case null -> {
+            out.writeByte(SPARSE);
+            out.writeValueMap(body.getValueMap());
+        }
+        default -> throw new IllegalArgumentException(
+                "Unsupported value array " + valueArray.getClass().getName());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a segment body.
+     *
+     * @param bytes Encoded body
+     * @return Body
+     * @throws IllegalArgumentException if the bytes are not an encoded body
+     */
+    public static SegmentBody decodeBody(byte[] bytes) {
+        return decodeBody(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a segment body from the position of a buffer, advancing the
+     * position past the body. Dense numeric values are copied from the buffer
+     * in bulk.
+     *
+     * @param buffer Buffer
+     * @return Body
+     * @throws IllegalArgumentException if the buffer does not hold an encoded
+     *     body at its position
+     */
+    public static SegmentBody decodeBody(ByteBuffer buffer) {
+        Input in = new Input(buffer);
+        try {
+            in.readPreamble(BODY_MAGIC);
+            int axisCount = in.readLength(in.buffer.remaining());
+            @SuppressWarnings("unchecked")
+            SortedSet<Comparable>[] axisValueSets = new SortedSet[axisCount];
+            for (int i = 0; i < axisCount; i++) {
+                axisValueSets[i] = in.readSortedSet();
+            }
+            boolean[] nullAxisFlags = in.readBooleans(axisCount);
+            byte kind = in.buffer.get();
+            switch (kind) {
+            case DENSE_DOUBLE: {
+                BitSet nulls = in.readBitSet();
+                return new DecodedSegmentBody(axisValueSets, nullAxisFlags, in.readDoubles(), nulls, null);
+            }
+            case DENSE_INT: {
+                BitSet nulls = in.readBitSet();
+                int[] values = new int[in.readLength(in.buffer.remaining())];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = unZigZag(in.readVarInt());
+                }
+                return new DecodedSegmentBody(axisValueSets, nullAxisFlags, values, nulls, null);
+            }
+            case DENSE_OBJECT: {
+                // a null value takes one bit, any other value at least a byte
+                Object[] values = new Object[in.readLength(in.buffer.remaining() * 8L)];
+                BitSet nulls = in.readBitSet();
+                for (int i = 0; i < values.length; i++) {
+                    if (!nulls.get(i)) {
+                        values[i] = in.readValue();
+                    }
+                }
+                return new DecodedSegmentBody(axisValueSets, nullAxisFlags, values, null, null);
+            }
+            case SPARSE:
+                return new DecodedSegmentBody(axisValueSets, nullAxisFlags, null, null, in.readValueMap());
+            default:
+                throw new IllegalArgumentException("Unknown segment body kind " + kind);
+            }
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Truncated or corrupt segment body", e);
+        }
+    }
+
+    private static Object valueArray(SegmentBody body) {
+        try {
+            return body.getValueArray();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static BitSet nullIndicators(SegmentBody body) {
+        try {
+            return body.getNullValueIndicators();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Growable big-endian output. Values written with
+     * {@link #writeValue(Object)} are numbered in order of their first
+     * occurrence; later occurrences are written as their number.
+     */
+    private static final class Output {
+        private ByteBuffer buffer;
+        /** Numbers of the values written so far, by class, so that equal values of different classes stay apart. */
+        private final Map<Class<?>, Map<Object, Integer>> dictionary = new HashMap<>();
+        private int dictionarySize;
+
+        Output(int capacity) {
+            buffer = ByteBuffer.allocate(capacity);
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        void writeInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void writeLong(long value) {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void writeVarInt(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarInt(bytes.length);
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        /** Writes a string, or null, as length plus one and UTF-8 bytes. */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void writeDoubles(double[] values) {
+            writeVarInt(values.length);
+            ensure(values.length * 8);
+            buffer.asDoubleBuffer().put(values);
+            buffer.position(buffer.position() + values.length * 8);
+        }
+
+        /** Writes a bit set, or null, as the number of words plus one and the words. */
+        void writeBitSet(BitSet bits) {
+            if (bits == null) {
+                writeVarInt(0);
+                return;
+            }
+            long[] words = bits.toLongArray();
+            writeVarInt(words.length + 1);
+            ensure(words.length * 8);
+            for (long word : words) {
+                buffer.putLong(word);
+            }
+        }
+
+        void writeBooleans(boolean[] values) {
+            if (values == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(values.length + 1);
+            BitSet bits = new BitSet(values.length);
+            for (int i = 0; i < values.length; i++) {
+                bits.set(i, values[i]);
+            }
+            writeBitSet(bits);
+        }
+
+        /** Writes the kind of bit key and the gaps between its set bits. */
+        void writeBitKey(BitKey bitKey) {
+            if (bitKey == null) {
+                writeByte(0);
+                return;
+            }
+            writeByte(bitKey instanceof BitKey.Small ? 1 : bitKey instanceof BitKey.Mid128 ? 2 : 3);
+            writeVarInt(bitKey.cardinality());
+            int previous = -1;
+            for (int bit = bitKey.nextSetBit(0); bit >= 0; bit = bitKey.nextSetBit(bit + 1)) {
+                writeVarInt(bit - previous - 1);
+                previous = bit;
+            }
+        }
+
+        void writeColumns(List<SegmentColumn> columns) {
+            writeVarInt(columns.size());
+            for (SegmentColumn column : columns) {
+                writeValue(column.columnExpression);
+                writeVarLong(zigZag(column.valueCount));
+                writeSortedSet(column.values);
+            }
+        }
+
+        void writeSortedSet(SortedSet<Comparable> values) {
+            if (values == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(values.size() + 1);
+            for (Comparable value : values) {
+                writeValue(value);
+            }
+        }
+
+        void writeAxes(SortedSet<Comparable>[] axes, boolean[] nullAxisFlags) {
+            writeVarInt(axes.length);
+            for (SortedSet<Comparable> axis : axes) {
+                writeSortedSet(axis);
+            }
+            writeBooleans(nullAxisFlags);
+        }
+
+        void writeValueMap(Map<CellKey, Object> map) {
+            writeVarInt(map.size());
+            int arity = -1;
+            for (Map.Entry<CellKey, Object> entry : map.entrySet()) {
+                int[] ordinals = entry.getKey().getOrdinals();
+                if (arity < 0) {
+                    arity = ordinals.length;
+                    writeVarInt(arity);
+                }
+                for (int ordinal : ordinals) {
+                    writeVarInt(ordinal);
+                }
+                writeValue(entry.getValue());
+            }
+        }
+
+        /**
+         * Writes a value as the number of an earlier equal value, or as 0
+         * followed by its type and content.
+         */
+        void writeValue(Object value) {
+            if (value == null) {
+                writeVarInt(0);
+                writeByte(NULL);
+                return;
+            }
+            Map<Object, Integer> numbers = dictionary.computeIfAbsent(value.getClass(), c -> new HashMap<>());
+            Integer index = numbers.putIfAbsent(value, dictionarySize);
+            if (index != null) {
+                writeVarInt(index + 1);
+                return;
+            }
+            dictionarySize++;
+            writeVarInt(0);
+            writeTypedValue(value);
+        }
+
+        private void writeTypedValue(Object value) {
+            if (value == Util.sqlNullValue) {
+                writeByte(SQL_NULL);
+                return;
+            }
+            Class<?> type = value.getClass();
+            if (type == String.class) {
+                writeByte(STRING);
+                writeString((String) value);
+            } else if (type == Integer.class) {
+                writeByte(INTEGER);
+                writeVarInt(zigZag((Integer) value));
+            } else if (type == Long.class) {
+                writeByte(LONG);
+                writeVarLong(zigZag((Long) value));
+            } else if (type == Double.class) {
+                writeByte(DOUBLE);
+                writeLong(Double.doubleToRawLongBits((Double) value));
+            } else if (type == Boolean.class) {
+                writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (type == BigDecimal.class) {
+                BigDecimal decimal = (BigDecimal) value;
+                writeByte(BIG_DECIMAL);
+                writeVarInt(zigZag(decimal.scale()));
+                writeBytes(decimal.unscaledValue().toByteArray());
+            } else if (type == BigInteger.class) {
+                writeByte(BIG_INTEGER);
+                writeBytes(((BigInteger) value).toByteArray());
+            } else if (type == Float.class) {
+                writeByte(FLOAT);
+                writeInt(Float.floatToRawIntBits((Float) value));
+            } else if (type == Short.class) {
+                writeByte(SHORT);
+                writeVarInt(zigZag((int) (Short) value));
+            } else if (type == Byte.class) {
+                writeByte(BYTE);
+                writeByte((Byte) value);
+            } else if (type == java.sql.Date.class) {
+                writeByte(SQL_DATE);
+                writeVarLong(zigZag(((java.sql.Date) value).getTime()));
+            } else if (type == java.sql.Timestamp.class) {
+                java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+                writeByte(SQL_TIMESTAMP);
+                writeVarLong(zigZag(timestamp.getTime()));
+                writeVarInt(timestamp.getNanos());
+            } else if (type == java.sql.Time.class) {
+                writeByte(SQL_TIME);
+                writeVarLong(zigZag(((java.sql.Time) value).getTime()));
+            } else if (type == java.util.Date.class) {
+                writeByte(DATE);
+                writeVarLong(zigZag(((java.util.Date) value).getTime()));
+            } else if (type == LocalDate.class) {
+                writeByte(LOCAL_DATE);
+                writeVarLong(zigZag(((LocalDate) value).toEpochDay()));
+            } else if (type == LocalDateTime.class) {
+                LocalDateTime dateTime = (LocalDateTime) value;
+                writeByte(LOCAL_DATE_TIME);
+                writeVarLong(zigZag(dateTime.toEpochSecond(ZoneOffset.UTC)));
+                writeVarInt(dateTime.getNano());
+            } else if (type == LocalTime.class) {
+                writeByte(LOCAL_TIME);
+                writeVarLong(((LocalTime) value).toNanoOfDay());
+            } else if (type == Character.class) {
+                writeByte(CHARACTER);
+                writeVarInt((Character) value);
+            } else {
+                throw new IllegalArgumentException("Cannot encode value of " + type.getName());
+            }
+        }
+
+        byte[] toByteArray() {
+            byte[] bytes = new byte[buffer.position()];
+            buffer.flip();
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+
+    /**
+     * Reader of the output of {@link Output}, from the current position of a
+     * buffer.
+     */
+    private static final class Input {
+        private final ByteBuffer buffer;
+        private final List<Object> dictionary = new ArrayList<>();
+
+        Input(ByteBuffer buffer) {
+            if (buffer.order() != ByteOrder.BIG_ENDIAN) {
+                throw new IllegalArgumentException("Segment data must be read in big-endian order");
+            }
+            this.buffer = buffer;
+        }
+
+        void readPreamble(int magic) {
+            int actual = buffer.getInt();
+            if (actual != magic) {
+                throw new IllegalArgumentException("Not an encoded segment: magic " + Integer.toHexString(actual));
+            }
+            int version = readVarInt();
+            if (version > VERSION) {
+                throw new IllegalArgumentException(
+                        "Unsupported segment encoding version " + version + ", expected at most " + VERSION);
+            }
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed variable length integer");
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed variable length integer");
+        }
+
+        /**
+         * Reads a length and checks it before an array of that length is
+         * allocated.
+         *
+         * @param maxLength Largest length the remaining bytes can hold
+         */
+        int readLength(long maxLength) {
+            int length = readVarInt();
+            if (length < 0 || length > maxLength) {
+                throw new IllegalArgumentException(
+                        "Length " + length + " exceeds the " + buffer.remaining() + " remaining bytes");
+            }
+            return length;
+        }
+
+        byte[] readBytes() {
+            byte[] bytes = new byte[readLength(buffer.remaining())];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+
+        double[] readDoubles() {
+            double[] values = new double[readLength(buffer.remaining() / 8)];
+            buffer.asDoubleBuffer().get(values);
+            buffer.position(buffer.position() + values.length * 8);
+            return values;
+        }
+
+        BitSet readBitSet() {
+            int length = readLength(buffer.remaining() / 8 + 1) - 1;
+            if (length < 0) {
+                return null;
+            }
+            long[] words = new long[length];
+            for (int i = 0; i < length; i++) {
+                words[i] = buffer.getLong();
+            }
+            return BitSet.valueOf(words);
+        }
+
+        boolean[] readBooleans(int maxLength) {
+            int length = readLength(maxLength + 1L) - 1;
+            if (length < 0) {
+                return null;
+            }
+            BitSet bits = readBitSet();
+            boolean[] values = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = bits.get(i);
+            }
+            return values;
+        }
+
+        BitKey readBitKey() {
+            byte kind = buffer.get();
+            if (kind == 0) {
+                return null;
+            }
+            int count = readLength(buffer.remaining());
+            int[] bits = new int[count];
+            int bit = -1;
+            for (int i = 0; i < count; i++) {
+                bit += readVarInt() + 1;
+                if (bit < 0) {
+                    throw new IllegalArgumentException("Bit key bit out of range");
+                }
+                bits[i] = bit;
+            }
+            int size = switch (kind) {
+            case 1 -> 0;
+            case 2 -> 64;
+            default -> Math.max(128, bit + 1);
+            };
+            BitKey bitKey = BitKey.Factory.makeBitKey(size);
+            for (int b : bits) {
+                bitKey.set(b);
+            }
+            return bitKey;
+        }
+
+        List<SegmentColumn> readColumns() {
+            int count = readLength(buffer.remaining());
+            List<SegmentColumn> columns = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String expression = (String) readValue();
+                long valueCount = unZigZag(readVarLong());
+                columns.add(new SegmentColumn(expression, valueCount, readSortedSet()));
+            }
+            return columns;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        SortedSet<Comparable> readSortedSet() {
+            int size = readLength(buffer.remaining() + 1L) - 1;
+            if (size < 0) {
+                return null;
+            }
+            Comparable[] values = new Comparable[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = (Comparable) readValue();
+            }
+            return new ArraySortedSet(values);
+        }
+
+        Map<CellKey, Object> readValueMap() {
+            int size = readLength(buffer.remaining());
+            Map<CellKey, Object> map = new HashMap<>(size * 4 / 3 + 1);
+            if (size == 0) {
+                return map;
+            }
+            int arity = readLength(buffer.remaining());
+            for (int i = 0; i < size; i++) {
+                int[] ordinals = new int[arity];
+                for (int j = 0; j < arity; j++) {
+                    ordinals[j] = readVarInt();
+                }
+                map.put(CellKey.Generator.newCellKey(ordinals), readValue());
+            }
+            return map;
+        }
+
+        Object readValue() {
+            int index = readVarInt();
+            if (index > 0) {
+                return dictionary.get(index - 1);
+            }
+            byte type = buffer.get();
+            if (type == NULL) {
+                return null;
+            }
+            Object value = readTypedValue(type);
+            dictionary.add(value);
+            return value;
+        }
+
+        private Object readTypedValue(byte type) {
+            return switch (type) {
+            case SQL_NULL -> Util.sqlNullValue;
+            case STRING -> readString();
+            case INTEGER -> unZigZag(readVarInt());
+            case LONG -> unZigZag(readVarLong());
+            case DOUBLE -> Double.longBitsToDouble(buffer.getLong());
+            case FALSE -> Boolean.FALSE;
+            case TRUE -> Boolean.TRUE;
+            case BIG_DECIMAL -> {
+                int scale = unZigZag(readVarInt());
+                yield new BigDecimal(new BigInteger(readBytes()), scale);
+            }
+            case BIG_INTEGER -> new BigInteger(readBytes());
+            case FLOAT -> Float.intBitsToFloat(buffer.getInt());
+            case SHORT -> (short) unZigZag(readVarInt());
+            case BYTE -> buffer.get();
+            case SQL_DATE -> new java.sql.Date(unZigZag(readVarLong()));
+            case SQL_TIMESTAMP -> {
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(unZigZag(readVarLong()));
+                timestamp.setNanos(readVarInt());
+                yield timestamp;
+            }
+            case SQL_TIME -> new java.sql.Time(unZigZag(readVarLong()));
+            case DATE -> new java.util.Date(unZigZag(readVarLong()));
+            case LOCAL_DATE -> LocalDate.ofEpochDay(unZigZag(readVarLong()));
+            case LOCAL_DATE_TIME -> {
+                long seconds = unZigZag(readVarLong());
+                yield LocalDateTime.ofEpochSecond(seconds, readVarInt(), ZoneOffset.UTC);
+            }
+            case LOCAL_TIME -> LocalTime.ofNanoOfDay(readVarLong());
+            case CHARACTER -> (char) readVarInt();
+            default -> throw new IllegalArgumentException("Unknown value type " + type);
+            };
+        }
+    }
+}
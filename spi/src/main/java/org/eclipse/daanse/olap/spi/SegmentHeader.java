@@ -25,6 +25,9 @@
 package org.eclipse.daanse.olap.spi;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -33,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.olap.common.UtilException;
 import org.eclipse.daanse.olap.key.BitKey;
 import org.eclipse.daanse.olap.util.ByteString;
 
@@ -43,22 +47,23 @@ import org.eclipse.daanse.olap.util.ByteString;
  * The segment header objects are immutable and fully serializable.
  *
  * The headers have each an ID which is a SHA-256 checksum of the
- * following properties, concatenated. See
+ * following properties. See
  * {@link SegmentHeader#getUniqueID()}
  * 
  * Schema Name
+ * Schema Checksum
  * Cube Name
  * Measure Name
- * For each column
+ * For each constrained column and excluded region, by column expression
  *   
- *   Column table name
- *   Column physical name
+ *   Column expression
  *   For each predicate value:
  *     
- *     The equivalent of
+ *     Strings and numbers in a binary form, other values as
  *     String.valueof([value object])
  *     
  *   
+ * Compound predicates
  * 
  *
  * @author LBoudreau
@@ -75,6 +80,8 @@ public class SegmentHeader implements Serializable {
     public final String rolapStarFactTableName;
     public final BitKey constrainedColsBitKey;
     private final int hashCode;
+    private transient List<SegmentColumn> sortedColumns;
+    private transient List<SegmentColumn> sortedRegions;
     private ByteString uniqueID;
     private String description;
     public final ByteString schemaChecksum;
@@ -118,6 +125,8 @@ public class SegmentHeader implements Serializable {
         this.rolapStarFactTableName = rolapStarFactTableName;
         this.constrainedColsBitKey = constrainedColsBitKey;
         this.arity = constrainedColumns.size();
+        this.sortedColumns = sorted(constrainedColumns);
+        this.sortedRegions = sorted(excludedRegions);
         // Hash code might be used extensively. Better compute
         // it up front.
         this.hashCode = computeHashCode();
@@ -129,19 +138,28 @@ public class SegmentHeader implements Serializable {
         hash = Util.hash(hash, schemaChecksum);
         hash = Util.hash(hash, cubeName);
         hash = Util.hash(hash, measureName);
-        for (SegmentColumn col : getSortedColumns()) {
-            hash = Util.hash(hash, col.columnExpression);
-            if (col.values != null) {
-                hash = Util.hashArray(hash, col.values.toArray());
-            }
-        }
-        for (SegmentColumn col : getSortedRegions()) {
+        hash = hashColumns(hash, getSortedColumns());
+        hash = hashColumns(hash, getSortedRegions());
+        hash = Util.hash(hash, compoundPredicates);
+        return hash;
+    }
+
+    /**
+     * Hashes the columns as {@link Util#hashArray} hashes their values,
+     * without copying the values to an array.
+     */
+    private static int hashColumns(int hash, List<SegmentColumn> columns) {
+        for (SegmentColumn col : columns) {
             hash = Util.hash(hash, col.columnExpression);
             if (col.values != null) {
-                hash = Util.hashArray(hash, col.values.toArray());
+                if (col.values.isEmpty()) {
+                    hash = Util.hash(hash, 19690721);
+                }
+                for (Object value : col.values) {
+                    hash = Util.hash(hash, value);
+                }
             }
         }
-        hash = Util.hash(hash, compoundPredicates);
         return hash;
     }
 
@@ -344,76 +362,63 @@ public class SegmentHeader implements Serializable {
      */
     public ByteString getUniqueID() {
         if (this.uniqueID == null) {
-            StringBuilder hashSB = new StringBuilder();
-            hashSB.append(this.schemaName);
-            hashSB.append(this.schemaChecksum);
-            hashSB.append(this.cubeName);
-            hashSB.append(this.measureName);
-            for (SegmentColumn c : getSortedColumns()) {
-                hashSB.append(c.columnExpression);
-                if (c.values != null) {
-                    for (Object value : c.values) {
-                        hashSB.append(String.valueOf(value));
-                    }
-                }
-            }
-            for (SegmentColumn c : getSortedRegions()) {
-                hashSB.append(c.columnExpression);
-                if (c.values != null) {
-                    for (Object value : c.values) {
-                        hashSB.append(String.valueOf(value));
-                    }
-                }
+            IdDigest digest = new IdDigest();
+            digest.putString(this.schemaName);
+            for (int i = 0; i < schemaChecksum.length(); i++) {
+                digest.putByte(schemaChecksum.byteAt(i));
             }
+            digest.putString(this.cubeName);
+            digest.putString(this.measureName);
+            digest.putColumns(getSortedColumns());
+            digest.putColumns(getSortedRegions());
+            digest.putVarLong(compoundPredicates.size());
             for (String c : compoundPredicates) {
-                hashSB.append(c);
+                digest.putString(c);
             }
-            this.uniqueID =
-                new ByteString(Util.digestSha256(hashSB.toString()));
+            this.uniqueID = digest.finish();
         }
         return uniqueID;
     }
 
     /**
-     * This function returns a sorted view of the excluded regions
-     * of this segment. We cannot sort them at construction because
-     * changing their order would make it not correspond to its SegmentDataset.
-     * Use this method with caution, not in tight loops.
+     * Returns a sorted view of the excluded regions of this segment. The
+     * regions keep their own order, which corresponds to the
+     * SegmentDataset.
      */
     private List<SegmentColumn> getSortedRegions() {
-        // Sort the columns to make the ID deterministic
-        List<SegmentColumn> sortedRegions = new ArrayList<>(excludedRegions);
-        Collections.sort(
-            sortedRegions,
-            new Comparator<SegmentColumn>() {
-                @Override
-				public int compare(SegmentColumn o1, SegmentColumn o2) {
-                    return o1.columnExpression.compareTo(o2.columnExpression);
-                }
-            });
+        if (sortedRegions == null) {
+            sortedRegions = sorted(excludedRegions);
+        }
         return sortedRegions;
     }
 
     /**
-     * This function returns a sorted view of the constrained columns
-     * of this segment. We cannot sort them at construction because
-     * changing their order would make it not correspond to its SegmentDataset.
-     * Use this method with caution, not in tight loops.
+     * Returns a sorted view of the constrained columns of this segment. The
+     * columns keep their own order, which corresponds to the SegmentDataset.
      */
     private List<SegmentColumn> getSortedColumns() {
-        // Sort the columns to make the ID deterministic
-        List<SegmentColumn> sortedColumns = new ArrayList<>(constrainedColumns);
-        Collections.sort(
-            sortedColumns,
-            new Comparator<SegmentColumn>() {
-                @Override
-				public int compare(SegmentColumn o1, SegmentColumn o2) {
-                    return o1.columnExpression.compareTo(o2.columnExpression);
-                }
-            });
+        if (sortedColumns == null) {
+            sortedColumns = sorted(constrainedColumns);
+        }
         return sortedColumns;
     }
 
+    /**
+     * Returns the columns ordered by column expression, to make the ID
+     * deterministic; the list itself if it already is in order.
+     */
+    private static List<SegmentColumn> sorted(List<SegmentColumn> columns) {
+        Comparator<SegmentColumn> comparator = Comparator.comparing(c -> c.columnExpression);
+        for (int i = 1; i < columns.size(); i++) {
+            if (comparator.compare(columns.get(i - 1), columns.get(i)) > 0) {
+                List<SegmentColumn> sorted = new ArrayList<>(columns);
+                sorted.sort(comparator);
+                return Collections.unmodifiableList(sorted);
+            }
+        }
+        return columns;
+    }
+
     /**
      * Returns a human readable description of this
      * segment header.
@@ -482,4 +487,156 @@ public class SegmentHeader implements Serializable {
         }
         return description;
     }
+
+    /**
+     * Streams the properties of a header into a SHA-256 digest through a
+     * reused buffer. Each value is written with a type tag and a fixed layout,
+     * lists with their length, so that no string of the whole header is built
+     * and different headers cannot run together into the same input.
+     */
+    private static final class IdDigest {
+        private static final byte NULL = 0;
+        private static final byte STRING = 1;
+        private static final byte INTEGRAL = 2;
+        private static final byte FLOATING = 3;
+        private static final byte DECIMAL = 4;
+        private static final byte OTHER = 5;
+        private static final byte ALL = 6;
+
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[8192];
+        private char[] chars = new char[64];
+        private int position;
+
+        IdDigest() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new UtilException(e);
+            }
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.length - position < bytes) {
+                digest.update(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        void putByte(byte b) {
+            ensure(1);
+            buffer[position++] = b;
+        }
+
+        void putLong(long l) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (l >>> shift);
+            }
+        }
+
+        /**
+         * Writes a zigzag encoded variable length number, so that small
+         * numbers of either sign take few bytes.
+         */
+        void putVarLong(long l) {
+            ensure(10);
+            long v = (l << 1) ^ (l >> 63);
+            while ((v & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buffer[position++] = (byte) v;
+        }
+
+        /**
+         * Writes the length and the chars of a string, each char as in
+         * UTF-8 in one to three bytes.
+         */
+        void putString(String s) {
+            if (s == null) {
+                putByte(NULL);
+                return;
+            }
+            int length = s.length();
+            putByte(STRING);
+            putVarLong(length);
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            s.getChars(0, length, chars, 0);
+            int i = 0;
+            while (i < length) {
+                ensure(3);
+                int end = Math.min(length, i + (buffer.length - position) / 3);
+                byte[] b = buffer;
+                int p = position;
+                for (; i < end; i++) {
+                    char c = chars[i];
+                    if (c < 0x80) {
+                        b[p++] = (byte) c;
+                    } else if (c < 0x800) {
+                        b[p++] = (byte) (0xC0 | (c >> 6));
+                        b[p++] = (byte) (0x80 | (c & 0x3F));
+                    } else {
+                        b[p++] = (byte) (0xE0 | (c >> 12));
+                        b[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                        b[p++] = (byte) (0x80 | (c & 0x3F));
+                    }
+                }
+                position = p;
+            }
+        }
+
+        void putColumns(List<SegmentColumn> columns) {
+            putVarLong(columns.size());
+            for (SegmentColumn c : columns) {
+                putString(c.columnExpression);
+                if (c.values == null) {
+                    putByte(ALL);
+                    continue;
+                }
+                putVarLong(c.values.size());
+                for (Object value : c.values) {
+                    putValue(value);
+                }
+            }
+        }
+
+        private void putValue(Object value) {
+            if (value == null) {
+                putByte(NULL);
+            } else if (value instanceof String s) {
+                putString(s);
+            } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+                putByte(INTEGRAL);
+                putVarLong(((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                putByte(FLOATING);
+                putLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+            } else if (value instanceof BigDecimal d) {
+                putByte(DECIMAL);
+                putVarLong(d.scale());
+                byte[] unscaled = d.unscaledValue().toByteArray();
+                putVarLong(unscaled.length);
+                ensure(unscaled.length);
+                if (unscaled.length > buffer.length) {
+                    digest.update(unscaled);
+                } else {
+                    System.arraycopy(unscaled, 0, buffer, position, unscaled.length);
+                    position += unscaled.length;
+                }
+            } else {
+                putByte(OTHER);
+                putString(String.valueOf(value));
+            }
+        }
+
+        ByteString finish() {
+            digest.update(buffer, 0, position);
+            position = 0;
+            return new ByteString(digest.digest());
+        }
+    }
 }
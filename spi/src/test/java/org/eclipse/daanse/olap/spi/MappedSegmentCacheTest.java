@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+import org.eclipse.daanse.olap.exceptions.SegmentCacheFailedToInstanciateException;
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.olap.key.CellKey;
+import org.eclipse.daanse.olap.spi.SegmentCache.SegmentCacheListener.SegmentCacheEvent;
+import org.eclipse.daanse.olap.spi.SegmentCache.SegmentCacheListener.SegmentCacheEvent.EventType;
+import org.eclipse.daanse.olap.util.ArraySortedSet;
+import org.eclipse.daanse.olap.util.ByteString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedSegmentCacheTest {
+
+    private static final int FILE_SIZE = 4096;
+
+    @TempDir
+    Path dir;
+
+    private static SegmentHeader header(String measure) {
+        BitKey bitKey = BitKey.Factory.makeBitKey(8);
+        bitKey.set(1);
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        SortedSet<Comparable> years = new ArraySortedSet(new Comparable[] { 1997, 1998 });
+        return new SegmentHeader("schema", new ByteString(new byte[] { 1 }), "Sales", measure,
+            List.of(new SegmentColumn("time.year", 2, years)), List.of(), "fact", bitKey, List.of());
+    }
+
+    private static SegmentBody body(int size, double value) {
+        double[] values = new double[size];
+        Arrays.fill(values, value);
+        @SuppressWarnings("unchecked")
+        SortedSet<Comparable>[] axes = new SortedSet[0];
+        return new DecodedSegmentBody(axes, new boolean[0], values, new BitSet(), null);
+    }
+
+    private static double first(SegmentBody body) {
+        return ((double[]) body.getValueArray())[0];
+    }
+
+    @Test
+    void putGetRemove() {
+        MappedSegmentCache cache = new MappedSegmentCache(dir, 1 << 20, FILE_SIZE);
+        List<SegmentCacheEvent> events = new ArrayList<>();
+        cache.addListener(events::add);
+        SegmentHeader header = header("Unit Sales");
+
+        assertThat(cache.get(header)).isNull();
+        assertThat(cache.put(header, body(10, 1.5))).isTrue();
+        assertThat(first(cache.get(header))).isEqualTo(1.5);
+        assertThat(cache.getSegmentHeaders()).containsExactly(header);
+        assertThat(cache.put(header, body(10, 2.5))).isTrue();
+        assertThat(first(cache.get(header))).isEqualTo(2.5);
+        assertThat(cache.remove(header)).isTrue();
+        assertThat(cache.remove(header)).isFalse();
+        assertThat(cache.get(header)).isNull();
+
+        assertThat(events).extracting(SegmentCacheEvent::getEventType).containsExactly(EventType.ENTRY_CREATED,
+            EventType.ENTRY_CREATED, EventType.ENTRY_DELETED);
+        assertThat(events).allMatch(SegmentCacheEvent::isLocal);
+        cache.tearDown();
+    }
+
+    @Test
+    void segmentsSurviveRestart() {
+        MappedSegmentCache cache = new MappedSegmentCache(dir, 1 << 20, FILE_SIZE);
+        for (int i = 0; i < 20; i++) {
+            cache.put(header("m" + i), body(100, i));
+        }
+        cache.remove(header("m3"));
+        cache.tearDown();
+
+        MappedSegmentCache reopened = new MappedSegmentCache(dir, 1 << 20, FILE_SIZE);
+        assertThat(reopened.getSegmentHeaders()).hasSize(19).doesNotContain(header("m3"));
+        assertThat(first(reopened.get(header("m7")))).isEqualTo(7.0);
+        assertThat(first(reopened.get(header("m19")))).isEqualTo(19.0);
+        reopened.put(header("m20"), body(100, 20));
+        assertThat(first(reopened.get(header("m0")))).isEqualTo(0.0);
+        reopened.tearDown();
+    }
+
+    @Test
+    void oldestFileIsEvicted() {
+        MappedSegmentCache cache = new MappedSegmentCache(dir, 3 * FILE_SIZE, FILE_SIZE);
+        List<SegmentCacheEvent> events = new ArrayList<>();
+        cache.addListener(events::add);
+        for (int i = 0; i < 20; i++) {
+            cache.put(header("m" + i), body(200, i));
+        }
+
+        assertThat(cache.getTotalBytes()).isLessThanOrEqualTo(3 * FILE_SIZE);
+        assertThat(cache.get(header("m0"))).isNull();
+        assertThat(first(cache.get(header("m19")))).isEqualTo(19.0);
+        assertThat(events).filteredOn(e -> e.getEventType() == EventType.ENTRY_DELETED).isNotEmpty()
+            .noneMatch(SegmentCacheEvent::isLocal);
+        assertThat(cache.getSegmentHeaders()).hasSize(20 - (int) events.stream()
+            .filter(e -> e.getEventType() == EventType.ENTRY_DELETED).count());
+        cache.tearDown();
+    }
+
+    @Test
+    void tornIndexRecordIsIgnored() throws IOException {
+        MappedSegmentCache cache = new MappedSegmentCache(dir, 1 << 20, FILE_SIZE);
+        cache.put(header("a"), body(10, 1));
+        cache.put(header("b"), body(10, 2));
+        cache.tearDown();
+        Path index = dir.resolve("segments.idx");
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        MappedSegmentCache reopened = new MappedSegmentCache(dir, 1 << 20, FILE_SIZE);
+        assertThat(reopened.getSegmentHeaders()).containsExactly(header("a"));
+        assertThat(first(reopened.get(header("a")))).isEqualTo(1.0);
+        reopened.tearDown();
+    }
+
+    @Test
+    void directoryIsLocked() throws IOException {
+        MappedSegmentCache cache = new MappedSegmentCache(dir, 1 << 20, FILE_SIZE);
+
+        assertThatThrownBy(() -> new MappedSegmentCache(dir, 1 << 20, FILE_SIZE))
+            .isInstanceOf(SegmentCacheFailedToInstanciateException.class);
+        cache.tearDown();
+        assertThat(Files.exists(dir.resolve("segments.idx"))).isTrue();
+    }
+
+    @Test
+    void sparseBodiesAreStored() {
+        MappedSegmentCache cache = new MappedSegmentCache(dir, 1 << 20, FILE_SIZE);
+        Map<CellKey, Object> map = Map.of(CellKey.Generator.newCellKey(new int[] { 1 }), "x");
+        @SuppressWarnings("unchecked")
+        SortedSet<Comparable>[] axes = new SortedSet[] { new ArraySortedSet(new Comparable[] { 1, 2 }) };
+        cache.put(header("s"), new DecodedSegmentBody(axes, new boolean[1], null, null, map));
+
+        assertThat(cache.get(header("s")).getValueMap()).isEqualTo(map);
+        cache.tearDown();
+    }
+
+    @Test
+    void corruptBodyIsAMiss() throws IOException {
+        MappedSegmentCache cache = new MappedSegmentCache(dir, 1 << 20, FILE_SIZE);
+        cache.put(header("a"), body(10, 1));
+        cache.tearDown();
+        try (FileChannel channel = FileChannel.open(dir.resolve("segments-0.dat"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7F }), 20);
+        }
+
+        MappedSegmentCache reopened = new MappedSegmentCache(dir, 1 << 20, FILE_SIZE);
+        List<SegmentCacheEvent> events = new ArrayList<>();
+        reopened.addListener(events::add);
+        assertThat(reopened.get(header("a"))).isNull();
+        assertThat(reopened.getSegmentHeaders()).isEmpty();
+        assertThat(events).extracting(SegmentCacheEvent::getEventType).containsExactly(EventType.ENTRY_DELETED);
+        reopened.tearDown();
+    }
+
+    @Test
+    void directoryIsPrivate() throws IOException {
+        assumeTrue(dir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path created = dir.resolve("created");
+        Path shared = Files.createDirectory(dir.resolve("shared"));
+        Files.setPosixFilePermissions(shared, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        new MappedSegmentCache(created, 1 << 20, FILE_SIZE).tearDown();
+        new MappedSegmentCache(shared, 1 << 20, FILE_SIZE).tearDown();
+
+        assertThat(Files.getPosixFilePermissions(created)).isEqualTo(PosixFilePermissions.fromString("rwx------"));
+        assertThat(Files.getPosixFilePermissions(shared)).isEqualTo(PosixFilePermissions.fromString("rwx------"));
+    }
+
+    @Test
+    void linkedDirectoryIsRefused() throws IOException {
+        assumeTrue(dir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path target = Files.createDirectory(dir.resolve("target"));
+        Path link = Files.createSymbolicLink(dir.resolve("link"), target);
+
+        assertThatThrownBy(() -> new MappedSegmentCache(link, 1 << 20, FILE_SIZE))
+            .isInstanceOf(SegmentCacheFailedToInstanciateException.class);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.olap.key.CellKey;
+import org.eclipse.daanse.olap.util.ArraySortedSet;
+import org.eclipse.daanse.olap.util.ByteString;
+import org.junit.jupiter.api.Test;
+
+class SegmentCodecTest {
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static SortedSet<Comparable> set(Comparable... values) {
+        Arrays.sort(values);
+        return new ArraySortedSet(values);
+    }
+
+    private record Body(SortedSet<Comparable>[] axes, boolean[] nullAxisFlags, Object valueArray, BitSet nulls,
+            Map<CellKey, Object> valueMap) implements SegmentBody {
+
+        @Override
+        public Map<CellKey, Object> getValueMap() {
+            return valueMap;
+        }
+
+        @Override
+        public Object getValueArray() {
+            if (valueArray == null) {
+                throw new UnsupportedOperationException();
+            }
+            return valueArray;
+        }
+
+        @Override
+        public BitSet getNullValueIndicators() {
+            return nulls;
+        }
+
+        @Override
+        public SortedSet<Comparable>[] getAxisValueSets() {
+            return axes;
+        }
+
+        @Override
+        public boolean[] getNullAxisFlags() {
+            return nullAxisFlags;
+        }
+    }
+
+    @Test
+    void headerRoundTrip() {
+        BitKey bitKey = BitKey.Factory.makeBitKey(200);
+        bitKey.set(3);
+        bitKey.set(70);
+        bitKey.set(199);
+        List<SegmentColumn> columns = List.of(new SegmentColumn("time.year", 5, set(1997, 1998)),
+                new SegmentColumn("store.name", -1, set("A", "B", "Ü")), new SegmentColumn("x", 3, null));
+        List<SegmentColumn> regions = List.of(new SegmentColumn("store.name", -1, set("B")));
+        SegmentHeader header = new SegmentHeader("schema", new ByteString(new byte[] { 1, 2, 3 }), "Sales",
+                "Unit Sales", columns, List.of("p1"), "fact", bitKey, regions);
+
+        SegmentHeader decoded = SegmentCodec.decodeHeader(SegmentCodec.encodeHeader(header));
+
+        assertThat(decoded).isEqualTo(header).hasSameHashCodeAs(header);
+        assertThat(decoded.getUniqueID()).isEqualTo(header.getUniqueID());
+        assertThat(decoded.constrainedColsBitKey).isEqualTo(bitKey);
+        assertThat(decoded.getConstrainedColumns()).isEqualTo(columns);
+        assertThat(decoded.getConstrainedColumns()).extracting(SegmentColumn::getValueCount).containsExactly(5L, -1L,
+                3L);
+        assertThat(decoded.getExcludedRegions()).isEqualTo(regions);
+        assertThat(decoded.compoundPredicates).containsExactly("p1");
+        assertThat(decoded.rolapStarFactTableName).isEqualTo("fact");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void denseDoubleBodyRoundTrip() {
+        double[] values = new double[1000];
+        BitSet nulls = new BitSet();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 1.5;
+            if (i % 17 == 0) {
+                nulls.set(i);
+            }
+        }
+        SortedSet<Comparable>[] axes = new SortedSet[] { set("a", "b"), set(1, 2, 3) };
+        Body body = new Body(axes, new boolean[] { false, true }, values, nulls, null);
+
+        SegmentBody decoded = SegmentCodec.decodeBody(SegmentCodec.encodeBody(body));
+
+        assertThat((double[]) decoded.getValueArray()).isEqualTo(values);
+        assertThat(decoded.getNullValueIndicators()).isEqualTo(nulls);
+        assertThat(decoded.getAxisValueSets()).isEqualTo(axes);
+        assertThat(decoded.getNullAxisFlags()).containsExactly(false, true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void denseIntBodyRoundTrip() {
+        int[] values = { 0, -1, 5, Integer.MIN_VALUE, Integer.MAX_VALUE };
+        Body body = new Body(new SortedSet[] { set(1, 2, 3, 4, 5) }, new boolean[1], values, new BitSet(), null);
+
+        SegmentBody decoded = SegmentCodec.decodeBody(SegmentCodec.encodeBody(body));
+
+        assertThat((int[]) decoded.getValueArray()).isEqualTo(values);
+        assertThat(decoded.getNullValueIndicators()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void objectValuesKeepTheirClass() {
+        Object[] values = { "a", null, 1, 2L, 3.5, new BigDecimal("1.230"), new BigInteger("123456789012345678901"),
+                true, new java.sql.Date(86400000L), new java.sql.Timestamp(123456789L), new java.util.Date(123456789L),
+                LocalDate.of(2020, 1, 2), LocalDateTime.of(2020, 1, 2, 3, 4, 5, 6), 'c', (short) -3, (byte) 7, 1.5f,
+                Util.sqlNullValue, "a", -0.0, Double.NaN };
+        Body body = new Body(new SortedSet[0], new boolean[0], values, null, null);
+
+        Object[] decoded = (Object[]) SegmentCodec.decodeBody(SegmentCodec.encodeBody(body)).getValueArray();
+
+        assertThat(decoded).containsExactly(values);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                assertThat(decoded[i]).as("value %d", i).isExactlyInstanceOf(values[i].getClass());
+            }
+        }
+        assertThat(decoded[17]).isSameAs(Util.sqlNullValue);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sparseBodyRoundTrip() {
+        Map<CellKey, Object> map = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            map.put(CellKey.Generator.newCellKey(new int[] { i % 10, i / 10, 3 }), i % 7 == 0 ? null : i * 1.5);
+        }
+        Body body = new Body(new SortedSet[] { set(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), set("x"), set(1, 2, 3, 4) },
+                new boolean[3], null, null, map);
+
+        SegmentBody decoded = SegmentCodec.decodeBody(SegmentCodec.encodeBody(body));
+
+        assertThat(decoded.getValueMap()).isEqualTo(map);
+        assertThatThrownBy(decoded::getValueArray).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void invalidInputIsRejected() {
+        byte[] body = SegmentCodec
+                .encodeBody(new Body(new SortedSet[] { set("a", "b") }, new boolean[1], new double[2], null, null));
+
+        assertThatThrownBy(() -> SegmentCodec.decodeHeader(body)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SegmentCodec.decodeBody(Arrays.copyOf(body, body.length - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void valuesWithoutEncodingAreRejected() {
+        Body body = new Body(new SortedSet[0], new boolean[0], new Object[] { new StringBuilder("a") }, null, null);
+
+        assertThatThrownBy(() -> SegmentCodec.encodeBody(body)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(StringBuilder.class.getName());
+    }
+
+    @Test
+    void lengthsAreCheckedBeforeAllocation() {
+        // magic, version, null schema name, checksum of Integer.MAX_VALUE bytes
+        byte[] header = { 0x44, 0x53, 0x47, 0x48, 1, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 };
+        // magic, version, no axes, no null axis flags, dense doubles, no
+        // null indicators, Integer.MAX_VALUE doubles
+        byte[] doubles = { 0x44, 0x53, 0x47, 0x42, 1, 0, 0, 1, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                0x07 };
+
+        assertThatThrownBy(() -> SegmentCodec.decodeHeader(header))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("exceeds");
+        assertThatThrownBy(() -> SegmentCodec.decodeBody(doubles)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exceeds");
+    }
+
+    @Test
+    void serializedValuesAreNotDecoded() {
+        // magic, version, no axes, no null axis flags, dense objects, one
+        // value, empty null indicators, new value of the former Java
+        // serialization type
+        byte[] body = { 0x44, 0x53, 0x47, 0x42, 1, 0, 0, 3, 1, 1, 0, 127, 0 };
+
+        assertThatThrownBy(() -> SegmentCodec.decodeBody(body)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("127");
+    }
+}
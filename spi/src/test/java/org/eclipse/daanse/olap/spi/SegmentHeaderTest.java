@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedSet;
+
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.olap.util.ArraySortedSet;
+import org.eclipse.daanse.olap.util.ByteString;
+import org.junit.jupiter.api.Test;
+
+class SegmentHeaderTest {
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static SortedSet<Comparable> set(Comparable... values) {
+        Arrays.sort(values);
+        return new ArraySortedSet(values);
+    }
+
+    private static SegmentHeader header(List<SegmentColumn> columns) {
+        return new SegmentHeader("schema", new ByteString(new byte[] { 1, 2 }), "Sales", "Unit Sales", columns,
+            List.of(), "fact", BitKey.Factory.makeBitKey(8), List.of());
+    }
+
+    @Test
+    void idDoesNotDependOnColumnOrder() {
+        SegmentColumn store = new SegmentColumn("store.name", -1, set("A", "B"));
+        SegmentColumn year = new SegmentColumn("time.year", -1, set(1997, 1998));
+
+        SegmentHeader h1 = header(List.of(store, year));
+        SegmentHeader h2 = header(List.of(year, store));
+
+        assertThat(h1.getUniqueID()).isEqualTo(h2.getUniqueID());
+        assertThat(h1).isEqualTo(h2).hasSameHashCodeAs(h2);
+        assertThat(h2.getConstrainedColumns()).containsExactly(year, store);
+    }
+
+    @Test
+    void idSeparatesValues() {
+        ByteString id = header(List.of(new SegmentColumn("c", -1, set("ab", "c")))).getUniqueID();
+
+        assertThat(header(List.of(new SegmentColumn("c", -1, set("a", "bc")))).getUniqueID()).isNotEqualTo(id);
+        assertThat(header(List.of(new SegmentColumn("c", -1, set("abc")))).getUniqueID()).isNotEqualTo(id);
+        assertThat(header(List.of(new SegmentColumn("c", -1, null))).getUniqueID())
+            .isNotEqualTo(header(List.of(new SegmentColumn("c", -1, set()))).getUniqueID());
+        assertThat(header(List.of(new SegmentColumn("c", -1, set(new BigDecimal("1.0"))))).getUniqueID())
+            .isNotEqualTo(header(List.of(new SegmentColumn("c", -1, set(new BigDecimal("1.00"))))).getUniqueID());
+        assertThat(header(List.of(new SegmentColumn("c", -1, set(1)))).getUniqueID())
+            .isNotEqualTo(header(List.of(new SegmentColumn("c", -1, set("1")))).getUniqueID());
+    }
+
+    @Test
+    void idOfLongValueLists() {
+        Comparable[] keys = new Comparable[10000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "Member key ä" + i;
+        }
+        SegmentHeader h1 = header(List.of(new SegmentColumn("c", -1, set(keys.clone()))));
+        keys[keys.length - 1] = "Member key ä";
+        SegmentHeader h2 = header(List.of(new SegmentColumn("c", -1, set(keys))));
+
+        assertThat(h1.getUniqueID().length()).isEqualTo(32);
+        assertThat(h1.getUniqueID()).isNotEqualTo(h2.getUniqueID());
+    }
+}
@@ -48,6 +48,7 @@ import static org.eclipse.daanse.olap.util.format.internal.FormatConstants.FORMA
 import static org.eclipse.daanse.olap.util.format.internal.FormatConstants.FORMAT_UPPER_A_SOLIDUS_P;
 import static org.eclipse.daanse.olap.util.format.internal.FormatConstants.INTL_CURRENCY_SYMBOL;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.DateFormatSymbols;
@@ -63,6 +64,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.daanse.olap.util.format.internal.AlternateFormat;
@@ -501,6 +503,149 @@ public class Format {
         return sb.toString();
     }
 
+    /**
+     * Formats a column of doubles, writing the values one after the other,
+     * separated by {@code separator}, to {@code out}.
+     *
+     * Unlike calling {@link #format(Object)} per value, no value is boxed and no
+     * intermediate String is created; when {@code out} is a
+     * {@link StringBuilder} the values are formatted straight into it.
+     *
+     * @param values    the values
+     * @param offset    index of the first value to format
+     * @param length    number of values to format
+     * @param out       the target
+     * @param separator written between two values, may be null
+     * @throws IOException if {@code out} throws
+     */
+    public void format(double[] values, int offset, int length, Appendable out, CharSequence separator)
+            throws IOException {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        formatColumn(offset, length, (i, sb) -> formatValue.format(values[i], sb), out, separator);
+    }
+
+    /**
+     * Formats a column of longs; see
+     * {@link #format(double[], int, int, Appendable, CharSequence)}.
+     */
+    public void format(long[] values, int offset, int length, Appendable out, CharSequence separator)
+            throws IOException {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        formatColumn(offset, length, (i, sb) -> formatValue.format(values[i], sb), out, separator);
+    }
+
+    /**
+     * Formats a column of dates given as milliseconds since the epoch, which
+     * are interpreted in the system default time zone like
+     * {@link java.util.Date} values; see
+     * {@link #format(double[], int, int, Appendable, CharSequence)}.
+     */
+    public void formatEpochMillis(long[] values, int offset, int length, Appendable out, CharSequence separator)
+            throws IOException {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        formatColumn(offset, length, (i, sb) -> formatValue.format(Instant.ofEpochMilli(values[i]), sb), out,
+                separator);
+    }
+
+    /**
+     * Formats a column of doubles into a character buffer. The values are written
+     * without separator; {@code ends[k]} receives the buffer position just after
+     * the value {@code values[offset + k]}, so value {@code k} occupies
+     * {@code [k == 0 ? bufferOffset : ends[k - 1], ends[k])}.
+     *
+     * Stops at the first value that does not fit into the remaining buffer; the
+     * caller can drain the buffer and continue with the values not yet written.
+     *
+     * @param values       the values
+     * @param offset       index of the first value to format
+     * @param length       number of values to format
+     * @param buffer       the target buffer
+     * @param bufferOffset position in {@code buffer} to start writing at
+     * @param ends         receives the end position of each value, must have
+     *                     room for {@code length} entries
+     * @return number of values written
+     */
+    public int format(double[] values, int offset, int length, char[] buffer, int bufferOffset, int[] ends) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        return formatColumn(offset, length, (i, sb) -> formatValue.format(values[i], sb), buffer, bufferOffset,
+                ends);
+    }
+
+    /**
+     * Formats a column of longs into a character buffer; see
+     * {@link #format(double[], int, int, char[], int, int[])}.
+     */
+    public int format(long[] values, int offset, int length, char[] buffer, int bufferOffset, int[] ends) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        return formatColumn(offset, length, (i, sb) -> formatValue.format(values[i], sb), buffer, bufferOffset,
+                ends);
+    }
+
+    /**
+     * Formats a column of dates given as milliseconds since the epoch into a
+     * character buffer; see
+     * {@link #formatEpochMillis(long[], int, int, Appendable, CharSequence)} and
+     * {@link #format(double[], int, int, char[], int, int[])}.
+     */
+    public int formatEpochMillis(long[] values, int offset, int length, char[] buffer, int bufferOffset,
+            int[] ends) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        return formatColumn(offset, length, (i, sb) -> formatValue.format(Instant.ofEpochMilli(values[i]), sb),
+                buffer, bufferOffset, ends);
+    }
+
+    /**
+     * Formats one element of a column into a StringBuilder.
+     */
+    @FunctionalInterface
+    private interface ColumnElement {
+        void format(int index, StringBuilder sb);
+    }
+
+    private static void formatColumn(int offset, int length, ColumnElement element, Appendable out,
+            CharSequence separator) throws IOException {
+        if (out instanceof StringBuilder target) {
+            for (int i = 0; i < length; i++) {
+                if (i > 0 && separator != null) {
+                    target.append(separator);
+                }
+                element.format(offset + i, target);
+            }
+            return;
+        }
+        // One scratch builder for the whole column, handed to the target as a
+        // CharSequence so no String is created per value.
+        StringBuilder sb = new StringBuilder(32);
+        for (int i = 0; i < length; i++) {
+            sb.setLength(0);
+            if (i > 0 && separator != null) {
+                sb.append(separator);
+            }
+            element.format(offset + i, sb);
+            out.append(sb);
+        }
+    }
+
+    private static int formatColumn(int offset, int length, ColumnElement element, char[] buffer, int bufferOffset,
+            int[] ends) {
+        Objects.checkFromToIndex(bufferOffset, buffer.length, buffer.length);
+        Objects.checkFromIndexSize(0, length, ends.length);
+        StringBuilder sb = new StringBuilder(32);
+        int position = bufferOffset;
+        for (int i = 0; i < length; i++) {
+            sb.setLength(0);
+            element.format(offset + i, sb);
+            int n = sb.length();
+            if (n > buffer.length - position) {
+                return i;
+            }
+            sb.getChars(0, n, buffer, position);
+            position += n;
+            ends[i] = position;
+        }
+        return length;
+    }
+
     /**
      * Returns the format string.
      *
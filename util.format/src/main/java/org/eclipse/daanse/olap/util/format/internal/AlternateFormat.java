@@ -82,7 +82,7 @@ public final class AlternateFormat extends BasicFormat {
                     int size = sb.length();
                     sb.append('-');
                     positiveFormat.format(-n, sb);
-                    if (sb.substring(size, size + 2).equals("-|")) {
+                    if (sb.length() > size + 1 && sb.charAt(size + 1) == '|') {
                         sb.setCharAt(size, '|');
                         sb.setCharAt(size + 1, '-');
                     }
@@ -130,7 +130,7 @@ public final class AlternateFormat extends BasicFormat {
                     final int size = sb.length();
                     sb.append('-');
                     positiveFormat.format(-n, sb);
-                    if (sb.substring(size, size + 2).equals("-|")) {
+                    if (sb.length() > size + 1 && sb.charAt(size + 1) == '|') {
                         sb.setCharAt(size, '|');
                         sb.setCharAt(size + 1, '-');
                     }
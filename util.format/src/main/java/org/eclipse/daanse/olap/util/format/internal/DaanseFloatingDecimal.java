@@ -31,6 +31,8 @@
 
 package org.eclipse.daanse.olap.util.format.internal;
 
+import java.util.Arrays;
+
 /**
  * Representation of a number as a list of digits.
  *
@@ -42,11 +44,24 @@ public class DaanseFloatingDecimal {
     public int decExponent;
     public char digits[];
     public int nDigits;
-    private final DigitList digitList = new DigitList();
-    private final DigitList expDigitList = new DigitList();
 
     private static final int MAX_SIGNIFICANT_DIGITS = 19;
 
+    /**
+     * Bounds of the values {@link #setShortest(double)} handles. Below the lower
+     * bound {@link DigitList} may round; below the upper bound {@code d * 10^k}
+     * and its neighbours are exact integers in a double.
+     */
+    private static final double SHORTEST_MIN = 1e-3;
+    private static final double SHORTEST_LIMIT = 0x1p52;
+
+    /** Powers of ten that are exact doubles. */
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private static final long NO_CANDIDATE = -1;
+    private static final long AMBIGUOUS = -2;
+
     public DaanseFloatingDecimal(double d) {
         if (d < 0) {
             isNegative = true;
@@ -54,6 +69,10 @@ public class DaanseFloatingDecimal {
         } else {
             isNegative = false;
         }
+        if (setShortest(d)) {
+            return;
+        }
+        DigitList digitList = new DigitList();
         digitList.set(d, MAX_SIGNIFICANT_DIGITS, true);
         nDigits = 0;
         for (int i = 0; i < digitList.digits.length; i++) {
@@ -66,6 +85,115 @@ public class DaanseFloatingDecimal {
         decExponent = digitList.decimalAt;
     }
 
+    /**
+     * Sets the digits of a non-negative value without going through
+     * {@link Double#toString(double)} and {@link DigitList}, producing exactly
+     * the state the general path would.
+     *
+     * The shortest decimal is found directly: {@code c / 10^k == d} is an exact
+     * test whether the decimal {@code c * 10^-k} rounds to {@code d}, because
+     * both operands are exact doubles and the division is correctly rounded.
+     * The smallest {@code k} for which a candidate next to {@code d * 10^k}
+     * passes is found by bisection, as a passing decimal with {@code k} places
+     * still passes with {@code k + 1}. Values that are too large, too small or
+     * need more digits than fit in 52 bits, and the rare case of two passing
+     * candidates, return {@code false} and take the general path.
+     *
+     * @return whether the digits were set
+     */
+    private boolean setShortest(double d) {
+        if (d == 0) {
+            // what DigitList makes of "0.0"
+            decExponent = -1;
+            nDigits = 0;
+            digits = new char[MAX_SIGNIFICANT_DIGITS];
+            return true;
+        }
+        if (!(d >= SHORTEST_MIN && d < SHORTEST_LIMIT)) {
+            return false;
+        }
+        int maxPlaces = 0;
+        while (maxPlaces + 1 < POWERS_OF_TEN.length && d * POWERS_OF_TEN[maxPlaces + 1] < SHORTEST_LIMIT) {
+            maxPlaces++;
+        }
+        if (candidate(d, maxPlaces) == NO_CANDIDATE) {
+            return false;
+        }
+        int places = 0;
+        int high = maxPlaces;
+        while (places < high) {
+            int mid = (places + high) >>> 1;
+            if (candidate(d, mid) == NO_CANDIDATE) {
+                places = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        long significand = candidate(d, places);
+        if (significand < 0) {
+            return false;
+        }
+
+        int length = 1;
+        for (long v = significand; v >= 10; v /= 10) {
+            length++;
+        }
+        int decimalAt = length - places;
+        long stripped = significand;
+        int strippedLength = length;
+        while (stripped % 10 == 0) {
+            stripped /= 10;
+            strippedLength--;
+        }
+        if (strippedLength > MAX_SIGNIFICANT_DIGITS + decimalAt || -decimalAt >= MAX_SIGNIFICANT_DIGITS) {
+            // DigitList would round
+            return false;
+        }
+        // DigitList keeps every digit Double.toString writes, less the leading
+        // zeros: plain notation for 10^-3 <= d < 10^7 with at least one fraction
+        // digit, scientific notation with at least two digits otherwise.
+        int written;
+        if (decimalAt < -2 || decimalAt > 7) {
+            written = Math.max(strippedLength, 2);
+        } else if (decimalAt > 0) {
+            written = decimalAt + Math.max(places, 1);
+        } else {
+            written = length;
+        }
+
+        digits = new char[Math.max(written, MAX_SIGNIFICANT_DIGITS)];
+        for (int i = strippedLength - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + stripped % 10);
+            stripped /= 10;
+        }
+        Arrays.fill(digits, strippedLength, written, '0');
+        nDigits = written;
+        decExponent = decimalAt;
+        return true;
+    }
+
+    /**
+     * Returns the only {@code c} near {@code d * 10^places} for which
+     * {@code c * 10^-places} rounds to {@code d}, {@link #NO_CANDIDATE} or
+     * {@link #AMBIGUOUS}.
+     */
+    private static long candidate(double d, int places) {
+        double scale = POWERS_OF_TEN[places];
+        long base = (long) (d * scale);
+        long found = NO_CANDIDATE;
+        // d * scale is off by at most half a unit, the rounding interval of d
+        // scaled is at most one unit wide
+        for (long c = Math.max(base - 2, 0); c <= base + 2; c++) {
+            if (c / scale == d) {
+                if (found != NO_CANDIDATE) {
+                    return AMBIGUOUS;
+                }
+                found = c;
+            }
+        }
+        return found;
+    }
+
     @Override
     public String toString() {
         final StringBuilder s = new StringBuilder(MAX_SIGNIFICANT_DIGITS);
@@ -125,6 +253,7 @@ public class DaanseFloatingDecimal {
      */
     public int formatExponent(char[] result, int i, boolean expSign, int minExpDigits) {
         int useExp = nDigits == 0 ? 0 : decExponent - 1;
+        DigitList expDigitList = new DigitList();
         expDigitList.set(Math.abs(useExp));
         if (useExp < 0 || expSign) {
             result[i++] = useExp < 0 ? '-' : '+';
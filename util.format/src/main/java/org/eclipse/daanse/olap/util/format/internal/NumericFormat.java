@@ -154,28 +154,28 @@ public final class NumericFormat extends JavaFormat {
         return FormatType.NUMERIC;
     }
 
-    private ArrayList<Integer> getThousandSeparatorPositions() {
-        // Defensive copy
-        return new ArrayList<>(cachedThousandSeparatorPositions);
-    }
-
     private int countOccurrences(final String s, final char c) {
         return (int) s.chars().filter(ch -> ch == c).count();
     }
 
     @Override
     public void format(double n, StringBuilder sb) {
-        DaanseFloatingDecimal fd = new DaanseFloatingDecimal(n);
-        shift(fd, decimalShift);
         final int formatDigitsRightOfPoint = zeroesRightOfPoint + digitsRightOfPoint;
-        if (n == 0.0 || (n < 0 && !shows(fd, formatDigitsRightOfPoint))) {
+        DaanseFloatingDecimal fd;
+        if (n == 0.0) {
+            fd = new DaanseFloatingDecimal(0);
+        } else {
+            fd = new DaanseFloatingDecimal(n);
+            shift(fd, decimalShift);
+        }
+        if (n < 0 && !shows(fd, formatDigitsRightOfPoint)) {
             // Underflow of negative number. Make it zero, so there is no
             // '-' sign.
             fd = new DaanseFloatingDecimal(0);
         }
         formatFd0(fd, sb, zeroesLeftOfPoint, locale.decimalPlaceholder(), zeroesRightOfPoint, formatDigitsRightOfPoint,
                 expChar, expSign, zeroesRightOfExp, useThouSep ? locale.thousandSeparator() : '\0', useDecimal,
-                getThousandSeparatorPositions());
+                cachedThousandSeparatorPositions);
     }
 
     @Override
@@ -206,7 +206,7 @@ public final class NumericFormat extends JavaFormat {
         shift(fd, decimalShift);
         formatFd0(fd, sb, zeroesLeftOfPoint, locale.decimalPlaceholder(), zeroesRightOfPoint,
                 zeroesRightOfPoint + digitsRightOfPoint, expChar, expSign, zeroesRightOfExp,
-                useThouSep ? locale.thousandSeparator() : '\0', useDecimal, getThousandSeparatorPositions());
+                useThouSep ? locale.thousandSeparator() : '\0', useDecimal, cachedThousandSeparatorPositions);
     }
 
     static void shift(DaanseFloatingDecimal fd, int i) {
@@ -379,29 +379,32 @@ public final class NumericFormat extends JavaFormat {
         if (thousandChar != '\0' && !thousandSeparatorPositions.isEmpty()) {
             // Now print the number. That will happen backwards, so we
             // store it temporarily and then invert.
-            ArrayList<Character> formattedWholeDigits = new ArrayList<>();
+            int wholeCount = Math.max(wholeDigits - firstDigitToPrint, 0);
+            char[] formattedWholeDigits = new char[wholeCount * 2];
+            int nbFormatted = 0;
+            // Group sizes are used from the last one; the first one is kept
+            // because we re-apply it until the end of the digits.
+            int group = thousandSeparatorPositions.size() - 1;
             // We need to keep track of how many digits we printed in the
             // current token.
             int nbInserted = 0;
             for (int j = wholeDigits - 1; j >= firstDigitToPrint; j--) {
                 // Check if we need to insert another thousand separator
-                if (nbInserted % thousandSeparatorPositions.getLast() == 0 && nbInserted > 0) {
-                    formattedWholeDigits.add(thousandChar);
+                if (nbInserted % thousandSeparatorPositions.get(group) == 0 && nbInserted > 0) {
+                    formattedWholeDigits[nbFormatted++] = thousandChar;
                     nbInserted = 0;
-                    // The last format token is kept because we re-apply it
-                    // until the end of the digits.
-                    if (thousandSeparatorPositions.size() > 1) {
-                        thousandSeparatorPositions.removeLast();
+                    if (group > 0) {
+                        group--;
                     }
                 }
                 // Insert the next digit.
-                formattedWholeDigits.add(digits2[j]);
+                formattedWholeDigits[nbFormatted++] = digits2[j];
                 nbInserted++;
             }
             // We're done. Invert the print out and add it to
             // the result array.
-            while (!formattedWholeDigits.isEmpty()) {
-                result[i++] = formattedWholeDigits.removeLast();
+            while (nbFormatted > 0) {
+                result[i++] = formattedWholeDigits[--nbFormatted];
             }
         } else {
             // There are no thousand separators. Just put the
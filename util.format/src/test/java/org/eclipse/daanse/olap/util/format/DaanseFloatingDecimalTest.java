@@ -140,4 +140,26 @@ class DaanseFloatingDecimalTest {
         // -0.0 should be treated as non-negative for display
         assertThat(fd.isNegative).isFalse();
     }
+
+    @Test
+    void testDigitsAsWrittenByDoubleToString() {
+        // "100.0"
+        assertDigits(new DaanseFloatingDecimal(100.0), 3, "1000");
+        // "1.0E7"
+        assertDigits(new DaanseFloatingDecimal(1e7), 8, "10");
+        // "1234.56"
+        assertDigits(new DaanseFloatingDecimal(-1234.56), 4, "123456");
+        // "0.05"
+        assertDigits(new DaanseFloatingDecimal(0.05), -1, "5");
+        // "0.3333333333333333"
+        assertDigits(new DaanseFloatingDecimal(1d / 3), 0, "3333333333333333");
+        // "1.0E-5", below the fast path
+        assertDigits(new DaanseFloatingDecimal(1e-5), -4, "10");
+    }
+
+    private static void assertDigits(DaanseFloatingDecimal fd, int decExponent, String digits) {
+        assertThat(fd.decExponent).isEqualTo(decExponent);
+        assertThat(fd.nDigits).isEqualTo(digits.length());
+        assertThat(new String(fd.digits, 0, fd.nDigits)).isEqualTo(digits);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.util.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Test;
+
+class FormatColumnTest {
+
+    private static final double[] DOUBLES = { 1234.5, -0.25, 0, 1e9, -98765.4321 };
+    private static final long[] LONGS = { 0, 7, -12, 1_000_000 };
+
+    @Test
+    void doubleColumnMatchesSingleValues() throws IOException {
+        for (String pattern : new String[] { "Currency", "Percent", "#,##0.00;(#,##0.00);Zero", "|#|style='red'" }) {
+            Format format = new Format(pattern, Locale.US);
+            StringBuilder sb = new StringBuilder();
+            StringWriter writer = new StringWriter();
+            format.format(DOUBLES, 0, DOUBLES.length, sb, "\t");
+            format.format(DOUBLES, 0, DOUBLES.length, writer, "\t");
+
+            StringJoiner expected = new StringJoiner("\t");
+            for (double d : DOUBLES) {
+                expected.add(format.format(d));
+            }
+            assertThat(sb).hasToString(expected.toString());
+            assertThat(writer).hasToString(expected.toString());
+        }
+    }
+
+    @Test
+    void longColumnRespectsOffsetAndLength() throws IOException {
+        Format format = new Format("#,##0", Locale.US);
+        StringBuilder sb = new StringBuilder("x");
+        format.format(LONGS, 1, 2, sb, null);
+        assertThat(sb).hasToString("x7-12");
+    }
+
+    @Test
+    void epochMillisFormatLikeDates() throws IOException {
+        Format format = new Format("yyyy-mm-dd hh:nn", Locale.US);
+        long[] millis = { 0L, 1_700_000_000_000L };
+        StringBuilder sb = new StringBuilder();
+        format.formatEpochMillis(millis, 0, millis.length, sb, ",");
+        assertThat(sb).hasToString(format.format(new Date(millis[0])) + "," + format.format(new Date(millis[1])));
+    }
+
+    @Test
+    void charBufferStopsAtFirstValueThatDoesNotFit() {
+        Format format = new Format("0.0", Locale.US);
+        double[] values = { 1, 22, 333 };
+        char[] buffer = new char[9];
+        int[] ends = new int[3];
+
+        int written = format.format(values, 0, values.length, buffer, 1, ends);
+
+        assertThat(written).isEqualTo(2);
+        assertThat(ends).startsWith(4, 8);
+        assertThat(new String(buffer, 1, ends[1] - 1)).isEqualTo("1.022.0");
+
+        assertThat(format.format(values, 2, 1, buffer, 0, ends)).isEqualTo(1);
+        assertThat(new String(buffer, 0, ends[0])).isEqualTo("333.0");
+    }
+}
@@ -101,4 +101,13 @@ public @interface ContextGroupXmlaServiceConfig {
     @AttributeDefinition(name = "%TreeOpEnum.MDTREEOP_ANCESTORS", required = false)
     String treeOpEnumMdTreeOpAncestorsDescription() default "";
 
+    @AttributeDefinition(name = "Scenario session timeout", description = "Seconds after the last request of a session at which its scenario is discarded, 0 for no timeout", required = false)
+    int scenarioSessionTimeoutSeconds() default 3600;
+
+    @AttributeDefinition(name = "Scenario session limit", description = "Maximum number of sessions with a scenario, 0 for no limit", required = false)
+    int scenarioSessionMaxCount() default 1000;
+
+    @AttributeDefinition(name = "Scenario session memory limit", description = "Maximum estimated memory in bytes of the scenarios of all sessions, 0 for no limit", required = false)
+    long scenarioSessionMaxBytes() default 268435456L;
+
 }
@@ -587,7 +587,7 @@ public class Utils {
 
         return getMdSchemaMembersResponseRow(catalog, oSchemaName, oCubeName, oDimensionUniqueName,
                 oHierarchyUniqueName, oLevelUniqueName, oLevelNumber, oMemberName, oMemberUniqueName, oMemberType,
-                oCubeSource, oTreeOp, emitInvisibleMembers);
+                oMemberCaption, oCubeSource, oTreeOp, emitInvisibleMembers);
 
     }
 
@@ -691,20 +691,20 @@ public class Utils {
             Optional<String> oSchemaName, Optional<String> oCubeName, Optional<String> oDimensionUniqueName,
             Optional<String> oHierarchyUniqueName, Optional<String> oLevelUniqueName, Optional<Integer> oLevelNumber,
             Optional<String> oMemberName, Optional<String> oMemberUniqueName, Optional<MemberTypeEnum> oMemberType,
-            Optional<CubeSourceEnum> oCubeSource, Optional<TreeOpEnum> oTreeOp,
+            Optional<String> oMemberCaption, Optional<CubeSourceEnum> oCubeSource, Optional<TreeOpEnum> oTreeOp,
             Optional<Boolean> emitInvisibleMembers) {
         List<Cube> cubes = catalog.getCubes();
         return getCubesWithFilter(cubes, oCubeName).stream()
                 .map(c -> getMdSchemaMembersResponseRow(catalog.getName(), null, c, oDimensionUniqueName,
                         oHierarchyUniqueName, oLevelUniqueName, oLevelNumber, oMemberName, oMemberUniqueName,
-                        oMemberType, oCubeSource, oTreeOp, emitInvisibleMembers))
+                        oMemberType, oMemberCaption, oCubeSource, oTreeOp, emitInvisibleMembers))
                 .flatMap(Collection::stream).toList();
     }
 
     private static List<MdSchemaMembersResponseRow> getMdSchemaMembersResponseRow(String catalogName, String schemaName,
             Cube cube, Optional<String> oDimensionUniqueName, Optional<String> oHierarchyUniqueName,
             Optional<String> oLevelUniqueName, Optional<Integer> oLevelNumber, Optional<String> oMemberName,
-            Optional<String> oMemberUniqueName, Optional<MemberTypeEnum> oMemberType,
+            Optional<String> oMemberUniqueName, Optional<MemberTypeEnum> oMemberType, Optional<String> oMemberCaption,
             Optional<CubeSourceEnum> oCubeSource, Optional<TreeOpEnum> oTreeOp,
             Optional<Boolean> emitInvisibleMembers) {
         if (!oMemberUniqueName.isPresent()) {
@@ -717,32 +717,34 @@ public class Utils {
                 if (l.isPresent()) {
                     List<Member> members = cube.getLevelMembers(l.get(), true);
                     return getMdSchemaMembersResponseRow(catalogName, schemaName, cube, members, oMemberUniqueName,
-                            oMemberType, emitInvisibleMembers);
+                            oMemberName, oMemberCaption, oMemberType, emitInvisibleMembers);
                 }
             }
             List<? extends Dimension> dimensions = cube.getDimensions() == null ? List.of() : cube.getDimensions();
             return getDimensionsWithFilterByUniqueName(dimensions, oDimensionUniqueName).stream()
                     .map(d -> getMdSchemaMembersResponseRow(catalogName, schemaName, cube, d, oHierarchyUniqueName,
-                            oLevelNumber, oMemberUniqueName, oMemberType, emitInvisibleMembers))
+                            oLevelNumber, oMemberUniqueName, oMemberName, oMemberCaption, oMemberType,
+                            emitInvisibleMembers))
                     .flatMap(Collection::stream).toList();
         }
     }
 
     private static List<MdSchemaMembersResponseRow> getMdSchemaMembersResponseRow(String catalogName, String schemaName,
             Cube cube, Dimension dimension, Optional<String> oHierarchyUniqueName, Optional<Integer> oLevelNumber,
-            Optional<String> oMemberUniqueName, Optional<MemberTypeEnum> oMemberType,
-            Optional<Boolean> emitInvisibleMembers) {
+            Optional<String> oMemberUniqueName, Optional<String> oMemberName, Optional<String> oMemberCaption,
+            Optional<MemberTypeEnum> oMemberType, Optional<Boolean> emitInvisibleMembers) {
         List<? extends Hierarchy> hierarchies = dimension.getHierarchies() == null ? List.of()
                 : dimension.getHierarchies();
         return getHierarchiesWithFilterByUniqueName(hierarchies, oHierarchyUniqueName).stream()
                 .map(h -> getMdSchemaMembersResponseRow(catalogName, schemaName, cube, h, oLevelNumber,
-                        oMemberUniqueName, oMemberType, emitInvisibleMembers))
+                        oMemberUniqueName, oMemberName, oMemberCaption, oMemberType, emitInvisibleMembers))
                 .flatMap(Collection::stream).toList();
     }
 
     private static List<MdSchemaMembersResponseRow> getMdSchemaMembersResponseRow(String catalogName, String schemaName,
             Cube cube, Hierarchy hierarchy, Optional<Integer> oLevelNumber, Optional<String> oMemberUniqueName,
-            Optional<MemberTypeEnum> oMemberType, Optional<Boolean> emitInvisibleMembers) {
+            Optional<String> oMemberName, Optional<String> oMemberCaption, Optional<MemberTypeEnum> oMemberType,
+            Optional<Boolean> emitInvisibleMembers) {
         if (oLevelNumber.isPresent()) {
             int levelNumber = oLevelNumber.get();
             if (levelNumber == -1) {
@@ -758,8 +760,8 @@ public class Utils {
 
             Level level = levels.get(levelNumber);
             List<Member> members = cube.getLevelMembers(level, true);
-            return getMdSchemaMembersResponseRow(catalogName, schemaName, cube, members, oMemberUniqueName, oMemberType,
-                    emitInvisibleMembers);
+            return getMdSchemaMembersResponseRow(catalogName, schemaName, cube, members, oMemberUniqueName,
+                    oMemberName, oMemberCaption, oMemberType, emitInvisibleMembers);
         } else {
             // At this point we get ALL of the members associated with
             // the Hierarchy (rather than getting them one at a time).
@@ -769,16 +771,20 @@ public class Utils {
             List<Member> members =  levels.stream()
             .map(l -> cube.getLevelMembers(l, true)).flatMap(Collection::stream).distinct().toList();
             return getMdSchemaMembersResponseRow(catalogName, schemaName, cube,
-                    members, oMemberUniqueName, oMemberType, emitInvisibleMembers);
+                    members, oMemberUniqueName, oMemberName, oMemberCaption, oMemberType, emitInvisibleMembers);
                     
         }
 
     }
 
     private static List<MdSchemaMembersResponseRow> getMdSchemaMembersResponseRow(String catalogName, String schemaName,
-            Cube cube, List<Member> members, Optional<String> oMemberUniqueName, Optional<MemberTypeEnum> oMemberType,
+            Cube cube, List<Member> members, Optional<String> oMemberUniqueName, Optional<String> oMemberName,
+            Optional<String> oMemberCaption, Optional<MemberTypeEnum> oMemberType,
             Optional<Boolean> emitInvisibleMembers) {
-        return getMembersWithFilterByType(getMembersWithFilterByUniqueName(members, oMemberUniqueName), oMemberType)
+        List<Member> filtered = getMembersWithFilterByUniqueName(members, oMemberUniqueName);
+        filtered = getMembersWithFilterByName(filtered, oMemberName);
+        filtered = getMembersWithFilterByCaption(filtered, oMemberCaption);
+        return getMembersWithFilterByType(filtered, oMemberType)
                 .stream()
                 .map(m -> getMdSchemaMembersResponseRow(catalogName, schemaName, cube, m, emitInvisibleMembers))
                 .flatMap(Collection::stream).toList();
@@ -814,6 +820,21 @@ public class Utils {
         return members;
     }
 
+    private static List<Member> getMembersWithFilterByName(List<Member> members, Optional<String> oMemberName) {
+        if (oMemberName.isPresent()) {
+            return members.stream().filter(m -> oMemberName.get().equals(m.getName())).toList();
+        }
+        return members;
+    }
+
+    private static List<Member> getMembersWithFilterByCaption(List<Member> members,
+            Optional<String> oMemberCaption) {
+        if (oMemberCaption.isPresent()) {
+            return members.stream().filter(m -> oMemberCaption.get().equals(m.getCaption())).toList();
+        }
+        return members;
+    }
+
     private static List<MdSchemaMembersResponseRow> getMdSchemaMembersResponseRow(String catalogName, String schemaName,
             Cube cube, Member member, Optional<Boolean> emitInvisibleMembers) {
 
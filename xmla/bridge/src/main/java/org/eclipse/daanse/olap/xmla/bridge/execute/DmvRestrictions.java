@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.bridge.execute;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.daanse.olap.api.query.NameSegment;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.Id;
+import org.eclipse.daanse.olap.api.query.component.Literal;
+import org.eclipse.daanse.olap.api.query.component.UnresolvedFunCall;
+import org.eclipse.daanse.xmla.api.execute.ExecuteParameter;
+
+/**
+ * Equality restrictions extracted from the WHERE clause of a DMV
+ * ({@code $SYSTEM}) query.
+ * <p>
+ * Only conjunctive {@code column = value} terms are collected, where value is
+ * a literal or an {@code @parameter}. Every other term (OR, {@code <>}, bare
+ * columns) is ignored, so the restrictions always describe a superset of the
+ * rows the WHERE clause accepts. They are used to prune the discover rowset
+ * early; the WHERE clause itself is still applied to the pruned rows.
+ */
+class DmvRestrictions {
+
+    private static final DmvRestrictions NONE = new DmvRestrictions(Map.of());
+
+    private final Map<String, String> equalities;
+
+    private DmvRestrictions(Map<String, String> equalities) {
+        this.equalities = equalities;
+    }
+
+    static DmvRestrictions of(Expression where, List<ExecuteParameter> parameters) {
+        if (where == null) {
+            return NONE;
+        }
+        Map<String, String> equalities = new HashMap<>();
+        collect(where, parameters, equalities);
+        return equalities.isEmpty() ? NONE : new DmvRestrictions(equalities);
+    }
+
+    Optional<String> get(String column) {
+        return Optional.ofNullable(equalities.get(column));
+    }
+
+    Optional<Integer> getInteger(String column) {
+        String value = equalities.get(column);
+        if (value != null) {
+            try {
+                return Optional.of(Integer.valueOf(value.trim()));
+            } catch (NumberFormatException e) {
+                // not a number: leave it to the WHERE clause
+            }
+        }
+        return Optional.empty();
+    }
+
+    boolean isEmpty() {
+        return equalities.isEmpty();
+    }
+
+    private static void collect(Expression exp, List<ExecuteParameter> parameters, Map<String, String> equalities) {
+        if (!(exp instanceof UnresolvedFunCall funCall)) {
+            return;
+        }
+        Expression[] args = funCall.getArgs();
+        switch (funCall.getOperationAtom().name()) {
+        case "AND":
+            collect(args[0], parameters, equalities);
+            collect(args[1], parameters, equalities);
+            break;
+        case "=":
+            String column = columnName(args[0]);
+            String value = constantValue(args[1], parameters);
+            if (column == null || value == null) {
+                column = columnName(args[1]);
+                value = constantValue(args[0], parameters);
+            }
+            if (column != null && value != null) {
+                // a contradicting second term only narrows further; the WHERE clause removes the rest
+                equalities.putIfAbsent(column, value);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static String columnName(Expression exp) {
+        String name = segmentName(exp);
+        return name != null && !name.startsWith("@") ? name : null;
+    }
+
+    private static String constantValue(Expression exp, List<ExecuteParameter> parameters) {
+        if (exp instanceof Literal literal) {
+            Object value = literal.getValue();
+            return value != null ? value.toString() : null;
+        }
+        String name = segmentName(exp);
+        if (name != null && name.startsWith("@") && parameters != null) {
+            String parameterName = name.substring(1);
+            for (ExecuteParameter parameter : parameters) {
+                if (parameterName.equals(parameter.name())) {
+                    return parameter.value() instanceof String s ? s : null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String segmentName(Expression exp) {
+        if (exp instanceof Id id && id.getElement(0) instanceof NameSegment ns) {
+            return ns.getName();
+        }
+        return null;
+    }
+}
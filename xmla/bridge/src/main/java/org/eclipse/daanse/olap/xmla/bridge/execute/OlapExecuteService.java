@@ -25,12 +25,20 @@ import java.io.StringWriter;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.daanse.lcid.api.LcidService;
 import org.eclipse.daanse.mdx.model.api.select.Allocation;
@@ -44,6 +52,8 @@ import org.eclipse.daanse.olap.api.connection.ConnectionProps;
 import org.eclipse.daanse.olap.api.element.Catalog;
 import org.eclipse.daanse.olap.api.element.Cube;
 import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
+import org.eclipse.daanse.olap.api.execution.AdmissionControl;
+import org.eclipse.daanse.olap.api.execution.QueryPriority;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.query.NameSegment;
 import org.eclipse.daanse.olap.api.query.component.CalculatedFormula;
@@ -186,12 +196,31 @@ public class OlapExecuteService implements ExecuteService {
     private static final String MDX_CUBE_0_NOT_FOUND = "MDX cube ''{0}'' not found";
     public static final String SESSION_ID = "sessionId";
     public static final String CODE3238658121 = "3238658121";
+    private static final String CUBE_NAME = "CUBE_NAME";
+    private static final String DIMENSION_NAME = "DIMENSION_NAME";
+    private static final String DIMENSION_UNIQUE_NAME = "DIMENSION_UNIQUE_NAME";
+    private static final String HIERARCHY_NAME = "HIERARCHY_NAME";
+    private static final String HIERARCHY_UNIQUE_NAME = "HIERARCHY_UNIQUE_NAME";
+    private static final String LEVEL_UNIQUE_NAME = "LEVEL_UNIQUE_NAME";
+    private static final String LEVEL_NUMBER = "LEVEL_NUMBER";
+    private static final String MEASURE_NAME = "MEASURE_NAME";
+    private static final String MEASURE_UNIQUE_NAME = "MEASURE_UNIQUE_NAME";
+    private static final String MEASUREGROUP_NAME = "MEASUREGROUP_NAME";
+    private static final String MEMBER_NAME = "MEMBER_NAME";
+    private static final String MEMBER_UNIQUE_NAME = "MEMBER_UNIQUE_NAME";
+    private static final String MEMBER_CAPTION = "MEMBER_CAPTION";
     private ContextListSupplyer contextsListSupplyer;
     private ContextGroupXmlaServiceConfig config;
     private final DBSchemaDiscoverService dbSchemaService;
     private final MDSchemaDiscoverService mdSchemaService;
     private final OtherDiscoverService otherDiscoverService;
     private final LcidService lcidService;
+    private final ScenarioSessionStore scenarioSessions;
+    /**
+     * Guards the fact of each cube, see
+     * {@link #withSessionValues(Cube, List, Runnable)}.
+     */
+    private final Map<Cube, ReadWriteLock> factLocks = Collections.synchronizedMap(new WeakHashMap<>());
 
     public OlapExecuteService(ContextListSupplyer contextsListSupplyer, ActionService actionService,
             LcidService lcidService, ContextGroupXmlaServiceConfig config) {
@@ -201,6 +230,9 @@ public class OlapExecuteService implements ExecuteService {
         dbSchemaService = new DBSchemaDiscoverService(contextsListSupplyer);
         mdSchemaService = new MDSchemaDiscoverService(contextsListSupplyer, actionService);
         otherDiscoverService = new OtherDiscoverService(contextsListSupplyer, config);
+        scenarioSessions = config == null ? new ScenarioSessionStore(Duration.ofHours(1), 0, 0)
+                : new ScenarioSessionStore(Duration.ofSeconds(config.scenarioSessionTimeoutSeconds()),
+                        config.scenarioSessionMaxCount(), config.scenarioSessionMaxBytes());
     }
 
     @Override
@@ -246,14 +278,41 @@ public class OlapExecuteService implements ExecuteService {
         return new ClearCacheResponseR(new EmptyresultR(null, null));
     }
 
+    /**
+     * Executes a statement and returns its response. The rows of a
+     * drill-through are read into the response before it is returned; use
+     * {@link #statement(StatementRequest, RequestMetaData, UserRolePrincipal, StatementResponseWriter)}
+     * to write them while they are read.
+     */
     @Override
     public StatementResponse statement(StatementRequest statementRequest, RequestMetaData metaData,
             UserRolePrincipal userRolePrincipal) {
+        CollectingResponseWriter writer = new CollectingResponseWriter();
+        statement(statementRequest, metaData, userRolePrincipal, writer);
+        return writer.response;
+    }
+
+    /**
+     * Executes a statement and writes its response.
+     *
+     * The rows of a drill-through are passed to the writer as a
+     * {@link RowSource} and read from the database while the writer writes
+     * them. The statement keeps its connection and admission permit until the
+     * writer returns, and closes the row source then, also if writing fails.
+     *
+     * @param statementRequest  Statement to execute
+     * @param metaData          Meta data of the request
+     * @param userRolePrincipal User executing the statement
+     * @param writer            Writer of the response
+     */
+    public void statement(StatementRequest statementRequest, RequestMetaData metaData,
+            UserRolePrincipal userRolePrincipal, StatementResponseWriter writer) {
 
         String statement = statementRequest.command().statement();
         if (statement == null || statement.isBlank()) {
             LOGGER.warn("Empty statement received");
-            return new StatementResponseR(null, null);
+            writer.write(new StatementResponseR(null, null));
+            return;
         }
 
         Optional<String> oCatalog = statementRequest.properties().catalog();
@@ -267,22 +326,27 @@ public class OlapExecuteService implements ExecuteService {
                     .filter(ctx -> catalogName.equals(ctx.getName())).findAny();
             Context context = oContext.get();
                 Locale locale = getLocale(statementRequest.properties());
-                Connection connection = context.getConnection(new ConnectionProps(RoleUtils.getRoles(contextsListSupplyer, r -> userRolePrincipal.hasRole(r)), locale));
+                List<String> roles = RoleUtils.getRoles(contextsListSupplyer, r -> userRolePrincipal.hasRole(r));
+                Connection connection = context.getConnection(new ConnectionProps(roles, locale));
                 QueryComponent queryComponent = connection.parseStatement(statement);
 
-                return switch (queryComponent) {
-                    case DrillThrough drillThrough -> executeDrillThroughQuery(statementRequest, drillThrough);
-                    case CalculatedFormula calculatedFormula -> executeCalculatedFormula(connection, calculatedFormula);
-                    case DmvQuery dmvQuery -> executeDmvQuery(connection, dmvQuery, metaData, statementRequest);
+                switch (queryComponent) {
+                    case DrillThrough drillThrough -> admitted(context, userRolePrincipal.userName(), roles,
+                            () -> executeDrillThroughQuery(statementRequest, drillThrough, writer));
+                    case CalculatedFormula calculatedFormula -> writer.write(executeCalculatedFormula(connection, calculatedFormula));
+                    case DmvQuery dmvQuery -> writer.write(executeDmvQuery(connection, dmvQuery, metaData, statementRequest));
                         // TODO: remove  userRolePrincipal,  metaData,
-                    case Refresh refresh -> executeRefresh(connection, refresh);
-                    case Update update -> executeUpdate(connection, statementRequest, update);
-                    case TransactionCommand transactionCommand -> executeTransactionCommand(connection, statementRequest, transactionCommand,
-                            userRolePrincipal.userName());
-                    case Query query -> executeQuery(statementRequest, query);
-                    case SqlQuery sqlQuery -> executeSqlQuery(sqlQuery);
-                    default -> null;
-                };
+                    case Refresh refresh -> writer.write(executeRefresh(connection, refresh));
+                    case Update update -> writer.write(executeUpdate(connection, statementRequest, update));
+                    case TransactionCommand transactionCommand -> writer.write(executeTransactionCommand(connection, statementRequest, transactionCommand,
+                            userRolePrincipal.userName()));
+                    case Query query -> admitted(context, userRolePrincipal.userName(), roles,
+                            () -> executeQuery(statementRequest, query, writer));
+                    case SqlQuery sqlQuery -> writer.write(executeSqlQuery(sqlQuery));
+                    default -> {
+                    }
+                }
+                return;
             
         } else {
             if (contextsListSupplyer.getContexts() != null && !contextsListSupplyer.getContexts().isEmpty()) {
@@ -301,8 +365,9 @@ public class OlapExecuteService implements ExecuteService {
                         }
                         RowSetR rowSet = DiscoveryResponseConverter
                                 .dbSchemaCatalogsResponseRowToRowSet(dbSchemaCatalogsResponseRowSetList);
-                        return new StatementResponseR(null, filterRowSetByColumns(rowSet, dmvQuery.getColumns(),
-                                dmvQuery.getWhereExpression(), statementRequest.parameters()));
+                        writer.write(new StatementResponseR(null, filterRowSetByColumns(rowSet, dmvQuery.getColumns(),
+                                dmvQuery.getWhereExpression(), statementRequest.parameters())));
+                        return;
                     } else if (tableName.equalsIgnoreCase(OperationNames.MDSCHEMA_CUBES)) {
                         // special case for MDSCHEMA_CUBES without catalog : return from all catalogs
                         List<RowSetRow> rsrs = new ArrayList<>();
@@ -319,8 +384,9 @@ public class OlapExecuteService implements ExecuteService {
                             rsrs.addAll(rowSet.rowSetRows());
                         }
                         RowSetR combinedRowSet = new RowSetR(rsrs);
-                        return new StatementResponseR(null, filterRowSetByColumns(combinedRowSet, dmvQuery.getColumns(),
-                                dmvQuery.getWhereExpression(), statementRequest.parameters()));
+                        writer.write(new StatementResponseR(null, filterRowSetByColumns(combinedRowSet, dmvQuery.getColumns(),
+                                dmvQuery.getWhereExpression(), statementRequest.parameters())));
+                        return;
 
                     }
 
@@ -328,10 +394,26 @@ public class OlapExecuteService implements ExecuteService {
 //                here
         }
         }
-        return new StatementResponseR(null, null);
+        writer.write(new StatementResponseR(null, null));
 
     }
 
+    /**
+     * Runs an execution with a permit of the admission control of the context.
+     * The permit is held until the execution, including writing its response,
+     * is done.
+     */
+    private static void admitted(Context<?> context, String userName, List<String> roles, Runnable execution) {
+        Optional<AdmissionControl> admissionControl = context.getAdmissionControl();
+        if (admissionControl.isEmpty()) {
+            execution.run();
+            return;
+        }
+        try (AdmissionControl.Permit _ = admissionControl.get().admit(userName, roles, QueryPriority.INTERACTIVE)) {
+            execution.run();
+        }
+    }
+
     private Locale getLocale(Properties properties) {
         if (lcidService != null) { 
             Optional<Locale> oLocale = lcidService.lcidToLocale(properties != null ? properties.localeIdentifier() : Optional.empty());
@@ -349,29 +431,27 @@ public class OlapExecuteService implements ExecuteService {
         }
     }
 
-    private StatementResponse executeQuery(StatementRequest statementRequest, Query query) {
-        ScenarioSession session = ScenarioSession.getWithoutCheck(statementRequest.sessionId());
+    private void executeQuery(StatementRequest statementRequest, Query query, StatementResponseWriter writer) {
+        ScenarioSession session = scenarioSessions.getWithoutCheck(statementRequest.sessionId());
         // RelationalQueryMapping fact = null;
         Cube cube = query.getCube();
-        try {
-            Scenario scenario;
-            if (session != null) {
-                scenario = session.getScenario();
-                if (scenario != null) {
-                    query.getConnection().setScenario(scenario);
-                } else {
-                    scenario = query.getConnection().createScenario();
-                    query.getConnection().setScenario(scenario);
-                }
+        Scenario scenario;
+        if (session != null) {
+            scenario = session.getScenario();
+            if (scenario != null) {
+                query.getConnection().setScenario(scenario);
             } else {
-                session = ScenarioSession.create(statementRequest.sessionId());
                 scenario = query.getConnection().createScenario();
                 query.getConnection().setScenario(scenario);
-
             }
+        } else {
+            scenario = query.getConnection().createScenario();
+            query.getConnection().setScenario(scenario);
+        }
 
-            // scenario.setWriteBackTable(cube.getWritebackTable());
-            cube.modifyFact(scenario.getSessionValues());
+        // scenario.setWriteBackTable(cube.getWritebackTable());
+        List<Map<String, Map.Entry<DataTypeJdbc, Object>>> sessionValues = scenario.getSessionValues();
+        withSessionValues(cube, sessionValues, () -> {
             Statement statement = query.getConnection().createStatement();
             String mdx = statementRequest.command().statement();
             if ((mdx != null) && (mdx.length() != 0)) {
@@ -389,28 +469,29 @@ public class OlapExecuteService implements ExecuteService {
                 Optional<Format> format = statementRequest.properties().format();
                 if (!format.isPresent() || Format.NATIVE.equals(format.get())
                         || Format.MULTIDIMENSIONAL.equals(format.get())) {
-                    return XmlaResponseConverter.toStatementResponseMddataset(cellSet, omitDefaultSlicerInfo, json);
+                    writer.write(XmlaResponseConverter.toStatementResponseMddataset(cellSet, omitDefaultSlicerInfo,
+                            json));
+                } else {
+                    writer.write(XmlaResponseConverter.toStatementResponseRowSet(cellSet));
                 }
-                return XmlaResponseConverter.toStatementResponseRowSet(cellSet);
             }
-            return null;
-        } finally {
-            cube.restoreFact();
-        }
+        });
     }
 
     private StatementResponse executeTransactionCommand(Connection connection, StatementRequest statementRequest,
             TransactionCommand transactionCommand, String userId) {
         String sessionId = statementRequest.sessionId();
         if (transactionCommand.getCommand() == Command.BEGIN) {
-            ScenarioSession session = ScenarioSession.create(sessionId);
+            ScenarioSession session = scenarioSessions.create(sessionId);
             Scenario scenario = connection.createScenario();
             session.setScenario(scenario);
+            scenarioSessions.update(session);
         } else if (transactionCommand.getCommand() == Command.ROLLBACK) {
-            ScenarioSession session = ScenarioSession.get(sessionId);
+            ScenarioSession session = scenarioSessions.get(sessionId);
             session.setScenario(null);
+            scenarioSessions.update(session);
         } else if (transactionCommand.getCommand() == Command.COMMIT) {
-            ScenarioSession session = ScenarioSession.get(sessionId);
+            ScenarioSession session = scenarioSessions.get(sessionId);
             Scenario scenario = session.getScenario();
             List<Cube> cubes = connection.getCatalog().getCubes();
             if (cubes != null) {
@@ -420,12 +501,13 @@ public class OlapExecuteService implements ExecuteService {
             }
             // writeBackService.commit(scenario, connection, userId);
             scenario.clear();
+            scenarioSessions.update(session);
         }
         return new StatementResponseR(null, null);
     }
 
     private StatementResponse executeUpdate(Connection connection, StatementRequest statementRequest, Update update) {
-        ScenarioSession session = ScenarioSession.get(statementRequest.sessionId());
+        ScenarioSession session = scenarioSessions.get(statementRequest.sessionId());
         if (session != null) {
             Scenario scenario = session.getScenario();
             connection.setScenario(scenario);
@@ -466,10 +548,20 @@ public class OlapExecuteService implements ExecuteService {
                             .orElseThrow(() -> createCubeNotFoundException(cubeName));
                     List<Map<String, Map.Entry<DataTypeJdbc, Object>>> values = cube.getAllocationValues(tupleString,
                             cell.getValue(), allocationPolicy);
-                    scenario.getSessionValues().addAll(values);
+                    List<Map<String, Map.Entry<DataTypeJdbc, Object>>> sessionValues = scenario.getSessionValues();
+                    int previousSize = sessionValues.size();
+                    sessionValues.addAll(values);
+                    try {
+                        scenarioSessions.update(session);
+                    } catch (OlapRuntimeException e) {
+                        // the store is full: the write is rejected
+                        sessionValues.subList(previousSize, sessionValues.size()).clear();
+                        throw e;
+                    }
                     connection.getCacheControl(null).flushSchemaCache();
                 }
             }
+            scenarioSessions.update(session);
         }
         return new StatementResponseR(null, null);
     }
@@ -504,6 +596,7 @@ public class OlapExecuteService implements ExecuteService {
         Catalog catalog = connection.getCatalog();
         String tableName = dmvQuery.getTableName().toUpperCase();
         List<String> columns = dmvQuery.getColumns();
+        DmvRestrictions where = DmvRestrictions.of(dmvQuery.getWhereExpression(), statementRequest.parameters());
 
         RowSetR rowSet = null;
         switch (tableName) {
@@ -563,7 +656,8 @@ public class OlapExecuteService implements ExecuteService {
             break;
         case OperationNames.MDSCHEMA_DIMENSIONS:
             MdSchemaDimensionsRestrictionsR mdSchemaDimensionsRestrictions = new MdSchemaDimensionsRestrictionsR(
-                    empty(), empty(), empty(), empty(), empty(), empty(), empty());
+                    empty(), empty(), where.get(CUBE_NAME), where.get(DIMENSION_NAME),
+                    where.get(DIMENSION_UNIQUE_NAME), empty(), empty());
             MdSchemaDimensionsRequest mdSchemaDimensionsRequest = new MdSchemaDimensionsRequestR(
                     (PropertiesR) statementRequest.properties(), mdSchemaDimensionsRestrictions);
             rowSet = DiscoveryResponseConverter.mdSchemaDimensionsResponseRowToRowSet(
@@ -587,7 +681,8 @@ public class OlapExecuteService implements ExecuteService {
             break;
         case OperationNames.MDSCHEMA_HIERARCHIES:
             MdSchemaHierarchiesRestrictionsR mdSchemaHierarchiesRestrictions = new MdSchemaHierarchiesRestrictionsR(
-                    empty(), empty(), empty(), empty(), empty(), empty(), empty(), empty(), empty());
+                    empty(), empty(), where.get(CUBE_NAME), empty(), where.get(DIMENSION_UNIQUE_NAME),
+                    where.get(HIERARCHY_NAME), where.get(HIERARCHY_UNIQUE_NAME), empty(), empty());
             MdSchemaHierarchiesRequest mdSchemaHierarchiesRequest = new MdSchemaHierarchiesRequestR(
                     (PropertiesR) statementRequest.properties(), mdSchemaHierarchiesRestrictions);
             rowSet = DiscoveryResponseConverter.mdSchemaHierarchiesResponseRowToRowSet(
@@ -611,7 +706,8 @@ public class OlapExecuteService implements ExecuteService {
             break;
         case OperationNames.MDSCHEMA_MEASURES:
             MdSchemaMeasuresRestrictionsR mdSchemaMeasuresRestrictions = new MdSchemaMeasuresRestrictionsR(empty(),
-                    empty(), empty(), empty(), empty(), empty());
+                    empty(), where.get(CUBE_NAME), where.get(MEASURE_NAME), where.get(MEASURE_UNIQUE_NAME),
+                    where.get(MEASUREGROUP_NAME));
             MdSchemaMeasuresRequest mdSchemaMeasuresRequest = new MdSchemaMeasuresRequestR(
                     (PropertiesR) statementRequest.properties(), mdSchemaMeasuresRestrictions);
             rowSet = DiscoveryResponseConverter.mdSchemaMeasuresResponseRowToRowSet(
@@ -619,8 +715,10 @@ public class OlapExecuteService implements ExecuteService {
             break;
         case OperationNames.MDSCHEMA_MEMBERS:
             MdSchemaMembersRestrictionsR mdSchemaMembersRestrictions = new MdSchemaMembersRestrictionsR(empty(),
-                    empty(), empty(), empty(), empty(), empty(), empty(), empty(), empty(), empty(), empty(), empty(),
-                    empty());
+                    empty(), where.get(CUBE_NAME), where.get(DIMENSION_UNIQUE_NAME),
+                    where.get(HIERARCHY_UNIQUE_NAME), where.get(LEVEL_UNIQUE_NAME), where.getInteger(LEVEL_NUMBER),
+                    where.get(MEMBER_NAME), where.get(MEMBER_UNIQUE_NAME), empty(), where.get(MEMBER_CAPTION),
+                    empty(), empty());
             MdSchemaMembersRequest mdSchemaMembersRequest = new MdSchemaMembersRequestR(
                     (PropertiesR) statementRequest.properties(), mdSchemaMembersRestrictions);
             rowSet = DiscoveryResponseConverter.mdSchemaMembersResponseRowToRowSet(
@@ -734,7 +832,7 @@ public class OlapExecuteService implements ExecuteService {
         return r;
     }
 
-    private boolean isCompatible(RowSetRow row, Expression exp, List<ExecuteParameter> parameters) {
+    private static boolean isCompatible(RowSetRow row, Expression exp, List<ExecuteParameter> parameters) {
         if (exp == null) {
             return true;
         }
@@ -777,7 +875,7 @@ public class OlapExecuteService implements ExecuteService {
         return true;
     }
 
-    private Object getValue(RowSetRow row, Expression exp, List<ExecuteParameter> parameters) {
+    private static Object getValue(RowSetRow row, Expression exp, List<ExecuteParameter> parameters) {
         return switch (exp) {
             case Id id -> {
                 Segment s = id.getElement(0);
@@ -807,23 +905,30 @@ public class OlapExecuteService implements ExecuteService {
         };
     }
 
-    private RowSetR filterRowSetByColumns(RowSetR rowSet, List<String> columns, Expression where,
+    static RowSetR filterRowSetByColumns(RowSetR rowSet, List<String> columns, Expression where,
             List<ExecuteParameter> parameters) {
-        if (columns != null && !columns.isEmpty() && rowSet.rowSetRows() != null && !rowSet.rowSetRows().isEmpty()) {
-            List<RowSetRow> rowSetRows = new ArrayList<RowSetRow>();
-            for (RowSetRow rr : rowSet.rowSetRows()) {
-                if (isCompatible(rr, where, parameters)) {
-                    if (columns != null && !columns.isEmpty() && rr.rowSetRowItem() != null) {
-                        rowSetRows.add(new RowSetRowR(
-                                rr.rowSetRowItem().stream().filter(i -> columns.contains(i.tagName())).toList()));
-                    } else {
-                        rowSetRows.add(rr);
+        boolean project = columns != null && !columns.isEmpty();
+        if ((!project && where == null) || rowSet.rowSetRows() == null || rowSet.rowSetRows().isEmpty()) {
+            return rowSet;
+        }
+        Set<String> columnSet = project ? new HashSet<>(columns) : Set.of();
+        List<RowSetRow> rowSetRows = new ArrayList<RowSetRow>();
+        for (RowSetRow rr : rowSet.rowSetRows()) {
+            if (isCompatible(rr, where, parameters)) {
+                if (project && rr.rowSetRowItem() != null) {
+                    List<RowSetRowItem> items = new ArrayList<>(columnSet.size());
+                    for (RowSetRowItem item : rr.rowSetRowItem()) {
+                        if (columnSet.contains(item.tagName())) {
+                            items.add(item);
+                        }
                     }
+                    rowSetRows.add(new RowSetRowR(items));
+                } else {
+                    rowSetRows.add(rr);
                 }
             }
-            return new RowSetR(rowSetRows);
         }
-        return rowSet;
+        return new RowSetR(rowSetRows);
     }
 
     private StatementResponse executeCalculatedFormula(Connection connection, CalculatedFormula calculatedFormula) {
@@ -839,58 +944,126 @@ public class OlapExecuteService implements ExecuteService {
         return new StatementResponseR(null, null);
     }
 
-    private StatementResponse executeDrillThroughQuery(StatementRequest statementRequest, DrillThrough drillThrough) {
-        Optional<String> tabFields = statementRequest.properties().tableFields();
-//        Optional<Boolean> advanced = statementRequest.properties().advancedFlag();
+    private void executeDrillThroughQuery(StatementRequest statementRequest, DrillThrough drillThrough,
+            StatementResponseWriter writer) {
         Connection connection = drillThrough.getQuery().getConnection();
-        final boolean enableRowCount = connection.getContext().getConfigValue(ConfigConstants.ENABLE_TOTAL_COUNT,
-                ConfigConstants.ENABLE_TOTAL_COUNT_DEFAULT_VALUE, Boolean.class);
-        final int[] rowCountSlot = enableRowCount ? new int[] { 0 } : null;
-        Statement statement;
-        ResultSet resultSet = null;
-        Cube c = null;
-        ScenarioSession session = ScenarioSession.getWithoutCheck(statementRequest.sessionId());
-        if (drillThrough.getQuery() != null) {
-            c = drillThrough.getQuery().getCube();
-        }
         try {
-            if (c != null) {
+            Cube cube = drillThrough.getQuery().getCube();
+            List<Map<String, Map.Entry<DataTypeJdbc, Object>>> sessionValues = null;
+            if (cube != null) {
+                ScenarioSession session = scenarioSessions.getWithoutCheck(statementRequest.sessionId());
                 Scenario scenario;
                 if (session != null) {
                     scenario = session.getScenario();
                     connection.setScenario(scenario);
                 } else {
-                    session = ScenarioSession.create(statementRequest.sessionId());
-                    scenario = drillThrough.getQuery().getConnection().createScenario();
-                    drillThrough.getQuery().getConnection().setScenario(scenario);
-
+                    scenario = connection.createScenario();
+                    connection.setScenario(scenario);
                 }
                 if (connection.getScenario() != null) {
-                    c.modifyFact(scenario.getSessionValues());
+                    sessionValues = scenario.getSessionValues();
                 }
             }
-            statement = connection.createStatement();
+            // the rows are read while they are written, so the fact stays as
+            // it is until the row source is closed
+            withSessionValues(cube, sessionValues, () -> {
+                try (RowSource rows = openDrillThroughRows(statementRequest, drillThrough, connection)) {
+                    writer.write(rows);
+                }
+            });
+        } finally {
+            connection.close();
+        }
+    }
+
+    private RowSource openDrillThroughRows(StatementRequest statementRequest, DrillThrough drillThrough,
+            Connection connection) {
+        Optional<String> tabFields = statementRequest.properties().tableFields();
+//        Optional<Boolean> advanced = statementRequest.properties().advancedFlag();
+        final boolean enableRowCount = connection.getContext().getConfigValue(ConfigConstants.ENABLE_TOTAL_COUNT,
+                ConfigConstants.ENABLE_TOTAL_COUNT_DEFAULT_VALUE, Boolean.class);
+        final int[] rowCountSlot = enableRowCount ? new int[] { 0 } : null;
+        ResultSet resultSet = null;
+        try {
+            Statement statement = connection.createStatement();
             resultSet = statement.executeQuery(drillThrough, tabFields, rowCountSlot);
             int rowCount = enableRowCount ? rowCountSlot[0] : -1;
-            return XmlaResponseConverter.toStatementResponseRowSet(resultSet, rowCount);
+            return XmlaResponseConverter.toRowSource(resultSet, rowCount, drillThrough.getMaxRowCount(), () -> {
+            });
         } catch (Exception e) {
             LOGGER.error("Drill through SQL failed", e);
-            // NOTE: One important error is "cannot drill through on the cell"
-            throw new XmlaException(SERVER_FAULT_FC, HSB_DRILL_THROUGH_SQL_CODE, HSB_DRILL_THROUGH_SQL_FAULT_FS, e);
-        } finally {
-            if (c != null) {
-                c.restoreFact();
-            }
             if (resultSet != null) {
                 try {
                     resultSet.close();
-                } catch (SQLException e) {
+                } catch (SQLException ex) {
                     // ignore
                 }
             }
-            if (connection != null) {
-                connection.close();
+            // NOTE: One important error is "cannot drill through on the cell"
+            throw new XmlaException(SERVER_FAULT_FC, HSB_DRILL_THROUGH_SQL_CODE, HSB_DRILL_THROUGH_SQL_FAULT_FS, e);
+        }
+    }
+
+    /**
+     * Runs an execution on a cube with the session values applied to its fact.
+     *
+     * The cube cannot keep session values per connection: they are applied to
+     * its fact, which all connections share. An execution with session values
+     * therefore holds the write lock of the cube from applying the values until
+     * the fact is restored, including writing the response. Every other
+     * execution on the cube holds the read lock, so it never sees the session
+     * values of another connection.
+     *
+     * @param cube          Cube of the execution, or null
+     * @param sessionValues Session values to apply, or null
+     * @param execution     Execution, including writing its response
+     */
+    private void withSessionValues(Cube cube, List<Map<String, Map.Entry<DataTypeJdbc, Object>>> sessionValues,
+            Runnable execution) {
+        if (cube == null) {
+            execution.run();
+            return;
+        }
+        boolean modify = hasValues(sessionValues);
+        ReadWriteLock factLock = factLocks.computeIfAbsent(cube, k -> new ReentrantReadWriteLock(true));
+        Lock lock = modify ? factLock.writeLock() : factLock.readLock();
+        lock.lock();
+        try {
+            if (!modify) {
+                execution.run();
+                return;
+            }
+            cube.modifyFact(sessionValues);
+            try {
+                execution.run();
+            } finally {
+                cube.restoreFact();
             }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean hasValues(List<?> sessionValues) {
+        return sessionValues != null && !sessionValues.isEmpty();
+    }
+
+    /**
+     * Keeps the response of a statement. The rows of a row source are read
+     * into the response while the statement still holds its resources.
+     */
+    private static final class CollectingResponseWriter implements StatementResponseWriter {
+
+        private StatementResponse response;
+
+        @Override
+        public void write(StatementResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(RowSource rows) {
+            response = XmlaResponseConverter.toStatementResponseRowSet(rows);
         }
     }
 
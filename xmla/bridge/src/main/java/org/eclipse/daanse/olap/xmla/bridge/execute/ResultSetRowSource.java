@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.bridge.execute;
+
+import static org.eclipse.daanse.xmla.api.XmlaConstants.HSB_DRILL_THROUGH_SQL_CODE;
+import static org.eclipse.daanse.xmla.api.XmlaConstants.HSB_DRILL_THROUGH_SQL_FAULT_FS;
+import static org.eclipse.daanse.xmla.api.XmlaConstants.SERVER_FAULT_FC;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.olap.xmla.bridge.execute.XmlaResponseConverter.SqlColumnR;
+import org.eclipse.daanse.xmla.api.XmlaException;
+import org.eclipse.daanse.xmla.api.XmlaUtil;
+import org.eclipse.daanse.xmla.api.mddataset.RowSetRow;
+import org.eclipse.daanse.xmla.api.mddataset.RowSetRowItem;
+import org.eclipse.daanse.xmla.model.record.mddataset.RowSetRowItemR;
+import org.eclipse.daanse.xmla.model.record.mddataset.RowSetRowR;
+
+/**
+ * Rows of a relational result set, converted as they are read.
+ *
+ * When the last row has been read, reading fails or the source is closed, the
+ * result set is closed and the close action runs, which releases the resources
+ * the result set depends on.
+ */
+final class ResultSetRowSource implements RowSource {
+
+    private final ResultSet resultSet;
+    private final SqlColumnR[] columns;
+    private final int maxRows;
+    private final Runnable closeAction;
+    private RowSetRow firstRow;
+    private int rowCount;
+    private boolean closed;
+
+    /**
+     * @param resultSet   Result set, positioned before the first row
+     * @param columns     Columns of the result set
+     * @param firstRow    Row to return before those of the result set, or null
+     * @param maxRows     Maximum number of rows to read, 0 or less to read all
+     * @param closeAction Action to run after the result set is closed
+     */
+    ResultSetRowSource(ResultSet resultSet, SqlColumnR[] columns, RowSetRow firstRow, int maxRows,
+            Runnable closeAction) {
+        this.resultSet = resultSet;
+        this.columns = columns;
+        this.firstRow = firstRow;
+        this.maxRows = maxRows;
+        this.closeAction = closeAction;
+    }
+
+    @Override
+    public RowSetRow next() {
+        if (firstRow != null) {
+            RowSetRow row = firstRow;
+            firstRow = null;
+            return row;
+        }
+        return readRow();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        firstRow = null;
+        try {
+            resultSet.close();
+        } catch (SQLException e) {
+            // ignore
+        } finally {
+            closeAction.run();
+        }
+    }
+
+    private RowSetRow readRow() {
+        if (closed) {
+            return null;
+        }
+        try {
+            if ((maxRows > 0 && rowCount >= maxRows) || !resultSet.next()) {
+                close();
+                return null;
+            }
+            rowCount++;
+            List<RowSetRowItem> rowSetRowItem = new ArrayList<>(columns.length);
+            for (int i = 0; i < columns.length; i++) {
+                Object value = resultSet.getObject(i + 1);
+                if (value != null) {
+                    String valueString = value.toString();
+                    if (value instanceof Number) {
+                        valueString = XmlaUtil.normalizeNumericString(valueString);
+                    }
+                    SqlColumnR column = columns[i];
+                    rowSetRowItem.add(
+                            new RowSetRowItemR(column.encodedName(), column.name(), valueString, column.itemType()));
+                }
+            }
+            return new RowSetRowR(rowSetRowItem);
+        } catch (SQLException | RuntimeException e) {
+            close();
+            throw new XmlaException(SERVER_FAULT_FC, HSB_DRILL_THROUGH_SQL_CODE, HSB_DRILL_THROUGH_SQL_FAULT_FS, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.bridge.execute;
+
+import org.eclipse.daanse.xmla.api.mddataset.RowSetRow;
+
+/**
+ * Rows of a row set that are read from their source while they are written.
+ *
+ * A row source is not a collection: {@link #next()} returns every row once and
+ * rows that have been returned are not kept, so a row set of any size is
+ * written with the memory of one row. The source holds the resources it reads
+ * from, such as the database connection of a drill-through, until it is
+ * closed.
+ */
+public interface RowSource extends AutoCloseable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return the next row, or null after the last row or once the source is
+     *         closed
+     * @throws org.eclipse.daanse.xmla.api.XmlaException if the row cannot be
+     *                                                   read; the source is
+     *                                                   closed then
+     */
+    RowSetRow next();
+
+    /**
+     * Releases the resources of the source. Closing it again has no effect.
+     */
+    @Override
+    void close();
+}
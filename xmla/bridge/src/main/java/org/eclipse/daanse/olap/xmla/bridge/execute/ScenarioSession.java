@@ -14,81 +14,43 @@
 package org.eclipse.daanse.olap.xmla.bridge.execute;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.daanse.olap.api.result.Scenario;
 
+/**
+ * Scenario of a client session, held by a {@link ScenarioSessionStore}.
+ */
 public class ScenarioSession {
 
-    private static Map<String, ScenarioSession> SESSIONS = new HashMap<String, ScenarioSession>();
-    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(1);
-
-    private String sessionId;
-    private LocalDateTime checkInTime;
-
-    static Runnable timerTask = new Runnable() {
-        public void run() {
-            List<String> toRemove = new ArrayList<String>();
-            for (Map.Entry<String, ScenarioSession> entry : SESSIONS.entrySet()) {
-                ScenarioSession session = entry.getValue();
-
-                java.time.Duration duration = java.time.Duration.between(session.getCheckInTime(),
-                        java.time.LocalDateTime.now());
-                // TODO use configuration parameter 3600
-                if (duration.getSeconds() > 3600) {
-                    toRemove.add(entry.getKey());
-                }
-            }
-            for (String sessionId : toRemove) {
-                close(sessionId);
-            }
-        }
-    };
+    /** Estimated size of a session without scenario. */
+    static final long BASE_BYTES = 256;
+    /** Estimated size of a writeback cell, including its member array. */
+    static final long WRITEBACK_CELL_BYTES = 160;
+    /** Estimated size of a row of session values. */
+    static final long SESSION_ROW_BYTES = 64;
+    /** Estimated size of a column value in a row of session values. */
+    static final long SESSION_VALUE_BYTES = 96;
+
+    private final String sessionId;
+    private final LocalDateTime checkInTime;
+    private Scenario scenario = null;
 
-    static {
-        SCHEDULER.scheduleAtFixedRate(timerTask, 0, 1, TimeUnit.MINUTES);
-    }
+    /** Time of the last access, maintained by the store. */
+    long lastAccess;
+    /** Size accounted for the session by the store. */
+    long accountedBytes;
 
-    private ScenarioSession(String sessionId) {
+    ScenarioSession(String sessionId) {
         this.sessionId = sessionId;
         this.checkInTime = java.time.LocalDateTime.now();
     }
 
-    public static ScenarioSession create(String sessionId) {
-        if (SESSIONS.containsKey(sessionId)) {
-            SESSIONS.remove(sessionId);
-        }
-
-        ScenarioSession session = new ScenarioSession(sessionId);
-
-        SESSIONS.put(sessionId, session);
-
-        return session;
+    public String getSessionId() {
+        return sessionId;
     }
 
-    public static ScenarioSession getWithoutCheck(String sessionId) {
-        return SESSIONS.get(sessionId);
-    }
-
-    public static ScenarioSession get(String sessionId) {
-        if (!SESSIONS.containsKey(sessionId)) {
-            throw new RuntimeException("Session with id \"" + sessionId + "\" does not exist");
-        }
-        return SESSIONS.get(sessionId);
-    }
-
-    public static void close(String sessionId) {
-        SESSIONS.remove(sessionId);
-    }
-
-    private Scenario scenario = null;
-
     public void setScenario(Scenario scenario) {
         this.scenario = scenario;
     }
@@ -100,4 +62,28 @@ public class ScenarioSession {
     public LocalDateTime getCheckInTime() {
         return checkInTime;
     }
+
+    /**
+     * Estimates the memory held by the session, from the number of writeback
+     * cells and session values of its scenario.
+     *
+     * @return Estimated size in bytes
+     */
+    long estimateBytes() {
+        long bytes = BASE_BYTES;
+        Scenario s = scenario;
+        if (s != null) {
+            List<?> cells = s.getWritebackCells();
+            if (cells != null) {
+                bytes += cells.size() * WRITEBACK_CELL_BYTES;
+            }
+            List<? extends Map<String, ?>> rows = s.getSessionValues();
+            if (rows != null) {
+                for (Map<String, ?> row : rows) {
+                    bytes += SESSION_ROW_BYTES + (row == null ? 0 : row.size() * SESSION_VALUE_BYTES);
+                }
+            }
+        }
+        return bytes;
+    }
 }
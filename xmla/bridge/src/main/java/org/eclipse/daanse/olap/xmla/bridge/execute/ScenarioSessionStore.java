@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.bridge.execute;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.LongSupplier;
+
+import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
+
+/**
+ * Scenario sessions by session id, bounded in lifetime, number and estimated
+ * memory.
+ *
+ * Sessions are kept in order of their last access, so the sessions that have
+ * timed out are always at the head. Every operation first removes these; this
+ * costs constant time per removed session and needs no timer thread.
+ *
+ * A full store never removes the data of other sessions: creating a session
+ * beyond the limits, and a change that grows a session beyond the memory
+ * limit, are rejected with an {@link OlapRuntimeException}.
+ *
+ * The memory of a session is estimated by {@link ScenarioSession#estimateBytes()}
+ * when the session is accessed or updated, so changes to its scenario that are
+ * not reported by {@link #update(ScenarioSession)} are accounted at the latest
+ * on the next access.
+ */
+public class ScenarioSessionStore {
+
+    private final long timeoutNanos;
+    private final int maxSessions;
+    private final long maxBytes;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, ScenarioSession> sessions = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    /**
+     * Creates a store.
+     *
+     * @param timeout     Time after the last access at which a session expires;
+     *                    zero or negative, or null, for no expiry
+     * @param maxSessions Maximum number of sessions; 0 or less for no limit
+     * @param maxBytes    Maximum estimated memory of all sessions; 0 or less for
+     *                    no limit
+     */
+    public ScenarioSessionStore(Duration timeout, int maxSessions, long maxBytes) {
+        this(timeout, maxSessions, maxBytes, System::nanoTime);
+    }
+
+    ScenarioSessionStore(Duration timeout, int maxSessions, long maxBytes, LongSupplier clock) {
+        this.timeoutNanos = timeout == null || timeout.isNegative() || timeout.isZero() ? Long.MAX_VALUE
+                : timeout.toNanos();
+        this.maxSessions = maxSessions > 0 ? maxSessions : Integer.MAX_VALUE;
+        this.maxBytes = maxBytes > 0 ? maxBytes : Long.MAX_VALUE;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a session, replacing any session with the same id.
+     *
+     * @param sessionId Session id
+     * @return New session
+     * @throws OlapRuntimeException if the store is full
+     */
+    public synchronized ScenarioSession create(String sessionId) {
+        long now = expire();
+        ScenarioSession session = new ScenarioSession(sessionId);
+        ScenarioSession previous = sessions.get(sessionId);
+        long estimate = session.estimateBytes();
+        long freed = previous == null ? 0 : previous.accountedBytes;
+        if ((previous == null && sessions.size() >= maxSessions) || bytes - freed + estimate > maxBytes) {
+            throw new OlapRuntimeException(
+                    "Session \"" + sessionId + "\" cannot be created, the scenario session store is full");
+        }
+        session.lastAccess = now;
+        sessions.put(sessionId, session);
+        bytes -= freed;
+        account(session);
+        return session;
+    }
+
+    /**
+     * Returns a session, or null if there is none with the id.
+     *
+     * @param sessionId Session id
+     * @return Session, or null
+     */
+    public synchronized ScenarioSession getWithoutCheck(String sessionId) {
+        long now = expire();
+        ScenarioSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.lastAccess = now;
+            account(session);
+        }
+        return session;
+    }
+
+    /**
+     * Returns a session.
+     *
+     * @param sessionId Session id
+     * @return Session
+     * @throws RuntimeException if there is no session with the id
+     */
+    public synchronized ScenarioSession get(String sessionId) {
+        ScenarioSession session = getWithoutCheck(sessionId);
+        if (session == null) {
+            throw new RuntimeException("Session with id \"" + sessionId + "\" does not exist");
+        }
+        return session;
+    }
+
+    /**
+     * Accounts the current memory of a session after its scenario has changed,
+     * and marks the session as accessed.
+     *
+     * @param session Session
+     * @throws OlapRuntimeException if the change grows the session beyond the
+     *                              memory limit; the change is not accounted
+     *                              and is to be undone by the caller
+     */
+    public synchronized void update(ScenarioSession session) {
+        long now = expire();
+        if (sessions.get(session.getSessionId()) == session) {
+            session.lastAccess = now;
+            long estimate = session.estimateBytes();
+            long growth = estimate - session.accountedBytes;
+            if (growth > 0 && bytes + growth > maxBytes) {
+                throw new OlapRuntimeException("Session \"" + session.getSessionId()
+                        + "\" cannot grow by " + growth + " bytes, the scenario session store is full");
+            }
+            account(session);
+        }
+    }
+
+    /**
+     * Removes a session.
+     *
+     * @param sessionId Session id
+     */
+    public synchronized void close(String sessionId) {
+        ScenarioSession session = sessions.remove(sessionId);
+        if (session != null) {
+            bytes -= session.accountedBytes;
+        }
+    }
+
+    /**
+     * Returns the number of sessions that have not expired.
+     */
+    public synchronized int size() {
+        expire();
+        return sessions.size();
+    }
+
+    /**
+     * Returns the estimated memory of the sessions, in bytes.
+     */
+    public synchronized long estimatedBytes() {
+        expire();
+        return bytes;
+    }
+
+    private long expire() {
+        long now = clock.getAsLong();
+        Iterator<ScenarioSession> it = sessions.values().iterator();
+        while (it.hasNext()) {
+            ScenarioSession session = it.next();
+            if (now - session.lastAccess < timeoutNanos) {
+                break;
+            }
+            it.remove();
+            bytes -= session.accountedBytes;
+        }
+        return now;
+    }
+
+    private void account(ScenarioSession session) {
+        long estimate = session.estimateBytes();
+        bytes += estimate - session.accountedBytes;
+        session.accountedBytes = estimate;
+    }
+}
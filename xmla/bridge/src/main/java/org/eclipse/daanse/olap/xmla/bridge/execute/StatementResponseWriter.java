@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.bridge.execute;
+
+import org.eclipse.daanse.xmla.api.execute.statement.StatementResponse;
+
+/**
+ * Writes the response of a statement executed by {@link OlapExecuteService}.
+ */
+public interface StatementResponseWriter {
+
+    /**
+     * Writes a complete response.
+     *
+     * @param response Response of the statement
+     */
+    void write(StatementResponse response);
+
+    /**
+     * Writes a row set whose rows are read while they are written.
+     *
+     * The rows can only be read during this call. The statement keeps its
+     * resources, its database connection and its admission permit, until the
+     * call returns or throws, and closes the source then.
+     *
+     * @param rows Rows of the row set
+     */
+    void write(RowSource rows);
+}
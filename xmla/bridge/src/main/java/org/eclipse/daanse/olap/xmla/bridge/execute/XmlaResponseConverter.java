@@ -158,55 +158,63 @@ public class XmlaResponseConverter {
     }
 
     public static StatementResponse toStatementResponseRowSet(ResultSet rs, int totalCount) throws SQLException {
+        try (RowSource rows = toRowSource(rs, totalCount, 0, () -> {
+        })) {
+            return toStatementResponseRowSet(rows);
+        }
+    }
+
+    /**
+     * Reads the remaining rows of a row source into a row set. The source is
+     * not closed.
+     *
+     * @param rows Rows to read
+     * @return Statement response with a row set
+     */
+    public static StatementResponse toStatementResponseRowSet(RowSource rows) {
         List<RowSetRow> rowSetRows = new ArrayList<>();
-        RowSetR rowSet = new RowSetR(rowSetRows);
-        List<SqlColumnR> columns = new ArrayList<>();
-        List<Object[]> rows;
+        for (RowSetRow row = rows.next(); row != null; row = rows.next()) {
+            rowSetRows.add(row);
+        }
+        return new StatementResponseR(null, new RowSetR(rowSetRows));
+    }
+
+    /**
+     * Converts a relational result set into a source of rows.
+     *
+     * The rows are not read here: they are fetched and converted as the source
+     * is read. Element names and item types are computed once per column. The
+     * result set is closed and the close action runs once the last row has been
+     * read, reading fails or the source is closed.
+     *
+     * @param rs          Result set, positioned before the first row
+     * @param totalCount  Total number of fact rows, returned as first row, or -1
+     * @param maxRows     Maximum number of rows to read, 0 or less to read all
+     * @param closeAction Action to run after the result set is closed
+     * @return Rows of the result set
+     */
+    public static RowSource toRowSource(ResultSet rs, int totalCount, int maxRows, Runnable closeAction)
+            throws SQLException {
         ResultSetMetaData md = rs.getMetaData();
         int columnCount = md.getColumnCount();
 
         // populate column defs
+        SqlColumnR[] columns = new SqlColumnR[columnCount];
         for (int i = 0; i < columnCount; i++) {
-            columns.add(SqlColumnR.of(md.getColumnLabel(i + 1), md.getColumnType(i + 1), md.getScale(i + 1)));
-        }
-
-        // Populate data; assume that SqlStatement is already positioned
-        // on first row (or isDone() is true), and assume that the
-        // number of rows returned is limited.
-        rows = new ArrayList<>();
-        while (rs.next()) {
-            Object[] row = new Object[columnCount];
-            for (int i = 0; i < columnCount; i++) {
-                row[i] = rs.getObject(i + 1);
-            }
-            rows.add(row);
+            columns[i] = SqlColumnR.of(md.getColumnLabel(i + 1), md.getColumnType(i + 1), md.getScale(i + 1));
         }
 
+        RowSetRow countRow = null;
         if (totalCount >= 0) {
             String countStr = Integer.toString(totalCount);
-            List<RowSetRowItem> rowSetRowItem = new ArrayList<>();
+            List<RowSetRowItem> rowSetRowItem = new ArrayList<>(columnCount);
             for (SqlColumnR column : columns) {
                 rowSetRowItem.add(new RowSetRowItemR(column.encodedName(), column.name(), countStr, Optional.empty()));
             }
-            rowSetRows.add(new RowSetRowR(rowSetRowItem));
+            countRow = new RowSetRowR(rowSetRowItem);
         }
 
-        for (Object[] row : rows) {
-            List<RowSetRowItem> rowSetRowItem = new ArrayList<>();
-            for (int i = 0; i < row.length; i++) {
-                Object value = row[i];
-                if (value != null) {
-                    String valueString = value.toString();
-                    if (value instanceof Number) {
-                        valueString = XmlaUtil.normalizeNumericString(valueString);
-                    }
-                    rowSetRowItem.add(new RowSetRowItemR(columns.get(i).encodedName(), columns.get(i).name(), valueString,
-                            Optional.of(ItemTypeEnum.fromValue(columns.get(i).xsdType()))));
-                }
-            }
-            rowSetRows.add(new RowSetRowR(rowSetRowItem));
-        }
-        return new StatementResponseR(null, rowSet);
+        return new ResultSetRowSource(rs, columns, countRow, maxRows, closeAction);
     }
 
     public static StatementResponse toStatementResponseMddataset(CellSet cellSet, boolean omitDefaultSlicerInfo,
@@ -1069,14 +1077,14 @@ public class XmlaResponseConverter {
         public abstract List<RowSetRowItem> getRowSetRowItems(Cell cell, Member[] members);
     }
 
-    record SqlColumnR(String name, String encodedName, String xsdType) {
+    record SqlColumnR(String name, String encodedName, String xsdType, Optional<ItemTypeEnum> itemType) {
         // Static factory method that does the computation from SQL metadata
         static SqlColumnR of(String name, int type, int scale) {
             // replace invalid XML element name, like " ", with "_x0020_" in
             // column headers, otherwise will generate a badly-formatted xml doc.
             String encodedName = XmlaUtil.ElementNameEncoder.INSTANCE.encode(name);
             String xsdType = sqlToXsdType(type, scale);
-            return new SqlColumnR(name, encodedName, xsdType);
+            return new SqlColumnR(name, encodedName, xsdType, Optional.of(ItemTypeEnum.fromValue(xsdType)));
         }
     }
 
@@ -716,6 +716,59 @@ class MDSchemaDiscoverServiceTest {
 
     }
 
+    @Test
+    void mdSchemaMembersRestrictedByNameAndCaption() {
+        when(cls.tryGetFirstByName(any(), any())).thenReturn(Optional.of(catalog2));
+
+        MdSchemaMembersRequest request = mock(MdSchemaMembersRequest.class);
+        MdSchemaMembersRestrictions restrictions = mock(MdSchemaMembersRestrictions.class);
+        Properties properties = mock(Properties.class);
+
+        when(request.restrictions()).thenReturn(restrictions);
+        when(request.properties()).thenReturn(properties);
+        when(restrictions.catalogName()).thenReturn(Optional.of("foo"));
+        when(restrictions.cubeName()).thenReturn(Optional.of("cube1Name"));
+        when(restrictions.levelUniqueName()).thenReturn(Optional.of("level1UniqueName"));
+        when(restrictions.memberUniqueName()).thenReturn(Optional.of("memberUniqueName"));
+        when(restrictions.memberName()).thenReturn(Optional.of("member1Name"));
+        when(restrictions.memberCaption()).thenReturn(Optional.of("member1Caption"));
+
+        when(catalog2.getName()).thenReturn("schema2Name");
+        when(catalog2.getCubes()).thenAnswer(setupDummyListAnswer(cube1, cube2));
+        when(cube1.getName()).thenReturn("cube1Name");
+        when(cube2.getName()).thenReturn("cube2Name");
+        when(cube1.getDimensions()).thenAnswer(setupDummyListAnswer(dimension1));
+        when(dimension1.getHierarchies()).thenAnswer(setupDummyListAnswer(hierarchy1));
+        when(hierarchy1.getLevels()).thenAnswer(setupDummyListAnswer(level1));
+        when(level1.getUniqueName()).thenReturn("level1UniqueName");
+        when(level1.getHierarchy()).thenReturn(hierarchy1);
+        when(hierarchy1.getDimension()).thenReturn(dimension1);
+        when(hierarchy1.getUniqueName()).thenReturn("hierarchy1UniqueName");
+        when(dimension1.getUniqueName()).thenReturn("dimension1UniqueName");
+
+        Member member1 = mock(Member.class);
+        when(member1.getUniqueName()).thenReturn("memberUniqueName");
+        when(member1.getName()).thenReturn("member1Name");
+        when(member1.getCaption()).thenReturn("member1Caption");
+        when(member1.getDescription()).thenReturn("member1Description");
+        when(member1.getLevel()).thenReturn(level1);
+        Member otherName = mock(Member.class);
+        when(otherName.getUniqueName()).thenReturn("memberUniqueName");
+        when(otherName.getName()).thenReturn("member2Name");
+        Member otherCaption = mock(Member.class);
+        when(otherCaption.getUniqueName()).thenReturn("memberUniqueName");
+        when(otherCaption.getName()).thenReturn("member1Name");
+        when(otherCaption.getCaption()).thenReturn("member2Caption");
+        when(cube1.getLevelMembers(any(), eq(true))).thenAnswer(setupDummyListAnswer(otherName, member1, otherCaption));
+
+        List<MdSchemaMembersResponseRow> rows = service.mdSchemaMembers(request, requestMetaData);
+        assertThat(rows).hasSize(1);
+        checkMdSchemaMembersResponseRow(rows.get(0), "schema2Name", Optional.empty(), "cube1Name",
+                "dimension1UniqueName", "hierarchy1UniqueName", "level1UniqueName", 0, 0, "member1Name",
+                "memberUniqueName", MemberTypeEnum.REGULAR_MEMBER, "member1Caption", 100, 0, Optional.empty(), 0,
+                "member1Description");
+    }
+
     @Test
     void mdSchemaProperties() {
         when(cls.tryGetFirstByName(any(), any())).thenReturn(Optional.of(catalog2));
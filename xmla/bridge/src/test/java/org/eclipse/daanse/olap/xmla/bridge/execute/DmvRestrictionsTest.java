@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.bridge.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.query.component.IdImpl;
+import org.eclipse.daanse.olap.query.component.NumericLiteralImpl;
+import org.eclipse.daanse.olap.query.component.StringLiteralImpl;
+import org.eclipse.daanse.olap.query.component.UnresolvedFunCallImpl;
+import org.eclipse.daanse.xmla.api.common.enums.ItemTypeEnum;
+import org.eclipse.daanse.xmla.api.execute.ExecuteParameter;
+import org.eclipse.daanse.xmla.api.mddataset.RowSetRow;
+import org.eclipse.daanse.xmla.api.mddataset.RowSetRowItem;
+import org.eclipse.daanse.xmla.model.record.mddataset.RowSetR;
+import org.eclipse.daanse.xmla.model.record.mddataset.RowSetRowItemR;
+import org.eclipse.daanse.xmla.model.record.mddataset.RowSetRowR;
+import org.junit.jupiter.api.Test;
+
+class DmvRestrictionsTest {
+
+    @Test
+    void conjunctiveEqualitiesAreCollected() {
+        ExecuteParameter cube = mock(ExecuteParameter.class);
+        when(cube.name()).thenReturn("cube");
+        when(cube.value()).thenReturn("Sales");
+        Expression where = and(and(equal(column("CUBE_NAME"), column("@cube")),
+            equal(string("[Store]"), column("DIMENSION_UNIQUE_NAME"))), equal(column("LEVEL_NUMBER"), number(2)));
+
+        DmvRestrictions restrictions = DmvRestrictions.of(where, List.of(cube));
+
+        assertThat(restrictions.get("CUBE_NAME")).contains("Sales");
+        assertThat(restrictions.get("DIMENSION_UNIQUE_NAME")).contains("[Store]");
+        assertThat(restrictions.getInteger("LEVEL_NUMBER")).contains(2);
+        assertThat(restrictions.get("MEMBER_NAME")).isEmpty();
+    }
+
+    @Test
+    void disjunctionsAndInequalitiesAreNotRestrictions() {
+        Expression where = and(or(equal(column("CUBE_NAME"), string("Sales")), equal(column("CUBE_NAME"),
+            string("Warehouse"))), call("<>", column("DIMENSION_NAME"), string("Measures")));
+
+        assertThat(DmvRestrictions.of(where, List.of()).isEmpty()).isTrue();
+        assertThat(DmvRestrictions.of(null, List.of()).isEmpty()).isTrue();
+    }
+
+    @Test
+    void whereIsAppliedToSelectStar() {
+        RowSetR rowSet = new RowSetR(List.of(row("Sales", "[Store]"), row("Sales", "[Time]"),
+            row("Warehouse", "[Store]")));
+        Expression where = equal(column("DIMENSION_UNIQUE_NAME"), string("[Store]"));
+
+        RowSetR result = OlapExecuteService.filterRowSetByColumns(rowSet, List.of(), where, List.of());
+
+        assertThat(result.rowSetRows()).extracting(r -> value(r, "CUBE_NAME")).containsExactly("Sales", "Warehouse");
+        assertThat(result.rowSetRows()).allSatisfy(r -> assertThat(r.rowSetRowItem()).hasSize(2));
+    }
+
+    @Test
+    void requestedColumnsAreProjectedInRowOrder() {
+        RowSetR rowSet = new RowSetR(List.of(row("Sales", "[Store]"), row("Warehouse", "[Time]")));
+        Expression where = equal(column("CUBE_NAME"), string("Warehouse"));
+
+        RowSetR result = OlapExecuteService.filterRowSetByColumns(rowSet, List.of("DIMENSION_UNIQUE_NAME"), where,
+            List.of());
+
+        assertThat(result.rowSetRows()).hasSize(1);
+        assertThat(result.rowSetRows().get(0).rowSetRowItem()).extracting(RowSetRowItem::tagName)
+            .containsExactly("DIMENSION_UNIQUE_NAME");
+        assertThat(value(result.rowSetRows().get(0), "DIMENSION_UNIQUE_NAME")).isEqualTo("[Time]");
+    }
+
+    private static RowSetRow row(String cube, String dimension) {
+        return new RowSetRowR(List.of(new RowSetRowItemR("CUBE_NAME", cube, Optional.of(ItemTypeEnum.STRING)),
+            new RowSetRowItemR("DIMENSION_UNIQUE_NAME", dimension, Optional.of(ItemTypeEnum.STRING))));
+    }
+
+    private static String value(RowSetRow row, String column) {
+        return row.rowSetRowItem().stream().filter(i -> column.equals(i.tagName())).map(RowSetRowItem::value)
+            .findFirst().orElse(null);
+    }
+
+    private static Expression column(String name) {
+        return new IdImpl(new IdImpl.NameSegmentImpl(name));
+    }
+
+    private static Expression string(String value) {
+        return StringLiteralImpl.create(value);
+    }
+
+    private static Expression number(int value) {
+        return NumericLiteralImpl.create(BigDecimal.valueOf(value));
+    }
+
+    private static Expression and(Expression left, Expression right) {
+        return call("AND", left, right);
+    }
+
+    private static Expression or(Expression left, Expression right) {
+        return call("OR", left, right);
+    }
+
+    private static Expression equal(Expression left, Expression right) {
+        return call("=", left, right);
+    }
+
+    private static Expression call(String operator, Expression left, Expression right) {
+        return new UnresolvedFunCallImpl(new InfixOperationAtom(operator), new Expression[] { left, right });
+    }
+}
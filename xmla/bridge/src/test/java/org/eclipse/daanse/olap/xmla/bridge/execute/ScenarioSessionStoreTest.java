@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.bridge.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.daanse.olap.api.DataTypeJdbc;
+import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
+import org.eclipse.daanse.olap.api.result.Scenario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioSessionStoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Mock
+    private Scenario scenario;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void sessionExpiresAfterLastAccess() {
+        ScenarioSessionStore store = new ScenarioSessionStore(Duration.ofSeconds(10), 0, 0, now::get);
+        ScenarioSession s1 = store.create("s1");
+        store.create("s2");
+
+        now.set(8 * SECOND);
+        assertThat(store.get("s1")).isSameAs(s1);
+
+        now.set(12 * SECOND);
+        assertThat(store.getWithoutCheck("s2")).isNull();
+        assertThat(store.getWithoutCheck("s1")).isSameAs(s1);
+        assertThat(store.size()).isEqualTo(1);
+
+        now.set(30 * SECOND);
+        assertThatThrownBy(() -> store.get("s1")).hasMessageContaining("s1");
+        assertThat(store.estimatedBytes()).isZero();
+    }
+
+    @Test
+    void updateCountsAsAccess() {
+        ScenarioSessionStore store = new ScenarioSessionStore(Duration.ofSeconds(10), 0, 0, now::get);
+        ScenarioSession s1 = store.create("s1");
+
+        now.set(8 * SECOND);
+        store.update(s1);
+
+        now.set(16 * SECOND);
+        assertThat(store.getWithoutCheck("s1")).isSameAs(s1);
+    }
+
+    @Test
+    void fullStoreRejectsNewSessions() {
+        ScenarioSessionStore store = new ScenarioSessionStore(null, 2, 0, now::get);
+        store.create("s1");
+        ScenarioSession s2 = store.create("s2");
+
+        assertThatThrownBy(() -> store.create("s3")).isInstanceOf(OlapRuntimeException.class)
+                .hasMessageContaining("s3");
+        assertThat(store.getWithoutCheck("s1")).isNotNull();
+        assertThat(store.getWithoutCheck("s3")).isNull();
+
+        ScenarioSession replaced = store.create("s2");
+        assertThat(replaced).isNotSameAs(s2);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void writeBeyondMemoryLimitIsRejected() {
+        List<Map<String, Map.Entry<DataTypeJdbc, Object>>> values = new ArrayList<>();
+        when(scenario.getSessionValues()).thenReturn(values);
+        long limit = 3 * ScenarioSession.BASE_BYTES + 2 * ScenarioSession.SESSION_ROW_BYTES;
+        ScenarioSessionStore store = new ScenarioSessionStore(null, 0, limit, now::get);
+        store.create("s1");
+        store.create("s2");
+        ScenarioSession s3 = store.create("s3");
+        s3.setScenario(scenario);
+        store.update(s3);
+
+        values.add(Map.of());
+        values.add(Map.of());
+        store.update(s3);
+        assertThat(store.estimatedBytes()).isEqualTo(limit);
+
+        values.add(Map.of());
+        assertThatThrownBy(() -> store.update(s3)).isInstanceOf(OlapRuntimeException.class)
+                .hasMessageContaining("s3");
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.estimatedBytes()).isEqualTo(limit);
+        assertThatThrownBy(() -> store.create("s4")).isInstanceOf(OlapRuntimeException.class);
+
+        store.close("s3");
+        assertThat(store.estimatedBytes()).isEqualTo(2 * ScenarioSession.BASE_BYTES);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.bridge.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.daanse.xmla.api.XmlaException;
+import org.eclipse.daanse.xmla.api.mddataset.RowSetRow;
+import org.eclipse.daanse.xmla.api.mddataset.RowSetRowItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class XmlaResponseConverterTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private ResultSetMetaData metaData;
+
+    private final AtomicInteger closeCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("Store Name");
+        when(metaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+        when(metaData.getColumnLabel(2)).thenReturn("Sales");
+        when(metaData.getColumnType(2)).thenReturn(Types.DECIMAL);
+        when(metaData.getScale(anyInt())).thenReturn(2);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getObject(1)).thenReturn("Store 1", "Store 2", null);
+        when(resultSet.getObject(2)).thenReturn(new BigDecimal("10.50"), null, new BigDecimal("3"));
+    }
+
+    @Test
+    void rowsAreFetchedWhileReading() throws SQLException {
+        RowSource rows = XmlaResponseConverter.toRowSource(resultSet, -1, 0, closeCount::incrementAndGet);
+
+        verify(resultSet, never()).next();
+        assertThat(values(rows.next())).containsExactly("Store 1", "10.5");
+        verify(resultSet, times(1)).next();
+        assertThat(values(rows.next())).containsExactly("Store 2");
+        assertThat(values(rows.next())).containsExactly("3");
+        assertThat(closeCount).hasValue(0);
+
+        assertThat(rows.next()).isNull();
+        verify(resultSet).close();
+        assertThat(closeCount).hasValue(1);
+
+        rows.close();
+        assertThat(rows.next()).isNull();
+        assertThat(closeCount).hasValue(1);
+    }
+
+    @Test
+    void closingBeforeTheLastRowReleasesTheResultSet() throws SQLException {
+        try (RowSource rows = XmlaResponseConverter.toRowSource(resultSet, -1, 0, closeCount::incrementAndGet)) {
+            assertThat(values(rows.next())).containsExactly("Store 1", "10.5");
+        }
+
+        verify(resultSet).close();
+        assertThat(closeCount).hasValue(1);
+    }
+
+    @Test
+    void columnNamesAreEncoded() throws SQLException {
+        RowSource rows = XmlaResponseConverter.toRowSource(resultSet, -1, 0, closeCount::incrementAndGet);
+
+        assertThat(rows.next().rowSetRowItem()).extracting(RowSetRowItem::tagName)
+                .containsExactly("Store_x0020_Name", "Sales");
+    }
+
+    @Test
+    void totalCountIsTheFirstRowAndMaxRowsLimitsTheRest() throws SQLException {
+        RowSource rows = XmlaResponseConverter.toRowSource(resultSet, 42, 2, closeCount::incrementAndGet);
+        List<RowSetRow> rowSetRows = XmlaResponseConverter.toStatementResponseRowSet(rows).rowSet().rowSetRows();
+
+        assertThat(rowSetRows).hasSize(3);
+        assertThat(values(rowSetRows.get(0))).containsExactly("42", "42");
+        assertThat(values(rowSetRows.get(2))).containsExactly("Store 2");
+        verify(resultSet, times(2)).next();
+        assertThat(closeCount).hasValue(1);
+    }
+
+    @Test
+    void failureClosesTheResultSet() throws SQLException {
+        when(resultSet.next()).thenThrow(new SQLException("connection reset"));
+        RowSource rows = XmlaResponseConverter.toRowSource(resultSet, -1, 0, closeCount::incrementAndGet);
+
+        assertThatThrownBy(rows::next).isInstanceOf(XmlaException.class).hasCauseInstanceOf(SQLException.class);
+        verify(resultSet).close();
+        assertThat(closeCount).hasValue(1);
+    }
+
+    private static List<String> values(RowSetRow row) {
+        return row.rowSetRowItem().stream().map(RowSetRowItem::value).toList();
+    }
+}